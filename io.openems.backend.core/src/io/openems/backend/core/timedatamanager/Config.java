@@ -13,4 +13,22 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Timedata-IDs", description = "IDs of Timedata Services. Execution is going to be sorted in the order of the IDs.")
 	String[] timedata_ids() default {};
 
+	@AttributeDefinition(name = "Write Queue Size", description = "Maximum number of queued data notifications per Timedata Service.")
+	int writeQueueSize() default 50000;
+
+	@AttributeDefinition(name = "Write Batch Size", description = "Maximum number of data notifications that are written to a Timedata Service in one batch.")
+	int writeBatchSize() default 100;
+
+	@AttributeDefinition(name = "Write Overflow Policy", description = "Defines which data is dropped if the write queue of a Timedata Service is full.")
+	OverflowPolicy writeOverflowPolicy() default OverflowPolicy.DROP_OLDEST;
+
+	@AttributeDefinition(name = "Write Spill Directory", description = "Directory to spill data notifications to for Overflow Policy 'SPILL'; one subdirectory per Timedata Service.")
+	String writeSpillDirectory() default "";
+
+	@AttributeDefinition(name = "Write Spill Max Size", description = "Maximum size of spilled data notifications on disk per Timedata Service in [MB].")
+	int writeSpillMaxSize() default 1024;
+
+	@AttributeDefinition(name = "Query Cache Size", description = "Maximum number of cached values of historic energy queries for past periods. Zero to disable.")
+	int queryCacheSize() default 1000000;
+
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package io.openems.backend.core.timedatamanager;
+
+/**
+ * Defines what happens if the write queue of a Timedata service is full.
+ */
+public enum OverflowPolicy {
+	/**
+	 * Drops the oldest queued notification to make room for the new one.
+	 */
+	DROP_OLDEST,
+	/**
+	 * Drops the new notification and keeps the queued ones.
+	 */
+	DROP_NEWEST,
+	/**
+	 * Spills new notifications to disk and writes them once the queue has room
+	 * again. Falls back to {@link #DROP_OLDEST} if no Spill Directory is
+	 * configured or the disk is full.
+	 */
+	SPILL;
+}
@@ -0,0 +1,250 @@
+package io.openems.backend.core.timedatamanager;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import com.google.gson.JsonElement;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
+
+/**
+ * Caches results of historic energy queries for closed past periods.
+ *
+ * <p>
+ * Only ranges that ended at least {@link #SETTLE_MARGIN} before the start of
+ * the current day (in the timezone of the query) are cached, so late data and
+ * the refresh lag of the Timedata aggregates are covered. Entries are evicted
+ * least-recently-used, weighted by the number of values. Entries of an Edge are
+ * invalidated if a {@link ResendDataNotification} overlaps their range.
+ */
+public class QueryResultCache {
+
+	protected static record Key(String edgeId, String query, ZonedDateTime fromDate, ZonedDateTime toDate,
+			Set<ChannelAddress> channels, String resolution) {
+
+		private boolean overlaps(String edgeId, long fromMillis, long toMillis) {
+			return this.edgeId.equals(edgeId) //
+					&& this.fromDate.toInstant().toEpochMilli() <= toMillis //
+					&& this.toDate.toInstant().toEpochMilli() >= fromMillis;
+		}
+	}
+
+	protected static final Duration SETTLE_MARGIN = Duration.ofDays(1);
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	private final Cache<Key, Object> cache;
+
+	/**
+	 * The cached {@link Key}s per Edge-ID; allows {@link #invalidate(String,
+	 * ResendDataNotification)} without iterating the entire cache.
+	 */
+	private final Map<String, Set<Key>> keysByEdge = new ConcurrentHashMap<>();
+
+	/**
+	 * Invalidation generation per Edge-ID; a result is only cached if no
+	 * invalidation of its Edge happened while it was queried.
+	 */
+	private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+	/**
+	 * Builds a {@link QueryResultCache}.
+	 *
+	 * @param maxWeight the maximum number of cached values (i.e. Channel values
+	 *                  over all timestamps); 0 to disable
+	 */
+	public QueryResultCache(long maxWeight) {
+		this.cache = CacheBuilder.newBuilder() //
+				.maximumWeight(Math.max(0, maxWeight)) //
+				.weigher((Key key, Object value) -> weigh(value)) //
+				.removalListener((RemovalNotification<Key, Object> notification) -> {
+					if (notification.getCause() != RemovalCause.REPLACED) {
+						this.unindex(notification.getKey());
+					}
+				}) //
+				.build();
+	}
+
+	/**
+	 * Gets the result of a historic energy query from the cache; or executes the
+	 * query and caches its result.
+	 *
+	 * @param edgeId   the Edge-ID
+	 * @param fromDate the From-Date
+	 * @param toDate   the To-Date
+	 * @param channels the Channels
+	 * @param query    the actual query
+	 * @return the query result; possibly null
+	 * @throws OpenemsNamedException on error
+	 */
+	public SortedMap<ChannelAddress, JsonElement> getEnergy(String edgeId, ZonedDateTime fromDate,
+			ZonedDateTime toDate, Set<ChannelAddress> channels,
+			ThrowingSupplier<SortedMap<ChannelAddress, JsonElement>, OpenemsNamedException> query)
+			throws OpenemsNamedException {
+		var key = new Key(edgeId, "energy", fromDate, toDate, Set.copyOf(channels), null);
+		var result = this.get(key, query);
+		if (result == null) {
+			return null;
+		}
+		// Individual copy for the caller
+		return new TreeMap<>(result);
+	}
+
+	/**
+	 * Gets the result of a historic energy per period query from the cache; or
+	 * executes the query and caches its result.
+	 *
+	 * @param edgeId     the Edge-ID
+	 * @param fromDate   the From-Date
+	 * @param toDate     the To-Date
+	 * @param channels   the Channels
+	 * @param resolution the {@link Resolution}
+	 * @param query      the actual query
+	 * @return the query result; possibly null
+	 * @throws OpenemsNamedException on error
+	 */
+	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> getEnergyPerPeriod(String edgeId,
+			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution,
+			ThrowingSupplier<SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>, OpenemsNamedException> query)
+			throws OpenemsNamedException {
+		var key = new Key(edgeId, "energyPerPeriod", fromDate, toDate, Set.copyOf(channels), resolution.toString());
+		var result = this.get(key, query);
+		if (result == null) {
+			return null;
+		}
+		// Individual copy for the caller
+		var copy = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+		result.forEach((time, values) -> copy.put(time, new TreeMap<>(values)));
+		return copy;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T get(Key key, ThrowingSupplier<T, OpenemsNamedException> query) throws OpenemsNamedException {
+		if (key.edgeId() == null || !isClosedPeriod(key.toDate())) {
+			return query.get();
+		}
+		var cached = (T) this.cache.getIfPresent(key);
+		if (cached != null) {
+			this.hits.incrementAndGet();
+			return cached;
+		}
+		this.misses.incrementAndGet();
+		var generation = this.getGeneration(key.edgeId());
+		var generationBefore = generation.get();
+		var result = query.get();
+		if (result != null && generation.get() == generationBefore) {
+			this.index(key);
+			this.cache.put(key, result);
+			if (generation.get() != generationBefore) {
+				// Invalidated concurrently to put()
+				this.cache.invalidate(key);
+			}
+		}
+		return result;
+	}
+
+	private AtomicLong getGeneration(String edgeId) {
+		return this.generations.computeIfAbsent(edgeId, e -> new AtomicLong());
+	}
+
+	/**
+	 * Invalidates all entries of the Edge whose range overlaps with the data of
+	 * the {@link ResendDataNotification}.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param data   the {@link ResendDataNotification}
+	 */
+	public void invalidate(String edgeId, ResendDataNotification data) {
+		var timestamps = data.getData().rowKeySet();
+		if (timestamps.isEmpty()) {
+			return;
+		}
+		this.getGeneration(edgeId).incrementAndGet();
+		var keys = this.keysByEdge.get(edgeId);
+		if (keys == null) {
+			return;
+		}
+		var fromMillis = timestamps.first();
+		var toMillis = timestamps.last();
+		for (var key : List.copyOf(keys)) {
+			if (key.overlaps(edgeId, fromMillis, toMillis)) {
+				this.cache.invalidate(key);
+			}
+		}
+	}
+
+	private void index(Key key) {
+		this.keysByEdge.compute(key.edgeId(), (edgeId, keys) -> {
+			if (keys == null) {
+				keys = ConcurrentHashMap.newKeySet();
+			}
+			keys.add(key);
+			return keys;
+		});
+	}
+
+	private void unindex(Key key) {
+		this.keysByEdge.computeIfPresent(key.edgeId(), (edgeId, keys) -> {
+			keys.remove(key);
+			return keys.isEmpty() ? null : keys;
+		});
+	}
+
+	/**
+	 * Is the period already closed, i.e. the result is not going to change
+	 * anymore?.
+	 *
+	 * @param toDate the To-Date of the query
+	 * @return true if the period ended at least {@link #SETTLE_MARGIN} before the
+	 *         start of the current day
+	 */
+	protected static boolean isClosedPeriod(ZonedDateTime toDate) {
+		var startOfDay = ZonedDateTime.now(toDate.getZone()).truncatedTo(ChronoUnit.DAYS);
+		return !toDate.plus(SETTLE_MARGIN).isAfter(startOfDay);
+	}
+
+	private static int weigh(Object value) {
+		if (!(value instanceof Map<?, ?> map)) {
+			return 1;
+		}
+		var result = 0;
+		for (var entry : map.values()) {
+			result += entry instanceof Map<?, ?> inner ? inner.size() : 1;
+		}
+		return Math.max(1, result);
+	}
+
+	/**
+	 * Creates a map of debug metrics.
+	 *
+	 * @return a Map of key to value
+	 */
+	public Map<String, Long> debugMetrics() {
+		final var hits = this.hits.get();
+		final var total = hits + this.misses.get();
+		return Map.of(//
+				"Hits", hits, //
+				"Misses", total - hits, //
+				"HitRate", total > 0 ? hits * 100 / total : 0, // [%]
+				"Size", this.cache.size() //
+		);
+	}
+
+}
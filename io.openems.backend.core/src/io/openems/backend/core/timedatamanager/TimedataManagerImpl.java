@@ -1,17 +1,22 @@
 package io.openems.backend.core.timedatamanager;
 
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
@@ -23,15 +28,17 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableSortedSet;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
+import io.openems.backend.common.debugcycle.DebugLoggable;
 import io.openems.backend.common.timedata.InternalTimedataException;
 import io.openems.backend.common.timedata.Timedata;
 import io.openems.backend.common.timedata.TimedataManager;
+import io.openems.backend.core.timedatamanager.TimedataWriteWorker.Type;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.function.ThrowingFunction;
-import io.openems.common.function.ThrowingTriConsumer;
 import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
 import io.openems.common.jsonrpc.notification.ResendDataNotification;
@@ -44,7 +51,8 @@ import io.openems.common.types.ChannelAddress;
 		name = "Core.TimedataManager", //
 		immediate = true //
 )
-public class TimedataManagerImpl extends AbstractOpenemsBackendComponent implements TimedataManager {
+public class TimedataManagerImpl extends AbstractOpenemsBackendComponent
+		implements TimedataManager, DebugLoggable {
 
 	private final Logger log = LoggerFactory.getLogger(TimedataManagerImpl.class);
 
@@ -52,6 +60,10 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	private final List<Timedata> _rawTimedatas = new ArrayList<>();
 	private final AtomicReference<ImmutableSortedSet<Timedata>> timedatas = new AtomicReference<>(
 			ImmutableSortedSet.of());
+	private final Map<Timedata, TimedataWriteWorker> writeWorkers = new ConcurrentHashMap<>();
+
+	private volatile Config config;
+	private volatile QueryResultCache queryResultCache = null;
 
 	@Reference(//
 			policy = ReferencePolicy.DYNAMIC, //
@@ -62,6 +74,11 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 			this._rawTimedatas.add(timedata);
 			this.updateSortedTimedatas();
 		}
+		final var config = this.config;
+		if (config != null) {
+			// Otherwise the worker is started on activate()
+			this.startWriteWorker(timedata, config);
+		}
 	}
 
 	protected synchronized void removeTimedata(Timedata timedata) {
@@ -69,6 +86,14 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 			this._rawTimedatas.remove(timedata);
 			this.updateSortedTimedatas();
 		}
+		final var worker = this.writeWorkers.remove(timedata);
+		if (worker != null) {
+			worker.deactivate();
+			final var pending = worker.getPending();
+			if (pending > 0) {
+				this.logWarn(this.log, "Discarded [" + pending + "] queued notifications for " + timedata.id());
+			}
+		}
 	}
 
 	private void updateSortedTimedatas() {
@@ -113,9 +138,53 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	 */
 	@Activate
 	@Modified
-	public void activate(Config config) {
+	public synchronized void activate(Config config) {
+		final var previousConfig = this.config;
+		this.config = config;
+		if (previousConfig == null || previousConfig.queryCacheSize() != config.queryCacheSize()) {
+			this.queryResultCache = new QueryResultCache(config.queryCacheSize());
+		}
 		this._configTimedataIds = Arrays.asList(config.timedata_ids());
 		this.updateSortedTimedatas();
+		for (var entry : this.writeWorkers.entrySet()) {
+			this.configureWriteWorker(entry.getValue(), entry.getKey(), config);
+		}
+		final List<Timedata> timedatas;
+		synchronized (this._rawTimedatas) {
+			timedatas = new ArrayList<>(this._rawTimedatas);
+		}
+		for (var timedata : timedatas) {
+			if (!this.writeWorkers.containsKey(timedata)) {
+				this.startWriteWorker(timedata, config);
+			}
+		}
+	}
+
+	private void startWriteWorker(Timedata timedata, Config config) {
+		final var worker = new TimedataWriteWorker(timedata, config.writeQueueSize(), config.writeBatchSize(),
+				config.writeOverflowPolicy(), this::invalidateQueryResultCache);
+		this.configureWriteWorker(worker, timedata, config);
+		worker.activate("Core.TimedataManager.Write-" + timedata.id());
+		this.writeWorkers.put(timedata, worker);
+	}
+
+	private void configureWriteWorker(TimedataWriteWorker worker, Timedata timedata, Config config) {
+		final var spillDirectory = config.writeSpillDirectory() == null || config.writeSpillDirectory().isBlank() //
+				? null //
+				: Path.of(config.writeSpillDirectory(), timedata.id().replaceAll("[^A-Za-z0-9._-]", "_"));
+		worker.configure(config.writeQueueSize(), config.writeBatchSize(), config.writeOverflowPolicy(),
+				spillDirectory, config.writeSpillMaxSize());
+	}
+
+	/**
+	 * Deactivates the component.
+	 */
+	@Deactivate
+	public synchronized void deactivate() {
+		for (var worker : this.writeWorkers.values()) {
+			worker.deactivate();
+		}
+		this.writeWorkers.clear();
 	}
 
 	/**
@@ -149,7 +218,8 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	@Override
 	public SortedMap<ChannelAddress, JsonElement> queryHistoricEnergy(String edgeId, ZonedDateTime fromDate,
 			ZonedDateTime toDate, Set<ChannelAddress> channels) throws OpenemsNamedException {
-		final var value = this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels));
+		final var value = this.queryResultCache.getEnergy(edgeId, fromDate, toDate, channels, //
+				() -> this.firstOf(t -> t.queryHistoricEnergy(edgeId, fromDate, toDate, channels)));
 		if (value != null) {
 			return value;
 		}
@@ -170,8 +240,9 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 	public SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryHistoricEnergyPerPeriod(String edgeId,
 			ZonedDateTime fromDate, ZonedDateTime toDate, Set<ChannelAddress> channels, Resolution resolution)
 			throws OpenemsNamedException {
-		final var value = this
-				.firstOf(t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution));
+		final var value = this.queryResultCache.getEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution, //
+				() -> this.firstOf(
+						t -> t.queryHistoricEnergyPerPeriod(edgeId, fromDate, toDate, channels, resolution)));
 		if (value != null) {
 			return value;
 		}
@@ -220,31 +291,75 @@ public class TimedataManagerImpl extends AbstractOpenemsBackendComponent impleme
 
 	@Override
 	public void write(String edgeId, AggregatedDataNotification data) {
-		this.write(edgeId, data, Timedata::write);
+		this.write(edgeId, Type.AGGREGATED, data);
 	}
 
 	@Override
 	public void write(String edgeId, TimestampedDataNotification data) {
-		this.write(edgeId, data, Timedata::write);
+		this.write(edgeId, Type.TIMESTAMPED, data);
 	}
 
 	@Override
 	public void write(String edgeId, ResendDataNotification data) {
-		this.write(edgeId, data, Timedata::write);
+		this.invalidateQueryResultCache(edgeId, data);
+		this.write(edgeId, Type.RESEND, data);
+	}
+
+	/**
+	 * Invalidates cached query results that are affected by resent data. Called
+	 * when the data is received and again after it was written, as queries in
+	 * between might still return the old data.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param data   the {@link ResendDataNotification}
+	 */
+	private void invalidateQueryResultCache(String edgeId, ResendDataNotification data) {
+		this.queryResultCache.invalidate(edgeId, data);
 	}
 
-	private <T extends AbstractDataNotification> void write(//
-			final String edgeId, //
-			final T data, //
-			final ThrowingTriConsumer<Timedata, String, T, OpenemsException> method //
-	) {
+	/**
+	 * Hands the notification over to the {@link TimedataWriteWorker} of each
+	 * {@link Timedata}. Never blocks the calling (websocket) thread.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param type   the {@link Type} of the notification
+	 * @param data   the notification
+	 */
+	private void write(String edgeId, Type type, AbstractDataNotification data) {
 		for (var timedata : this.timedatas.get()) {
-			try {
-				method.accept(timedata, edgeId, data);
-			} catch (OpenemsException e) {
-				this.logWarn(this.log, "Timedata write failed for Edge=" + edgeId);
+			final var worker = this.writeWorkers.get(timedata);
+			if (worker == null) {
+				continue;
+			}
+			worker.offer(edgeId, type, data);
+		}
+	}
+
+	@Override
+	public String debugLog() {
+		if (this.writeWorkers.isEmpty()) {
+			return null;
+		}
+		return "[" + this.getName() + "] " + this.timedatas.get().stream() //
+				.map(this.writeWorkers::get) //
+				.filter(w -> w != null) //
+				.map(TimedataWriteWorker::debugLog) //
+				.collect(Collectors.joining("; "));
+	}
+
+	@Override
+	public Map<String, JsonElement> debugMetrics() {
+		final var result = new HashMap<String, JsonElement>();
+		for (var entry : this.writeWorkers.entrySet()) {
+			final var prefix = this.getName() + "/" + entry.getKey().id() + "/";
+			for (var metric : entry.getValue().debugMetrics().entrySet()) {
+				result.put(prefix + metric.getKey(), new JsonPrimitive(metric.getValue()));
 			}
 		}
+		for (var metric : this.queryResultCache.debugMetrics().entrySet()) {
+			result.put(this.getName() + "/QueryCache/" + metric.getKey(), new JsonPrimitive(metric.getValue()));
+		}
+		return result;
 	}
 
 }
@@ -0,0 +1,418 @@
+package io.openems.backend.core.timedatamanager;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+
+import io.openems.backend.common.timedata.Timedata;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.jsonrpc.notification.AbstractDataNotification;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.spill.SpillLog;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.worker.AbstractImmediateWorker;
+
+/**
+ * Decouples writes to one {@link Timedata} service from the calling thread.
+ *
+ * <p>
+ * Notifications are added to a bounded queue and written by a dedicated worker
+ * thread in batches. Consecutive notifications of the same Edge and type are
+ * merged into one write.
+ */
+public class TimedataWriteWorker extends AbstractImmediateWorker {
+
+	private static final int MAX_POLL_WAIT = 1; // [s]
+	private static final int SPILL_SEGMENT_SIZE = 16 * 1024 * 1024; // [byte]
+
+	protected static enum Type {
+		TIMESTAMPED, AGGREGATED, RESEND;
+	}
+
+	/**
+	 * A queued notification.
+	 *
+	 * @param edgeId     the Edge-ID
+	 * @param type       the {@link Type}
+	 * @param data       the notification
+	 * @param enqueuedAt the timestamp when the notification was queued
+	 * @param count      the number of original notifications that were merged
+	 *                   into this one
+	 */
+	protected static record Task(String edgeId, Type type, AbstractDataNotification data, long enqueuedAt,
+			int count) {
+
+		protected Task(String edgeId, Type type, AbstractDataNotification data, long enqueuedAt) {
+			this(edgeId, type, data, enqueuedAt, 1);
+		}
+	}
+
+	/**
+	 * Serializes {@link Task}s for the {@link SpillLog}.
+	 */
+	protected static final SpillLog.Codec<Task> TASK_CODEC = new SpillLog.Codec<>() {
+
+		@Override
+		public void encode(Task task, DataOutput out) throws IOException {
+			out.writeUTF(task.edgeId());
+			out.writeByte(task.type().ordinal());
+			out.writeLong(task.enqueuedAt());
+			out.writeInt(task.count());
+			var params = task.data().getParams().toString().getBytes(StandardCharsets.UTF_8);
+			out.writeInt(params.length);
+			out.write(params);
+		}
+
+		@Override
+		public Task decode(DataInput in) throws IOException {
+			var edgeId = in.readUTF();
+			var type = Type.values()[in.readByte()];
+			var enqueuedAt = in.readLong();
+			var count = in.readInt();
+			var params = new byte[in.readInt()];
+			in.readFully(params);
+			try {
+				var data = TreeBasedTable.<Long, String, JsonElement>create();
+				var json = JsonUtils.parseToJsonObject(new String(params, StandardCharsets.UTF_8));
+				for (var row : json.entrySet()) {
+					var timestamp = Long.parseLong(row.getKey());
+					for (var cell : JsonUtils.getAsJsonObject(row.getValue()).entrySet()) {
+						data.put(timestamp, cell.getKey(), cell.getValue());
+					}
+				}
+				return withData(new Task(edgeId, type, null, enqueuedAt, count), data, count);
+			} catch (OpenemsNamedException | NumberFormatException e) {
+				throw new IOException("Unable to parse spilled notification: " + e.getMessage());
+			}
+		}
+	};
+
+	private final Logger log = LoggerFactory.getLogger(TimedataWriteWorker.class);
+
+	private final Timedata timedata;
+	private final BiConsumer<String, ResendDataNotification> onResendWritten;
+	private final LinkedBlockingDeque<Task> queue = new LinkedBlockingDeque<>();
+
+	private final AtomicLong written = new AtomicLong();
+	private final AtomicLong dropped = new AtomicLong();
+	private final AtomicLong failed = new AtomicLong();
+
+	private volatile int queueSize;
+	private volatile int batchSize;
+	private volatile OverflowPolicy overflowPolicy;
+	private volatile SpillLog<Task> spillLog = null;
+	private Path spillDirectory = null;
+
+	private long lastMetricsTimestamp = System.currentTimeMillis();
+	private long lastMetricsWritten = 0;
+
+	public TimedataWriteWorker(Timedata timedata, int queueSize, int batchSize, OverflowPolicy overflowPolicy,
+			BiConsumer<String, ResendDataNotification> onResendWritten) {
+		this.timedata = timedata;
+		this.onResendWritten = onResendWritten;
+		this.configure(queueSize, batchSize, overflowPolicy, null, 0);
+	}
+
+	public TimedataWriteWorker(Timedata timedata, int queueSize, int batchSize, OverflowPolicy overflowPolicy) {
+		this(timedata, queueSize, batchSize, overflowPolicy, (edgeId, data) -> {
+		});
+	}
+
+	/**
+	 * Applies a new configuration. Already queued notifications are kept.
+	 *
+	 * @param queueSize      the maximum number of queued notifications
+	 * @param batchSize      the maximum number of notifications handled in one
+	 *                       batch
+	 * @param overflowPolicy the {@link OverflowPolicy}
+	 * @param spillDirectory the directory for {@link OverflowPolicy#SPILL}; null
+	 *                       to disable spilling
+	 * @param spillMaxSize   the maximum size of spilled notifications on disk in
+	 *                       [MB]
+	 */
+	public synchronized void configure(int queueSize, int batchSize, OverflowPolicy overflowPolicy,
+			Path spillDirectory, int spillMaxSize) {
+		this.queueSize = Math.max(1, queueSize);
+		this.batchSize = Math.max(1, batchSize);
+		this.overflowPolicy = overflowPolicy;
+
+		if (overflowPolicy != OverflowPolicy.SPILL) {
+			spillDirectory = null;
+		}
+		if (Objects.equals(spillDirectory, this.spillDirectory)) {
+			return;
+		}
+		// Keep spilled notifications of a previous directory on disk; they are
+		// restored once that directory is configured again
+		var previous = this.spillLog;
+		this.spillLog = null;
+		this.spillDirectory = spillDirectory;
+		if (previous != null) {
+			previous.close();
+		}
+		if (spillDirectory != null) {
+			var maxSegments = Math.max(1, (int) ((long) spillMaxSize * 1024 * 1024 / SPILL_SEGMENT_SIZE));
+			try {
+				this.spillLog = new SpillLog<>(spillDirectory, SPILL_SEGMENT_SIZE, maxSegments, TASK_CODEC);
+			} catch (IOException e) {
+				this.log.error("Unable to open SpillLog [" + spillDirectory + "]: " + e.getMessage());
+			}
+		}
+	}
+
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		synchronized (this) {
+			var spillLog = this.spillLog;
+			this.spillLog = null;
+			if (spillLog != null) {
+				// Queued notifications are kept on disk for the next start. With a backlog
+				// they are replayed after the spilled ones.
+				spillLog.appendAll(this.queue);
+				this.queue.clear();
+				spillLog.close();
+			}
+		}
+	}
+
+	/**
+	 * Adds a notification to the queue. Never blocks.
+	 *
+	 * <p>
+	 * With {@link OverflowPolicy#SPILL} notifications go to the {@link SpillLog}
+	 * if the queue is full and as long as there are spilled notifications, so
+	 * they are written in order: first the queue, then the {@link SpillLog}.
+	 *
+	 * @param edgeId the Edge-ID
+	 * @param type   the {@link Type} of the notification
+	 * @param data   the notification
+	 * @return true if the notification was added without dropping data
+	 */
+	public boolean offer(String edgeId, Type type, AbstractDataNotification data) {
+		final var task = new Task(edgeId, type, data, System.currentTimeMillis());
+		// Same lock as configure() and deactivate(), that close the SpillLog
+		synchronized (this) {
+			var spillLog = this.overflowPolicy == OverflowPolicy.SPILL ? this.spillLog : null;
+			if (this.queue.size() < this.queueSize && (spillLog == null || spillLog.size() == 0)) {
+				this.queue.offerLast(task);
+				return true;
+			}
+			switch (this.overflowPolicy) {
+			case SPILL:
+				if (spillLog != null && spillLog.append(task)) {
+					return true;
+				}
+				if (this.queue.size() < this.queueSize) {
+					this.queue.offerLast(task);
+					return true;
+				}
+				// Fallback if spilling is not possible
+				this.dropped.incrementAndGet();
+				this.queue.pollFirst();
+				this.queue.offerLast(task);
+				return false;
+			case DROP_NEWEST:
+				this.dropped.incrementAndGet();
+				return false;
+			case DROP_OLDEST:
+				this.dropped.incrementAndGet();
+				this.queue.pollFirst();
+				this.queue.offerLast(task);
+				return false;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	protected void forever() throws InterruptedException {
+		var tasks = new ArrayList<Task>(this.batchSize);
+		var spillLog = this.spillLog;
+		if (this.queue.isEmpty() && spillLog != null && spillLog.size() > 0) {
+			// Spilled notifications are newer than the queued ones; replay them once the
+			// queue is written
+			tasks.addAll(spillLog.poll(this.batchSize));
+		} else {
+			var first = this.queue.pollFirst(MAX_POLL_WAIT, TimeUnit.SECONDS);
+			if (first == null) {
+				return;
+			}
+			tasks.add(first);
+			this.queue.drainTo(tasks, this.batchSize - 1);
+		}
+
+		for (var task : merge(tasks)) {
+			try {
+				this.write(task);
+				this.written.addAndGet(task.count());
+			} catch (OpenemsException | RuntimeException e) {
+				this.failed.addAndGet(task.count());
+				this.log.warn("[" + this.timedata.id() + "] Timedata write failed for Edge=" + task.edgeId() + ": "
+						+ e.getMessage());
+			}
+		}
+	}
+
+	private void write(Task task) throws OpenemsException {
+		switch (task.type()) {
+		case TIMESTAMPED:
+			this.timedata.write(task.edgeId(), (TimestampedDataNotification) task.data());
+			break;
+		case AGGREGATED:
+			this.timedata.write(task.edgeId(), (AggregatedDataNotification) task.data());
+			break;
+		case RESEND:
+			this.timedata.write(task.edgeId(), (ResendDataNotification) task.data());
+			this.onResendWritten.accept(task.edgeId(), (ResendDataNotification) task.data());
+			break;
+		}
+	}
+
+	/**
+	 * Merges consecutive {@link Task}s of the same Edge and {@link Type} into one
+	 * {@link Task}. The order of the tasks is kept.
+	 *
+	 * @param tasks the {@link Task}s
+	 * @return the merged {@link Task}s
+	 */
+	protected static List<Task> merge(List<Task> tasks) {
+		var result = new ArrayList<Task>(tasks.size());
+		Task current = null;
+		TreeBasedTable<Long, String, JsonElement> merged = null;
+		var count = 0;
+		for (var task : tasks) {
+			if (current != null && current.edgeId().equals(task.edgeId()) && current.type() == task.type()) {
+				if (merged == null) {
+					// Never modify the original notification; it is shared by all workers
+					merged = TreeBasedTable.create(current.data().getData());
+				}
+				merged.putAll(task.data().getData());
+				count += task.count();
+				continue;
+			}
+			if (current != null) {
+				result.add(withData(current, merged, count));
+			}
+			current = task;
+			merged = null;
+			count = task.count();
+		}
+		if (current != null) {
+			result.add(withData(current, merged, count));
+		}
+		return result;
+	}
+
+	private static Task withData(Task task, TreeBasedTable<Long, String, JsonElement> data, int count) {
+		if (data == null) {
+			return task;
+		}
+		var notification = switch (task.type()) {
+		case TIMESTAMPED -> new TimestampedDataNotification(data);
+		case AGGREGATED -> new AggregatedDataNotification(data);
+		case RESEND -> new ResendDataNotification(data);
+		};
+		return new Task(task.edgeId(), task.type(), notification, task.enqueuedAt(), count);
+	}
+
+	/**
+	 * Gets the number of queued notifications.
+	 *
+	 * @return the queue size
+	 */
+	public int getPending() {
+		return this.queue.size();
+	}
+
+	/**
+	 * Gets the age of the oldest queued notification in [ms].
+	 *
+	 * @return the lag; zero if the queue is empty
+	 */
+	public long getLag() {
+		var head = this.queue.peekFirst();
+		if (head == null) {
+			return 0;
+		}
+		return Math.max(0, System.currentTimeMillis() - head.enqueuedAt());
+	}
+
+	/**
+	 * Creates a map of debug metrics.
+	 *
+	 * <p>
+	 * 'WrittenPerSecond' is calculated since the previous call of this method.
+	 * 'Written' and 'Failed' count the original notifications before merging.
+	 *
+	 * @return a Map of key to value
+	 */
+	public synchronized Map<String, Long> debugMetrics() {
+		final var now = System.currentTimeMillis();
+		final var written = this.written.get();
+		final var duration = now - this.lastMetricsTimestamp;
+		final var writtenPerSecond = duration > 0 ? (written - this.lastMetricsWritten) * 1000 / duration : 0;
+		this.lastMetricsTimestamp = now;
+		this.lastMetricsWritten = written;
+
+		return Map.of(//
+				"Pending", Long.valueOf(this.getPending()), //
+				"Lag", this.getLag(), //
+				"Written", written, //
+				"WrittenPerSecond", writtenPerSecond, //
+				"Dropped", this.dropped.get(), //
+				"Failed", this.failed.get(), //
+				"Spilled", this.getSpilled() //
+		);
+	}
+
+	/**
+	 * Gets the number of notifications in the {@link SpillLog}.
+	 *
+	 * @return the number of spilled notifications; zero if spilling is disabled
+	 */
+	public long getSpilled() {
+		var spillLog = this.spillLog;
+		return spillLog == null ? 0 : spillLog.size();
+	}
+
+	/**
+	 * Creates a debug log output.
+	 *
+	 * @return a String
+	 */
+	public String debugLog() {
+		final var pending = this.getPending();
+		return new StringBuilder() //
+				.append(this.timedata.id()) //
+				.append(": ") //
+				.append(pending) //
+				.append("/") //
+				.append(this.queueSize) //
+				.append(", Lag: ").append(this.getLag()).append("ms") //
+				.append(", Dropped: ").append(this.dropped.get()) //
+				.append(this.spillLog != null ? ", Spilled: " + this.getSpilled() : "") //
+				.append(pending >= this.queueSize ? " !!!WRITE BACKPRESSURE!!!" : "") //
+				.toString();
+	}
+
+}
@@ -0,0 +1,121 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.google.common.collect.TreeBasedTable;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingSupplier;
+import io.openems.common.jsonrpc.notification.ResendDataNotification;
+import io.openems.common.types.ChannelAddress;
+
+public class QueryResultCacheTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Europe/Berlin");
+	private static final ChannelAddress CHANNEL = new ChannelAddress("_sum", "ProductionActiveEnergy");
+
+	@Test
+	public void testGetEnergy() throws OpenemsNamedException {
+		var cache = new QueryResultCache(1000);
+		var queries = new AtomicInteger();
+		var fromDate = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZONE);
+		var toDate = fromDate.plusMonths(1);
+
+		for (var i = 0; i < 3; i++) {
+			var result = cache.getEnergy("edge0", fromDate, toDate, Set.of(CHANNEL), () -> {
+				queries.incrementAndGet();
+				var r = new TreeMap<ChannelAddress, JsonElement>();
+				r.put(CHANNEL, new JsonPrimitive(1000));
+				return r;
+			});
+			assertEquals(new JsonPrimitive(1000), result.get(CHANNEL));
+		}
+		assertEquals(1, queries.get());
+		assertEquals(2L, (long) cache.debugMetrics().get("Hits"));
+		assertEquals(66L, (long) cache.debugMetrics().get("HitRate"));
+
+		// Current day is never cached
+		var today = ZonedDateTime.now(ZONE).truncatedTo(ChronoUnit.DAYS);
+		cache.getEnergy("edge0", today, today.plusDays(1), Set.of(CHANNEL), () -> {
+			queries.incrementAndGet();
+			return new TreeMap<>();
+		});
+		cache.getEnergy("edge0", today, today.plusDays(1), Set.of(CHANNEL), () -> {
+			queries.incrementAndGet();
+			return new TreeMap<>();
+		});
+		assertEquals(3, queries.get());
+	}
+
+	@Test
+	public void testInvalidate() throws OpenemsNamedException {
+		var cache = new QueryResultCache(1000);
+		var queries = new AtomicInteger();
+		var fromDate = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZONE);
+		var toDate = fromDate.plusDays(1);
+		ThrowingSupplier<SortedMap<ChannelAddress, JsonElement>, OpenemsNamedException> query = () -> {
+			queries.incrementAndGet();
+			return new TreeMap<>();
+		};
+
+		cache.getEnergy("edge0", fromDate, toDate, Set.of(CHANNEL), query);
+		cache.getEnergy("edge1", fromDate, toDate, Set.of(CHANNEL), query);
+		assertEquals(2L, (long) cache.debugMetrics().get("Size"));
+
+		// Resend for other period
+		var data = TreeBasedTable.<Long, String, JsonElement>create();
+		data.put(toDate.plusDays(5).toInstant().toEpochMilli(), CHANNEL.toString(), new JsonPrimitive(1));
+		cache.invalidate("edge0", new ResendDataNotification(data));
+		assertEquals(2L, (long) cache.debugMetrics().get("Size"));
+
+		// Resend for same period
+		data.put(fromDate.plusHours(1).toInstant().toEpochMilli(), CHANNEL.toString(), new JsonPrimitive(1));
+		cache.invalidate("edge0", new ResendDataNotification(data));
+		assertEquals(1L, (long) cache.debugMetrics().get("Size"));
+
+		cache.getEnergy("edge0", fromDate, toDate, Set.of(CHANNEL), query);
+		assertEquals(3, queries.get());
+
+		// Results of queries that were invalidated while running are not cached
+		cache.invalidate("edge1", new ResendDataNotification(data));
+		cache.getEnergy("edge1", fromDate, toDate, Set.of(CHANNEL), () -> {
+			cache.invalidate("edge1", new ResendDataNotification(data));
+			return query.get();
+		});
+		cache.getEnergy("edge1", fromDate, toDate, Set.of(CHANNEL), query);
+		assertEquals(5, queries.get());
+
+		// Evicted entries are removed from the index
+		var small = new QueryResultCache(1);
+		small.getEnergy("edge0", fromDate, toDate, Set.of(CHANNEL), query);
+		small.getEnergy("edge0", fromDate, toDate.plusDays(1), Set.of(CHANNEL), query);
+		assertEquals(1L, (long) small.debugMetrics().get("Size"));
+		small.invalidate("edge0", new ResendDataNotification(data));
+		assertEquals(0L, (long) small.debugMetrics().get("Size"));
+	}
+
+	@Test
+	public void testIsClosedPeriod() {
+		var today = ZonedDateTime.now(ZONE).truncatedTo(ChronoUnit.DAYS);
+		assertTrue(QueryResultCache.isClosedPeriod(today.minusDays(2)));
+		assertTrue(QueryResultCache.isClosedPeriod(today.minusDays(1)));
+		// Yesterday is not yet settled
+		assertFalse(QueryResultCache.isClosedPeriod(today));
+		assertFalse(QueryResultCache.isClosedPeriod(today.plusDays(1)));
+	}
+
+}
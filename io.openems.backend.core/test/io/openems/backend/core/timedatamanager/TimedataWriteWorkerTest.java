@@ -0,0 +1,115 @@
+package io.openems.backend.core.timedatamanager;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.gson.JsonPrimitive;
+
+import io.openems.backend.core.timedatamanager.TimedataWriteWorker.Task;
+import io.openems.backend.core.timedatamanager.TimedataWriteWorker.Type;
+import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+
+public class TimedataWriteWorkerTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private static TimestampedDataNotification timestamped(long timestamp, String channel, int value) {
+		var result = new TimestampedDataNotification();
+		result.add(timestamp, channel, new JsonPrimitive(value));
+		return result;
+	}
+
+	@Test
+	public void testMerge() {
+		var n1 = timestamped(1000L, "_sum/EssSoc", 50);
+		var n2 = timestamped(2000L, "_sum/EssSoc", 51);
+		var n3 = timestamped(2000L, "_sum/EssSoc", 10);
+		var n4 = new AggregatedDataNotification();
+
+		var merged = TimedataWriteWorker.merge(List.of(//
+				new Task("edge0", Type.TIMESTAMPED, n1, 0), //
+				new Task("edge0", Type.TIMESTAMPED, n2, 0), //
+				new Task("edge1", Type.TIMESTAMPED, n3, 0), //
+				new Task("edge1", Type.AGGREGATED, n4, 0)));
+
+		assertEquals(3, merged.size());
+		assertEquals(2, merged.get(0).data().getData().size());
+		assertEquals("edge1", merged.get(1).edgeId());
+		assertEquals(Type.AGGREGATED, merged.get(2).type());
+		assertEquals(2, merged.get(0).count());
+		assertEquals(1, merged.get(1).count());
+
+		// Original notifications are not modified
+		assertEquals(1, n1.getData().size());
+	}
+
+	@Test
+	public void testOverflowPolicy() {
+		var dropOldest = new TimedataWriteWorker(null, 2, 10, OverflowPolicy.DROP_OLDEST);
+		assertTrue(dropOldest.offer("edge0", Type.TIMESTAMPED, timestamped(1000L, "_sum/EssSoc", 1)));
+		assertTrue(dropOldest.offer("edge0", Type.TIMESTAMPED, timestamped(2000L, "_sum/EssSoc", 2)));
+		assertFalse(dropOldest.offer("edge0", Type.TIMESTAMPED, timestamped(3000L, "_sum/EssSoc", 3)));
+		assertEquals(2, dropOldest.getPending());
+		assertEquals(1L, (long) dropOldest.debugMetrics().get("Dropped"));
+
+		var dropNewest = new TimedataWriteWorker(null, 1, 10, OverflowPolicy.DROP_NEWEST);
+		assertTrue(dropNewest.offer("edge0", Type.TIMESTAMPED, timestamped(1000L, "_sum/EssSoc", 1)));
+		assertFalse(dropNewest.offer("edge0", Type.TIMESTAMPED, timestamped(2000L, "_sum/EssSoc", 2)));
+		assertEquals(1, dropNewest.getPending());
+	}
+
+	@Test
+	public void testSpill() throws Exception {
+		var dir = this.folder.getRoot().toPath();
+		var sut = new TimedataWriteWorker(null, 1, 10, OverflowPolicy.DROP_OLDEST);
+		sut.configure(1, 10, OverflowPolicy.SPILL, dir, 16);
+		assertTrue(sut.offer("edge0", Type.TIMESTAMPED, timestamped(1000L, "_sum/EssSoc", 1)));
+		assertTrue(sut.offer("edge0", Type.TIMESTAMPED, timestamped(2000L, "_sum/EssSoc", 2)));
+		assertTrue(sut.offer("edge0", Type.TIMESTAMPED, timestamped(3000L, "_sum/EssSoc", 3)));
+		assertEquals(1, sut.getPending());
+		assertEquals(2L, sut.getSpilled());
+		assertEquals(0L, (long) sut.debugMetrics().get("Dropped"));
+
+		// Keep the order: newer notifications are spilled as long as there is a backlog
+		sut.configure(10, 10, OverflowPolicy.SPILL, dir, 16);
+		assertTrue(sut.offer("edge0", Type.TIMESTAMPED, timestamped(4000L, "_sum/EssSoc", 4)));
+		assertEquals(1, sut.getPending());
+		assertEquals(3L, sut.getSpilled());
+
+		// Queue is kept on disk on deactivate and restored on the next start
+		sut.deactivate();
+		var restored = new TimedataWriteWorker(null, 1, 10, OverflowPolicy.DROP_OLDEST);
+		restored.configure(1, 10, OverflowPolicy.SPILL, dir, 16);
+		assertEquals(4L, restored.getSpilled());
+		restored.deactivate();
+	}
+
+	@Test
+	public void testTaskCodec() throws Exception {
+		var task = new Task("edge0", Type.RESEND, timestamped(1000L, "_sum/EssSoc", 50), 123L, 4);
+		var bytes = new ByteArrayOutputStream();
+		TimedataWriteWorker.TASK_CODEC.encode(task, new DataOutputStream(bytes));
+		var result = TimedataWriteWorker.TASK_CODEC
+				.decode(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+		assertEquals("edge0", result.edgeId());
+		assertEquals(Type.RESEND, result.type());
+		assertEquals(123L, result.enqueuedAt());
+		assertEquals(4, result.count());
+		assertEquals(new JsonPrimitive(50), result.data().getData().get(1000L, "_sum/EssSoc"));
+	}
+
+}
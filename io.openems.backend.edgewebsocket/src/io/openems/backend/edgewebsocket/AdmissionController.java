@@ -0,0 +1,112 @@
+package io.openems.backend.edgewebsocket;
+
+import java.time.Clock;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits the admission of new Edge connections.
+ *
+ * <p>
+ * After a restart of the Backend all Edges reconnect at the same time. Each of
+ * them is authenticated via Metadata and immediately sends its full EdgeConfig
+ * and the values of all Channels. To turn this reconnect storm into a smooth
+ * ramp, handshakes are admitted by a token bucket and the number of concurrent
+ * authentications is bounded.
+ *
+ * <p>
+ * Rejected Edges get a delay advertised, after which they may reconnect. The
+ * delays are spread according to the number of Edges that are currently
+ * waiting, so that the returning Edges again match the rate of the token
+ * bucket.
+ */
+public class AdmissionController {
+
+	private final Clock clock;
+	private final double handshakesPerSecond;
+	private final double burst;
+	private final long maxRetryAfterSeconds;
+	private final Semaphore authentications;
+	private final AtomicLong rejected = new AtomicLong(0);
+
+	private double tokens;
+	private long lastRefill;
+
+	/**
+	 * Estimated number of rejected Edges that did not yet reconnect.
+	 */
+	private double waiting = 0;
+
+	/**
+	 * Constructs an {@link AdmissionController}.
+	 *
+	 * @param clock                        the {@link Clock}
+	 * @param handshakesPerSecond          the rate of admitted handshakes
+	 * @param burst                        the capacity of the token bucket
+	 * @param maxConcurrentAuthentications the maximum number of concurrent
+	 *                                     authentications
+	 * @param maxRetryAfterSeconds         the maximum advertised delay in [s]
+	 */
+	public AdmissionController(Clock clock, int handshakesPerSecond, int burst, int maxConcurrentAuthentications,
+			int maxRetryAfterSeconds) {
+		this.clock = clock;
+		this.handshakesPerSecond = Math.max(1, handshakesPerSecond);
+		this.burst = Math.max(1, burst);
+		this.maxRetryAfterSeconds = Math.max(1, maxRetryAfterSeconds);
+		this.authentications = new Semaphore(Math.max(1, maxConcurrentAuthentications));
+		this.tokens = this.burst;
+		this.lastRefill = clock.millis();
+	}
+
+	/**
+	 * Tries to admit a new connection. If the connection was admitted,
+	 * {@link #release()} must be called after authentication.
+	 *
+	 * @return 0 if the connection was admitted; otherwise the delay in [s] after
+	 *         which the Edge may reconnect
+	 */
+	public synchronized long tryAcquire() {
+		this.refill();
+		if (this.tokens >= 1 && this.authentications.tryAcquire()) {
+			this.tokens -= 1;
+			this.waiting = Math.max(0, this.waiting - 1);
+			return 0;
+		}
+
+		this.rejected.incrementAndGet();
+		this.waiting = Math.min(this.waiting + 1, this.handshakesPerSecond * this.maxRetryAfterSeconds);
+		// Position of this Edge in the virtual queue in [s]
+		var retryAfter = (long) Math.ceil(this.waiting / this.handshakesPerSecond);
+		return Math.max(1, Math.min(retryAfter, this.maxRetryAfterSeconds));
+	}
+
+	/**
+	 * Releases a permit acquired via {@link #tryAcquire()}.
+	 */
+	public void release() {
+		this.authentications.release();
+	}
+
+	/**
+	 * Gets the total number of rejected connections.
+	 *
+	 * @return the number of rejected connections
+	 */
+	public long getRejected() {
+		return this.rejected.get();
+	}
+
+	private void refill() {
+		var now = this.clock.millis();
+		var elapsed = Math.max(0, now - this.lastRefill);
+		this.lastRefill = now;
+		var tokens = this.tokens + elapsed * this.handshakesPerSecond / 1000.;
+		if (tokens > this.burst) {
+			// Unused capacity: waiting Edges have returned earlier or gave up
+			this.waiting = Math.max(0, this.waiting - (tokens - this.burst));
+			tokens = this.burst;
+		}
+		this.tokens = tokens;
+	}
+
+}
@@ -14,5 +14,17 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Handshakes per Second", description = "The rate of admitted Edge connections.")
+	int handshakesPerSecond() default 20;
+
+	@AttributeDefinition(name = "Handshake Burst", description = "The number of Edge connections that are admitted at once.")
+	int handshakeBurst() default 50;
+
+	@AttributeDefinition(name = "Max Concurrent Authentications", description = "The maximum number of Edge connections that are authenticated concurrently via Metadata.")
+	int maxConcurrentAuthentications() default 5;
+
+	@AttributeDefinition(name = "Max Retry-After [s]", description = "The maximum delay that is advertised to rejected Edges before they reconnect.")
+	int maxRetryAfter() default 300;
+
 	String webconsole_configurationFactory_nameHint() default "Edge Websocket";
 }
@@ -2,6 +2,8 @@ package io.openems.backend.edgewebsocket;
 
 import static java.util.stream.Collectors.toUnmodifiableMap;
 
+import java.time.Clock;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
@@ -86,6 +88,8 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 	private WebsocketServer server = null;
 	private Config config;
 
+	protected AdmissionController admission;
+
 	public EdgeWebsocketImpl() {
 		super("Edge.Websocket");
 		this.systemLogHandler = new SystemLogHandler(this);
@@ -94,6 +98,8 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 	@Activate
 	private void activate(Config config) {
 		this.config = config;
+		this.admission = new AdmissionController(Clock.systemDefaultZone(), config.handshakesPerSecond(),
+				config.handshakeBurst(), config.maxConcurrentAuthentications(), config.maxRetryAfter());
 
 		if (this.metadata.isInitialized()) {
 			this.startServer();
@@ -308,7 +314,9 @@ public class EdgeWebsocketImpl extends AbstractOpenemsBackendComponent
 			return null;
 		}
 
-		return this.server.debugMetrics().entrySet().stream() //
+		var metrics = new HashMap<>(this.server.debugMetrics());
+		metrics.put("RejectedConnections", this.admission.getRejected());
+		return metrics.entrySet().stream() //
 				.collect(toUnmodifiableMap(//
 						e -> this.getId() + "/" + e.getKey(), //
 						e -> new JsonPrimitive(e.getValue())));
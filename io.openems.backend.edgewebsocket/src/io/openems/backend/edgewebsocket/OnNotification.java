@@ -17,12 +17,14 @@ import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.notification.AbstractDataNotification;
 import io.openems.common.jsonrpc.notification.AggregatedDataNotification;
+import io.openems.common.jsonrpc.notification.EdgeConfigDeltaNotification;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
 import io.openems.common.jsonrpc.notification.LogMessageNotification;
 import io.openems.common.jsonrpc.notification.ResendDataNotification;
 import io.openems.common.jsonrpc.notification.SystemLogNotification;
 import io.openems.common.jsonrpc.notification.TimestampedDataNotification;
+import io.openems.common.types.EdgeConfig;
 import io.openems.common.types.SemanticVersion;
 import io.openems.common.utils.JsonUtils;
 
@@ -56,6 +58,8 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 		switch (notification.getMethod()) {
 		case EdgeConfigNotification.METHOD ->
 			this.handleEdgeConfigNotification(EdgeConfigNotification.from(notification), wsData);
+		case EdgeConfigDeltaNotification.METHOD ->
+			this.handleEdgeConfigDeltaNotification(EdgeConfigDeltaNotification.from(notification), wsData);
 		case TimestampedDataNotification.METHOD ->
 			this.handleDataNotification(TimestampedDataNotification.from(notification), wsData);
 		case AggregatedDataNotification.METHOD ->
@@ -79,7 +83,36 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 	 */
 	private void handleEdgeConfigNotification(EdgeConfigNotification message, WsData wsData) throws OpenemsException {
 		var edgeId = wsData.assertEdgeId(message);
+		wsData.setEdgeConfig(message.getConfig());
+		this.setEdgeConfig(edgeId, message);
+	}
+
+	/**
+	 * Handles EdgeConfigDeltaNotification.
+	 *
+	 * @param message the EdgeConfigDeltaNotification
+	 * @param wsData  the WebSocket attachment
+	 * @throws OpenemsNamedException on error
+	 */
+	private void handleEdgeConfigDeltaNotification(EdgeConfigDeltaNotification message, WsData wsData)
+			throws OpenemsNamedException {
+		var edgeId = wsData.assertEdgeId(message);
+		final EdgeConfig config;
+		synchronized (wsData) {
+			var oldConfig = wsData.getEdgeConfig();
+			if (oldConfig == null) {
+				// Edge always sends the full EdgeConfig first after connecting
+				this.parent.logWarn(this.log, edgeId,
+						"Unable to apply EdgeConfigDeltaNotification without EdgeConfig");
+				return;
+			}
+			config = message.applyTo(oldConfig);
+			wsData.setEdgeConfig(config);
+		}
+		this.setEdgeConfig(edgeId, new EdgeConfigNotification(config));
+	}
 
+	private void setEdgeConfig(String edgeId, EdgeConfigNotification message) throws OpenemsException {
 		// save config in metadata
 		var edge = this.parent.metadata.getEdgeOrError(edgeId);
 		EventBuilder.from(this.parent.eventAdmin, Events.ON_SET_CONFIG) //
@@ -87,7 +120,7 @@ public class OnNotification implements io.openems.common.websocket.OnNotificatio
 				.addArg(Events.OnSetConfig.CONFIG, message.getConfig()) //
 				.send(); //
 
-		// forward
+		// forward full EdgeConfig
 		try {
 			if (this.parent.uiWebsocket != null) {
 				this.parent.uiWebsocket.sendBroadcast(edgeId, new EdgeRpcNotification(edgeId, message));
@@ -1,5 +1,6 @@
 package io.openems.backend.edgewebsocket;
 
+import static io.openems.common.websocket.WebsocketUtils.buildRetryAfterReason;
 import static io.openems.common.websocket.WebsocketUtils.getAsString;
 import static io.openems.common.websocket.WebsocketUtils.parseRemoteIdentifier;
 import static org.java_websocket.framing.CloseFrame.REFUSE;
@@ -8,7 +9,11 @@ import static org.java_websocket.framing.CloseFrame.TRY_AGAIN_LATER;
 import org.java_websocket.WebSocket;
 import org.java_websocket.handshake.Handshakedata;
 
+import java.util.Set;
+
 import io.openems.common.exceptions.OpenemsError;
+import io.openems.common.jsonrpc.notification.BackendCapabilitiesNotification;
+import io.openems.common.jsonrpc.notification.EdgeConfigDeltaNotification;
 
 public class OnOpen implements io.openems.common.websocket.OnOpen {
 
@@ -23,7 +28,21 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 		// get apikey from handshake
 		final var apikey = getAsString(handshakedata, "apikey");
 
-		var error = this._apply(ws, apikey);
+		// admission control
+		final var admission = this.parent.admission;
+		var retryAfter = admission.tryAcquire();
+		if (retryAfter > 0) {
+			// Send a CloseFrame, so that the Edge receives the advertised delay
+			ws.close(TRY_AGAIN_LATER, buildRetryAfterReason("Backend is busy.", retryAfter));
+			return null; // expected during a reconnect storm; no need to log
+		}
+
+		OpenemsError error;
+		try {
+			error = this._apply(ws, apikey);
+		} finally {
+			admission.release();
+		}
 		if (error != null) {
 			if (this.parent.metadata.isInitialized()) {
 				ws.closeConnection(REFUSE, "Connection to backend failed. " //
@@ -67,6 +86,9 @@ public class OnOpen implements io.openems.common.websocket.OnOpen {
 		edge.setLastmessage();
 		wsData.setEdgeId(edgeId);
 
+		// announce optional features to the Edge
+		wsData.send(new BackendCapabilitiesNotification(Set.of(EdgeConfigDeltaNotification.METHOD)));
+
 		return null; // No error
 	}
 }
@@ -12,6 +12,7 @@ import io.openems.backend.common.edgewebsocket.EdgeCache;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
+import io.openems.common.types.EdgeConfig;
 import io.openems.common.utils.StringUtils;
 
 public class WsData extends io.openems.common.websocket.WsData {
@@ -25,6 +26,12 @@ public class WsData extends io.openems.common.websocket.WsData {
 	private final CompletableFuture<Void> isAuthenticated = new CompletableFuture<>();
 	public final EdgeCache edgeCache = new EdgeCache();
 
+	/**
+	 * The last {@link EdgeConfig} received via this connection; base for
+	 * EdgeConfigDeltaNotifications.
+	 */
+	private EdgeConfig edgeConfig = null;
+
 	public WsData(WebSocket ws) {
 		super(ws);
 	}
@@ -75,6 +82,14 @@ public class WsData extends io.openems.common.websocket.WsData {
 		return this.edgeId;
 	}
 
+	public synchronized void setEdgeConfig(EdgeConfig edgeConfig) {
+		this.edgeConfig = edgeConfig;
+	}
+
+	public synchronized EdgeConfig getEdgeConfig() {
+		return this.edgeConfig;
+	}
+
 	@Override
 	public String toString() {
 		return "EdgeWebsocket.WsData [" //
@@ -0,0 +1,68 @@
+package io.openems.backend.edgewebsocket;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.temporal.ChronoUnit;
+
+import org.junit.Test;
+
+import io.openems.common.test.TimeLeapClock;
+
+public class AdmissionControllerTest {
+
+	@Test
+	public void testTokenBucket() {
+		var clock = new TimeLeapClock();
+		var sut = new AdmissionController(clock, 10, 20, 100, 300);
+
+		// Burst
+		for (var i = 0; i < 20; i++) {
+			assertEquals(0, sut.tryAcquire());
+			sut.release();
+		}
+
+		// Rejected Edges are spread over the following seconds
+		var retryAfters = new long[30];
+		for (var i = 0; i < retryAfters.length; i++) {
+			retryAfters[i] = sut.tryAcquire();
+			assertTrue(retryAfters[i] > 0);
+		}
+		assertEquals(1, retryAfters[0]);
+		assertEquals(1, retryAfters[9]);
+		assertEquals(2, retryAfters[10]);
+		assertEquals(3, retryAfters[29]);
+		assertEquals(30, sut.getRejected());
+
+		// Refill
+		clock.leap(1, ChronoUnit.SECONDS);
+		for (var i = 0; i < 10; i++) {
+			assertEquals(0, sut.tryAcquire());
+			sut.release();
+		}
+		assertEquals(3, sut.tryAcquire());
+	}
+
+	@Test
+	public void testMaxRetryAfter() {
+		var clock = new TimeLeapClock();
+		var sut = new AdmissionController(clock, 1, 1, 100, 5);
+		assertEquals(0, sut.tryAcquire());
+		for (var i = 0; i < 100; i++) {
+			assertTrue(sut.tryAcquire() <= 5);
+		}
+	}
+
+	@Test
+	public void testConcurrentAuthentications() {
+		var clock = new TimeLeapClock();
+		var sut = new AdmissionController(clock, 10, 20, 2, 300);
+		assertEquals(0, sut.tryAcquire());
+		assertEquals(0, sut.tryAcquire());
+		assertEquals(1, sut.tryAcquire());
+
+		sut.release();
+		assertEquals(0, sut.tryAcquire());
+	}
+
+}
@@ -6,6 +6,7 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
@@ -37,6 +38,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
 import com.influxdb.client.domain.WriteConsistency;
 import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
@@ -125,7 +127,8 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 				(throwable) -> {
 					this.logError(this.log, "Unable to write to InfluxDB. " + throwable.getClass().getSimpleName()
 							+ ": " + throwable.getMessage());
-				}, true /* enable safe write */, this.writeParametersAvgPoints, this.writeParametersMaxPoints);
+				}, true /* enable safe write */, toSpillDirectory(config.spillDirectory()), config.spillMaxSize(),
+				this.writeParametersAvgPoints, this.writeParametersMaxPoints);
 
 		// load available since for edges which already wrote in the new database
 		this.availableSinceForEdge.clear();
@@ -511,7 +514,21 @@ public class AggregatedInflux extends AbstractOpenemsBackendComponent implements
 
 	@Override
 	public Map<String, JsonElement> debugMetrics() {
-		return null;
+		if (this.influxConnector == null) {
+			return null;
+		}
+		var result = new HashMap<String, JsonElement>();
+		result.put(this.config.id() + "/SpillBacklog", new JsonPrimitive(this.influxConnector.getSpillBacklog()));
+		this.influxConnector.debugMetrics() //
+				.forEach((key, value) -> result.put(this.config.id() + "/" + key, new JsonPrimitive(value)));
+		return result;
+	}
+
+	private static Path toSpillDirectory(String spillDirectory) {
+		if (spillDirectory == null || spillDirectory.isBlank()) {
+			return null;
+		}
+		return Path.of(spillDirectory);
 	}
 
 	private void handleEdgeVersionUpdateEvent(//
@@ -50,6 +50,12 @@ import io.openems.shared.influxdb.QueryLanguageConfig;
 	@AttributeDefinition(name = "Number of max scheduled tasks", description = "Max-Size of Queued tasks.")
 	int maxQueueSize() default 5000;
 
+	@AttributeDefinition(name = "Spill Directory", description = "Directory for buffering points on disk while InfluxDB is unavailable or too slow. Empty to disable.")
+	String spillDirectory() default "";
+
+	@AttributeDefinition(name = "Spill Max Size [MB]", description = "Maximum size of buffered points on disk per bucket. Oldest points are dropped if exceeded.")
+	int spillMaxSize() default 1024;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata Aggregated InfluxDB";
 
 }
@@ -1,7 +1,9 @@
 package io.openems.backend.timedata.influx;
 
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -27,7 +29,6 @@ import com.google.common.primitives.Longs;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
 import com.influxdb.client.domain.WritePrecision;
-import com.influxdb.client.write.Point;
 
 import io.openems.backend.common.component.AbstractOpenemsBackendComponent;
 import io.openems.backend.common.debugcycle.DebugLoggable;
@@ -45,6 +46,7 @@ import io.openems.common.oem.OpenemsBackendOem;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.shared.influxdb.InfluxConnector;
+import io.openems.shared.influxdb.LineProtocol;
 
 @Designate(ocd = Config.class, factory = true)
 @Component(//
@@ -98,7 +100,7 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 				config.poolSize(), config.maxQueueSize(), //
 				(e) -> {
 					this.fieldTypeConflictHandler.handleException(e);
-				});
+				}, false, toSpillDirectory(config.spillDirectory()), config.spillMaxSize());
 	}
 
 	@Deactivate
@@ -216,7 +218,7 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 			}
 
 			// this builds an InfluxDB record ("point") for a given timestamp
-			var point = Point //
+			var point = LineProtocol //
 					.measurement(this.config.measurement()) //
 					.addTag(this.oem.getInfluxdbTag(), String.valueOf(influxEdgeId)) //
 					.time(timestamp, WritePrecision.MS);
@@ -282,11 +284,11 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	/**
 	 * Adds the value in the correct data format for InfluxDB.
 	 *
-	 * @param builder the Influx PointBuilder
+	 * @param builder the {@link LineProtocol} builder
 	 * @param field   the field name
 	 * @param element the value
 	 */
-	private void addValue(Point builder, String field, JsonElement element) {
+	private void addValue(LineProtocol builder, String field, JsonElement element) {
 		if (element == null || element.isJsonNull() //
 				|| this.specialCaseFieldHandling(builder, field, element)) { // already handled by special case handling
 			return;
@@ -371,7 +373,7 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 	 * @param value   the value, guaranteed to be not-null and not JsonNull.
 	 * @return true if field was handled; false otherwise
 	 */
-	private boolean specialCaseFieldHandling(Point builder, String field, JsonElement value) {
+	private boolean specialCaseFieldHandling(LineProtocol builder, String field, JsonElement value) {
 		var handler = this.fieldTypeConflictHandler.getHandler(field);
 		if (handler == null) {
 			// no special handling exists for this field
@@ -409,7 +411,21 @@ public class TimedataInfluxDb extends AbstractOpenemsBackendComponent implements
 
 	@Override
 	public Map<String, JsonElement> debugMetrics() {
-		return null;
+		if (this.influxConnector == null) {
+			return null;
+		}
+		var result = new HashMap<String, JsonElement>();
+		result.put(this.config.id() + "/SpillBacklog", new JsonPrimitive(this.influxConnector.getSpillBacklog()));
+		this.influxConnector.debugMetrics() //
+				.forEach((key, value) -> result.put(this.config.id() + "/" + key, new JsonPrimitive(value)));
+		return result;
+	}
+
+	private static Path toSpillDirectory(String spillDirectory) {
+		if (spillDirectory == null || spillDirectory.isBlank()) {
+			return null;
+		}
+		return Path.of(spillDirectory);
 	}
 
 }
@@ -33,6 +33,12 @@ public @interface Config {
 	@AttributeDefinition(name = "Number of Threads", description = "Pool-Size: the number of threads dedicated to handle the tasks")
 	int poolSize() default 10;
 
+	@AttributeDefinition(name = "Spill Directory", description = "Directory for buffering points on disk while TimescaleDB is unavailable or too slow. Empty to disable.")
+	String spillDirectory() default "";
+
+	@AttributeDefinition(name = "Spill Max Size [MB]", description = "Maximum size of buffered points on disk per table. Oldest points are dropped if exceeded.")
+	int spillMaxSize() default 1024;
+
 	String webconsole_configurationFactory_nameHint() default "Timedata.TimescaleDB";
 
 }
@@ -0,0 +1,41 @@
+package io.openems.backend.timedata.timescaledb.internal;
+
+/**
+ * The continuous aggregates of the raw data tables; ordered from fine to
+ * coarse.
+ */
+public enum Aggregate {
+	/**
+	 * Aggregates the raw data table.
+	 */
+	FIVE_MINUTES("5m", "5 minutes", 5 * 60, null), //
+	/**
+	 * Hierarchical aggregate; aggregates {@link #FIVE_MINUTES}.
+	 */
+	ONE_HOUR("1h", "1 hour", 60 * 60, FIVE_MINUTES), //
+	/**
+	 * Hierarchical aggregate; aggregates {@link #ONE_HOUR}.
+	 */
+	ONE_DAY("1d", "1 day", 24 * 60 * 60, ONE_HOUR), //
+	;
+
+	private final String tableSuffix;
+	public final String sqlInterval;
+	public final int seconds;
+	/**
+	 * The source of this aggregate; null for the raw table.
+	 */
+	public final Aggregate source;
+
+	private Aggregate(String tableSuffix, String sqlInterval, int seconds, Aggregate source) {
+		this.tableSuffix = tableSuffix;
+		this.sqlInterval = sqlInterval;
+		this.seconds = seconds;
+		this.source = source;
+	}
+
+	public String getTableSuffix() {
+		return this.tableSuffix;
+	}
+
+}
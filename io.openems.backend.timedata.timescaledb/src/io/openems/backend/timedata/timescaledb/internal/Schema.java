@@ -5,8 +5,8 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.gson.JsonElement;
 import com.zaxxer.hikari.HikariDataSource;
@@ -65,9 +65,11 @@ public class Schema {
 			return cache;
 		}
 
+		// Concurrent: read by SplitDataWorker while new entries are added by the
+		// executor
 		private final Map<String /* Edge-ID */, //
 				Map<String /* Channel-Address */, //
-						ChannelRecord /* Meta-Info for Channel */>> channels = new HashMap<String, Map<String, ChannelRecord>>();
+						ChannelRecord /* Meta-Info for Channel */>> channels = new ConcurrentHashMap<String, Map<String, ChannelRecord>>();
 
 		protected Cache() {
 		}
@@ -88,7 +90,7 @@ public class Schema {
 				int priorityId, ZonedDateTime availableSince) {
 			var type = Type.fromId(typeId);
 			var edge = this.channels.computeIfAbsent(edgeName, //
-					(k) -> new HashMap<String, ChannelRecord>());
+					(k) -> new ConcurrentHashMap<String, ChannelRecord>());
 			var channel = edge.computeIfAbsent(channelAddress, //
 					(k) -> new ChannelRecord(channelId, type, Priority.fromId(priorityId), availableSince));
 			return channel;
@@ -22,9 +22,9 @@ import io.openems.common.utils.JsonUtils;
 
 public enum Type {
 	INTEGER(1, "data_integer", "bigint" /* 8 bytes; covers Java byte, int and long */, //
-			new String[] { "avg", "min", "max" }, ParseValueFromResultSet::integers, Subtract::integers), //
+			new String[] { "avg", "min", "max", "sum", "count" }, ParseValueFromResultSet::integers, Subtract::integers), //
 	FLOAT(2, "data_float", "double precision" /* 8 bytes; covers Java float and double */, //
-			new String[] { "avg", "min", "max" }, ParseValueFromResultSet::floats, Subtract::floats), //
+			new String[] { "avg", "min", "max", "sum", "count" }, ParseValueFromResultSet::floats, Subtract::floats), //
 	STRING(3, "data_string", "text" /* variable-length character string */, //
 			new String[] { "max" }, ParseValueFromResultSet::strings, Subtract::strings), //
 	;
@@ -33,10 +33,11 @@ public enum Type {
 	public final String sqlDataType;
 	private final String prefix;
 	public final String defaultAggregateFunction; // defaults to first aggregateFunction
+	// 'sum' and 'count' allow exact averages in hierarchical aggregates
 	public final String[] aggregateFunctions;
 
 	private final Map<Priority, String> rawTableName = new EnumMap<>(Priority.class);
-	private final Map<Priority, String> aggregate5mTableName = new EnumMap<>(Priority.class);
+	private final Map<Aggregate, Map<Priority, String>> aggregateTableName = new EnumMap<>(Aggregate.class);
 
 	private final ThrowingBiFunction<ResultSet, Integer, JsonElement, SQLException> parseValueFromResultSet;
 	private final ThrowingBiFunction<JsonElement, JsonElement, JsonElement, OpenemsNamedException> subtractFunction;
@@ -66,11 +67,48 @@ public enum Type {
 	/**
 	 * Gets the aggregate table name of the current type and the specified priority.
 	 * 
-	 * @param priority the priority of the table
+	 * @param aggregate the {@link Aggregate}
+	 * @param priority  the priority of the table
 	 * @return the table name
 	 */
-	public String getAggregate5mTableName(Priority priority) {
-		return this.aggregate5mTableName.computeIfAbsent(priority, t -> this.baseTableName(priority) + "_5m");
+	public String getAggregateTableName(Aggregate aggregate, Priority priority) {
+		return this.aggregateTableName //
+				.computeIfAbsent(aggregate, a -> new EnumMap<>(Priority.class)) //
+				.computeIfAbsent(priority, t -> this.baseTableName(priority) + "_" + aggregate.getTableSuffix());
+	}
+
+	/**
+	 * Gets the SQL expression for a column of a hierarchical {@link Aggregate},
+	 * aggregating the columns of its source.
+	 * 
+	 * <p>
+	 * 'avg' is calculated from 'sum' and 'count', as an average of averages would
+	 * weight every source bucket the same, independent of its number of values.
+	 * 
+	 * @param column the column, i.e. one of {@link #aggregateFunctions}
+	 * @return the SQL expression
+	 */
+	public static String getHierarchicalExpression(String column) {
+		return switch (column) {
+		case "avg" -> "sum(\"sum\") / sum(\"count\")";
+		case "count" -> "sum(\"count\")";
+		default -> column + "(\"" + column + "\")";
+		};
+	}
+
+	/**
+	 * Gets the SQL expression for the value of a bucket, aggregating the rows of
+	 * an {@link Aggregate} table.
+	 * 
+	 * @param alias          the alias of the table
+	 * @param hasSumAndCount true if the table has 'sum' and 'count' columns
+	 * @return the SQL expression
+	 */
+	public String getValueExpression(String alias, boolean hasSumAndCount) {
+		if (hasSumAndCount && this.defaultAggregateFunction.equals("avg")) {
+			return "sum(" + alias + ".\"sum\") / sum(" + alias + ".\"count\")";
+		}
+		return this.defaultAggregateFunction + "(" + alias + ".\"" + this.defaultAggregateFunction + "\")";
 	}
 
 	private String baseTableName(Priority priority) {
@@ -0,0 +1,98 @@
+package io.openems.backend.timedata.timescaledb.internal.read;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import io.openems.backend.timedata.timescaledb.internal.Aggregate;
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+
+/**
+ * Holds the columns of the {@link Aggregate} tables that actually exist in the
+ * database.
+ *
+ * <p>
+ * Databases that were created before the hierarchical {@link Aggregate}s were
+ * introduced only have {@link Aggregate#FIVE_MINUTES}, without 'sum' and
+ * 'count' columns. Queries are only planned on {@link Aggregate}s that exist.
+ */
+public class AggregateCatalog {
+
+	/**
+	 * Nothing is known about the database; only {@link Aggregate#FIVE_MINUTES}
+	 * with its original columns is assumed to exist.
+	 */
+	public static final AggregateCatalog EMPTY = new AggregateCatalog(Map.of());
+
+	/**
+	 * Reads the {@link AggregateCatalog} from the database.
+	 *
+	 * @param con the {@link Connection}
+	 * @return the {@link AggregateCatalog}
+	 * @throws SQLException on error
+	 */
+	public static AggregateCatalog fromDatabase(Connection con) throws SQLException {
+		var columns = new HashMap<String, Set<String>>();
+		try (var st = con.createStatement()) {
+			// Continuous aggregates are views; their columns are listed as well
+			var rs = st.executeQuery("" //
+					+ "SELECT table_name, column_name " //
+					+ "FROM information_schema.columns " //
+					+ "WHERE table_schema = current_schema()");
+			while (rs.next()) {
+				columns.computeIfAbsent(rs.getString(1), t -> new HashSet<>()).add(rs.getString(2));
+			}
+		}
+		return new AggregateCatalog(columns);
+	}
+
+	private final Map<String, Set<String>> columns;
+
+	protected AggregateCatalog(Map<String, Set<String>> columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * Is the {@link Aggregate} available for every {@link Type} and
+	 * {@link Priority}?
+	 *
+	 * <p>
+	 * {@link Aggregate#FIVE_MINUTES} is always available, as it is required by the
+	 * database schema.
+	 *
+	 * @param aggregate the {@link Aggregate}
+	 * @return true if queries can be executed on the {@link Aggregate}
+	 */
+	public boolean isAvailable(Aggregate aggregate) {
+		if (aggregate.source == null) {
+			return true;
+		}
+		for (var type : Type.values()) {
+			for (var priority : Priority.values()) {
+				if (!this.hasColumns(type.getAggregateTableName(aggregate, priority),
+						List.of(type.aggregateFunctions))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Does the table have all the given columns?
+	 *
+	 * @param table   the table name
+	 * @param columns the column names
+	 * @return true if all columns exist
+	 */
+	public boolean hasColumns(String table, List<String> columns) {
+		var existing = this.columns.get(table);
+		return existing != null && existing.containsAll(columns);
+	}
+
+}
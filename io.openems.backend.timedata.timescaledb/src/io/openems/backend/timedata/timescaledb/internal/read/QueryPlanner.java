@@ -0,0 +1,100 @@
+package io.openems.backend.timedata.timescaledb.internal.read;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Predicate;
+
+import io.openems.backend.timedata.timescaledb.internal.Aggregate;
+import io.openems.common.timedata.Resolution;
+
+/**
+ * Selects the {@link Aggregate} a query is executed on.
+ *
+ * <p>
+ * The coarsest {@link Aggregate} is chosen whose buckets exactly fit into the
+ * requested buckets, i.e. the query result is the same as on the finest
+ * {@link Aggregate}, only fewer rows need to be read. Buckets of an
+ * {@link Aggregate} are aligned to UTC.
+ *
+ * <p>
+ * {@link Aggregate}s that do not exist in the database are skipped; the finest
+ * {@link Aggregate} is always used as fallback.
+ */
+public class QueryPlanner {
+
+	private QueryPlanner() {
+	}
+
+	/**
+	 * Plans a query with buckets of the given {@link Resolution}.
+	 *
+	 * @param fromDate    the From-Date
+	 * @param toDate      the To-Date
+	 * @param resolution  the {@link Resolution}
+	 * @param isZoned     true if buckets are aligned to the timezone of fromDate;
+	 *                    false if they are aligned to UTC
+	 * @param isAvailable tests if an {@link Aggregate} exists in the database
+	 * @return the {@link Aggregate}
+	 */
+	public static Aggregate plan(ZonedDateTime fromDate, ZonedDateTime toDate, Resolution resolution,
+			boolean isZoned, Predicate<Aggregate> isAvailable) {
+		var values = Aggregate.values();
+		for (var i = values.length - 1; i > 0; i--) {
+			var aggregate = values[i];
+			if (isAvailable.test(aggregate) //
+					&& fitsResolution(aggregate, resolution) //
+					&& isAligned(aggregate, fromDate, isZoned) //
+					&& isAligned(aggregate, toDate, isZoned)) {
+				return aggregate;
+			}
+		}
+		return values[0];
+	}
+
+	/**
+	 * Plans a query for the total range between fromDate and toDate.
+	 *
+	 * @param fromDate    the From-Date
+	 * @param toDate      the To-Date
+	 * @param isAvailable tests if an {@link Aggregate} exists in the database
+	 * @return the {@link Aggregate}
+	 */
+	public static Aggregate plan(ZonedDateTime fromDate, ZonedDateTime toDate, Predicate<Aggregate> isAvailable) {
+		var values = Aggregate.values();
+		for (var i = values.length - 1; i > 0; i--) {
+			var aggregate = values[i];
+			if (isAvailable.test(aggregate) //
+					&& isAligned(aggregate, fromDate, false) //
+					&& isAligned(aggregate, toDate, false)) {
+				return aggregate;
+			}
+		}
+		return values[0];
+	}
+
+	private static boolean fitsResolution(Aggregate aggregate, Resolution resolution) {
+		if (resolution.getUnit().compareTo(ChronoUnit.DAYS) >= 0) {
+			// Days, Weeks, Months,... are multiples of days
+			return aggregate.seconds <= ChronoUnit.DAYS.getDuration().getSeconds();
+		}
+		return resolution.toSeconds() % aggregate.seconds == 0;
+	}
+
+	private static boolean isAligned(Aggregate aggregate, ZonedDateTime date, boolean isZoned) {
+		if (date.toEpochSecond() % aggregate.seconds != 0) {
+			return false;
+		}
+		if (isZoned) {
+			// Every following bucket needs to be aligned; e.g. daily buckets in
+			// 'Europe/Berlin' are not aligned to UTC days
+			var rules = date.getZone().getRules();
+			if (rules.getOffset(date.toInstant()).getTotalSeconds() % aggregate.seconds != 0) {
+				return false;
+			}
+			// Daylight saving time changes the offset by (usually) one hour
+			return rules.isFixedOffset() || aggregate.seconds <= ChronoUnit.HOURS.getDuration().getSeconds();
+		}
+		return true;
+	}
+
+}
@@ -1,60 +1,108 @@
 package io.openems.backend.timedata.timescaledb.internal.read;
 
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.base.CaseFormat;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
 import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.timedata.timescaledb.Config;
+import io.openems.backend.timedata.timescaledb.internal.Aggregate;
+import io.openems.backend.timedata.timescaledb.internal.Priority;
 import io.openems.backend.timedata.timescaledb.internal.Schema;
+import io.openems.backend.timedata.timescaledb.internal.Type;
 import io.openems.backend.timedata.timescaledb.internal.Utils;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.timedata.CommonTimedataService;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.utils.ThreadPoolUtils;
 
 public class TimescaledbReadHandler {
 
+	private static final int FETCH_SIZE = 10_000;
+
 	private final Logger log = LoggerFactory.getLogger(TimescaledbReadHandler.class);
 
 	private final AtomicReference<Schema> schema = new AtomicReference<>();
+	private final AtomicReference<AggregateCatalog> aggregates = new AtomicReference<>(AggregateCatalog.EMPTY);
 
 	/**
 	 * A {@link HikariDataSource} used solely for reads.
 	 */
 	private final HikariDataSource dataSource;
 
+	/**
+	 * A {@link Executor} used solely for reads.
+	 */
+	private final ExecutorService executor;
+
+	/**
+	 * SQL per {@link Query} and table.
+	 */
+	private final Map<String, String> sqlCache = new ConcurrentHashMap<>();
+
 	public TimescaledbReadHandler(Config config) throws SQLException {
 		this.dataSource = Utils.getDataSource(//
 				config.host(), config.port(), config.database(), //
 				config.user(), config.password(), config.poolSize());
+		this.executor = Executors.newFixedThreadPool(config.poolSize(),
+				new ThreadFactoryBuilder().setNameFormat("TimescaleDB-Read-%d").build());
 	}
 
 	/**
 	 * Called by TimescaledbImpl deactivate().
 	 */
 	public void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
 		if (this.dataSource != null) {
 			this.dataSource.close();
 		}
 	}
 
+	/**
+	 * Sets the initialized {@link Schema} and reads the {@link AggregateCatalog}.
+	 * 
+	 * @param schema the {@link Schema}
+	 */
 	public void setSchema(Schema schema) {
+		try (var con = this.dataSource.getConnection()) {
+			var aggregates = AggregateCatalog.fromDatabase(con);
+			this.aggregates.set(aggregates);
+			this.sqlCache.clear();
+			this.log.info("Available aggregates: " + Stream.of(Aggregate.values()) //
+					.filter(aggregates::isAvailable) //
+					.map(Aggregate::name) //
+					.collect(Collectors.joining(", ")));
+
+		} catch (SQLException e) {
+			this.log.warn("Unable to read available aggregates: " + e.getMessage());
+		}
 		this.schema.set(schema);
 	}
 
@@ -81,69 +129,41 @@ public class TimescaledbReadHandler {
 
 		var result = Utils.prepareDataMap(fromDate, toDate, channels, resolution);
 		var types = Utils.querySchemaCache(this.assertAndGetSchema(), edgeId, channelStrings);
-
-		// Open ONE database connection
-		try (var con = this.dataSource.getConnection()) {
-
-			// Execute specific query for each Type
-			for (var typeEntry : types.entrySet()) {
-				final var type = typeEntry.getKey();
-				for (var priorityEntry : typeEntry.getValue().entrySet()) {
-
-					final var priority = priorityEntry.getKey();
-					final var ids = priorityEntry.getValue();
-
-					// Build custom SQL for PreparedStatement
-					var sql = "SELECT" //
-							+ "    time_bucket(" //
-							+ "        ?::interval," // [1] Resolution
-							+ "        data.time)," //
-							+ "    data.edge_channel_id," //
-							+ "    " + type.defaultAggregateFunction + "(data." + type.defaultAggregateFunction + ") " //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " data " //
-							+ "WHERE" //
-							+ "    data.edge_channel_id IN (" //
-							+ ids.keySet().stream() //
-									.map(c -> "?") // [2++] Channel-ID
-									.collect(Collectors.joining(",")) //
-							+ "    ) AND" //
-							+ "    data.time >= ? AND" // [n-1] FromDate
-							+ "    data.time < ? " // [n] ToDate
-							+ "GROUP BY 1,2";
-
-					// Query the database
-					try (var pst = con.prepareStatement(sql)) {
-						// Fill PreparedStatement.
-
-						// Reference for Java 8 Date and Time classes with PostgreSQL:
-						// https://jdbc.postgresql.org/documentation/query/#using-java-8-date-and-time-classes
-						var i = 1;
-						pst.setString(i++, Utils.toSqlInterval(resolution));
-						for (var id : ids.keySet()) {
-							pst.setInt(i++, id);
-						}
-						pst.setObject(i++, fromDate.toOffsetDateTime());
-						pst.setObject(i++, toDate.toOffsetDateTime());
-
-						var rs = pst.executeQuery();
-						while (rs.next()) {
-							var time = rs.getObject(1, OffsetDateTime.class).atZoneSameInstant(fromDate.getZone());
-							var channelAddress = ChannelAddress.fromString(ids.get(rs.getInt(2)));
-							var value = type.parseValueFromResultSet(rs, 3);
-							var resultTime = result.computeIfAbsent(time, t -> new TreeMap<>());
-							resultTime.put(channelAddress, value);
-						}
-
-					} catch (SQLException e) {
-						this.log.error(
-								"Unable to query historic data for type [" + type.name() + "]: " + e.getMessage());
-						// TODO collect exceptions; throw error if everything fails
-					}
+		var aggregates = this.aggregates.get();
+		var aggregate = QueryPlanner.plan(fromDate, toDate, resolution, false, aggregates::isAvailable);
+
+		// Execute specific query for each Type in parallel
+		var results = this.queryParallel("historic data", types, (con, type, priority, ids) -> {
+			var sql = this.getSql(aggregates, Query.DATA, type, aggregate, priority);
+			var data = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+			try (var pst = con.prepareStatement(sql)) {
+				// Fill PreparedStatement.
+
+				// Reference for Java 8 Date and Time classes with PostgreSQL:
+				// https://jdbc.postgresql.org/documentation/query/#using-java-8-date-and-time-classes
+				var i = 1;
+				pst.setString(i++, Utils.toSqlInterval(resolution));
+				pst.setArray(i++, con.createArrayOf("INTEGER", ids.keySet().toArray(Integer[]::new)));
+				pst.setObject(i++, fromDate.toOffsetDateTime());
+				pst.setObject(i++, toDate.toOffsetDateTime());
+				pst.setFetchSize(FETCH_SIZE);
+
+				var rs = pst.executeQuery();
+				while (rs.next()) {
+					var time = rs.getObject(1, OffsetDateTime.class).atZoneSameInstant(fromDate.getZone());
+					var channelAddress = ChannelAddress.fromString(ids.get(rs.getInt(2)));
+					var value = type.parseValueFromResultSet(rs, 3);
+					var dataTime = data.computeIfAbsent(time, t -> new TreeMap<>());
+					dataTime.put(channelAddress, value);
 				}
 			}
-		} catch (SQLException e) {
-			this.log.error("Unable to query historic data: " + e.getMessage());
-			throw new OpenemsException("Error while querying historic data");
+			return data;
+		});
+
+		for (var data : results) {
+			for (var entry : data.entrySet()) {
+				result.computeIfAbsent(entry.getKey(), t -> new TreeMap<>()).putAll(entry.getValue());
+			}
 		}
 		return result;
 	}
@@ -169,57 +189,34 @@ public class TimescaledbReadHandler {
 
 		var result = Utils.prepareEnergyMap(fromDate, toDate, channels);
 		var types = Utils.querySchemaCache(this.assertAndGetSchema(), edgeId, channelStrings);
-
-		// Open ONE database connection
-		try (var con = this.dataSource.getConnection()) {
-
-			// Execute specific query for each Type
-			for (var typeEntry : types.entrySet()) {
-				final var type = typeEntry.getKey();
-				for (var priorityEntry : typeEntry.getValue().entrySet()) {
-
-					final var priority = priorityEntry.getKey();
-					final var ids = priorityEntry.getValue();
-
-					// Build custom SQL for PreparedStatement
-					var sql = "SELECT" //
-							+ "	   d.edge_channel_id," //
-							+ "    LAST(\"max\", d.time) - FIRST(\"min\", d.time) " //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " d " //
-							+ "WHERE" //
-							+ "    d.edge_channel_id = ANY (?) AND" // [1] Channel-ID
-							+ "    d.time >= ? AND" // [2] FromDate
-							+ "    d.time < ?" // [3] ToDate
-							+ "    group by 1;";
-					// Query the database
-					try (var pst = con.prepareStatement(sql)) {
-						// Fill PreparedStatement.
-						// Reference for Java 8 Date and Time classes with PostgreSQL:
-						// https://jdbc.postgresql.org/documentation/query/#using-java-8-date-and-time-classes
-						var i = 1;
-						pst.setArray(i++, con.createArrayOf("INTEGER", ids.keySet().toArray(Integer[]::new)));
-						pst.setObject(i++, fromDate.toOffsetDateTime());
-						pst.setObject(i++, toDate.toOffsetDateTime());
-
-						var rs = pst.executeQuery();
-						while (rs.next()) {
-							var channelAddress = type.parseValueFromResultSet(rs, 1).getAsInt();
-							var channel = ChannelAddress.fromString(ids.get(channelAddress));
-							var value = type.parseValueFromResultSet(rs, 2);
-							result.put(channel, value);
-						}
-
-					} catch (SQLException e) {
-						this.log.error(
-								"Unable to query historic energy for type [" + type.name() + "]: " + e.getMessage());
-						// TODO collect exceptions; throw error if everything fails
-					}
+		var aggregates = this.aggregates.get();
+		var aggregate = QueryPlanner.plan(fromDate, toDate, aggregates::isAvailable);
+
+		// Execute specific query for each Type in parallel
+		var results = this.queryParallel("historic energy", types, (con, type, priority, ids) -> {
+			var sql = this.getSql(aggregates, Query.ENERGY, type, aggregate, priority);
+			var data = new HashMap<ChannelAddress, JsonElement>();
+			try (var pst = con.prepareStatement(sql)) {
+				// Fill PreparedStatement.
+				// Reference for Java 8 Date and Time classes with PostgreSQL:
+				// https://jdbc.postgresql.org/documentation/query/#using-java-8-date-and-time-classes
+				var i = 1;
+				pst.setArray(i++, con.createArrayOf("INTEGER", ids.keySet().toArray(Integer[]::new)));
+				pst.setObject(i++, fromDate.toOffsetDateTime());
+				pst.setObject(i++, toDate.toOffsetDateTime());
+
+				var rs = pst.executeQuery();
+				while (rs.next()) {
+					var channelAddress = type.parseValueFromResultSet(rs, 1).getAsInt();
+					var channel = ChannelAddress.fromString(ids.get(channelAddress));
+					var value = type.parseValueFromResultSet(rs, 2);
+					data.put(channel, value);
 				}
 			}
-		} catch (SQLException e) {
-			this.log.error("Unable to query historic energy: " + e.getMessage());
-			throw new OpenemsException("Error while querying historic energy");
-		}
+			return data;
+		});
+
+		results.forEach(result::putAll);
 		return result;
 	}
 
@@ -246,87 +243,193 @@ public class TimescaledbReadHandler {
 
 		var result = Utils.prepareDataMap(fromDate, toDate, channels, resolution);
 		var types = Utils.querySchemaCache(this.assertAndGetSchema(), edgeId, channelStrings);
+		var queryFromDate = fromDate.minus(resolution.getValue(), resolution.getUnit());
+		var aggregates = this.aggregates.get();
+		var aggregate = QueryPlanner.plan(queryFromDate, toDate, resolution, true, aggregates::isAvailable);
+
+		// Execute specific query for each Type in parallel
+		var results = this.queryParallel("historic data", types, (con, type, priority, ids) -> {
+			var sql = this.getSql(aggregates, Query.ENERGY_PER_PERIOD, type, aggregate, priority);
+			var data = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+			try (var pst = con.prepareStatement(sql)) {
+				// Fill PreparedStatement.
+
+				// Reference for Java 8 Date and Time classes with PostgreSQL:
+				// https://jdbc.postgresql.org/documentation/query/#using-java-8-date-and-time-classes
+				var i = 1;
+				pst.setString(i++, Utils.toSqlInterval(resolution));
+				pst.setString(i++, fromDate.getZone().getId());
+				pst.setArray(i++, con.createArrayOf("INTEGER", ids.keySet().toArray(Integer[]::new)));
+				pst.setObject(i++, queryFromDate.toOffsetDateTime());
+				pst.setObject(i++, toDate.toOffsetDateTime());
+				pst.setFetchSize(FETCH_SIZE);
+
+				var rs = pst.executeQuery();
+				while (rs.next()) {
+					var time = rs.getObject(1, OffsetDateTime.class).atZoneSameInstant(fromDate.getZone());
+					var channelAddress = ChannelAddress.fromString(ids.get(rs.getInt(2)));
+					var value = type.parseValueFromResultSet(rs, 3);
+					var dataTime = data.computeIfAbsent(time, t -> new TreeMap<>());
+					dataTime.put(channelAddress, value);
+				}
+			}
 
-		// Open ONE database connection
-		try (var con = this.dataSource.getConnection()) {
-
-			// Execute specific query for each Type
-			for (var typeEntry : types.entrySet()) {
-				final var type = typeEntry.getKey();
-				for (var priorityEntry : typeEntry.getValue().entrySet()) {
-
-					final var priority = priorityEntry.getKey();
-					final var ids = priorityEntry.getValue();
-
-					// Build custom SQL for PreparedStatement
-					var sql = "SELECT" //
-							+ "    timescaledb_experimental.time_bucket_ng(" //
-							+ "        ?::interval," // [1] Resolution
-							+ "        data.time," //
-							+ "        timezone => ?)," // [2] timezone
-							+ "    data.edge_channel_id," //
-							+ "    LAST(\"max\", data.time)" //
-							+ "FROM " + type.getAggregate5mTableName(priority) + " data " //
-							+ "WHERE" //
-							+ "    data.edge_channel_id = ANY (?) AND" // [3] Channel IDs
-							+ "    data.time >= ? AND" // [4] FromDate
-							+ "    data.time < ? " // [5] ToDate
-							+ "GROUP BY 1,2";
-
-					// Query the database
-					var data = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
-					try (var pst = con.prepareStatement(sql)) {
-						// Fill PreparedStatement.
-
-						// Reference for Java 8 Date and Time classes with PostgreSQL:
-						// https://jdbc.postgresql.org/documentation/query/#using-java-8-date-and-time-classes
-						var i = 1;
-						pst.setString(i++, Utils.toSqlInterval(resolution));
-						pst.setString(i++, fromDate.getZone().getId());
-						pst.setArray(i++, con.createArrayOf("INTEGER", ids.keySet().toArray(Integer[]::new)));
-						pst.setObject(i++,
-								fromDate.minus(resolution.getValue(), resolution.getUnit()).toOffsetDateTime());
-						pst.setObject(i++, toDate.toOffsetDateTime());
-
-						var rs = pst.executeQuery();
-						while (rs.next()) {
-							var time = rs.getObject(1, OffsetDateTime.class).atZoneSameInstant(fromDate.getZone());
-							var channelAddress = ChannelAddress.fromString(ids.get(rs.getInt(2)));
-							var value = type.parseValueFromResultSet(rs, 3);
-							var dataTime = data.computeIfAbsent(time, t -> new TreeMap<>());
-							dataTime.put(channelAddress, value);
-						}
-
-					} catch (SQLException e) {
-						this.log.error(
-								"Unable to query historic data for type [" + type.name() + "]: " + e.getMessage());
-						// TODO collect exceptions; throw error if everything fails
+			// Calculate delta
+			var deltas = new TreeMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>>();
+			SortedMap<ChannelAddress, JsonElement> lastEntry = null;
+			for (var entry : data.entrySet()) {
+				if (lastEntry != null) { // ignore first entry with time t-1
+					var time = entry.getKey();
+					for (var id : ids.entrySet()) {
+						var channelAddress = ChannelAddress.fromString(id.getValue());
+						var lastValue = lastEntry.get(channelAddress);
+						var thisValue = entry.getValue().get(channelAddress);
+						var deltaTime = deltas.computeIfAbsent(time, t -> new TreeMap<>());
+						deltaTime.put(channelAddress, type.subtract(thisValue, lastValue));
 					}
+				}
+				lastEntry = entry.getValue();
+			}
+			return deltas;
+		});
+
+		for (var data : results) {
+			for (var entry : data.entrySet()) {
+				result.computeIfAbsent(entry.getKey(), t -> new TreeMap<>()).putAll(entry.getValue());
+			}
+		}
+		return result;
+	}
 
-					// Calculate delta
-					SortedMap<ChannelAddress, JsonElement> lastEntry = null;
-					for (var entry : data.entrySet()) {
-						if (lastEntry != null) { // ignore first entry with time t-1
-							var time = entry.getKey();
-							for (var id : ids.entrySet()) {
-								var channelAddress = ChannelAddress.fromString(id.getValue());
-								var lastValue = lastEntry.get(channelAddress);
-								var thisValue = entry.getValue().get(channelAddress);
-								var resultTime = result.computeIfAbsent(time, t -> new TreeMap<>());
-								resultTime.put(channelAddress, type.subtract(thisValue, lastValue));
-							}
-						}
-						lastEntry = entry.getValue();
+	@FunctionalInterface
+	private static interface TypedQuery<T> {
+		public T apply(Connection con, Type type, Priority priority, Map<Integer, String> ids)
+				throws SQLException, OpenemsNamedException;
+	}
+
+	/**
+	 * Executes the {@link TypedQuery} for each {@link Type} and {@link Priority}
+	 * in parallel, each on its own database connection.
+	 * 
+	 * @param <T>         the type of the result
+	 * @param description a description for log messages
+	 * @param types       the result of {@link Utils#querySchemaCache(Schema,
+	 *                    String, Set)}
+	 * @param query       the {@link TypedQuery}
+	 * @return the results of all queries
+	 * @throws OpenemsException if any query failed; partial results are never
+	 *                          returned
+	 */
+	private <T> List<T> queryParallel(String description, Map<Type, Map<Priority, Map<Integer, String>>> types,
+			TypedQuery<T> query) throws OpenemsException {
+		var futures = new ArrayList<CompletableFuture<T>>();
+		for (var typeEntry : types.entrySet()) {
+			final var type = typeEntry.getKey();
+			for (var priorityEntry : typeEntry.getValue().entrySet()) {
+				final var priority = priorityEntry.getKey();
+				final var ids = priorityEntry.getValue();
+				futures.add(CompletableFuture.supplyAsync(() -> {
+					try (var con = this.dataSource.getConnection()) {
+						// Required to stream the ResultSet using a cursor
+						con.setAutoCommit(false);
+						return query.apply(con, type, priority, ids);
+
+					} catch (SQLException | OpenemsNamedException e) {
+						this.log.error("Unable to query " + description + " for type [" + type.name() + "]: "
+								+ e.getMessage());
+						throw new CompletionException(e);
 					}
-				}
+				}, this.executor));
 			}
-		} catch (SQLException e) {
-			this.log.error("Unable to query historic data: " + e.getMessage());
-			throw new OpenemsException("Error while querying historic data");
+		}
+
+		var result = new ArrayList<T>(futures.size());
+		var failed = 0;
+		for (var future : futures) {
+			try {
+				result.add(future.join());
+			} catch (CompletionException e) {
+				failed++;
+			}
+		}
+		if (failed > 0) {
+			throw new OpenemsException(
+					"Error while querying " + description + ": [" + failed + "/" + futures.size() + "] queries failed");
 		}
 		return result;
 	}
 
+	/**
+	 * Gets the SQL for a {@link Query}.
+	 * 
+	 * <p>
+	 * The SQL is built once per {@link Query} and table. As it does not depend on
+	 * the number of Channels, the PostgreSQL driver is able to reuse server-side
+	 * prepared statements.
+	 * 
+	 * @param aggregates the {@link AggregateCatalog}
+	 * @param query      the {@link Query}
+	 * @param type       the {@link Type}
+	 * @param aggregate  the {@link Aggregate}
+	 * @param priority   the {@link Priority}
+	 * @return the SQL
+	 */
+	private String getSql(AggregateCatalog aggregates, Query query, Type type, Aggregate aggregate,
+			Priority priority) {
+		var table = type.getAggregateTableName(aggregate, priority);
+		return this.sqlCache.computeIfAbsent(query.name() + ":" + table, k -> query.sql.apply(type, table,
+				aggregates.hasColumns(table, List.of("sum", "count"))));
+	}
+
+	@FunctionalInterface
+	private static interface Sql {
+		public String apply(Type type, String table, boolean hasSumAndCount);
+	}
+
+	private static enum Query {
+		DATA((type, table, hasSumAndCount) -> "SELECT" //
+				+ "    time_bucket(" //
+				+ "        ?::interval," // [1] Resolution
+				+ "        data.time)," //
+				+ "    data.edge_channel_id," //
+				+ "    " + type.getValueExpression("data", hasSumAndCount) + " " //
+				+ "FROM " + table + " data " //
+				+ "WHERE" //
+				+ "    data.edge_channel_id = ANY (?) AND" // [2] Channel IDs
+				+ "    data.time >= ? AND" // [3] FromDate
+				+ "    data.time < ? " // [4] ToDate
+				+ "GROUP BY 1,2"), //
+		ENERGY((type, table, hasSumAndCount) -> "SELECT" //
+				+ "	   d.edge_channel_id," //
+				+ "    LAST(\"max\", d.time) - FIRST(\"min\", d.time) " //
+				+ "FROM " + table + " d " //
+				+ "WHERE" //
+				+ "    d.edge_channel_id = ANY (?) AND" // [1] Channel-ID
+				+ "    d.time >= ? AND" // [2] FromDate
+				+ "    d.time < ?" // [3] ToDate
+				+ "    group by 1;"), //
+		ENERGY_PER_PERIOD((type, table, hasSumAndCount) -> "SELECT" //
+				+ "    timescaledb_experimental.time_bucket_ng(" //
+				+ "        ?::interval," // [1] Resolution
+				+ "        data.time," //
+				+ "        timezone => ?)," // [2] timezone
+				+ "    data.edge_channel_id," //
+				+ "    LAST(\"max\", data.time)" //
+				+ "FROM " + table + " data " //
+				+ "WHERE" //
+				+ "    data.edge_channel_id = ANY (?) AND" // [3] Channel IDs
+				+ "    data.time >= ? AND" // [4] FromDate
+				+ "    data.time < ? " // [5] ToDate
+				+ "GROUP BY 1,2"), //
+		;
+
+		private final Sql sql;
+
+		private Query(Sql sql) {
+			this.sql = sql;
+		}
+	}
+
 	/**
 	 * Gets the latest values for the given ChannelAddresses.
 	 *
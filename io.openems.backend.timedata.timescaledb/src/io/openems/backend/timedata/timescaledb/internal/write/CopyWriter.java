@@ -0,0 +1,183 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import de.bytefish.pgbulkinsert.row.SimpleRowWriter;
+import de.bytefish.pgbulkinsert.row.SimpleRowWriter.Table;
+import de.bytefish.pgbulkinsert.util.PostgreSqlUtils;
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+
+/**
+ * A long-lived writer for one raw table, that streams Points via binary COPY.
+ *
+ * <p>
+ * The database connection is pinned to this writer. A COPY stays open and is
+ * committed ('rotated') once it holds {@link #MAX_ROWS_PER_COPY} rows or was
+ * opened {@link #MAX_COPY_DURATION} seconds ago. Points are only reported as
+ * written after the COPY was committed; on error all uncommitted Points are
+ * handed to 'onFailure'.
+ */
+public class CopyWriter {
+
+	private static final int MAX_ROWS_PER_COPY = 100_000;
+	private static final int MAX_COPY_DURATION = TimescaledbWriteHandler.MAX_AGGREGATE_WAIT; // [s]
+
+	private final Logger log = LoggerFactory.getLogger(CopyWriter.class);
+
+	private final HikariDataSource dataSource;
+	private final Type type;
+	private final Table table;
+	private final Runnable onSuccess;
+	private final Consumer<List<Point>> onFailure;
+
+	/**
+	 * Points of the currently open COPY.
+	 */
+	private final List<Point> uncommittedPoints = new ArrayList<>();
+
+	private Connection connection = null;
+	private SimpleRowWriter writer = null;
+	private Instant openedAt = Instant.MIN;
+	private long countCopies = 0;
+
+	public CopyWriter(HikariDataSource dataSource, Type type, Priority priority, Runnable onSuccess,
+			Consumer<List<Point>> onFailure) {
+		this.dataSource = dataSource;
+		this.type = type;
+		this.onSuccess = onSuccess;
+		this.onFailure = onFailure;
+
+		this.table = new SimpleRowWriter.Table(null, type.getRawTableName(priority), new String[] { //
+				"time", //
+				"edge_channel_id", //
+				"value" //
+		});
+	}
+
+	/**
+	 * Streams the Points to the open COPY; opens a new COPY if required.
+	 *
+	 * @param points the Points
+	 */
+	public synchronized void write(List<Point> points) {
+		try {
+			if (this.writer == null) {
+				this.open();
+			}
+			for (var point : points) {
+				this.writer.startRow(this.type.fillRow(point));
+			}
+			this.uncommittedPoints.addAll(points);
+
+		} catch (SQLException | RuntimeException e) {
+			this.uncommittedPoints.addAll(points);
+			this.abort(e);
+			return;
+		}
+		this.rotateIfDue();
+	}
+
+	/**
+	 * Commits the open COPY if it reached the size or time threshold.
+	 */
+	public synchronized void rotateIfDue() {
+		if (this.writer == null) {
+			return;
+		}
+		if (this.uncommittedPoints.size() >= MAX_ROWS_PER_COPY
+				|| Duration.between(this.openedAt, Instant.now()).getSeconds() >= MAX_COPY_DURATION) {
+			this.commit();
+		}
+	}
+
+	/**
+	 * Commits the open COPY and releases the pinned connection.
+	 */
+	public synchronized void close() {
+		this.commit();
+		this.releaseConnection(false);
+	}
+
+	private void open() throws SQLException {
+		if (this.connection == null || this.connection.isClosed()) {
+			this.connection = this.dataSource.getConnection();
+		}
+		this.writer = new SimpleRowWriter(this.table, PostgreSqlUtils.getPGConnection(this.connection));
+		this.openedAt = Instant.now();
+	}
+
+	private void commit() {
+		if (this.writer == null) {
+			return;
+		}
+		try {
+			// Finishes the COPY
+			this.writer.close();
+		} catch (RuntimeException e) {
+			this.abort(e);
+			return;
+		}
+		this.writer = null;
+		this.uncommittedPoints.clear();
+		this.countCopies++;
+		this.onSuccess.run();
+	}
+
+	private void abort(Exception e) {
+		final var message = "Unable to write [" + this.uncommittedPoints.size() + "] Points to ["
+				+ this.table.getTable() + "]. " + e.getClass().getSimpleName() + ": " + e.getMessage();
+		if (e instanceof SQLException || e.getCause() instanceof SQLException) {
+			// 'Expected errors', e.g. PostgreSQL server stopped -> short error log
+			this.log.error(message);
+		} else {
+			// 'Unexpected errors' -> long stacktrace
+			this.log.error(message, e);
+		}
+		var failedPoints = new ArrayList<>(this.uncommittedPoints);
+		this.uncommittedPoints.clear();
+		this.writer = null;
+		// The connection might be in an undefined state after a failed COPY
+		this.releaseConnection(true);
+		this.onFailure.accept(failedPoints);
+	}
+
+	private void releaseConnection(boolean evict) {
+		if (this.connection == null) {
+			return;
+		}
+		try {
+			if (evict) {
+				this.dataSource.evictConnection(this.connection);
+			} else {
+				this.connection.close();
+			}
+		} catch (SQLException e) {
+			this.log.warn("Unable to release connection: " + e.getMessage());
+		}
+		this.connection = null;
+	}
+
+	/**
+	 * Returns a DebugLog String.
+	 *
+	 * @return debug log
+	 */
+	public synchronized String debugLog() {
+		return new StringBuilder() //
+				.append("Copy:").append(this.uncommittedPoints.size()) //
+				.append("|Commits:").append(this.countCopies) //
+				.toString();
+	}
+}
@@ -5,39 +5,111 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.zaxxer.hikari.HikariDataSource;
 
 import io.openems.backend.timedata.timescaledb.internal.Priority;
 import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.common.spill.SpillLog;
 import io.openems.common.worker.AbstractImmediateWorker;
 
 public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWorker {
 
-	private final HikariDataSource dataSource;
-	private final ExecutorService executor;
-	private final Type type;
-	private final Priority priority;
-	// TODO queue: delete old entries if full; like an EvictingQueue;
-	// https://github.com/google/guava/issues/3882
+	private static final int REPLAY_RETRY_INTERVAL = TimescaledbWriteHandler.MAX_AGGREGATE_WAIT; // [s]
+
+	private final Logger log = LoggerFactory.getLogger(MergePointsWorker.class);
+
 	private final BlockingQueue<POINT> queue = new ArrayBlockingQueue<>(TimescaledbWriteHandler.POINTS_QUEUE_SIZE);
+
+	/**
+	 * Buffers Points on disk if the queue is full or a write failed; null if
+	 * disabled.
+	 */
+	private final SpillLog<Point> spillLog;
+
+	/**
+	 * Streams Points to the database via a pinned connection.
+	 */
+	private final CopyWriter copyWriter;
+
 	private long countPoints = 0;
 
-	public MergePointsWorker(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-		this.dataSource = dataSource;
-		this.executor = executor;
-		this.type = type;
-		this.priority = priority;
+	/**
+	 * Points that failed to write and could not be spilled.
+	 */
+	private final AtomicLong countDropped = new AtomicLong();
+
+	/**
+	 * Result of the last write; while the database is not available, replaying
+	 * spilled Points is only retried every {@link #REPLAY_RETRY_INTERVAL} seconds.
+	 */
+	private volatile boolean isDatabaseAvailable = true;
+
+	private Instant nextReplayRetry = Instant.MIN;
+
+	public MergePointsWorker(HikariDataSource dataSource, Type type, Priority priority, SpillLog<Point> spillLog) {
+		this.spillLog = spillLog;
+		this.copyWriter = new CopyWriter(dataSource, type, priority, //
+				() -> this.isDatabaseAvailable = true, //
+				failedPoints -> {
+					this.isDatabaseAvailable = false;
+					this.onFailure(failedPoints);
+				});
 	}
 
-	public BlockingQueue<POINT> getQueue() {
-		return this.queue;
+	private void onFailure(List<Point> failedPoints) {
+		var spilled = this.spillLog != null ? this.spillLog.appendAll(failedPoints) : 0;
+		var dropped = failedPoints.size() - spilled;
+		if (dropped > 0) {
+			this.countDropped.addAndGet(dropped);
+			this.log.error("Dropped [" + dropped + "] Points that failed to write" //
+					+ (this.spillLog == null ? "; spilling is disabled" : "; SpillLog is full"));
+		}
+	}
+
+	/**
+	 * Adds a Point to the queue. If the queue is full, the Point is spilled to
+	 * disk. As long as there are spilled Points, new Points are spilled as well,
+	 * so Points are written in order: first the queue, then the spilled Points.
+	 *
+	 * @param point the Point
+	 * @return true if the Point was added, else false
+	 */
+	public boolean offer(POINT point) {
+		if (this.spillLog != null && this.spillLog.size() > 0 && this.spillLog.append(point)) {
+			return true;
+		}
+		if (this.queue.offer(point)) {
+			return true;
+		}
+		return this.spillLog != null && this.spillLog.append(point);
 	}
 
 	@Override
 	protected void forever() throws InterruptedException {
+		if (this.spillLog != null) {
+			this.spillLog.forceIfDue();
+		}
+
+		// Spilled Points are newer than the queued ones; replay them once the queue is
+		// written
+		if (this.spillLog != null && this.spillLog.size() > 0 && this.queue.isEmpty()
+				&& (this.isDatabaseAvailable || Instant.now().isAfter(this.nextReplayRetry))) {
+			var spilledPoints = this.spillLog.poll(TimescaledbWriteHandler.MAX_POINTS_PER_WRITE);
+			if (!spilledPoints.isEmpty()) {
+				this.copyWriter.write(spilledPoints);
+			}
+			if (!this.isDatabaseAvailable) {
+				this.nextReplayRetry = Instant.now().plusSeconds(REPLAY_RETRY_INTERVAL);
+			}
+			return;
+		}
+
 		/**
 		 * This task merges single Points to Lists of Points, which are then sent to
 		 * TimescaleDB. This approach improves speed as not every single Point gets sent
@@ -47,18 +119,19 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 		var points = pollAndMergePoints(this.queue);
 
 		if (points.isEmpty()) {
+			// Commit a pending COPY also if no new Points arrive
+			this.copyWriter.rotateIfDue();
 			return;
 		}
 
 		this.countPoints += points.size();
 
-		// Write points async.
-		this.executor.execute(new WritePointsHandler(this.dataSource, this.type, this.priority, points));
+		this.copyWriter.write(points);
 	}
 
 	/**
 	 * Poll and merge Points. Wait max 10 seconds in total.
-	 * 
+	 *
 	 * @param <POINT> the type of the Point
 	 * @param queue   the Queue of Points
 	 * @return a list of Points
@@ -81,18 +154,56 @@ public class MergePointsWorker<POINT extends Point> extends AbstractImmediateWor
 		return points;
 	}
 
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		this.copyWriter.close();
+		if (this.spillLog != null) {
+			// Keep queued Points for the next start. With a backlog they are replayed
+			// after the spilled ones.
+			var points = new ArrayList<POINT>(this.queue.size());
+			this.queue.drainTo(points);
+			this.spillLog.appendAll(points);
+			this.spillLog.close();
+		}
+	}
+
+	/**
+	 * Gets the number of Points spilled to disk.
+	 *
+	 * @return the backlog size; zero if spilling is disabled
+	 */
+	public long getSpillBacklog() {
+		return this.spillLog != null ? this.spillLog.size() : 0;
+	}
+
+	/**
+	 * Gets the number of Points that failed to write and could not be spilled.
+	 *
+	 * @return the number of dropped Points
+	 */
+	public long getDropped() {
+		return this.countDropped.get();
+	}
+
 	/**
 	 * Returns a DebugLog String.
-	 * 
+	 *
 	 * @return debug log
 	 */
 	public String debugLog() {
-		return new StringBuilder() //
+		var sb = new StringBuilder() //
 				.append(this.queue.size()) //
 				.append("/") //
 				.append(TimescaledbWriteHandler.POINTS_QUEUE_SIZE) //
 				.append("|Total:") //
 				.append(this.countPoints) //
-				.toString();
+				.append("|Dropped:") //
+				.append(this.countDropped.get()) //
+				.append("|").append(this.copyWriter.debugLog());
+		if (this.spillLog != null) {
+			sb.append("|").append(this.spillLog.debugLog());
+		}
+		return sb.toString();
 	}
 }
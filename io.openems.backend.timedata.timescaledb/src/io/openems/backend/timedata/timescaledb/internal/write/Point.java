@@ -1,8 +1,14 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 
 import de.bytefish.pgbulkinsert.row.SimpleRow;
+import io.openems.common.spill.SpillLog;
 
 public abstract class Point {
 
@@ -74,6 +80,51 @@ public abstract class Point {
 		}
 	}
 
+	/**
+	 * Serializes {@link Point}s for a {@link SpillLog}.
+	 */
+	public static final SpillLog.Codec<Point> CODEC = new SpillLog.Codec<>() {
+
+		private static final byte INT = 1;
+		private static final byte FLOAT = 2;
+		private static final byte STRING = 3;
+
+		@Override
+		public void encode(Point point, DataOutput out) throws IOException {
+			if (point instanceof IntPoint p) {
+				out.writeByte(INT);
+				this.encodeHeader(point, out);
+				out.writeLong(p.value);
+			} else if (point instanceof FloatPoint p) {
+				out.writeByte(FLOAT);
+				this.encodeHeader(point, out);
+				out.writeDouble(p.value);
+			} else if (point instanceof StringPoint p) {
+				out.writeByte(STRING);
+				this.encodeHeader(point, out);
+				out.writeUTF(p.value);
+			}
+		}
+
+		private void encodeHeader(Point point, DataOutput out) throws IOException {
+			out.writeInt(point.channelId);
+			out.writeLong(point.timestamp.toInstant().toEpochMilli());
+		}
+
+		@Override
+		public Point decode(DataInput in) throws IOException {
+			var type = in.readByte();
+			var channelId = in.readInt();
+			var timestamp = ZonedDateTime.ofInstant(Instant.ofEpochMilli(in.readLong()), ZoneOffset.UTC);
+			return switch (type) {
+			case INT -> new IntPoint(channelId, timestamp, in.readLong());
+			case FLOAT -> new FloatPoint(channelId, timestamp, in.readDouble());
+			case STRING -> new StringPoint(channelId, timestamp, in.readUTF());
+			default -> throw new IOException("Unknown Point type [" + type + "]");
+			};
+		}
+	};
+
 	/**
 	 * Adds the Point to a {@link SimpleRow} for pgBulkInsert.
 	 * 
@@ -3,7 +3,6 @@ package io.openems.backend.timedata.timescaledb.internal.write;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.concurrent.ExecutorService;
 
 import com.google.gson.JsonElement;
 import com.zaxxer.hikari.HikariDataSource;
@@ -15,6 +14,7 @@ import io.openems.backend.timedata.timescaledb.internal.write.Point.FloatPoint;
 import io.openems.backend.timedata.timescaledb.internal.write.Point.IntPoint;
 import io.openems.backend.timedata.timescaledb.internal.write.Point.StringPoint;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.spill.SpillLog;
 import io.openems.common.types.OpenemsType;
 import io.openems.common.utils.JsonUtils;
 
@@ -43,7 +43,7 @@ public abstract class QueueHandler<T extends Point> {
 		if (value == null) {
 			return false;
 		}
-		return this.mergePointsWorker.getQueue().offer(value);
+		return this.mergePointsWorker.offer(value);
 	}
 
 	public MergePointsWorker<T> getMergePointsWorker() {
@@ -79,26 +79,27 @@ public abstract class QueueHandler<T extends Point> {
 	 * @param type       the type of the handler
 	 * @param priority   the priority of the handler
 	 * @param dataSource the dataSource to get database connections
-	 * @param executor   the executor to execute writes
+	 * @param spillLog   the {@link SpillLog} to buffer Points on disk; null to
+	 *                   disable
 	 * @return the handler
 	 */
 	public static QueueHandler<?> of(Type type, Priority priority, HikariDataSource dataSource,
-			ExecutorService executor) {
+			SpillLog<Point> spillLog) {
 		switch (type) {
 		case INTEGER:
-			return new IntQueueHandler(dataSource, executor, type, priority);
+			return new IntQueueHandler(dataSource, type, priority, spillLog);
 		case FLOAT:
-			return new FloatQueueHandler(dataSource, executor, type, priority);
+			return new FloatQueueHandler(dataSource, type, priority, spillLog);
 		case STRING:
-			return new StringQueueHandler(dataSource, executor, type, priority);
+			return new StringQueueHandler(dataSource, type, priority, spillLog);
 		}
 		return null;
 	}
 
 	public static class IntQueueHandler extends QueueHandler<IntPoint> {
 
-		public IntQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<IntPoint>(dataSource, executor, type, priority), IntPoint.class);
+		public IntQueueHandler(HikariDataSource dataSource, Type type, Priority priority, SpillLog<Point> spillLog) {
+			super(new MergePointsWorker<IntPoint>(dataSource, type, priority, spillLog), IntPoint.class);
 		}
 
 		@Override
@@ -115,8 +116,8 @@ public abstract class QueueHandler<T extends Point> {
 
 	public static class FloatQueueHandler extends QueueHandler<FloatPoint> {
 
-		public FloatQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<FloatPoint>(dataSource, executor, type, priority), FloatPoint.class);
+		public FloatQueueHandler(HikariDataSource dataSource, Type type, Priority priority, SpillLog<Point> spillLog) {
+			super(new MergePointsWorker<FloatPoint>(dataSource, type, priority, spillLog), FloatPoint.class);
 		}
 
 		@Override
@@ -133,8 +134,8 @@ public abstract class QueueHandler<T extends Point> {
 
 	public static class StringQueueHandler extends QueueHandler<StringPoint> {
 
-		public StringQueueHandler(HikariDataSource dataSource, ExecutorService executor, Type type, Priority priority) {
-			super(new MergePointsWorker<StringPoint>(dataSource, executor, type, priority), StringPoint.class);
+		public StringQueueHandler(HikariDataSource dataSource, Type type, Priority priority, SpillLog<Point> spillLog) {
+			super(new MergePointsWorker<StringPoint>(dataSource, type, priority, spillLog), StringPoint.class);
 		}
 
 		@Override
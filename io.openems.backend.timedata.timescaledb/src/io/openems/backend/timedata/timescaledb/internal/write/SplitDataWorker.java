@@ -1,6 +1,7 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -9,6 +10,7 @@ import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Table.Cell;
 import com.google.common.collect.TreeBasedTable;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
@@ -84,6 +86,7 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 		// Retrieve next element in of Queue; waits till an element is available.
 		var data = this.sourceQueue.take();
 
+		var missingCells = new ArrayList<Cell<Long, String, JsonElement>>();
 		for (var cell : data.table.cellSet()) {
 			// Cache-Lookup
 			var channel = schema.getChannelFromCache(data.edgeId, cell.getColumnKey());
@@ -92,31 +95,36 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 				this.addToTypedQueue(channel, cell.getRowKey(), cell.getValue());
 
 			} else {
-				// Channel missing in Cache -> async
-				this.executor.execute(() -> {
-					try (var con = this.dataSource.getConnection()) {
-						var channelRecord = schema.getChannel(con, data.edgeId, cell.getColumnKey(), cell.getValue());
-						if (channelRecord != null) {
-							// Ok -> add to queue
-							this.addToTypedQueue(channelRecord, cell.getRowKey(), cell.getValue());
-							return;
-						}
-
-						if (cell.getValue() != null && cell.getValue() != JsonNull.INSTANCE) {
-							// Error and value was not null
-							this.log.error("Unable to get ChannelRecord for Channel " //
-									+ "[" + data.edgeId + "/" + cell.getColumnKey() + "=" + cell.getValue() + "]");
-						}
-
-					} catch (SQLException e) {
+				missingCells.add(cell);
+			}
+		}
+
+		if (missingCells.isEmpty()) {
+			return;
+		}
+
+		// Channels missing in Cache -> resolve async using one connection
+		this.executor.execute(() -> {
+			try (var con = this.dataSource.getConnection()) {
+				for (var cell : missingCells) {
+					var channelRecord = schema.getChannel(con, data.edgeId, cell.getColumnKey(), cell.getValue());
+					if (channelRecord != null) {
+						// Ok -> add to queue
+						this.addToTypedQueue(channelRecord, cell.getRowKey(), cell.getValue());
+						continue;
+					}
+
+					if (cell.getValue() != null && cell.getValue() != JsonNull.INSTANCE) {
+						// Error and value was not null
 						this.log.error("Unable to get ChannelRecord for Channel " //
-								+ "[" + data.edgeId + "/" + cell.getColumnKey() + "=" + cell.getValue() + "]: "
-								+ e.getMessage());
+								+ "[" + data.edgeId + "/" + cell.getColumnKey() + "=" + cell.getValue() + "]");
 					}
-				});
+				}
 
+			} catch (SQLException e) {
+				this.log.error("Unable to get ChannelRecords for Edge [" + data.edgeId + "]: " + e.getMessage());
 			}
-		}
+		});
 	}
 
 	/**
@@ -156,12 +164,12 @@ public class SplitDataWorker extends AbstractImmediateWorker {
 			return schema;
 
 		} catch (SQLException e) {
-			this.log.error("Unable to cache Schema: " + e.getMessage());
-			e.printStackTrace();
+			this.log.error("Unable to cache Schema: " + e.getMessage(), e);
 			try {
 				Thread.sleep(10000);
 			} catch (InterruptedException e1) {
-				e1.printStackTrace();
+				this.log.error("Interrupted while waiting to cache Schema", e1);
+				Thread.currentThread().interrupt();
 			}
 			return null;
 		}
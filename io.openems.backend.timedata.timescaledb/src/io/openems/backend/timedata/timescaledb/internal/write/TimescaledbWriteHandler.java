@@ -1,7 +1,10 @@
 package io.openems.backend.timedata.timescaledb.internal.write;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.sql.SQLException;
 import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.concurrent.Executor;
@@ -27,6 +30,7 @@ import io.openems.backend.timedata.timescaledb.internal.Schema;
 import io.openems.backend.timedata.timescaledb.internal.Type;
 import io.openems.backend.timedata.timescaledb.internal.Utils;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.spill.SpillLog;
 import io.openems.common.utils.StringUtils;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.worker.AbstractWorker;
@@ -36,6 +40,7 @@ public class TimescaledbWriteHandler {
 	public static final int POINTS_QUEUE_SIZE = 1_000_000;
 	public static final int MAX_POINTS_PER_WRITE = 10_000;
 	public static final int MAX_AGGREGATE_WAIT = 10; // [s]
+	public static final int SPILL_SEGMENT_SIZE = 64 * 1024 * 1024; // [byte]
 
 	private final Logger log = LoggerFactory.getLogger(TimescaledbWriteHandler.class);
 
@@ -62,9 +67,11 @@ public class TimescaledbWriteHandler {
 	public TimescaledbWriteHandler(Config config, Consumer<Schema> onInitializedSchema) throws SQLException {
 		this.isReadOnly = config.isReadOnly();
 
+		// Every CopyWriter pins one connection; the remaining ones are used for Schema
+		// lookups
 		this.dataSource = Utils.getDataSource(//
 				config.host(), config.port(), config.database(), //
-				config.user(), config.password(), config.poolSize());
+				config.user(), config.password(), config.poolSize() + Type.values().length * Priority.values().length);
 
 		this.executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(config.poolSize(),
 				new ThreadFactoryBuilder().setNameFormat("TimescaleDB-%d").build());
@@ -75,7 +82,8 @@ public class TimescaledbWriteHandler {
 		for (var type : Type.values()) {
 			for (var priority : Priority.values()) {
 				this.queueHandler.put(type, priority, //
-						QueueHandler.of(type, priority, this.dataSource, this.executor));
+						QueueHandler.of(type, priority, this.dataSource, //
+								this.createSpillLog(config, type.getRawTableName(priority))));
 			}
 		}
 
@@ -92,6 +100,27 @@ public class TimescaledbWriteHandler {
 		this.splitPointsWorker.activate("TimescaleDB-SplitPoints");
 	}
 
+	/**
+	 * Creates a {@link SpillLog} for the given table.
+	 *
+	 * @param config    the {@link Config}
+	 * @param tableName the name of the table
+	 * @return the {@link SpillLog}; null if disabled or on error
+	 */
+	private SpillLog<Point> createSpillLog(Config config, String tableName) {
+		if (config.spillDirectory() == null || config.spillDirectory().isBlank() || this.isReadOnly) {
+			return null;
+		}
+		var maxSegments = Math.max(1, (int) ((long) config.spillMaxSize() * 1024 * 1024 / SPILL_SEGMENT_SIZE));
+		try {
+			return new SpillLog<>(Path.of(config.spillDirectory(), tableName), SPILL_SEGMENT_SIZE, maxSegments,
+					Point.CODEC);
+		} catch (IOException e) {
+			this.log.error("Unable to open SpillLog for [" + tableName + "]: " + e.getMessage());
+			return null;
+		}
+	}
+
 	private final Stream<QueueHandler<?>> streamHandler() {
 		return this.queueHandler.values().stream() //
 				.flatMap(t -> t.values().stream()); //
@@ -154,7 +183,14 @@ public class TimescaledbWriteHandler {
 	 * @return metrics
 	 */
 	public Map<String, Long> debugMetrics() {
-		return ThreadPoolUtils.debugMetrics(this.executor);
+		var result = new HashMap<String, Long>(ThreadPoolUtils.debugMetrics(this.executor));
+		result.put("SpillBacklog", this.streamHandler() //
+				.mapToLong(t -> t.getMergePointsWorker().getSpillBacklog()) //
+				.sum());
+		result.put("Dropped", this.streamHandler() //
+				.mapToLong(t -> t.getMergePointsWorker().getDropped()) //
+				.sum());
+		return result;
 	}
 
 	private boolean enableWriteToTimescaledb(String edgeId) {
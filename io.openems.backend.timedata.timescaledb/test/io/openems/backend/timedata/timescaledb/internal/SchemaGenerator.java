@@ -1,5 +1,6 @@
 package io.openems.backend.timedata.timescaledb.internal;
 
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -97,9 +98,13 @@ public class SchemaGenerator {
 						.append(this.createRawIndex(type, priority)) //
 						// .append(this.alterCompression(type, priority)) //
 						// .append(this.addCompression(type, priority)) //
-						.append(this.createAggregateTable(type, priority)) //
-						.append(this.addContinuousAggregate(type, priority)) //
 				;
+				for (var aggregate : Aggregate.values()) {
+					sb //
+							.append(this.createAggregateTable(type, priority, aggregate)) //
+							.append(this.addContinuousAggregate(type, priority, aggregate)) //
+					;
+				}
 			}
 		}
 		return sb.toString();
@@ -137,39 +142,63 @@ public class SchemaGenerator {
 	// "', interval '2 days');\n\n";
 	// }
 
-	private String createAggregateTable(Type type, Priority priority) {
-		return "CREATE MATERIALIZED VIEW " + type.getAggregate5mTableName(priority) //
+	private String createAggregateTable(Type type, Priority priority, Aggregate aggregate) {
+		final String options;
+		final String sourceTable;
+		final Function<String, String> expression;
+		if (aggregate.source == null) {
+			options = "timescaledb.continuous";
+			sourceTable = type.getRawTableName(priority);
+			expression = s -> s + "(\"value\")";
+		} else {
+			// Hierarchical continuous aggregate: 'min' of 'min', 'max' of 'max',...
+			options = "timescaledb.continuous, timescaledb.materialized_only = false";
+			sourceTable = type.getAggregateTableName(aggregate.source, priority);
+			expression = Type::getHierarchicalExpression;
+		}
+		return "CREATE MATERIALIZED VIEW " + type.getAggregateTableName(aggregate, priority) //
 				+ "(time, edge_channel_id, " //
 				+ Stream.of(type.aggregateFunctions) //
 						.map(s -> "\"" + s + "\"") //
 						.collect(Collectors.joining(", "))
 				+ ")\n" //
-				+ "  WITH (timescaledb.continuous) AS\n" //
-				+ "  SELECT time_bucket ('5 minutes', time) AS time,\n" //
+				+ "  WITH (" + options + ") AS\n" //
+				+ "  SELECT time_bucket ('" + aggregate.sqlInterval + "', time) AS time,\n" //
 				+ "    edge_channel_id,\n" //
 				+ "    " + Stream.of(type.aggregateFunctions) //
-						.map(s -> s + "(\"value\")") //
+						.map(expression) //
 						.collect(Collectors.joining(", "))
 				+ "\n" //
-				+ "  FROM " + type.getRawTableName(priority) + "\n" //
+				+ "  FROM " + sourceTable + "\n" //
 				+ "  GROUP BY (1, 2)\n" + "WITH NO DATA;\n\n";
 		// TODO set chunk time interval for materialized view to 1 day
 	}
 
-	private String addContinuousAggregate(Type type, Priority priority) {
-		return "SELECT add_continuous_aggregate_policy('" + type.getAggregate5mTableName(priority) + "',\n" //
+	private String addContinuousAggregate(Type type, Priority priority, Aggregate aggregate) {
+		final String offset;
+		final String interval;
+		if (aggregate.source == null) {
+			offset = (priority == Priority.HIGH ? "10" : "60") + " minutes";
+			interval = offset;
+		} else {
+			// end_offset must cover at least one bucket
+			offset = (2 * aggregate.seconds) + " seconds";
+			interval = aggregate.sqlInterval;
+		}
+		var tableName = type.getAggregateTableName(aggregate, priority);
+		return "SELECT add_continuous_aggregate_policy('" + tableName + "',\n" //
 				+ "  start_offset => NULL,\n" //
 				// + " start_offset => interval '30 days',\n" // TODO switch to 30 days after
-				+ "  end_offset => interval '" + (priority == Priority.HIGH ? "10" : "60") + " minutes',\n" //
-				+ "  schedule_interval => interval '" + (priority == Priority.HIGH ? "10" : "60") + " minutes'\n" //
+				+ "  end_offset => interval '" + offset + "',\n" //
+				+ "  schedule_interval => interval '" + interval + "'\n" //
 				+ ");\n" //
 
 				+ "SELECT set_chunk_time_interval(\n" //
 				+ "  (\n" //
 				+ "    SELECT format('%I.%I', materialization_hypertable_schema, materialization_hypertable_name) AS materialization_hypertable\n"
 				+ "    FROM timescaledb_information.continuous_aggregates\n" //
-				+ "    WHERE view_name LIKE '" + type.getAggregate5mTableName(priority) + "'\n" //
-				+ "  ), INTERVAL '1 day'\n" //
+				+ "    WHERE view_name LIKE '" + tableName + "'\n" //
+				+ "  ), INTERVAL '" + (aggregate == Aggregate.ONE_DAY ? "30 days" : "1 day") + "'\n" //
 				+ ");\n" //
 
 				+ "SELECT alter_job(\n" //
@@ -179,7 +208,7 @@ public class SchemaGenerator {
 				+ "    INNER JOIN timescaledb_information.continuous_aggregates ca\n" //
 				+ "    ON j.hypertable_schema = ca.materialization_hypertable_schema\n" //
 				+ "      AND j.hypertable_name = ca.materialization_hypertable_name\n" //
-				+ "    WHERE ca.view_name like '" + type.getAggregate5mTableName(priority) + "'\n" //
+				+ "    WHERE ca.view_name like '" + tableName + "'\n" //
 				+ "  ), next_start => now()\n" //
 				+ ");\n\n";
 	}
@@ -26,4 +26,16 @@ public class TypeTest {
 		}
 	}
 
+	@Test
+	public void testExpressions() {
+		// Hierarchical aggregates calculate the exact average from sum and count
+		assertEquals("sum(\"sum\") / sum(\"count\")", Type.getHierarchicalExpression("avg"));
+		assertEquals("sum(\"count\")", Type.getHierarchicalExpression("count"));
+		assertEquals("min(\"min\")", Type.getHierarchicalExpression("min"));
+
+		assertEquals("sum(d.\"sum\") / sum(d.\"count\")", Type.FLOAT.getValueExpression("d", true));
+		assertEquals("avg(d.\"avg\")", Type.FLOAT.getValueExpression("d", false));
+		assertEquals("max(d.\"max\")", Type.STRING.getValueExpression("d", true));
+	}
+
 }
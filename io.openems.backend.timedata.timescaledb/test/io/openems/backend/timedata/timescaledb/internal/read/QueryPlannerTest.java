@@ -0,0 +1,88 @@
+package io.openems.backend.timedata.timescaledb.internal.read;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import io.openems.backend.timedata.timescaledb.internal.Aggregate;
+import io.openems.backend.timedata.timescaledb.internal.Priority;
+import io.openems.backend.timedata.timescaledb.internal.Type;
+import io.openems.common.timedata.Resolution;
+
+public class QueryPlannerTest {
+
+	private static final ZonedDateTime UTC_MIDNIGHT = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+	private static final ZonedDateTime BERLIN_MIDNIGHT = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0,
+			ZoneId.of("Europe/Berlin"));
+	private static final Predicate<Aggregate> ALL = a -> true;
+
+	@Test
+	public void testPlan() {
+		// Resolution
+		assertEquals(Aggregate.FIVE_MINUTES, QueryPlanner.plan(UTC_MIDNIGHT, UTC_MIDNIGHT.plusDays(1), //
+				new Resolution(15, ChronoUnit.MINUTES), false, ALL));
+		assertEquals(Aggregate.ONE_HOUR, QueryPlanner.plan(UTC_MIDNIGHT, UTC_MIDNIGHT.plusDays(1), //
+				new Resolution(2, ChronoUnit.HOURS), false, ALL));
+		assertEquals(Aggregate.ONE_DAY, QueryPlanner.plan(UTC_MIDNIGHT, UTC_MIDNIGHT.plusYears(1), //
+				new Resolution(1, ChronoUnit.MONTHS), false, ALL));
+
+		// From-Date not aligned
+		assertEquals(Aggregate.FIVE_MINUTES, QueryPlanner.plan(UTC_MIDNIGHT.plusMinutes(5), UTC_MIDNIGHT.plusDays(1), //
+				new Resolution(1, ChronoUnit.HOURS), false, ALL));
+
+		// Timezone
+		assertEquals(Aggregate.ONE_DAY, QueryPlanner.plan(UTC_MIDNIGHT, UTC_MIDNIGHT.plusYears(1), //
+				new Resolution(1, ChronoUnit.MONTHS), true, ALL));
+		assertEquals(Aggregate.ONE_HOUR, QueryPlanner.plan(BERLIN_MIDNIGHT, BERLIN_MIDNIGHT.plusYears(1), //
+				new Resolution(1, ChronoUnit.MONTHS), true, ALL));
+		assertEquals(Aggregate.FIVE_MINUTES, QueryPlanner.plan(//
+				ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneId.of("Asia/Kathmandu")),
+				ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneId.of("Asia/Kathmandu")), //
+				new Resolution(1, ChronoUnit.DAYS), true, ALL));
+
+		// Total range
+		assertEquals(Aggregate.ONE_DAY, QueryPlanner.plan(UTC_MIDNIGHT, UTC_MIDNIGHT.plusYears(1), ALL));
+		assertEquals(Aggregate.ONE_HOUR, QueryPlanner.plan(BERLIN_MIDNIGHT, BERLIN_MIDNIGHT.plusYears(1), ALL));
+	}
+
+	@Test
+	public void testFallback() {
+		// Only the 5 minute aggregate exists, e.g. in databases created before
+		// hierarchical aggregates were introduced
+		var aggregates = AggregateCatalog.EMPTY;
+		assertTrue(aggregates.isAvailable(Aggregate.FIVE_MINUTES));
+		assertFalse(aggregates.isAvailable(Aggregate.ONE_HOUR));
+		assertEquals(Aggregate.FIVE_MINUTES, QueryPlanner.plan(UTC_MIDNIGHT, UTC_MIDNIGHT.plusYears(1), //
+				new Resolution(1, ChronoUnit.MONTHS), false, aggregates::isAvailable));
+		assertEquals(Aggregate.FIVE_MINUTES,
+				QueryPlanner.plan(UTC_MIDNIGHT, UTC_MIDNIGHT.plusYears(1), aggregates::isAvailable));
+
+		// The 1 hour aggregate exists for every Type and Priority; the 1 day
+		// aggregate only partially
+		var columns = new HashMap<String, Set<String>>();
+		for (var type : Type.values()) {
+			for (var priority : Priority.values()) {
+				columns.put(type.getAggregateTableName(Aggregate.ONE_HOUR, priority),
+						Set.of(type.aggregateFunctions));
+			}
+		}
+		columns.put(Type.INTEGER.getAggregateTableName(Aggregate.ONE_DAY, Priority.LOW),
+				Set.of(Type.INTEGER.aggregateFunctions));
+		aggregates = new AggregateCatalog(columns);
+		assertTrue(aggregates.isAvailable(Aggregate.ONE_HOUR));
+		assertFalse(aggregates.isAvailable(Aggregate.ONE_DAY));
+		assertEquals(Aggregate.ONE_HOUR, QueryPlanner.plan(UTC_MIDNIGHT, UTC_MIDNIGHT.plusYears(1), //
+				new Resolution(1, ChronoUnit.MONTHS), false, aggregates::isAvailable));
+	}
+
+}
@@ -0,0 +1,39 @@
+package io.openems.backend.timedata.timescaledb.internal.write;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.openems.backend.timedata.timescaledb.internal.write.Point.FloatPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.IntPoint;
+import io.openems.backend.timedata.timescaledb.internal.write.Point.StringPoint;
+import io.openems.common.spill.SpillLog;
+
+public class PointTest {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testCodec() throws IOException {
+		var time = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+		try (var spillLog = new SpillLog<>(this.folder.getRoot().toPath(), 1024, 1, Point.CODEC)) {
+			spillLog.append(new IntPoint(1, time, 123L));
+			spillLog.append(new FloatPoint(2, time, 1.5));
+			spillLog.append(new StringPoint(3, time, "foo"));
+
+			var points = spillLog.poll(10);
+			assertEquals(3, points.size());
+			assertEquals("IntPoint [2024-01-01T00:00Z: 1=123]", points.get(0).toString());
+			assertEquals("FloatPoint [2024-01-01T00:00Z: 2=1.5]", points.get(1).toString());
+			assertEquals("StringPoint [2024-01-01T00:00Z: 3=foo]", points.get(2).toString());
+		}
+	}
+
+}
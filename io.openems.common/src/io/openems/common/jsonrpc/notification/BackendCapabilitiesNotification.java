@@ -0,0 +1,79 @@
+package io.openems.common.jsonrpc.notification;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Represents a JSON-RPC Notification from OpenEMS Backend to OpenEMS Edge that
+ * announces the optional features the Backend supports on the current
+ * connection, e.g. {@link EdgeConfigDeltaNotification#METHOD}.
+ *
+ * <p>
+ * Sent once after the Edge was authenticated. An Edge must not use an optional
+ * feature before it received the capability; older Backends never send this
+ * notification.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "method": "backendCapabilities",
+ *   "params": {
+ *     "capabilities": string[]
+ *   }
+ * }
+ * </pre>
+ */
+public class BackendCapabilitiesNotification extends JsonrpcNotification {
+
+	public static final String METHOD = "backendCapabilities";
+
+	/**
+	 * Parses a {@link JsonrpcNotification} to a
+	 * {@link BackendCapabilitiesNotification}.
+	 *
+	 * @param n the {@link JsonrpcNotification}
+	 * @return the {@link BackendCapabilitiesNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static BackendCapabilitiesNotification from(JsonrpcNotification n) throws OpenemsNamedException {
+		var capabilities = new TreeSet<String>();
+		for (var capability : JsonUtils.getAsJsonArray(n.getParams(), "capabilities")) {
+			capabilities.add(JsonUtils.getAsString(capability));
+		}
+		return new BackendCapabilitiesNotification(capabilities);
+	}
+
+	private final Set<String> capabilities;
+
+	public BackendCapabilitiesNotification(Set<String> capabilities) {
+		super(METHOD);
+		this.capabilities = capabilities;
+	}
+
+	/**
+	 * Does the Backend support the given capability?.
+	 *
+	 * @param capability the capability, e.g.
+	 *                   {@link EdgeConfigDeltaNotification#METHOD}
+	 * @return true if it is supported
+	 */
+	public boolean hasCapability(String capability) {
+		return this.capabilities.contains(capability);
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return JsonUtils.buildJsonObject() //
+				.add("capabilities", this.capabilities.stream() //
+						.map(JsonUtils::toJson) //
+						.collect(JsonUtils.toJsonArray())) //
+				.build();
+	}
+
+}
@@ -0,0 +1,154 @@
+package io.openems.common.jsonrpc.notification;
+
+import java.util.Map.Entry;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
+import io.openems.common.types.EdgeConfig;
+import io.openems.common.utils.JsonUtils;
+
+/**
+ * Represents a JSON-RPC Notification for changes of the OpenEMS Edge
+ * configuration compared to the previously sent {@link EdgeConfig}.
+ *
+ * <p>
+ * Holds the Components and Factories that were created or changed; deleted
+ * Components and Factories are 'null'. The format of the values is the same as
+ * in {@link EdgeConfigNotification}.
+ *
+ * <pre>
+ * {
+ *   "jsonrpc": "2.0",
+ *   "method": "edgeConfigDelta",
+ *   "params": {
+ *     "components": {
+ *       [id: string]: {@link EdgeConfig.Component#toJson(EdgeConfig.Component.JsonFormat)} | null
+ *     },
+ *     "factories": {
+ *       [id: string]: {@link EdgeConfig.Factory#toJson()} | null
+ *     }
+ *   }
+ * }
+ * </pre>
+ */
+public class EdgeConfigDeltaNotification extends JsonrpcNotification {
+
+	public static final String METHOD = "edgeConfigDelta";
+
+	/**
+	 * Parses a {@link JsonrpcNotification} to a
+	 * {@link EdgeConfigDeltaNotification}.
+	 *
+	 * @param n the {@link JsonrpcNotification}
+	 * @return the {@link EdgeConfigDeltaNotification}
+	 * @throws OpenemsNamedException on error
+	 */
+	public static EdgeConfigDeltaNotification from(JsonrpcNotification n) throws OpenemsNamedException {
+		var p = n.getParams();
+		return new EdgeConfigDeltaNotification(//
+				JsonUtils.getAsOptionalJsonObject(p, "components").orElse(new JsonObject()), //
+				JsonUtils.getAsOptionalJsonObject(p, "factories").orElse(new JsonObject()));
+	}
+
+	/**
+	 * Builds a {@link EdgeConfigDeltaNotification} with the differences between
+	 * two {@link EdgeConfig}s.
+	 *
+	 * @param newConfig the new {@link EdgeConfig}
+	 * @param oldConfig the previously sent {@link EdgeConfig}
+	 * @return the {@link EdgeConfigDeltaNotification}; check with
+	 *         {@link #isEmpty()}
+	 */
+	public static EdgeConfigDeltaNotification from(EdgeConfig newConfig, EdgeConfig oldConfig) {
+		return from(newConfig.toJson(), oldConfig.toJson());
+	}
+
+	/**
+	 * Builds a {@link EdgeConfigDeltaNotification} with the differences between
+	 * two {@link EdgeConfig}s in JSON format.
+	 *
+	 * @param newJson the new {@link EdgeConfig#toJson()}
+	 * @param oldJson the previously sent {@link EdgeConfig#toJson()}
+	 * @return the {@link EdgeConfigDeltaNotification}; check with
+	 *         {@link #isEmpty()}
+	 */
+	public static EdgeConfigDeltaNotification from(JsonObject newJson, JsonObject oldJson) {
+		return new EdgeConfigDeltaNotification(//
+				diff(newJson.getAsJsonObject("components"), oldJson.getAsJsonObject("components")), //
+				diff(newJson.getAsJsonObject("factories"), oldJson.getAsJsonObject("factories")));
+	}
+
+	private static JsonObject diff(JsonObject newJson, JsonObject oldJson) {
+		var result = new JsonObject();
+		for (Entry<String, JsonElement> entry : newJson.entrySet()) {
+			if (!entry.getValue().equals(oldJson.get(entry.getKey()))) {
+				result.add(entry.getKey(), entry.getValue());
+			}
+		}
+		for (String key : oldJson.keySet()) {
+			if (!newJson.has(key)) {
+				result.add(key, JsonNull.INSTANCE);
+			}
+		}
+		return result;
+	}
+
+	private final JsonObject components;
+	private final JsonObject factories;
+
+	private EdgeConfigDeltaNotification(JsonObject components, JsonObject factories) {
+		super(EdgeConfigDeltaNotification.METHOD);
+		this.components = components;
+		this.factories = factories;
+	}
+
+	/**
+	 * Are there no differences?.
+	 *
+	 * @return true if the {@link EdgeConfig}s were equal
+	 */
+	public boolean isEmpty() {
+		return this.components.size() == 0 && this.factories.size() == 0;
+	}
+
+	/**
+	 * Applies the changes to the previous {@link EdgeConfig}.
+	 *
+	 * @param oldConfig the previous {@link EdgeConfig}
+	 * @return the new {@link EdgeConfig}
+	 * @throws OpenemsNamedException on error
+	 */
+	public EdgeConfig applyTo(EdgeConfig oldConfig) throws OpenemsNamedException {
+		var builder = EdgeConfig.ActualEdgeConfig.create();
+		builder.getComponents().putAll(oldConfig.getComponents());
+		builder.getFactories().putAll(oldConfig.getFactories());
+		for (Entry<String, JsonElement> entry : this.components.entrySet()) {
+			if (entry.getValue().isJsonNull()) {
+				builder.removeComponent(entry.getKey());
+			} else {
+				builder.addComponent(entry.getKey(), EdgeConfig.Component.fromJson(entry.getKey(), entry.getValue()));
+			}
+		}
+		for (Entry<String, JsonElement> entry : this.factories.entrySet()) {
+			if (entry.getValue().isJsonNull()) {
+				builder.getFactories().remove(entry.getKey());
+			} else {
+				builder.addFactory(entry.getKey(), EdgeConfig.Factory.fromJson(entry.getKey(), entry.getValue()));
+			}
+		}
+		return builder.buildEdgeConfig();
+	}
+
+	@Override
+	public JsonObject getParams() {
+		return JsonUtils.buildJsonObject() //
+				.add("components", this.components) //
+				.add("factories", this.factories) //
+				.build();
+	}
+
+}
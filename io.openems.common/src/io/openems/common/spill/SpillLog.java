@@ -0,0 +1,441 @@
+package io.openems.common.spill;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An append-only, memory-mapped log on disk that buffers records while their
+ * actual destination (e.g. a database) is unavailable or too slow.
+ *
+ * <p>
+ * Records are appended to fixed-size segment files. Reading happens in FIFO
+ * order via {@link #poll(int)}; the read position is persisted, so records
+ * survive a restart. If more than 'maxSegments' segments would be required, the
+ * oldest segment is dropped.
+ *
+ * <p>
+ * {@link #poll(int)} removes records from the log; it is up to the caller to
+ * handle them. Polled records that were not yet handled are lost on a crash,
+ * i.e. delivery of polled records is 'at-most-once'. Records that were not yet
+ * polled survive a regular restart.
+ *
+ * <p>
+ * Written data and the read position are forced to disk on segment rotation,
+ * on {@link #close()} and at least every {@link #FORCE_INTERVAL} milliseconds
+ * while the log is in use. A crash or power loss can therefore additionally
+ * lose records that were appended within that interval, and deliver records
+ * again that were polled within that interval.
+ *
+ * @param <T> the type of the records
+ */
+public class SpillLog<T> implements AutoCloseable {
+
+	/**
+	 * Serializes and deserializes records of a {@link SpillLog}.
+	 *
+	 * @param <T> the type of the records
+	 */
+	public static interface Codec<T> {
+
+		/**
+		 * Writes the value to the {@link DataOutput}.
+		 *
+		 * @param value the value
+		 * @param out   the {@link DataOutput}
+		 * @throws IOException on error
+		 */
+		public void encode(T value, DataOutput out) throws IOException;
+
+		/**
+		 * Reads a value from the {@link DataInput}.
+		 *
+		 * @param in the {@link DataInput}
+		 * @return the value
+		 * @throws IOException on error
+		 */
+		public T decode(DataInput in) throws IOException;
+	}
+
+	private static final String SEGMENT_PREFIX = "segment-";
+	private static final String SEGMENT_SUFFIX = ".log";
+	private static final String POSITION_FILE = "position";
+	private static final int HEADER_LENGTH = Integer.BYTES;
+
+	/** Maximum time between two forces to disk in [ms]. */
+	public static final long FORCE_INTERVAL = 1_000;
+
+	private final Logger log = LoggerFactory.getLogger(SpillLog.class);
+
+	private final Path directory;
+	private final int segmentSize;
+	private final int maxSegments;
+	private final Codec<T> codec;
+
+	private final ByteArrayOutputStream encodeBuffer = new ByteArrayOutputStream();
+	private final DataOutputStream encodeStream = new DataOutputStream(this.encodeBuffer);
+	private final TreeMap<Long, Segment> segments = new TreeMap<>();
+	private final FileChannel positionChannel;
+	private final MappedByteBuffer position;
+
+	private long size = 0;
+	private long dropped = 0;
+	private boolean isClosed = false;
+	private long lastForce = System.nanoTime();
+
+	private static class Segment {
+		private final long sequence;
+		private final Path path;
+		private final FileChannel channel;
+		private final MappedByteBuffer buffer;
+		private int writePosition = 0;
+		private int readPosition = 0;
+		private int records = 0;
+
+		private Segment(long sequence, Path path, int segmentSize) throws IOException {
+			this.sequence = sequence;
+			this.path = path;
+			this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+					StandardOpenOption.WRITE);
+			this.buffer = this.channel.map(MapMode.READ_WRITE, 0, segmentSize);
+		}
+
+		private int lengthAt(int position) {
+			if (position + HEADER_LENGTH > this.buffer.capacity()) {
+				return 0;
+			}
+			return this.buffer.getInt(position);
+		}
+
+		private void delete() {
+			try {
+				this.channel.close();
+				Files.deleteIfExists(this.path);
+			} catch (IOException e) {
+				// ignore; file is overwritten or deleted later
+			}
+		}
+	}
+
+	/**
+	 * Opens a {@link SpillLog} in the given directory. Existing records are
+	 * restored.
+	 *
+	 * @param directory   the directory; created if it does not exist
+	 * @param segmentSize the size of one segment file in [byte]
+	 * @param maxSegments the maximum number of segment files
+	 * @param codec       the {@link Codec} for the records
+	 * @throws IOException on error
+	 */
+	public SpillLog(Path directory, int segmentSize, int maxSegments, Codec<T> codec) throws IOException {
+		this.directory = directory;
+		this.segmentSize = segmentSize;
+		this.maxSegments = Math.max(1, maxSegments);
+		this.codec = codec;
+
+		Files.createDirectories(directory);
+		this.positionChannel = FileChannel.open(directory.resolve(POSITION_FILE), StandardOpenOption.CREATE,
+				StandardOpenOption.READ, StandardOpenOption.WRITE);
+		this.position = this.positionChannel.map(MapMode.READ_WRITE, 0, Long.BYTES + Integer.BYTES);
+		this.restore();
+	}
+
+	private void restore() throws IOException {
+		final var readSequence = this.position.getLong(0);
+		final var readPosition = this.position.getInt(Long.BYTES);
+
+		try (var files = Files.list(this.directory)) {
+			for (var path : (Iterable<Path>) files::iterator) {
+				var name = path.getFileName().toString();
+				if (!name.startsWith(SEGMENT_PREFIX) || !name.endsWith(SEGMENT_SUFFIX)) {
+					continue;
+				}
+				long sequence;
+				try {
+					sequence = Long.parseLong(
+							name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+				} catch (NumberFormatException e) {
+					continue;
+				}
+				if (sequence < readSequence || Files.size(path) != this.segmentSize) {
+					// Already completely read or not created by this SpillLog
+					Files.deleteIfExists(path);
+					continue;
+				}
+				var segment = new Segment(sequence, path, this.segmentSize);
+				if (sequence == readSequence) {
+					segment.readPosition = readPosition;
+				}
+				this.segments.put(sequence, segment);
+			}
+		}
+
+		// Scan restored segments
+		for (var segment : this.segments.values()) {
+			var pos = 0;
+			int length;
+			while ((length = segment.lengthAt(pos)) > 0 && pos + HEADER_LENGTH + length <= this.segmentSize) {
+				pos += HEADER_LENGTH + length;
+				if (pos > segment.readPosition) {
+					segment.records++;
+				}
+			}
+			segment.writePosition = pos;
+			segment.readPosition = Math.min(segment.readPosition, pos);
+			this.size += segment.records;
+		}
+		if (this.size > 0) {
+			this.log.info("Restored [" + this.size + "] records from " + this.directory);
+		}
+	}
+
+	/**
+	 * Appends a record.
+	 *
+	 * @param value the record
+	 * @return true on success; false if the record could not be written
+	 */
+	public synchronized boolean append(T value) {
+		if (this.isClosed) {
+			return false;
+		}
+		try {
+			this.encodeBuffer.reset();
+			this.codec.encode(value, this.encodeStream);
+			this.encodeStream.flush();
+			final var length = this.encodeBuffer.size();
+			if (length == 0 || HEADER_LENGTH + length > this.segmentSize) {
+				this.log.warn("Unable to spill record of [" + length + "] bytes to " + this.directory);
+				return false;
+			}
+
+			var segment = this.segments.isEmpty() ? null : this.segments.lastEntry().getValue();
+			if (segment == null || segment.writePosition + HEADER_LENGTH + length > this.segmentSize) {
+				segment = this.addSegment(segment == null ? this.position.getLong(0) : segment.sequence + 1);
+			}
+
+			// Write data first; the length acts as commit marker
+			final var pos = segment.writePosition;
+			segment.buffer.put(pos + HEADER_LENGTH, this.encodeBuffer.toByteArray());
+			segment.buffer.putInt(pos, length);
+			segment.writePosition = pos + HEADER_LENGTH + length;
+			segment.records++;
+			this.size++;
+			this.forceIfDue();
+			return true;
+
+		} catch (IOException e) {
+			this.log.warn("Unable to spill record to " + this.directory + ": " + e.getMessage());
+			return false;
+		}
+	}
+
+	/**
+	 * Appends records.
+	 *
+	 * @param values the records
+	 * @return the number of successfully appended records
+	 */
+	public synchronized int appendAll(Collection<? extends T> values) {
+		var result = 0;
+		for (var value : values) {
+			if (this.append(value)) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+	private Segment addSegment(long sequence) throws IOException {
+		if (!this.segments.isEmpty()) {
+			// Previous segment is complete
+			this.segments.lastEntry().getValue().buffer.force();
+		}
+		while (this.segments.size() >= this.maxSegments) {
+			// Evict oldest segment
+			var oldest = this.segments.pollFirstEntry().getValue();
+			this.size -= oldest.records;
+			this.dropped += oldest.records;
+			oldest.delete();
+			this.log.warn("SpillLog " + this.directory + " is full. Dropped [" + oldest.records + "] records");
+			if (!this.segments.isEmpty()) {
+				this.storePosition(this.segments.firstKey(), this.segments.firstEntry().getValue().readPosition);
+			}
+		}
+		var segment = new Segment(sequence, this.directory.resolve(SEGMENT_PREFIX + sequence + SEGMENT_SUFFIX),
+				this.segmentSize);
+		this.segments.put(sequence, segment);
+		if (this.segments.size() == 1) {
+			this.storePosition(sequence, 0);
+		}
+		return segment;
+	}
+
+	/**
+	 * Retrieves and removes up to 'maxRecords' of the oldest records.
+	 *
+	 * @param maxRecords the maximum number of records
+	 * @return a list of records; empty if there are no records
+	 */
+	public synchronized List<T> poll(int maxRecords) {
+		var result = new ArrayList<T>(Math.min(maxRecords, (int) Math.min(this.size, Integer.MAX_VALUE)));
+		while (!this.isClosed && result.size() < maxRecords && !this.segments.isEmpty()) {
+			var segment = this.segments.firstEntry().getValue();
+			var length = segment.lengthAt(segment.readPosition);
+			if (length <= 0 || segment.readPosition >= segment.writePosition) {
+				if (segment == this.segments.lastEntry().getValue()) {
+					// Nothing more to read
+					break;
+				}
+				// Segment is completely read
+				this.segments.pollFirstEntry();
+				segment.delete();
+				var next = this.segments.firstEntry().getValue();
+				this.storePosition(next.sequence, next.readPosition);
+				continue;
+			}
+
+			var bytes = new byte[length];
+			segment.buffer.get(segment.readPosition + HEADER_LENGTH, bytes);
+			segment.readPosition += HEADER_LENGTH + length;
+			segment.records--;
+			this.size--;
+			try {
+				result.add(this.codec.decode(new DataInputStream(new ByteArrayInputStream(bytes))));
+			} catch (IOException e) {
+				this.log.warn("Unable to decode spilled record from " + this.directory + ": " + e.getMessage());
+			}
+		}
+		if (!this.segments.isEmpty()) {
+			var head = this.segments.firstEntry().getValue();
+			this.storePosition(head.sequence, head.readPosition);
+		}
+		this.forceIfDue();
+		return result;
+	}
+
+	/**
+	 * Forces the current segment and the read position to disk, if
+	 * {@link #FORCE_INTERVAL} passed since the last force.
+	 *
+	 * <p>
+	 * Called on every {@link #append(Object)} and {@link #poll(int)}; owners
+	 * should additionally call it regularly while the log is idle.
+	 */
+	public synchronized void forceIfDue() {
+		if (this.isClosed) {
+			return;
+		}
+		final var now = System.nanoTime();
+		if (now - this.lastForce < FORCE_INTERVAL * 1_000_000) {
+			return;
+		}
+		this.lastForce = now;
+		this.force();
+	}
+
+	/**
+	 * Forces the current segment and the read position to disk.
+	 */
+	public synchronized void force() {
+		if (this.isClosed) {
+			return;
+		}
+		if (!this.segments.isEmpty()) {
+			this.segments.lastEntry().getValue().buffer.force();
+		}
+		this.position.force();
+	}
+
+	private void storePosition(long sequence, int readPosition) {
+		this.position.putLong(0, sequence);
+		this.position.putInt(Long.BYTES, readPosition);
+	}
+
+	/**
+	 * Gets the number of records in the backlog.
+	 *
+	 * @return the number of records
+	 */
+	public synchronized long size() {
+		return this.size;
+	}
+
+	/**
+	 * Gets the size of the backlog on disk in [byte].
+	 *
+	 * @return the size in bytes
+	 */
+	public synchronized long sizeInBytes() {
+		var result = 0L;
+		for (var segment : this.segments.values()) {
+			result += segment.writePosition - segment.readPosition;
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the number of records that were dropped because the {@link SpillLog}
+	 * was full.
+	 *
+	 * @return the number of dropped records
+	 */
+	public synchronized long getDropped() {
+		return this.dropped;
+	}
+
+	/**
+	 * Flushes all data to disk and closes the {@link SpillLog}.
+	 */
+	@Override
+	public synchronized void close() {
+		if (this.isClosed) {
+			return;
+		}
+		this.isClosed = true;
+		for (var segment : this.segments.values()) {
+			try {
+				segment.buffer.force();
+				segment.channel.close();
+			} catch (IOException e) {
+				this.log.warn("Unable to close " + segment.path + ": " + e.getMessage());
+			}
+		}
+		try {
+			this.position.force();
+			this.positionChannel.close();
+		} catch (IOException e) {
+			this.log.warn("Unable to close " + this.directory + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Creates a debug log output.
+	 *
+	 * @return a String
+	 */
+	public synchronized String debugLog() {
+		return new StringBuilder() //
+				.append("Spill:").append(this.size) //
+				.append("|").append(this.sizeInBytes() / 1024).append("kB") //
+				.append(this.dropped > 0 ? "|Dropped:" + this.dropped : "") //
+				.toString();
+	}
+}
@@ -101,6 +101,12 @@ public abstract class AbstractWebsocketClient<T extends WsData> extends Abstract
 						.append("] closed. Code [").append(code) //
 						.append("] Reason [").append(reason).append("]") //
 						.toString());
+				if (code == CloseFrame.TRY_AGAIN_LATER) {
+					var retryAfter = WebsocketUtils.parseRetryAfterReason(reason);
+					if (retryAfter != null) {
+						AbstractWebsocketClient.this.reconnectorWorker.setRetryAfter(retryAfter);
+					}
+				}
 				AbstractWebsocketClient.this.reconnectorWorker.triggerNextRun();
 			}
 		};
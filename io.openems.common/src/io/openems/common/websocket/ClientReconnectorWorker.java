@@ -25,6 +25,7 @@ public class ClientReconnectorWorker extends AbstractWorker {
 	private static final int CONNECT_TIMEOUT_SECONDS = 100;
 	private static final int MAX_WAIT_SECONDS = 100;
 	private static final int MIN_WAIT_SECONDS = 10;
+	private static final int MAX_CYCLE_TIME = 2 * 60 * 1000; /* 2 minutes */
 
 	private static final long MIN_WAIT_SECONDS_BETWEEN_RETRIES = new Random()
 			.nextInt(ClientReconnectorWorker.MAX_WAIT_SECONDS) + ClientReconnectorWorker.MIN_WAIT_SECONDS;
@@ -33,6 +34,12 @@ public class ClientReconnectorWorker extends AbstractWorker {
 	private final AbstractWebsocketClient<?> parent;
 	private Instant lastTry = Instant.MIN;
 
+	/**
+	 * The earliest time for the next reconnect as advertised by the server; or
+	 * null.
+	 */
+	private volatile Instant retryAfter = null;
+
 	public ClientReconnectorWorker(AbstractWebsocketClient<?> parent) {
 		this.parent = parent;
 	}
@@ -46,7 +53,17 @@ public class ClientReconnectorWorker extends AbstractWorker {
 
 		var start = Instant.now();
 		var waitedSeconds = Duration.between(this.lastTry, start).getSeconds();
-		if (waitedSeconds < ClientReconnectorWorker.MIN_WAIT_SECONDS_BETWEEN_RETRIES) {
+		var retryAfter = this.retryAfter;
+		if (retryAfter != null) {
+			if (start.isBefore(retryAfter)) {
+				this.parent.logInfo(this.log, "Waiting till next WebSocket reconnect as advertised by server ["
+						+ Duration.between(start, retryAfter).toSeconds() + "s]");
+				return;
+			}
+			// Server-advertised delay replaces the random delay between retries
+			this.retryAfter = null;
+
+		} else if (waitedSeconds < ClientReconnectorWorker.MIN_WAIT_SECONDS_BETWEEN_RETRIES) {
 			this.parent.logInfo(this.log, "Waiting till next WebSocket reconnect ["
 					+ (ClientReconnectorWorker.MIN_WAIT_SECONDS_BETWEEN_RETRIES - waitedSeconds) + "s]");
 			return;
@@ -174,9 +191,25 @@ public class ClientReconnectorWorker extends AbstractWorker {
 		engineField.set(ws, newEngine);
 	}
 
+	/**
+	 * Sets the delay advertised by the server, after which the next reconnect
+	 * should be tried. The delay replaces the random delay between retries.
+	 *
+	 * @param retryAfterSeconds the delay in [s]
+	 */
+	public void setRetryAfter(long retryAfterSeconds) {
+		this.retryAfter = Instant.now().plusSeconds(Math.max(0, retryAfterSeconds));
+	}
+
 	@Override
 	protected int getCycleTime() {
-		return 2 * 60 * 1000; /* 2 minutes */
+		var retryAfter = this.retryAfter;
+		if (retryAfter != null) {
+			// Wake up when the server-advertised delay is over
+			var remaining = Duration.between(Instant.now(), retryAfter).toMillis();
+			return (int) Math.max(1000, Math.min(remaining, MAX_CYCLE_TIME));
+		}
+		return MAX_CYCLE_TIME;
 	}
 
 }
@@ -69,4 +69,44 @@ public class WebsocketUtils {
 		}
 		return wsData.toString();
 	}
+
+	private static final String RETRY_AFTER = "retry-after=";
+
+	/**
+	 * Builds the reason of a {@link org.java_websocket.framing.CloseFrame} that
+	 * advertises a delay after which the client may reconnect.
+	 *
+	 * @param message           a human readable message
+	 * @param retryAfterSeconds the delay in [s]
+	 * @return the reason String
+	 */
+	public static String buildRetryAfterReason(String message, long retryAfterSeconds) {
+		return message + " [" + RETRY_AFTER + retryAfterSeconds + "]";
+	}
+
+	/**
+	 * Parses the delay advertised via
+	 * {@link #buildRetryAfterReason(String, long)}.
+	 *
+	 * @param reason the reason of the {@link org.java_websocket.framing.CloseFrame}
+	 * @return the delay in [s]; or null if the reason does not advertise a delay
+	 */
+	public static Long parseRetryAfterReason(String reason) {
+		if (reason == null) {
+			return null;
+		}
+		var start = reason.lastIndexOf(RETRY_AFTER);
+		if (start < 0) {
+			return null;
+		}
+		start += RETRY_AFTER.length();
+		var end = start;
+		while (end < reason.length() && Character.isDigit(reason.charAt(end))) {
+			end++;
+		}
+		if (end == start || end - start > 9) {
+			return null;
+		}
+		return Long.parseLong(reason.substring(start, end));
+	}
 }
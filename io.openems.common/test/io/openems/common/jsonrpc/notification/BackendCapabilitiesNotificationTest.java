@@ -0,0 +1,26 @@
+package io.openems.common.jsonrpc.notification;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+
+public class BackendCapabilitiesNotificationTest {
+
+	@Test
+	public void testFrom() throws OpenemsNamedException {
+		var notification = new BackendCapabilitiesNotification(Set.of(EdgeConfigDeltaNotification.METHOD));
+
+		// Serialize and parse like via websocket
+		var parsed = BackendCapabilitiesNotification
+				.from(GenericJsonrpcNotification.from(notification.toJsonObject()));
+		assertTrue(parsed.hasCapability(EdgeConfigDeltaNotification.METHOD));
+		assertFalse(parsed.hasCapability("foo"));
+	}
+
+}
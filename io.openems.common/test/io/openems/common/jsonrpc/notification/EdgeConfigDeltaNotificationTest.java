@@ -0,0 +1,65 @@
+package io.openems.common.jsonrpc.notification;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.types.EdgeConfig;
+import io.openems.common.utils.JsonUtils;
+
+public class EdgeConfigDeltaNotificationTest {
+
+	private static EdgeConfig.Component component(String id, String ip) {
+		return new EdgeConfig.Component(id, id, "Component.Foo", JsonUtils.buildJsonObject() //
+				.addProperty("ip", ip) //
+				.build());
+	}
+
+	private static EdgeConfig config(EdgeConfig.Component... components) {
+		var builder = EdgeConfig.ActualEdgeConfig.create() //
+				.addFactory("Component.Foo", new EdgeConfig.Factory("Component.Foo", "Foo", "", //
+						new EdgeConfig.Factory.Property[0], new String[] { "io.openems.Foo" }));
+		for (var component : components) {
+			builder.addComponent(component.getId(), component);
+		}
+		return builder.buildEdgeConfig();
+	}
+
+	@Test
+	public void testEmpty() {
+		var oldConfig = config(component("foo0", "10.0.0.1"));
+		var newConfig = config(component("foo0", "10.0.0.1"));
+		assertTrue(EdgeConfigDeltaNotification.from(newConfig, oldConfig).isEmpty());
+	}
+
+	@Test
+	public void testApplyTo() throws OpenemsNamedException {
+		var oldConfig = config(component("foo0", "10.0.0.1"), component("foo1", "10.0.0.2"));
+		var newConfig = config(component("foo0", "10.0.0.3"), component("foo2", "10.0.0.4"));
+
+		var delta = EdgeConfigDeltaNotification.from(newConfig, oldConfig);
+		assertFalse(delta.isEmpty());
+		assertEquals(3, delta.getParams().getAsJsonObject("components").size());
+		assertEquals(0, delta.getParams().getAsJsonObject("factories").size());
+
+		// Serialize and parse like via websocket
+		var parsed = EdgeConfigDeltaNotification.from(GenericJsonrpcNotification.from(delta.toJsonObject()));
+		var result = parsed.applyTo(EdgeConfig.fromJson(oldConfig.toJson()));
+		assertEquals(newConfig.toJson(), result.toJson());
+	}
+
+	@Test
+	public void testRemoveFactory() throws OpenemsNamedException {
+		var oldConfig = config(component("foo0", "10.0.0.1"));
+		var newConfig = config();
+
+		var result = EdgeConfigDeltaNotification.from(newConfig, oldConfig).applyTo(oldConfig);
+		assertTrue(result.getComponents().isEmpty());
+		assertEquals(newConfig.toJson(), result.toJson());
+	}
+
+}
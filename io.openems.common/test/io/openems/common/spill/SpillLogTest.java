@@ -0,0 +1,97 @@
+package io.openems.common.spill;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.openems.common.spill.SpillLog.Codec;
+
+public class SpillLogTest {
+
+	private static final Codec<Long> CODEC = new Codec<>() {
+
+		@Override
+		public void encode(Long value, DataOutput out) throws IOException {
+			out.writeLong(value);
+		}
+
+		@Override
+		public Long decode(DataInput in) throws IOException {
+			return in.readLong();
+		}
+	};
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testAppendAndPoll() throws IOException {
+		try (var spillLog = new SpillLog<>(this.folder.getRoot().toPath(), 1024, 10, CODEC)) {
+			assertEquals(0, spillLog.poll(10).size());
+			for (var i = 0L; i < 200; i++) {
+				assertTrue(spillLog.append(i));
+			}
+			assertEquals(200, spillLog.size());
+			assertEquals(List.of(0L, 1L, 2L), spillLog.poll(3));
+			assertEquals(197, spillLog.size());
+
+			// Read across segments
+			var values = spillLog.poll(1000);
+			assertEquals(197, values.size());
+			assertEquals(3L, (long) values.get(0));
+			assertEquals(199L, (long) values.get(196));
+			assertEquals(0, spillLog.size());
+		}
+	}
+
+	@Test
+	public void testRestore() throws IOException {
+		var directory = this.folder.getRoot().toPath();
+		try (var spillLog = new SpillLog<>(directory, 1024, 10, CODEC)) {
+			spillLog.appendAll(List.of(1L, 2L, 3L, 4L));
+			assertEquals(List.of(1L), spillLog.poll(1));
+		}
+		try (var spillLog = new SpillLog<>(directory, 1024, 10, CODEC)) {
+			assertEquals(3, spillLog.size());
+			assertEquals(List.of(2L, 3L, 4L), spillLog.poll(10));
+		}
+	}
+
+	@Test
+	public void testDropOldestSegment() throws IOException {
+		// 12 bytes per record -> 5 records per segment
+		try (var spillLog = new SpillLog<>(this.folder.getRoot().toPath(), 64, 2, CODEC)) {
+			for (var i = 0L; i < 11; i++) {
+				spillLog.append(i);
+			}
+			assertEquals(5, spillLog.getDropped());
+			assertEquals(6, spillLog.size());
+			assertEquals(5L, (long) spillLog.poll(1).get(0));
+		}
+	}
+
+	@Test
+	public void testForce() throws IOException {
+		var directory = this.folder.getRoot().toPath();
+		var spillLog = new SpillLog<>(directory, 64, 10, CODEC);
+		spillLog.appendAll(List.of(1L, 2L));
+		spillLog.force();
+		spillLog.close();
+
+		// No-op after close
+		spillLog.force();
+		spillLog.forceIfDue();
+		try (var restored = new SpillLog<>(directory, 64, 10, CODEC)) {
+			assertEquals(List.of(1L, 2L), restored.poll(10));
+		}
+	}
+
+}
@@ -0,0 +1,21 @@
+package io.openems.common.websocket;
+
+import static io.openems.common.websocket.WebsocketUtils.buildRetryAfterReason;
+import static io.openems.common.websocket.WebsocketUtils.parseRetryAfterReason;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class WebsocketUtilsTest {
+
+	@Test
+	public void testRetryAfterReason() {
+		assertEquals(42L, (long) parseRetryAfterReason(buildRetryAfterReason("Backend is busy.", 42)));
+		assertNull(parseRetryAfterReason(null));
+		assertNull(parseRetryAfterReason("Metadata is not yet initialized."));
+		assertNull(parseRetryAfterReason("[retry-after=]"));
+		assertNull(parseRetryAfterReason("[retry-after=99999999999999999999]"));
+	}
+
+}
@@ -1,14 +1,19 @@
 package io.openems.edge.bridge.http;
 
-import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.ServiceScope;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.bridge.http.api.BridgeHttpExecutor;
 import io.openems.edge.bridge.http.time.DelayTimeProvider.Delay;
@@ -16,12 +21,40 @@ import io.openems.edge.bridge.http.time.DelayTimeProvider.Delay;
 @Component(scope = ServiceScope.PROTOTYPE)
 public class AsyncBridgeHttpExecutor implements BridgeHttpExecutor {
 
+	private static final int KEEP_ALIVE = 60; // [s]
+
+	/**
+	 * Only used to trigger scheduled tasks; the tasks itself are executed in the
+	 * {@link #pool}.
+	 */
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * Starts a thread per concurrently running request, so a slow device never
+	 * blocks requests to other devices. Idle threads are terminated after
+	 * {@link #KEEP_ALIVE}.
+	 */
 	// TODO change to java 21 virtual threads
-	private final ScheduledExecutorService pool = Executors.newScheduledThreadPool(0);
+	private final ExecutorService pool;
+
+	public AsyncBridgeHttpExecutor() {
+		final var scheduler = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder() //
+				.setNameFormat("BridgeHttp-Scheduler-%d") //
+				.setDaemon(true) //
+				.build());
+		scheduler.setRemoveOnCancelPolicy(true);
+		this.scheduler = scheduler;
+		this.pool = new ThreadPoolExecutor(0, Integer.MAX_VALUE, KEEP_ALIVE, TimeUnit.SECONDS,
+				new SynchronousQueue<>(), new ThreadFactoryBuilder() //
+						.setNameFormat("BridgeHttp-%d") //
+						.setDaemon(true) //
+						.build());
+	}
 
 	@Override
 	public ScheduledFuture<?> schedule(Runnable task, Delay.DurationDelay durationDelay) {
-		return this.pool.schedule(task, durationDelay.getDuration().toMillis(), TimeUnit.MILLISECONDS);
+		return this.scheduler.schedule(() -> this.pool.execute(task), durationDelay.getDuration().toMillis(),
+				TimeUnit.MILLISECONDS);
 	}
 
 	@Override
@@ -36,6 +69,7 @@ public class AsyncBridgeHttpExecutor implements BridgeHttpExecutor {
 
 	@Deactivate
 	private void deactivate() {
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.scheduler, 0);
 		ThreadPoolUtils.shutdownAndAwaitTermination(this.pool, 0);
 	}
 
@@ -170,6 +170,11 @@ public class BridgeHttpImpl implements BridgeHttp {
 		this.timeEndpoints.clear();
 	}
 
+	@Override
+	public String debugLog() {
+		return this.urlFetcher.debugLog();
+	}
+
 	@Override
 	public CycleEndpoint subscribeCycle(CycleEndpoint endpoint) {
 		Objects.requireNonNull(endpoint, "CycleEndpoint is not allowed to be null!");
@@ -213,6 +218,22 @@ public class BridgeHttpImpl implements BridgeHttp {
 		return future;
 	}
 
+	@Override
+	public CompletableFuture<HttpResponse<byte[]>> requestBytes(Endpoint endpoint) {
+		final var future = new CompletableFuture<HttpResponse<byte[]>>();
+		this.pool.execute(() -> {
+			try {
+				final var result = this.urlFetcher.fetchEndpointBytes(endpoint);
+				future.complete(result);
+			} catch (HttpError e) {
+				future.completeExceptionally(e);
+			} catch (Exception e) {
+				future.completeExceptionally(new HttpError.UnknownError(e));
+			}
+		});
+		return future;
+	}
+
 	private void handleEvent(Event event) {
 		switch (event.getTopic()) {
 		// TODO: Execute before TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, like modbus bridge
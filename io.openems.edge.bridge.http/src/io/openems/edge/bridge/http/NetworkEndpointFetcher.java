@@ -1,13 +1,22 @@
 package io.openems.edge.bridge.http;
 
-import static java.util.stream.Collectors.joining;
-
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.net.HttpURLConnection;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.osgi.service.component.annotations.Component;
 
@@ -15,48 +24,210 @@ import io.openems.common.types.HttpStatus;
 import io.openems.edge.bridge.http.api.BridgeHttp.Endpoint;
 import io.openems.edge.bridge.http.api.EndpointFetcher;
 import io.openems.edge.bridge.http.api.HttpError;
+import io.openems.edge.bridge.http.api.HttpMethod;
 import io.openems.edge.bridge.http.api.HttpResponse;
 
+/**
+ * Fetches {@link Endpoint Endpoints} using a shared {@link HttpClient}, which
+ * keeps connections alive and reuses them for following requests to the same
+ * host.
+ *
+ * <p>
+ * This fetcher is shared by all {@link BridgeHttpImpl} instances. Identical
+ * GET requests, e.g. of several Components reading the same device status
+ * every Cycle, share one in-flight request. The number of concurrent requests
+ * per host is limited, as many devices only handle few connections.
+ */
 @Component
 public class NetworkEndpointFetcher implements EndpointFetcher {
 
+	protected static final int MAX_CONCURRENT_REQUESTS_PER_HOST = 4;
+
+	private static record RequestKey(String url, HttpMethod method, String body, Map<String, String> properties) {
+	}
+
+	/**
+	 * {@link HttpClient HttpClients} by connect timeout; the connect timeout can
+	 * only be set per {@link HttpClient}.
+	 */
+	private final Map<Integer, HttpClient> clients = new ConcurrentHashMap<>();
+	private final Map<RequestKey, CompletableFuture<HttpResponse<byte[]>>> inFlightRequests = new ConcurrentHashMap<>();
+	private final Map<String, Semaphore> hostPermits = new ConcurrentHashMap<>();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicLong deduplicated = new AtomicLong();
+	private final AtomicLong timedOut = new AtomicLong();
+
 	@Override
 	public HttpResponse<String> fetchEndpoint(final Endpoint endpoint) throws HttpError {
+		final var response = this.fetchEndpointBytes(endpoint);
+		return response.withData(new String(response.data(), StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>
+	 * The returned byte array may be shared with other callers and must not be
+	 * modified.
+	 */
+	@Override
+	public HttpResponse<byte[]> fetchEndpointBytes(final Endpoint endpoint) throws HttpError {
+		if (endpoint.method() != HttpMethod.GET) {
+			// Only deduplicate requests without side effects
+			return this.send(endpoint);
+		}
+
+		final var key = new RequestKey(endpoint.url(), endpoint.method(), endpoint.body(), endpoint.properties());
+		final var future = new CompletableFuture<HttpResponse<byte[]>>();
+		final var existing = this.inFlightRequests.putIfAbsent(key, future);
+		if (existing != null) {
+			this.deduplicated.incrementAndGet();
+			return await(existing);
+		}
+
+		try {
+			final var response = this.send(endpoint);
+			future.complete(response);
+			return response;
+		} catch (HttpError | RuntimeException e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			this.inFlightRequests.remove(key, future);
+		}
+	}
+
+	private static HttpResponse<byte[]> await(CompletableFuture<HttpResponse<byte[]>> future) throws HttpError {
 		try {
-			var url = URI.create(endpoint.url()).toURL();
-			var con = (HttpURLConnection) url.openConnection();
-			con.setRequestMethod(endpoint.method().name());
-			con.setConnectTimeout(endpoint.connectTimeout());
-			con.setReadTimeout(endpoint.readTimeout());
-
-			endpoint.properties().forEach(con::setRequestProperty);
-
-			if (endpoint.method().isBodyAllowed() && endpoint.body() != null) {
-				con.setDoOutput(true);
-				try (var os = con.getOutputStream(); //
-						var osw = new OutputStreamWriter(os, "UTF-8")) {
-					osw.write(endpoint.body());
-					osw.flush();
-				}
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new HttpError.UnknownError(e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof HttpError he) {
+				throw he;
 			}
+			throw new HttpError.UnknownError(e.getCause());
+		}
+	}
 
-			final var status = HttpStatus.fromCodeOrCustom(con.getResponseCode(), con.getResponseMessage());
+	private HttpResponse<byte[]> send(Endpoint endpoint) throws HttpError {
+		try {
+			final var request = buildRequest(endpoint);
+			final var permits = this.hostPermits.computeIfAbsent(getHost(request.uri()),
+					t -> new Semaphore(MAX_CONCURRENT_REQUESTS_PER_HOST));
+			if (endpoint.readTimeout() <= 0) {
+				// No read timeout; wait without limit, like the request itself
+				permits.acquire();
+			} else if (!permits.tryAcquire(endpoint.readTimeout(), TimeUnit.MILLISECONDS)) {
+				// Counted as timed out below
+				throw new HttpTimeoutException("Too many concurrent requests to host [" + request.uri().getHost() + "]");
+			}
 
-			String body;
-			try (var in = new BufferedReader(new InputStreamReader(con.getInputStream()))) {
-				// Read HTTP response
-				body = in.lines().collect(joining(System.lineSeparator()));
-			} catch (IOException e) {
-				throw new HttpError.ResponseError(status, null);
+			final java.net.http.HttpResponse<byte[]> response;
+			this.inFlight.incrementAndGet();
+			try {
+				response = this.getClient(endpoint.connectTimeout()).send(request, BodyHandlers.ofByteArray());
+			} finally {
+				this.inFlight.decrementAndGet();
+				permits.release();
 			}
 
+			final var status = HttpStatus.fromCodeOrCustom(response.statusCode(), null);
 			if (status.isError()) {
-				throw new HttpError.ResponseError(status, body);
+				throw new HttpError.ResponseError(status, new String(response.body(), StandardCharsets.UTF_8));
 			}
-			return new HttpResponse<>(status, body);
-		} catch (IOException e) {
+			return new HttpResponse<>(status, response.body());
+		} catch (HttpTimeoutException e) {
+			this.timedOut.incrementAndGet();
+			throw new HttpError.UnknownError(e);
+		} catch (IOException | IllegalArgumentException e) {
+			throw new HttpError.UnknownError(e);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
 			throw new HttpError.UnknownError(e);
 		}
 	}
 
+	private HttpClient getClient(int connectTimeout) {
+		return this.clients.computeIfAbsent(connectTimeout, t -> {
+			var builder = HttpClient.newBuilder() //
+					.version(HttpClient.Version.HTTP_1_1) //
+					.followRedirects(HttpClient.Redirect.NORMAL);
+			if (connectTimeout > 0) {
+				builder.connectTimeout(Duration.ofMillis(connectTimeout));
+			}
+			return builder.build();
+		});
+	}
+
+	private static String getHost(URI uri) {
+		return uri.getHost() + ":" + uri.getPort();
+	}
+
+	private static HttpRequest buildRequest(Endpoint endpoint) {
+		final var builder = HttpRequest.newBuilder(URI.create(endpoint.url()));
+		if (endpoint.readTimeout() > 0) {
+			builder.timeout(Duration.ofMillis(endpoint.readTimeout()));
+		}
+
+		endpoint.properties().forEach((key, value) -> {
+			try {
+				builder.header(key, value);
+			} catch (IllegalArgumentException e) {
+				// Restricted header, e.g. 'Connection' or 'Host'; handled by HttpClient
+			}
+		});
+
+		if (endpoint.method().isBodyAllowed() && endpoint.body() != null) {
+			builder.method(endpoint.method().name(), BodyPublishers.ofString(endpoint.body(), StandardCharsets.UTF_8));
+		} else {
+			builder.method(endpoint.method().name(), BodyPublishers.noBody());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Gets the number of requests that are currently in flight.
+	 *
+	 * @return the number of requests
+	 */
+	public int getInFlightRequests() {
+		return this.inFlight.get();
+	}
+
+	/**
+	 * Gets the number of requests that were answered by sharing an identical
+	 * in-flight request.
+	 *
+	 * @return the number of requests since start
+	 */
+	public long getDeduplicatedRequests() {
+		return this.deduplicated.get();
+	}
+
+	/**
+	 * Gets the number of requests that timed out, either waiting for a free
+	 * connection to the host or waiting for the response.
+	 *
+	 * @return the number of requests since start
+	 */
+	public long getTimedOutRequests() {
+		return this.timedOut.get();
+	}
+
+	@Override
+	public String debugLog() {
+		return "InFlight:" + this.inFlight.get() //
+				+ "|Deduplicated:" + this.deduplicated.get() //
+				+ "|TimedOut:" + this.timedOut.get();
+	}
+
+	@Override
+	public String toString() {
+		return "NetworkEndpointFetcher [inFlight=" + this.inFlight.get() + ", deduplicated=" + this.deduplicated.get()
+				+ ", timedOut=" + this.timedOut.get() + "]";
+	}
+
 }
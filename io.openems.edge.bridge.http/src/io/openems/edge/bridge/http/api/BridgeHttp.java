@@ -2,6 +2,7 @@ package io.openems.edge.bridge.http.api;
 
 import static java.util.Collections.emptyMap;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
@@ -209,6 +210,30 @@ public interface BridgeHttp extends BridgeHttpCycle, BridgeHttpTime {
 		return mapFuture(this.request(endpoint), BridgeHttp::mapToJson);
 	}
 
+	/**
+	 * Fetches the url once and returns the raw bytes of the response body.
+	 * 
+	 * <p>
+	 * Use this for large or binary responses, to avoid decoding the body to a
+	 * String first.
+	 * 
+	 * @param endpoint the {@link Endpoint} to fetch
+	 * @return the result response future
+	 */
+	public default CompletableFuture<HttpResponse<byte[]>> requestBytes(Endpoint endpoint) {
+		return mapFuture(this.request(endpoint), t -> t.withData(t.data().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Gets statistics of the requests of the shared {@link EndpointFetcher}, e.g.
+	 * to be added to the debug log of a Component.
+	 * 
+	 * @return the statistics; null if there are none
+	 */
+	public default String debugLog() {
+		return null;
+	}
+
 	private static HttpResponse<JsonElement> mapToJson(HttpResponse<String> origin) throws OpenemsNamedException {
 		return origin.withData(JsonUtils.parse(origin.data()));
 	}
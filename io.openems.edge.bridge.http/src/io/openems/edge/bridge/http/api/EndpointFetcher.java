@@ -1,5 +1,7 @@
 package io.openems.edge.bridge.http.api;
 
+import java.nio.charset.StandardCharsets;
+
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.edge.bridge.http.api.BridgeHttp.Endpoint;
 
@@ -15,4 +17,28 @@ public interface EndpointFetcher {
 	 */
 	public HttpResponse<String> fetchEndpoint(Endpoint endpoint) throws HttpError;
 
+	/**
+	 * Executes a request with the given parameters and returns the raw bytes of
+	 * the response body.
+	 * 
+	 * @param endpoint the {@link Endpoint} to fetch
+	 * 
+	 * @return the result of the {@link Endpoint}
+	 * @throws HttpError on error
+	 */
+	public default HttpResponse<byte[]> fetchEndpointBytes(Endpoint endpoint) throws HttpError {
+		final var response = this.fetchEndpoint(endpoint);
+		return response.withData(response.data() == null ? null : response.data().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Gets statistics of the requests for the debug log, e.g. the number of
+	 * requests in flight.
+	 * 
+	 * @return the statistics; null if there are none
+	 */
+	public default String debugLog() {
+		return null;
+	}
+
 }
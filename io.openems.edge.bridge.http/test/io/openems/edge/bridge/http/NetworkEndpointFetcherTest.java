@@ -0,0 +1,154 @@
+package io.openems.edge.bridge.http;
+
+import static java.util.Collections.emptyMap;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.openems.common.types.HttpStatus;
+import io.openems.edge.bridge.http.api.BridgeHttp;
+import io.openems.edge.bridge.http.api.BridgeHttp.Endpoint;
+import io.openems.edge.bridge.http.api.HttpError;
+import io.openems.edge.bridge.http.api.HttpMethod;
+
+public class NetworkEndpointFetcherTest {
+
+	private final NetworkEndpointFetcher fetcher = new NetworkEndpointFetcher();
+	private final AtomicInteger slowRequests = new AtomicInteger();
+
+	private HttpServer server;
+	private String url;
+
+	@Before
+	public void before() throws IOException {
+		this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		this.server.createContext("/echo", exchange -> {
+			var request = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+			var response = (exchange.getRequestMethod() + " " + exchange.getRequestHeaders().getFirst("X-Test")
+					+ " " + request + "\nline2\n").getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, response.length);
+			exchange.getResponseBody().write(response);
+			exchange.close();
+		});
+		this.server.createContext("/error", exchange -> {
+			var response = "failed".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(500, response.length);
+			exchange.getResponseBody().write(response);
+			exchange.close();
+		});
+		this.server.createContext("/slow", exchange -> {
+			this.slowRequests.incrementAndGet();
+			// Wait for the other requests to join the in-flight request
+			for (var i = 0; i < 500 && this.fetcher.getDeduplicatedRequests() < 2; i++) {
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					break;
+				}
+			}
+			var response = "slow".getBytes(StandardCharsets.UTF_8);
+			exchange.sendResponseHeaders(200, response.length);
+			exchange.getResponseBody().write(response);
+			exchange.close();
+		});
+		this.server.createContext("/timeout", exchange -> {
+			try {
+				Thread.sleep(1_000);
+			} catch (InterruptedException e) {
+				// ignore
+			}
+			exchange.close();
+		});
+		this.server.start();
+		this.url = "http://127.0.0.1:" + this.server.getAddress().getPort();
+	}
+
+	@After
+	public void after() {
+		this.server.stop(0);
+	}
+
+	@Test
+	public void testFetchEndpoint() throws HttpError {
+		final var fetcher = new NetworkEndpointFetcher();
+		for (var i = 0; i < 3; i++) {
+			final var response = fetcher.fetchEndpoint(new Endpoint(this.url + "/echo", HttpMethod.POST,
+					BridgeHttp.DEFAULT_CONNECT_TIMEOUT, BridgeHttp.DEFAULT_READ_TIMEOUT, "body",
+					Map.of("X-Test", "header")));
+			assertEquals(HttpStatus.OK, response.status());
+			assertEquals("POST header body\nline2\n", response.data());
+		}
+
+		final var bytes = fetcher.fetchEndpointBytes(new Endpoint(this.url + "/echo", HttpMethod.GET,
+				BridgeHttp.DEFAULT_CONNECT_TIMEOUT, BridgeHttp.DEFAULT_READ_TIMEOUT, null, emptyMap()));
+		assertEquals("GET null \nline2\n", new String(bytes.data(), StandardCharsets.UTF_8));
+	}
+
+	@Test
+	public void testDeduplicate() throws Exception {
+		final var endpoint = new Endpoint(this.url + "/slow", HttpMethod.GET, BridgeHttp.DEFAULT_CONNECT_TIMEOUT,
+				BridgeHttp.DEFAULT_READ_TIMEOUT, null, emptyMap());
+		final var futures = new CompletableFuture<?>[3];
+		for (var i = 0; i < futures.length; i++) {
+			futures[i] = CompletableFuture.supplyAsync(() -> {
+				try {
+					return this.fetcher.fetchEndpoint(endpoint).data();
+				} catch (HttpError e) {
+					throw new RuntimeException(e);
+				}
+			});
+		}
+		for (var future : futures) {
+			assertEquals("slow", future.get());
+		}
+
+		assertEquals(1, this.slowRequests.get());
+		assertEquals(2, this.fetcher.getDeduplicatedRequests());
+		assertEquals(0, this.fetcher.getInFlightRequests());
+
+		// Following request is sent again
+		this.fetcher.fetchEndpoint(endpoint);
+		assertEquals(2, this.slowRequests.get());
+	}
+
+	@Test
+	public void testTimeout() {
+		try {
+			this.fetcher.fetchEndpoint(new Endpoint(this.url + "/timeout", HttpMethod.GET,
+					BridgeHttp.DEFAULT_CONNECT_TIMEOUT, 100, null, emptyMap()));
+			fail();
+		} catch (HttpError e) {
+			// expected
+		}
+		assertEquals(1, this.fetcher.getTimedOutRequests());
+		assertEquals("InFlight:0|Deduplicated:0|TimedOut:1", this.fetcher.debugLog());
+	}
+
+	@Test
+	public void testFetchEndpointError() {
+		final var fetcher = new NetworkEndpointFetcher();
+		try {
+			fetcher.fetchEndpoint(new Endpoint(this.url + "/error", HttpMethod.GET, BridgeHttp.DEFAULT_CONNECT_TIMEOUT,
+					BridgeHttp.DEFAULT_READ_TIMEOUT, null, emptyMap()));
+			fail();
+		} catch (HttpError.ResponseError e) {
+			assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, e.status);
+			assertEquals("failed", e.body);
+		} catch (HttpError e) {
+			fail(e.getMessage());
+		}
+	}
+
+}
@@ -52,6 +52,15 @@ public class BridgeHttpTest {
 		assertEquals(successJson(), this.bridgeHttp.getJson("dummy").get().data());
 	}
 
+	@Test
+	public void testRequestBytes() throws Exception {
+		this.fetcher.addEndpointHandler(assertExact("dummy", HttpMethod.GET));
+		assertEquals("success", new String(this.bridgeHttp
+				.requestBytes(new Endpoint("dummy", HttpMethod.GET, BridgeHttp.DEFAULT_CONNECT_TIMEOUT,
+						BridgeHttp.DEFAULT_READ_TIMEOUT, null, emptyMap())) //
+				.get().data()));
+	}
+
 	@Test
 	public void testPut() throws Exception {
 		this.fetcher.addEndpointHandler(assertExact("dummy", HttpMethod.PUT));
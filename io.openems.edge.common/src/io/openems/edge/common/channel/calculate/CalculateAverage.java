@@ -46,6 +46,16 @@ public class CalculateAverage {
 		}
 	}
 
+	/**
+	 * Removes all values, to reuse this instance for the next calculation.
+	 *
+	 * @return myself
+	 */
+	public CalculateAverage reset() {
+		this.values.clear();
+		return this;
+	}
+
 	/**
 	 * Calculates the average.
 	 *
@@ -49,6 +49,16 @@ public class CalculateIntegerSum {
 		}
 	}
 
+	/**
+	 * Removes all values, to reuse this instance for the next calculation.
+	 *
+	 * @return myself
+	 */
+	public CalculateIntegerSum reset() {
+		this.values.clear();
+		return this;
+	}
+
 	/**
 	 * Calculates the sum.
 	 *
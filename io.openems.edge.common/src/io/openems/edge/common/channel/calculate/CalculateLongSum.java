@@ -35,6 +35,16 @@ public class CalculateLongSum {
 		}
 	}
 
+	/**
+	 * Removes all values, to reuse this instance for the next calculation.
+	 *
+	 * @return myself
+	 */
+	public CalculateLongSum reset() {
+		this.values.clear();
+		return this;
+	}
+
 	/**
 	 * Calculates the sum.
 	 *
@@ -132,6 +132,17 @@ public interface OpenemsComponent {
 	@Deprecated()
 	public Channel<?> _channel(String channelName);
 
+	/**
+	 * Returns an undefined Channel defined by its ChannelId string representation;
+	 * or null if the Channel is not defined, e.g. for lookups of user input.
+	 *
+	 * @param channelName the Channel-ID as a string
+	 * @return the Channel or null
+	 */
+	default Channel<?> channelOrNull(String channelName) {
+		return this._channel(channelName);
+	}
+
 	/**
 	 * Returns a Channel defined by its ChannelId string representation.
 	 *
@@ -657,6 +657,86 @@ public interface Sum extends OpenemsComponent {
 	 */
 	public void updateChannelsBeforeProcessImage();
 
+	/**
+	 * Immutable values of the most important {@link Sum} Channels within one
+	 * Cycle.
+	 *
+	 * <p>
+	 * Values are null if they are not available, like
+	 * {@link Value#get()}.
+	 */
+	public static record Snapshot(//
+			Integer essSoc, //
+			Integer essActivePower, //
+			Integer essReactivePower, //
+			Integer essMaxApparentPower, //
+			Integer essCapacity, //
+			Integer essDischargePower, //
+			GridMode gridMode, //
+			Integer gridActivePower, //
+			Integer productionActivePower, //
+			Integer productionAcActivePower, //
+			Integer productionDcActualPower, //
+			Integer consumptionActivePower, //
+			Integer unmanagedConsumptionActivePower //
+	) {
+
+		/**
+		 * Creates a {@link Snapshot} from the current Channel values of the given
+		 * {@link Sum}.
+		 *
+		 * @param sum the {@link Sum}
+		 * @return the {@link Snapshot}
+		 */
+		public static Snapshot from(Sum sum) {
+			return new Snapshot(//
+					sum.getEssSoc().get(), //
+					sum.getEssActivePower().get(), //
+					sum.getEssReactivePower().get(), //
+					sum.getEssMaxApparentPower().get(), //
+					sum.getEssCapacity().get(), //
+					sum.getEssDischargePower().get(), //
+					sum.getGridMode(), //
+					sum.getGridActivePower().get(), //
+					sum.getProductionActivePower().get(), //
+					sum.getProductionAcActivePower().get(), //
+					sum.getProductionDcActualPower().get(), //
+					sum.getConsumptionActivePower().get(), //
+					sum.getUnmanagedConsumptionActivePower().get());
+		}
+	}
+
+	/**
+	 * Gets a {@link Snapshot} of the current Cycle.
+	 *
+	 * <p>
+	 * Use this instead of reading the Channels one-by-one, if a Controller
+	 * requires more than a few {@link Sum} values.
+	 *
+	 * @return the {@link Snapshot}
+	 */
+	public default Snapshot getSnapshot() {
+		return Snapshot.from(this);
+	}
+
+	/**
+	 * Gets the Snapshot of a Component of the current Cycle, i.e. the values the
+	 * {@link Sum} was calculated from.
+	 *
+	 * <p>
+	 * Snapshots are available for ESS, meter and EVCS Components, e.g.
+	 * {@code sum.getSnapshot("ess0", SymmetricEss.Snapshot.class)}.
+	 *
+	 * @param <T>         the type of the Snapshot
+	 * @param componentId the Component-ID
+	 * @param type        the type of the Snapshot
+	 * @return the Snapshot; null if there is no Snapshot of this type for the
+	 *         Component
+	 */
+	public default <T extends Record> T getSnapshot(String componentId, Class<T> type) {
+		return null;
+	}
+
 	/**
 	 * Used for Modbus/TCP Api Controller. Provides a Modbus table for the Channels
 	 * of this Component.
@@ -29,10 +29,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonObject;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcNotification;
+import io.openems.common.jsonrpc.base.JsonrpcNotification;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseSuccess;
+import io.openems.common.jsonrpc.notification.BackendCapabilitiesNotification;
+import io.openems.common.jsonrpc.notification.EdgeConfigDeltaNotification;
 import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.oem.OpenemsEdgeOem;
 import io.openems.common.types.EdgeConfig;
@@ -92,6 +97,17 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 	protected Config config;
 	/** Used for SubscribeSystemLogRequests. */
 	private ScheduledExecutorService executor;
+	/**
+	 * The {@link EdgeConfig#toJson()} last sent via the current connection; null
+	 * if the full {@link EdgeConfig} has to be sent. A snapshot, as the
+	 * {@link EdgeConfig} itself is updated in place.
+	 */
+	private JsonObject lastSentConfig = null;
+	/**
+	 * Does the Backend of the current connection support
+	 * {@link EdgeConfigDeltaNotification}s?.
+	 */
+	private volatile boolean isEdgeConfigDeltaSupported = false;
 
 	public ControllerApiBackendImpl() {
 		super(//
@@ -210,14 +226,11 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 				break;
 
 			case EdgeEventConstants.TOPIC_CONFIG_UPDATE:
-				// Send new EdgeConfig
+				// Send changes of EdgeConfig
 				var config = (EdgeConfig) event.getProperty(EdgeEventConstants.TOPIC_CONFIG_UPDATE_KEY);
-				var message = new EdgeConfigNotification(config);
-				var ws = this.websocket;
-				if (ws == null) {
+				if (!this.sendEdgeConfig(config, false)) {
 					return;
 				}
-				ws.sendMessage(message);
 
 				// Trigger sending of all channel values, because a Component might have
 				// disappeared
@@ -228,6 +241,75 @@ public class ControllerApiBackendImpl extends AbstractOpenemsComponent
 		}
 	}
 
+	/**
+	 * Sets the {@link BackendCapabilitiesNotification} of the current connection.
+	 *
+	 * @param capabilities the {@link BackendCapabilitiesNotification}; null on
+	 *                     disconnect
+	 */
+	protected void setBackendCapabilities(BackendCapabilitiesNotification capabilities) {
+		this.isEdgeConfigDeltaSupported = capabilities != null
+				&& capabilities.hasCapability(EdgeConfigDeltaNotification.METHOD);
+	}
+
+	/**
+	 * Sends the {@link EdgeConfig} to the Backend. If the Backend supports
+	 * {@link EdgeConfigDeltaNotification}s and already received an
+	 * {@link EdgeConfig} via the current connection, only the changes are sent.
+	 *
+	 * @param config the {@link EdgeConfig}
+	 * @param full   force sending the full {@link EdgeConfig}, e.g. on a new
+	 *               connection
+	 * @return true if a message was sent
+	 */
+	protected synchronized boolean sendEdgeConfig(EdgeConfig config, boolean full) {
+		var ws = this.websocket;
+		if (ws == null) {
+			return false;
+		}
+		var json = config.toJson();
+		var message = buildEdgeConfigMessage(json, full ? null : this.lastSentConfig,
+				this.isEdgeConfigDeltaSupported);
+		if (message == null) {
+			return false;
+		}
+		if (ws.sendMessage(message)) {
+			this.lastSentConfig = json;
+			return true;
+		}
+		this.lastSentConfig = null;
+		return false;
+	}
+
+	/**
+	 * Builds the message to send an {@link EdgeConfig}.
+	 *
+	 * @param config         the {@link EdgeConfig#toJson()}
+	 * @param lastSentConfig the {@link EdgeConfig#toJson()} last sent via the
+	 *                       current connection; null to send the full
+	 *                       {@link EdgeConfig}
+	 * @param deltaSupported does the Backend support
+	 *                       {@link EdgeConfigDeltaNotification}s?
+	 * @return an {@link EdgeConfigNotification} or
+	 *         {@link EdgeConfigDeltaNotification}; null if nothing changed
+	 */
+	protected static JsonrpcNotification buildEdgeConfigMessage(JsonObject config, JsonObject lastSentConfig,
+			boolean deltaSupported) {
+		if (lastSentConfig == null) {
+			return new GenericJsonrpcNotification(EdgeConfigNotification.METHOD, config);
+		}
+		if (!deltaSupported) {
+			return config.equals(lastSentConfig) //
+					? null //
+					: new GenericJsonrpcNotification(EdgeConfigNotification.METHOD, config);
+		}
+		var delta = EdgeConfigDeltaNotification.from(config, lastSentConfig);
+		if (delta.isEmpty()) {
+			return null;
+		}
+		return delta;
+	}
+
 	@Override
 	public boolean isConnected() {
 		return Optional.ofNullable(this.websocket) //
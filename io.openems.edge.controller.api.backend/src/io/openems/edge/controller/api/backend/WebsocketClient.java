@@ -35,6 +35,7 @@ public class WebsocketClient extends AbstractWebsocketClient<WsData> {
 			this.log.error("Disconnected from OpenEMS Backend [" + serverUri.toString() //
 					+ (proxy != AbstractWebsocketClient.NO_PROXY ? " via Proxy" : "") + "]");
 			this.parent.getUnableToSendChannel().setNextValue(true);
+			this.parent.setBackendCapabilities(null);
 		};
 	}
 
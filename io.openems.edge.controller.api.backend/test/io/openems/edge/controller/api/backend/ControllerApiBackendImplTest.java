@@ -1,14 +1,28 @@
 package io.openems.edge.controller.api.backend;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
 import java.net.Proxy.Type;
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.junit.Test;
 
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.channel.AccessMode;
 import io.openems.common.channel.PersistencePriority;
+import io.openems.common.channel.Unit;
+import io.openems.common.jsonrpc.notification.EdgeConfigDeltaNotification;
+import io.openems.common.jsonrpc.notification.EdgeConfigNotification;
 import io.openems.common.oem.DummyOpenemsEdgeOem;
 import io.openems.common.test.TimeLeapClock;
+import io.openems.common.types.EdgeConfig;
+import io.openems.common.types.OpenemsType;
 import io.openems.common.websocket.DummyWebsocketServer;
 import io.openems.edge.common.sum.DummySum;
 import io.openems.edge.common.test.ComponentTest;
@@ -60,4 +74,40 @@ public class ControllerApiBackendImplTest {
 		}
 	}
 
+	@Test
+	public void testBuildEdgeConfigMessage() {
+		var component = new EdgeConfig.Component("meter0", "meter0", "Meter.Foo", new TreeMap<>(), new TreeMap<>());
+		var config = EdgeConfig.ActualEdgeConfig.create() //
+				.addComponent("meter0", component) //
+				.buildEdgeConfig();
+
+		// Full EdgeConfig on a new connection
+		var lastSent = config.toJson();
+		assertEquals(EdgeConfigNotification.METHOD,
+				ControllerApiBackendImpl.buildEdgeConfigMessage(lastSent, null, true).getMethod());
+
+		// Unchanged
+		assertNull(ControllerApiBackendImpl.buildEdgeConfigMessage(config.toJson(), lastSent, true));
+		assertNull(ControllerApiBackendImpl.buildEdgeConfigMessage(config.toJson(), lastSent, false));
+
+		// The Component is updated in place and shared with the next EdgeConfig, like
+		// in the EdgeConfigWorker
+		component.setChannels(Map.of("ActivePower", new EdgeConfig.Component.Channel("ActivePower",
+				OpenemsType.INTEGER, AccessMode.READ_ONLY, "", Unit.WATT,
+				new EdgeConfig.Component.Channel.ChannelDetailOpenemsType(PersistencePriority.HIGH))));
+		component.getProperties().put("modbusUnitId", new JsonPrimitive(5));
+		var nextConfig = EdgeConfig.ActualEdgeConfig.create() //
+				.addComponent("meter0", component) //
+				.buildEdgeConfig();
+
+		var message = ControllerApiBackendImpl.buildEdgeConfigMessage(nextConfig.toJson(), lastSent, true);
+		assertTrue(message instanceof EdgeConfigDeltaNotification);
+
+		// Full EdgeConfig if the Backend does not support deltas
+		assertEquals(EdgeConfigNotification.METHOD,
+				ControllerApiBackendImpl.buildEdgeConfigMessage(nextConfig.toJson(), lastSent, false).getMethod());
+		assertEquals(new JsonPrimitive(5), message.getParams().getAsJsonObject("components") //
+				.getAsJsonObject("meter0").getAsJsonObject("properties").get("modbusUnitId"));
+	}
+
 }
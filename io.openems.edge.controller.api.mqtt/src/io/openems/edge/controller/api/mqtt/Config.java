@@ -47,6 +47,18 @@ import io.openems.common.channel.PersistencePriority;
 	@AttributeDefinition(name = "Persistence Priority", description = "Send only Channels with a Persistence Priority greater-or-equals this.")
 	PersistencePriority persistencePriority() default PersistencePriority.VERY_LOW;
 
+	@AttributeDefinition(name = "Channel Filter", description = "Send only Channels matching one of these Channel-Addresses, e.g. 'ess0/*' or '_sum/Ess*'. Empty sends all Channels.")
+	String[] channelFilter() default {};
+
+	@AttributeDefinition(name = "Batch Mode", description = "Send one JsonObject per Component with all its Channel values to 'channel/<Component-ID>' instead of one message per Channel.")
+	boolean batchMode() default false;
+
+	@AttributeDefinition(name = "QoS", description = "MQTT Quality of Service for Channel values: 0 = at most once; 1 = at least once")
+	int qos() default 0;
+
+	@AttributeDefinition(name = "Max In-Flight Messages", description = "Maximum number of messages that are sent without waiting for the acknowledgement of the broker.")
+	int maxInflight() default 10;
+
 	@AttributeDefinition(name = "Debug Mode", description = "Activates the debug mode")
 	boolean debugMode() default false;
 
@@ -3,13 +3,19 @@ package io.openems.edge.controller.api.mqtt;
 import static io.openems.common.utils.ThreadPoolUtils.shutdownAndAwaitTermination;
 
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.paho.mqttv5.client.IMqttClient;
+import org.eclipse.paho.mqttv5.client.IMqttToken;
+import org.eclipse.paho.mqttv5.client.MqttActionListener;
 import org.eclipse.paho.mqttv5.common.MqttException;
 import org.eclipse.paho.mqttv5.common.MqttMessage;
 import org.eclipse.paho.mqttv5.common.packet.MqttProperties;
@@ -30,12 +36,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.types.ChannelAddress;
 import io.openems.common.types.EdgeConfig;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.controller.api.Controller;
+import io.openems.edge.controller.api.mqtt.MqttConnector.AsyncPublishMqttClient;
 import io.openems.edge.timedata.api.Timedata;
 
 @Designate(ocd = Config.class, factory = true)
@@ -56,6 +64,7 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 	private static final long INITIAL_RECONNECT_DELAY_SECONDS = 5;
 	private static final long MAX_RECONNECT_DELAY_SECONDS = 300; // 5 minutes maximum delay.
 	private static final double RECONNECT_DELAY_MULTIPLIER = 1.5;
+	private static final long PUBLISH_TIMEOUT_SECONDS = 30;
 
 	private final Logger log = LoggerFactory.getLogger(ControllerApiMqttImpl.class);
 	private final ScheduledExecutorService scheduledExecutorService = Executors.newSingleThreadScheduledExecutor();
@@ -64,9 +73,11 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 	private final MqttConnector mqttConnector = new MqttConnector();
 
 	protected Config config;
+	protected List<ChannelAddress> channelFilters = List.of();
 
 	private volatile ScheduledFuture<?> reconnectFuture = null;
 	private String topicPrefix;
+	private Semaphore inflightWindow = new Semaphore(1);
 	private IMqttClient mqttClient = null;
 
 	@Reference(policy = ReferencePolicy.DYNAMIC, policyOption = ReferencePolicyOption.GREEDY, cardinality = ReferenceCardinality.OPTIONAL)
@@ -89,6 +100,8 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 
 		// Publish MQTT messages under the topic "edge/edge0/..."
 		this.topicPrefix = createTopicPrefix(config);
+		this.channelFilters = parseChannelFilters(config.channelFilter());
+		this.inflightWindow = new Semaphore(Math.max(1, config.maxInflight()));
 
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.mqttConnector.connect(config.uri(), config.clientId(), config.username(), config.password(),
@@ -124,6 +137,26 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 		return b.toString();
 	}
 
+	/**
+	 * Parses the configured Channel filters.
+	 *
+	 * @param channelFilter the Channel-Addresses, possibly with wildcards
+	 * @return a list of {@link ChannelAddress}es; empty for no filter
+	 * @throws OpenemsNamedException on parse error
+	 */
+	protected static List<ChannelAddress> parseChannelFilters(String[] channelFilter) throws OpenemsNamedException {
+		if (channelFilter == null) {
+			return List.of();
+		}
+		var result = new ArrayList<ChannelAddress>();
+		for (var filter : channelFilter) {
+			if (filter != null && !filter.isBlank()) {
+				result.add(ChannelAddress.fromString(filter.trim()));
+			}
+		}
+		return List.copyOf(result);
+	}
+
 	@Override
 	@Deactivate
 	protected void deactivate() {
@@ -216,6 +249,62 @@ public class ControllerApiMqttImpl extends AbstractOpenemsComponent
 		return this.publish(subTopic, msg);
 	}
 
+	/**
+	 * Publish a message to a topic without waiting for the acknowledgement of the
+	 * broker.
+	 *
+	 * <p>
+	 * At most {@link Config#maxInflight()} messages are in-flight at the same
+	 * time; further calls block until a previous message was delivered.
+	 *
+	 * @param subTopic the MQTT topic. The global MQTT Topic prefix is added in
+	 *                 front of this string
+	 * @param message  the {@link MqttMessage}
+	 * @return a future that completes with true if message was successfully
+	 *         published; false otherwise
+	 */
+	protected CompletableFuture<Boolean> publishAsync(String subTopic, MqttMessage message) {
+		final var result = new CompletableFuture<Boolean>() //
+				.completeOnTimeout(false, PUBLISH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+		if (!(this.mqttClient instanceof AsyncPublishMqttClient mqttClient)) {
+			result.complete(false);
+			return result;
+		}
+		final var inflightWindow = this.inflightWindow;
+		try {
+			if (!inflightWindow.tryAcquire(PUBLISH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+				this.logWarn(this.log, "Timeout while waiting for in-flight MQTT messages");
+				result.complete(false);
+				return result;
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			result.complete(false);
+			return result;
+		}
+		try {
+			mqttClient.publishAsync(this.topicPrefix + subTopic, message, new MqttActionListener() {
+
+				@Override
+				public void onSuccess(IMqttToken token) {
+					inflightWindow.release();
+					result.complete(true);
+				}
+
+				@Override
+				public void onFailure(IMqttToken token, Throwable e) {
+					inflightWindow.release();
+					result.complete(false);
+				}
+			});
+		} catch (MqttException e) {
+			inflightWindow.release();
+			this.logWarn(this.log, e.getMessage());
+			result.complete(false);
+		}
+		return result;
+	}
+
 	private synchronized void scheduleReconnect() {
 		if (this.reconnectFuture != null && !this.reconnectFuture.isDone()) {
 			this.reconnectFuture.cancel(false);
@@ -11,10 +11,13 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.paho.mqttv5.client.IMqttClient;
+import org.eclipse.paho.mqttv5.client.IMqttToken;
+import org.eclipse.paho.mqttv5.client.MqttActionListener;
 import org.eclipse.paho.mqttv5.client.MqttCallback;
 import org.eclipse.paho.mqttv5.client.MqttClient;
 import org.eclipse.paho.mqttv5.client.MqttConnectionOptions;
 import org.eclipse.paho.mqttv5.common.MqttException;
+import org.eclipse.paho.mqttv5.common.MqttMessage;
 
 /**
  * This helper class wraps a connection to an MQTT broker.
@@ -58,6 +61,32 @@ public class MqttConnector {
 		}
 	}
 
+	/**
+	 * A {@link MqttClient} that additionally allows to publish without blocking
+	 * until the broker acknowledged the message. This allows multiple QoS 1
+	 * messages to be in-flight at the same time.
+	 */
+	protected static class AsyncPublishMqttClient extends MqttClient {
+
+		public AsyncPublishMqttClient(String serverUri, String clientId) throws MqttException {
+			super(serverUri, clientId);
+		}
+
+		/**
+		 * Publishes a message without waiting for its delivery.
+		 *
+		 * @param topic    the MQTT topic
+		 * @param message  the {@link MqttMessage}
+		 * @param callback the {@link MqttActionListener}; called on delivery or error
+		 * @return the {@link IMqttToken}
+		 * @throws MqttException on error
+		 */
+		public IMqttToken publishAsync(String topic, MqttMessage message, MqttActionListener callback)
+				throws MqttException {
+			return this.aClient.publish(topic, message, null, callback);
+		}
+	}
+
 	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
 
 	private MyConnector connector;
@@ -76,7 +105,7 @@ public class MqttConnector {
 	protected synchronized CompletableFuture<IMqttClient> connect(String serverUri, String clientId, String username,
 			String password, String certPem, String privateKeyPem, String trustStorePem, MqttCallback callback)
 			throws IllegalArgumentException, MqttException {
-		IMqttClient client = new MqttClient(serverUri, clientId);
+		IMqttClient client = new AsyncPublishMqttClient(serverUri, clientId);
 		if (callback != null) {
 			client.setCallback(callback);
 		}
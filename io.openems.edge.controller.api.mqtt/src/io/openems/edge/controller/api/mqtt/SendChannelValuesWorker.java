@@ -1,5 +1,6 @@
 package io.openems.edge.controller.api.mqtt;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -8,10 +9,12 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import org.eclipse.paho.mqttv5.common.MqttMessage;
 import org.eclipse.paho.mqttv5.common.packet.MqttProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,8 +23,10 @@ import com.google.common.collect.ImmutableTable;
 import com.google.common.collect.Table;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 
 import io.openems.common.channel.AccessMode;
+import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.StringUtils;
 import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.edge.common.component.OpenemsComponent;
@@ -34,10 +39,15 @@ import io.openems.edge.common.component.OpenemsComponent;
  * <p>
  * The logic tries to send changed values once per Cycle and all values once
  * every {@link #SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS}.
+ *
+ * <p>
+ * Only Channels matching {@link Config#channelFilter()} are sent. In
+ * {@link Config#batchMode()} all values of a Component are sent as one
+ * JsonObject if any of its values changed. Messages are published without
+ * blocking on each acknowledgement, limited by {@link Config#maxInflight()}.
  */
 public class SendChannelValuesWorker {
 
-	private static final int MQTT_QOS = 0; // loss is ok
 	private static final boolean MQTT_RETAIN = true; // send last value to subscriber
 	private static final int SEND_VALUES_OF_ALL_CHANNELS_AFTER_SECONDS = 300; /* 5 minutes */
 	private static final MqttProperties MQTT_PROPERTIES;
@@ -119,7 +129,9 @@ public class SendChannelValuesWorker {
 					channel.channelDoc().getAccessMode() != AccessMode.WRITE_ONLY //
 							// Ignore Low-Priority Channels
 							&& channel.channelDoc().getPersistencePriority()
-									.isAtLeast(this.parent.config.persistencePriority()))
+									.isAtLeast(this.parent.config.persistencePriority()) //
+							// Ignore Channels not matching the filter
+							&& matchesChannelFilters(channel.address(), this.parent.channelFilters))
 					.collect(ImmutableTable.toImmutableTable(c -> c.address().getComponentId(),
 							c -> c.address().getChannelId(), c -> c.value().asJson()));
 			// TODO remove values for disappeared components
@@ -141,6 +153,25 @@ public class SendChannelValuesWorker {
 		}
 	}
 
+	/**
+	 * Checks if a {@link ChannelAddress} matches any of the Channel filters.
+	 *
+	 * @param address        the {@link ChannelAddress}
+	 * @param channelFilters the Channel filters; empty matches all
+	 * @return true if the Channel should be sent
+	 */
+	protected static boolean matchesChannelFilters(ChannelAddress address, List<ChannelAddress> channelFilters) {
+		if (channelFilters.isEmpty()) {
+			return true;
+		}
+		for (var filter : channelFilters) {
+			if (ChannelAddress.match(address, filter) >= 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/*
 	 * From here things run asynchronously.
 	 */
@@ -181,22 +212,36 @@ public class SendChannelValuesWorker {
 			}
 
 			// Send changed values
-			var allSendSuccessful = true;
+			final var batchMode = this.parent.parent.config.batchMode();
+			List<CompletableFuture<Boolean>> results = new ArrayList<>();
 			List<String> sendTopics = new ArrayList<>();
 			for (Entry<String, Map<String, JsonElement>> row : this.allValues.rowMap().entrySet()) {
+				if (batchMode) {
+					if (row.getValue().entrySet().stream().anyMatch(column -> !Objects.equals(column.getValue(),
+							lastAllValues.get(row.getKey(), column.getKey())))) {
+						var values = new JsonObject();
+						row.getValue().forEach(values::add);
+						sendTopics.add(row.getKey());
+						results.add(this.publish(row.getKey(), values.toString()));
+					}
+					continue;
+				}
 				for (Entry<String, JsonElement> column : row.getValue().entrySet()) {
 					if (!Objects.equals(column.getValue(), lastAllValues.get(row.getKey(), column.getKey()))) {
 						var subtopic = row.getKey() + "/" + column.getKey();
 						sendTopics.add(subtopic);
-						if (!this.publish(row.getKey() + "/" + column.getKey(), column.getValue().toString())) {
-							allSendSuccessful = false;
-						}
+						results.add(this.publish(subtopic, column.getValue().toString()));
 					}
 				}
 			}
 
 			// Update lastUpdate timestamp
-			this.publish(ControllerApiMqtt.TOPIC_CHANNEL_LAST_UPDATE, String.valueOf(this.timestamp));
+			results.add(this.publish(ControllerApiMqtt.TOPIC_CHANNEL_LAST_UPDATE, String.valueOf(this.timestamp)));
+
+			// Wait for all messages in-flight
+			var allSendSuccessful = results.stream() //
+					.map(CompletableFuture::join) //
+					.reduce(true, Boolean::logicalAnd);
 
 			// Successful?
 			if (allSendSuccessful) {
@@ -220,14 +265,13 @@ public class SendChannelValuesWorker {
 		 *
 		 * @param subTopic the Channel Subtopic
 		 * @param value    the value Json.toString()
-		 * @return true if sent successfully; false otherwise
+		 * @return a future that completes with true if sent successfully; false
+		 *         otherwise
 		 */
-		private boolean publish(String subTopic, String value) {
-			return this.parent.parent.publish(//
-					/* topic */ ControllerApiMqtt.TOPIC_CHANNEL_PREFIX + subTopic, //
-					/* message */ value.toString(), //
-					MQTT_QOS, MQTT_RETAIN, MQTT_PROPERTIES //
-			);
+		private CompletableFuture<Boolean> publish(String subTopic, String value) {
+			var message = new MqttMessage(value.getBytes(StandardCharsets.UTF_8), //
+					this.parent.parent.config.qos(), MQTT_RETAIN, MQTT_PROPERTIES);
+			return this.parent.parent.publishAsync(ControllerApiMqtt.TOPIC_CHANNEL_PREFIX + subTopic, message);
 		}
 
 	}
@@ -1,15 +1,21 @@
 package io.openems.edge.controller.api.mqtt;
 
 import static io.openems.edge.controller.api.mqtt.ControllerApiMqttImpl.createTopicPrefix;
+import static io.openems.edge.controller.api.mqtt.ControllerApiMqttImpl.parseChannelFilters;
+import static io.openems.edge.controller.api.mqtt.SendChannelValuesWorker.matchesChannelFilters;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.time.Instant;
 import java.time.ZoneOffset;
+import java.util.List;
 
 import org.junit.Test;
 
 import io.openems.common.channel.PersistencePriority;
 import io.openems.common.test.TimeLeapClock;
+import io.openems.common.types.ChannelAddress;
 import io.openems.edge.common.sum.DummySum;
 import io.openems.edge.common.test.ComponentTest;
 import io.openems.edge.common.test.DummyComponentManager;
@@ -37,6 +43,9 @@ public class ControllerApiMqttImplTest {
 						.setCertPem("") //
 						.setPrivateKeyPem("") //
 						.setTrustStorePath("") //
+						.setChannelFilter("_sum/*") //
+						.setBatchMode(true) //
+						.setQos(1) //
 						.build());
 	}
 
@@ -55,4 +64,18 @@ public class ControllerApiMqttImplTest {
 				.setTopicPrefix(null) //
 				.build()));
 	}
-}
\ No newline at end of file
+
+	@Test
+	public void testChannelFilters() throws Exception {
+		assertTrue(parseChannelFilters(new String[0]).isEmpty());
+		assertTrue(parseChannelFilters(new String[] { " " }).isEmpty());
+
+		var filters = parseChannelFilters(new String[] { "_sum/Ess*", "meter*/ActivePower" });
+		assertEquals(2, filters.size());
+		assertTrue(matchesChannelFilters(new ChannelAddress("_sum", "EssSoc"), filters));
+		assertTrue(matchesChannelFilters(new ChannelAddress("meter1", "ActivePower"), filters));
+		assertFalse(matchesChannelFilters(new ChannelAddress("_sum", "GridActivePower"), filters));
+		assertFalse(matchesChannelFilters(new ChannelAddress("meter1", "ReactivePower"), filters));
+		assertTrue(matchesChannelFilters(new ChannelAddress("meter1", "ReactivePower"), List.of()));
+	}
+}
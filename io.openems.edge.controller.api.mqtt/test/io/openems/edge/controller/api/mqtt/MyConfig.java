@@ -18,6 +18,10 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private String certPem;
 		private String privateKeyPem;
 		private String trustStorePem;
+		private String[] channelFilter = {};
+		private boolean batchMode = false;
+		private int qos = 0;
+		private int maxInflight = 10;
 
 		private Builder() {
 		}
@@ -77,6 +81,26 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setChannelFilter(String... channelFilter) {
+			this.channelFilter = channelFilter;
+			return this;
+		}
+
+		public Builder setBatchMode(boolean batchMode) {
+			this.batchMode = batchMode;
+			return this;
+		}
+
+		public Builder setQos(int qos) {
+			this.qos = qos;
+			return this;
+		}
+
+		public Builder setMaxInflight(int maxInflight) {
+			this.maxInflight = maxInflight;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -147,4 +171,24 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 	public String trustStorePem() {
 		return this.builder.trustStorePem;
 	}
+
+	@Override
+	public String[] channelFilter() {
+		return this.builder.channelFilter;
+	}
+
+	@Override
+	public boolean batchMode() {
+		return this.builder.batchMode;
+	}
+
+	@Override
+	public int qos() {
+		return this.builder.qos;
+	}
+
+	@Override
+	public int maxInflight() {
+		return this.builder.maxInflight;
+	}
 }
\ No newline at end of file
@@ -5,8 +5,10 @@ import static java.util.stream.Collectors.joining;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
 import java.util.StringTokenizer;
 import java.util.UUID;
@@ -19,14 +21,19 @@ import org.eclipse.jetty.server.handler.AbstractHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.gson.JsonArray;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
 
 import io.openems.common.channel.AccessMode;
 import io.openems.common.exceptions.OpenemsError;
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingConsumer;
 import io.openems.common.jsonrpc.base.JsonrpcMessage;
 import io.openems.common.jsonrpc.base.JsonrpcRequest;
 import io.openems.common.jsonrpc.base.JsonrpcResponseError;
@@ -45,6 +52,49 @@ import jakarta.servlet.http.HttpServletResponse;
 
 public class RestHandler extends AbstractHandler {
 
+	private static final int CHANNEL_PATTERN_CACHE_SIZE = 256;
+	private static final Pattern LITERAL_ID = Pattern.compile("[\\w-]+");
+	private static final Gson GSON = new GsonBuilder() //
+			.serializeNulls() //
+			.disableHtmlEscaping() //
+			.create();
+
+	/**
+	 * Caches the compiled {@link ChannelPattern}s by request path, i.e.
+	 * 'Component-ID/Channel-ID'.
+	 */
+	private static final Cache<String, ChannelPattern> CHANNEL_PATTERNS = CacheBuilder.newBuilder() //
+			.maximumSize(CHANNEL_PATTERN_CACHE_SIZE) //
+			.build();
+
+	/**
+	 * A compiled {@link ChannelAddress} pattern. Patterns are null for IDs
+	 * without regular expression.
+	 */
+	private record ChannelPattern(String componentId, Pattern componentPattern, String channelId,
+			Pattern channelPattern) {
+
+		private static ChannelPattern from(ChannelAddress channelAddress) throws PatternSyntaxException {
+			return new ChannelPattern(//
+					channelAddress.getComponentId(), compile(channelAddress.getComponentId()), //
+					channelAddress.getChannelId(), compile(channelAddress.getChannelId()));
+		}
+
+		private static Pattern compile(String id) throws PatternSyntaxException {
+			if (LITERAL_ID.matcher(id).matches()) {
+				return null;
+			}
+			return Pattern.compile(id);
+		}
+
+		private boolean matchesComponent(String componentId) {
+			if (this.componentPattern == null) {
+				return this.componentId.equals(componentId);
+			}
+			return this.componentPattern.matcher(componentId).matches();
+		}
+	}
+
 	private final Logger log = LoggerFactory.getLogger(RestHandler.class);
 
 	private final AbstractRestApi parent;
@@ -152,6 +202,12 @@ public class RestHandler extends AbstractHandler {
 		case "channel":
 			return this.handleChannel(user, remainingTargets, baseRequest, request, response);
 
+		case "channels":
+			if (!request.getMethod().equals("POST")) {
+				throw new OpenemsException("Unhandled REST Channels request method [" + request.getMethod() + "]");
+			}
+			return this.handlePostChannels(user, baseRequest, response);
+
 		default:
 			throw new OpenemsException("Unhandled REST target [" + thisTarget + "]");
 		}
@@ -214,38 +270,100 @@ public class RestHandler extends AbstractHandler {
 			return false;
 		}
 
-		// Creating JSON response for all matched channels
-		var channeljson = new JsonArray();
-		for (Channel<?> channel : channels) {
-			var j = new JsonObject();
-			// name
-			j.addProperty("address", channel.address().toString());
-			// type
-			j.addProperty("type", channel.getType().name());
-			// accessMode
-			var accessMode = channel.channelDoc().getAccessMode();
-			j.addProperty("accessMode", accessMode.getAbbreviation());
-			// text
-			j.addProperty("text", channel.channelDoc().getText());
-			// unit
-			j.addProperty("unit", channel.channelDoc().getUnit().symbol);
-			// value
-			if (accessMode != AccessMode.WRITE_ONLY) {
-				j.add("value", channel.value().asJson());
+		if (this.parent.isDebugModeEnabled()) {
+			this.parent.logInfo(this.log, "REST call by User [" + user.getName() + "]: GET Channel ["
+					+ channelAddress.toString() + "] Result [" + channels.size() + " Channels]");
+		}
+
+		// Stream JSON response for all matched channels
+		return this.sendOkResponse(baseRequest, response, writer -> {
+			// if this a request for a single channel only return a single JsonObject, not
+			// an array (for compatibility to previous versions)
+			if (channels.size() == 1) {
+				writeChannel(writer, channels.get(0));
+				return;
+			}
+			writer.beginArray();
+			for (var channel : channels) {
+				writeChannel(writer, channel);
 			}
-			channeljson.add(j);
+			writer.endArray();
+		});
+	}
+
+	/**
+	 * Writes a {@link Channel} as JsonObject.
+	 *
+	 * @param writer  the {@link JsonWriter}
+	 * @param channel the {@link Channel}
+	 * @throws IOException on error
+	 */
+	private static void writeChannel(JsonWriter writer, Channel<?> channel) throws IOException {
+		var accessMode = channel.channelDoc().getAccessMode();
+		writer.beginObject() //
+				.name("address").value(channel.address().toString()) //
+				.name("type").value(channel.getType().name()) //
+				.name("accessMode").value(accessMode.getAbbreviation()) //
+				.name("text").value(channel.channelDoc().getText()) //
+				.name("unit").value(channel.channelDoc().getUnit().symbol);
+		if (accessMode != AccessMode.WRITE_ONLY) {
+			writer.name("value");
+			GSON.toJson(channel.value().asJson(), writer);
 		}
+		writer.endObject();
+	}
 
-		// if this a request for a single channel only return a single JsonObject, not
-		// an array (for compatibility to previous versions)
-		var result = channeljson.size() == 1 ? channeljson.get(0) : channeljson;
+	/**
+	 * Handles HTTP POST request to read many Channels at once.
+	 *
+	 * <p>
+	 * Request: <code>{"channels": ["_sum/EssSoc", "meter0/ActivePower"]}</code>
+	 *
+	 * <p>
+	 * Response: <code>{"_sum/EssSoc": 50, "meter0/ActivePower": 1000}</code>.
+	 * The value is null for unknown or write-only Channels.
+	 *
+	 * @param user        the {@link User}
+	 * @param baseRequest the HTTP POST base-request
+	 * @param response    the result to be returned
+	 * @return false if ok response was not sent
+	 * @throws OpenemsNamedException on error
+	 */
+	private boolean handlePostChannels(User user, Request baseRequest, HttpServletResponse response)
+			throws OpenemsNamedException {
+		user.assertRoleIsAtLeast("HTTP POST", Role.GUEST);
+
+		var jChannels = JsonUtils.getAsJsonArray(RestHandler.parseJson(baseRequest), "channels");
+		var channelAddresses = new ArrayList<ChannelAddress>(jChannels.size());
+		for (var jChannel : jChannels) {
+			channelAddresses.add(ChannelAddress.fromString(JsonUtils.getAsString(jChannel)));
+		}
+
+		// Index enabled Components by ID
+		var components = new HashMap<String, OpenemsComponent>();
+		for (var component : this.parent.getComponentManager().getEnabledComponents()) {
+			components.put(component.id(), component);
+		}
 
 		if (this.parent.isDebugModeEnabled()) {
-			this.parent.logInfo(this.log, "REST call by User [" + user.getName() + "]: GET Channel ["
-					+ channelAddress.toString() + "] Result [" + result.toString() + "]");
+			this.parent.logInfo(this.log, "REST call by User [" + user.getName() + "]: POST Channels ["
+					+ channelAddresses.size() + " Channels]");
 		}
 
-		return this.sendOkResponse(baseRequest, response, result);
+		return this.sendOkResponse(baseRequest, response, writer -> {
+			writer.beginObject();
+			for (var channelAddress : channelAddresses) {
+				writer.name(channelAddress.toString());
+				var component = components.get(channelAddress.getComponentId());
+				var channel = component == null ? null : component.channelOrNull(channelAddress.getChannelId());
+				if (channel == null || channel.channelDoc().getAccessMode() == AccessMode.WRITE_ONLY) {
+					writer.nullValue();
+				} else {
+					GSON.toJson(channel.value().asJson(), writer);
+				}
+			}
+			writer.endObject();
+		});
 	}
 
 	/**
@@ -259,11 +377,45 @@ public class RestHandler extends AbstractHandler {
 	 */
 	protected static List<Channel<?>> getChannels(List<OpenemsComponent> components, ChannelAddress channelAddress)
 			throws PatternSyntaxException {
-		return components.stream() //
-				.filter(component -> Pattern.matches(channelAddress.getComponentId(), component.id())) //
-				.flatMap(component -> component.channels().stream()) //
-				.filter(channel -> Pattern.matches(channelAddress.getChannelId(), channel.channelId().id())) //
-				.toList();
+		var pattern = getChannelPattern(channelAddress);
+		var result = new ArrayList<Channel<?>>();
+		for (var component : components) {
+			if (!pattern.matchesComponent(component.id())) {
+				continue;
+			}
+			if (pattern.channelPattern() == null) {
+				// Direct lookup for Channel-IDs without regular expression
+				var channel = component.channelOrNull(pattern.channelId());
+				if (channel != null) {
+					result.add(channel);
+				}
+				continue;
+			}
+			for (var channel : component.channels()) {
+				if (pattern.channelPattern().matcher(channel.channelId().id()).matches()) {
+					result.add(channel);
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Gets the compiled {@link ChannelPattern} for a {@link ChannelAddress} from
+	 * the cache.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @return the {@link ChannelPattern}
+	 * @throws PatternSyntaxException on regular expression error
+	 */
+	private static ChannelPattern getChannelPattern(ChannelAddress channelAddress) throws PatternSyntaxException {
+		var key = channelAddress.toString();
+		var pattern = CHANNEL_PATTERNS.getIfPresent(key);
+		if (pattern == null) {
+			pattern = ChannelPattern.from(channelAddress);
+			CHANNEL_PATTERNS.put(key, pattern);
+		}
+		return pattern;
 	}
 
 	private void sendErrorResponse(Request baseRequest, HttpServletResponse response, UUID jsonrpcId, Throwable ex) {
@@ -292,11 +444,27 @@ public class RestHandler extends AbstractHandler {
 
 	private boolean sendOkResponse(Request baseRequest, HttpServletResponse response, JsonElement data)
 			throws OpenemsException {
+		return this.sendOkResponse(baseRequest, response, writer -> GSON.toJson(data, writer));
+	}
+
+	/**
+	 * Sends an Ok-Response, streaming the JSON body directly to the response.
+	 *
+	 * @param baseRequest the HTTP base-request
+	 * @param response    the HTTP response
+	 * @param data        writes the JSON body
+	 * @return true
+	 * @throws OpenemsException on error
+	 */
+	private boolean sendOkResponse(Request baseRequest, HttpServletResponse response,
+			ThrowingConsumer<JsonWriter, IOException> data) throws OpenemsException {
 		try {
 			response.setContentType("application/json");
 			response.setStatus(HttpServletResponse.SC_OK);
 			baseRequest.setHandled(true);
-			response.getWriter().write(data.toString());
+			var writer = new JsonWriter(response.getWriter());
+			data.accept(writer);
+			writer.flush();
 			return true;
 		} catch (IOException e) {
 			throw new OpenemsException("Unable to send Ok-Response: " + e.getMessage());
@@ -48,6 +48,19 @@ public class RestHandlerTest {
 			assertEquals(dummyComponent.channel("DummyChannel"), result.get(0));
 		}
 
+		{
+			var channelAddress = new ChannelAddress("foo0", "DummyXY");
+			var result = RestHandler.getChannels(components, channelAddress);
+			assertEquals(0, result.size());
+		}
+
+		{
+			// cached pattern
+			var channelAddress = new ChannelAddress(".*0", "Dummy.*");
+			var result = RestHandler.getChannels(components, channelAddress);
+			assertEquals(2, result.size());
+		}
+
 		{
 			var channelAddress = new ChannelAddress("*", "");
 			try {
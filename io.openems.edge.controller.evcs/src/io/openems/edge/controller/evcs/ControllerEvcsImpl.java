@@ -2,6 +2,7 @@ package io.openems.edge.controller.evcs;
 
 import java.io.IOException;
 import java.time.Clock;
+import java.util.Optional;
 
 import org.osgi.service.cm.Configuration;
 import org.osgi.service.cm.ConfigurationAdmin;
@@ -141,17 +142,18 @@ public class ControllerEvcsImpl extends AbstractOpenemsComponent implements Cont
 		/*
 		 * Calculates the next charging power depending on the charge mode and priority
 		 */
+		final var sum = this.sum.getSnapshot();
 		var nextChargePower = //
 				switch (this.config.chargeMode()) {
 				case EXCESS_POWER -> //
 					switch (this.config.priority()) {
-					case CAR -> calculateChargePowerFromExcessPower(this.sum, this.evcs);
+					case CAR -> calculateChargePowerFromExcessPower(sum, this.evcs);
 					case STORAGE -> {
 						// SoC > 97 % or always, when there is no ESS is available
-						if (this.sum.getEssSoc().orElse(100) > 97) {
-							yield calculateChargePowerFromExcessPower(this.sum, this.evcs);
+						if (Optional.ofNullable(sum.essSoc()).orElse(100) > 97) {
+							yield calculateChargePowerFromExcessPower(sum, this.evcs);
 						} else {
-							yield calculateExcessPowerAfterEss(this.sum, this.evcs);
+							yield calculateExcessPowerAfterEss(sum, this.evcs);
 						}
 					}
 					};
@@ -243,14 +245,15 @@ public class ControllerEvcsImpl extends AbstractOpenemsComponent implements Cont
 	 * Calculates the next charging power, depending on the current PV production
 	 * and house consumption.
 	 *
-	 * @param sum  the {@link Sum} component
+	 * @param sum  the {@link Sum.Snapshot} of this Cycle
 	 * @param evcs Electric Vehicle Charging Station
 	 * @return the available excess power for charging
 	 * @throws OpenemsNamedException on error
 	 */
-	private static int calculateChargePowerFromExcessPower(Sum sum, ManagedEvcs evcs) throws OpenemsNamedException {
-		int buyFromGrid = sum.getGridActivePower().orElse(0);
-		int essDischarge = sum.getEssDischargePower().orElse(0);
+	private static int calculateChargePowerFromExcessPower(Sum.Snapshot sum, ManagedEvcs evcs)
+			throws OpenemsNamedException {
+		int buyFromGrid = Optional.ofNullable(sum.gridActivePower()).orElse(0);
+		int essDischarge = Optional.ofNullable(sum.essDischargePower()).orElse(0);
 		int evcsCharge = evcs.getChargePower().orElse(0);
 
 		return evcsCharge - buyFromGrid - essDischarge;
@@ -259,12 +262,12 @@ public class ControllerEvcsImpl extends AbstractOpenemsComponent implements Cont
 	/**
 	 * Calculate result depending on the current evcs power and grid power.
 	 *
-	 * @param sum  the {@link Sum} component
+	 * @param sum  the {@link Sum.Snapshot} of this Cycle
 	 * @param evcs the {@link ManagedEvcs}
 	 * @return the excess power
 	 */
-	private static int calculateExcessPowerAfterEss(Sum sum, ManagedEvcs evcs) {
-		int buyFromGrid = sum.getGridActivePower().orElse(0);
+	private static int calculateExcessPowerAfterEss(Sum.Snapshot sum, ManagedEvcs evcs) {
+		int buyFromGrid = Optional.ofNullable(sum.gridActivePower()).orElse(0);
 		int evcsCharge = evcs.getChargePower().orElse(0);
 
 		var result = evcsCharge - buyFromGrid;
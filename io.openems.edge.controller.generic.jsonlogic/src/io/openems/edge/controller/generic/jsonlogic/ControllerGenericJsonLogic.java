@@ -1,13 +1,17 @@
 package io.openems.edge.controller.generic.jsonlogic;
 
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.controller.api.Controller;
 
 public interface ControllerGenericJsonLogic extends Controller, OpenemsComponent {
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
-		;
+		EVALUATION_TIME(Doc.of(OpenemsType.LONG) //
+				.text("Time to evaluate the rule and apply its result in [us]")); //
 
 		private final Doc doc;
 
@@ -20,6 +24,35 @@ public interface ControllerGenericJsonLogic extends Controller, OpenemsComponent
 			return this.doc;
 		}
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#EVALUATION_TIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getEvaluationTimeChannel() {
+		return this.channel(ChannelId.EVALUATION_TIME);
+	}
+
+	/**
+	 * Gets the time to evaluate the rule in [us]. See
+	 * {@link ChannelId#EVALUATION_TIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getEvaluationTime() {
+		return this.getEvaluationTimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#EVALUATION_TIME}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setEvaluationTime(long value) {
+		this.getEvaluationTimeChannel().setNextValue(value);
+	}
 }
 
 // TODO: once gson version 2.8.6 or higher is compatible with OSGi on Java 8: use json-logic library
@@ -12,7 +12,12 @@ import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.ConfigurationPolicy;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.component.annotations.ReferenceCardinality;
+import org.osgi.service.component.annotations.ReferencePolicy;
+import org.osgi.service.component.annotations.ReferencePolicyOption;
 import org.osgi.service.metatype.annotations.Designate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.google.gson.JsonElement;
 
@@ -37,6 +42,7 @@ import io.openems.edge.controller.api.Controller;
 public class ControllerGenericJsonLogicImpl extends AbstractOpenemsComponent
 		implements ControllerGenericJsonLogic, Controller, OpenemsComponent {
 
+	private final Logger log = LoggerFactory.getLogger(ControllerGenericJsonLogicImpl.class);
 	private final JsonLogic jsonLogic = new JsonLogic();
 	private final List<ChannelAddress> channelAddresses = new ArrayList<>();
 
@@ -45,6 +51,18 @@ public class ControllerGenericJsonLogicImpl extends AbstractOpenemsComponent
 
 	private Config config = null;
 
+	/**
+	 * The compiled rule; null if the rule is not supported by
+	 * {@link JsonLogicRule} and has to be interpreted.
+	 */
+	private JsonLogicRule compiledRule = null;
+
+	/**
+	 * The Channels of the compiled rule have to be bound (again), e.g. because a
+	 * Component was reactivated.
+	 */
+	private volatile boolean bindRule = true;
+
 	public ControllerGenericJsonLogicImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -58,7 +76,13 @@ public class ControllerGenericJsonLogicImpl extends AbstractOpenemsComponent
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.config = config;
 
-		this.recursivelyParseVars(JsonUtils.parse(config.rule()));
+		var rule = JsonUtils.parse(config.rule());
+		try {
+			this.compiledRule = JsonLogicRule.compile(rule);
+		} catch (IllegalArgumentException e) {
+			this.logInfo(this.log, "Rule is interpreted: " + e.getMessage());
+			this.recursivelyParseVars(rule);
+		}
 	}
 
 	@Override
@@ -67,6 +91,19 @@ public class ControllerGenericJsonLogicImpl extends AbstractOpenemsComponent
 		super.deactivate();
 	}
 
+	@Reference(//
+			policy = ReferencePolicy.DYNAMIC, //
+			policyOption = ReferencePolicyOption.GREEDY, //
+			cardinality = ReferenceCardinality.MULTIPLE //
+	)
+	protected void addComponent(OpenemsComponent component) {
+		this.bindRule = true;
+	}
+
+	protected void removeComponent(OpenemsComponent component) {
+		this.bindRule = true;
+	}
+
 	/**
 	 * Parse the JsonLogic rule and try to find "var" entries.
 	 *
@@ -99,6 +136,32 @@ public class ControllerGenericJsonLogicImpl extends AbstractOpenemsComponent
 
 	@Override
 	public void run() throws OpenemsNamedException {
+		final var start = System.nanoTime();
+		try {
+			if (this.compiledRule != null) {
+				this.runCompiled();
+			} else {
+				this.runInterpreted();
+			}
+		} finally {
+			this._setEvaluationTime((System.nanoTime() - start) / 1_000);
+		}
+	}
+
+	private void runCompiled() throws OpenemsNamedException {
+		if (this.bindRule) {
+			this.bindRule = false;
+			try {
+				this.compiledRule.bind(this.componentManager);
+			} catch (OpenemsNamedException e) {
+				this.bindRule = true;
+				throw e;
+			}
+		}
+		this.compiledRule.apply();
+	}
+
+	private void runInterpreted() throws OpenemsNamedException {
 		// Read JsonLogic data from Channels
 		Map<String, Object> data = new HashMap<>();
 		for (ChannelAddress channelAddress : this.channelAddresses) {
@@ -0,0 +1,609 @@
+package io.openems.edge.controller.generic.jsonlogic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+
+import io.github.meiskalt7.jsonlogic.JsonLogic;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.common.channel.Channel;
+import io.openems.edge.common.channel.WriteChannel;
+import io.openems.edge.common.component.ComponentManager;
+
+/**
+ * A JsonLogic rule that is parsed once into a tree of expressions.
+ *
+ * <p>
+ * References to Channels via "var" and the Channels in the result are bound to
+ * the actual {@link Channel} objects by {@link #bind(ComponentManager)}.
+ * Evaluation works on these Channels directly, without building a data map or
+ * looking up Channels by their address.
+ *
+ * <p>
+ * Supported are "var", "if", "?:", "==", "!=", "===", "!==", "!", "!!", "and",
+ * "or", "&lt;", "&lt;=", "&gt;", "&gt;=", "+", "-", "*", "/", "%", "min" and
+ * "max". The result of the rule has to be an array of [Channel-Address, value]
+ * arrays, optionally chosen by "if" or "?:". Compiling any other rule fails with
+ * an {@link IllegalArgumentException}.
+ */
+public class JsonLogicRule {
+
+	private final Map<ChannelAddress, ChannelRef> channels;
+	private final Result result;
+
+	/**
+	 * Compiles a JsonLogic rule.
+	 *
+	 * @param rule the JsonLogic rule
+	 * @return the {@link JsonLogicRule}
+	 * @throws IllegalArgumentException if the rule is not supported
+	 */
+	public static JsonLogicRule compile(JsonElement rule) throws IllegalArgumentException {
+		var compiler = new Compiler();
+		var result = compiler.compileResult(rule);
+		return new JsonLogicRule(compiler.channels, result);
+	}
+
+	private JsonLogicRule(Map<ChannelAddress, ChannelRef> channels, Result result) {
+		this.channels = channels;
+		this.result = result;
+	}
+
+	/**
+	 * Binds all Channel references to the current {@link Channel} objects.
+	 *
+	 * @param componentManager the {@link ComponentManager}
+	 * @throws OpenemsNamedException if a Component or Channel is not available
+	 */
+	public void bind(ComponentManager componentManager) throws OpenemsNamedException {
+		for (var ref : this.channels.values()) {
+			ref.bind(componentManager);
+		}
+	}
+
+	/**
+	 * Gets the addresses of all Channels used by the rule.
+	 *
+	 * @return a Collection of {@link ChannelAddress}es
+	 */
+	public Collection<ChannelAddress> getChannelAddresses() {
+		return Collections.unmodifiableSet(this.channels.keySet());
+	}
+
+	/**
+	 * Evaluates the rule and sets the next write values of the resulting
+	 * Channels.
+	 *
+	 * @throws OpenemsNamedException on error
+	 */
+	public void apply() throws OpenemsNamedException {
+		this.result.apply();
+	}
+
+	private static class ChannelRef {
+		private final ChannelAddress address;
+		private boolean isWrite = false;
+		private Channel<?> channel = null;
+
+		private ChannelRef(ChannelAddress address) {
+			this.address = address;
+		}
+
+		private void bind(ComponentManager componentManager) throws OpenemsNamedException {
+			Channel<?> channel = componentManager.getChannel(this.address);
+			if (this.isWrite && !(channel instanceof WriteChannel)) {
+				throw new OpenemsException("Channel [" + this.address + "] is not writable");
+			}
+			this.channel = channel;
+		}
+	}
+
+	private static class Compiler {
+
+		private final Map<ChannelAddress, ChannelRef> channels = new HashMap<>();
+
+		private Result compileResult(JsonElement json) {
+			if (json.isJsonArray()) {
+				var actions = new ArrayList<Action>();
+				for (var element : json.getAsJsonArray()) {
+					if (!element.isJsonArray() || element.getAsJsonArray().size() != 2
+							|| !isString(element.getAsJsonArray().get(0))) {
+						throw new IllegalArgumentException(
+								"Result is not a [Channel-Address, value] array: " + element);
+					}
+					var action = element.getAsJsonArray();
+					var ref = this.getChannelRef(action.get(0).getAsString());
+					ref.isWrite = true;
+					actions.add(new Action(ref, this.compile(action.get(1))));
+				}
+				return new Actions(actions.toArray(Action[]::new));
+			}
+
+			if (json.isJsonObject() && json.getAsJsonObject().size() == 1) {
+				var entry = json.getAsJsonObject().entrySet().iterator().next();
+				if (entry.getKey().equals("if") || entry.getKey().equals("?:")) {
+					var args = toArray(entry.getValue());
+					var conditions = new Expression[args.size() / 2];
+					var branches = new Result[args.size() / 2];
+					for (var i = 0; i < conditions.length; i++) {
+						conditions[i] = this.compile(args.get(i * 2));
+						branches[i] = this.compileResult(args.get(i * 2 + 1));
+					}
+					var otherwise = args.size() % 2 == 1 //
+							? this.compileResult(args.get(args.size() - 1)) //
+							: new Actions(new Action[0]);
+					return new IfResult(conditions, branches, otherwise);
+				}
+			}
+
+			throw new IllegalArgumentException("Unsupported result: " + json);
+		}
+
+		private Expression compile(JsonElement json) {
+			if (json.isJsonNull()) {
+				return new Literal(null);
+			}
+			if (json.isJsonPrimitive()) {
+				var primitive = json.getAsJsonPrimitive();
+				if (primitive.isNumber()) {
+					return new Literal(primitive.getAsDouble());
+				}
+				if (primitive.isBoolean()) {
+					return new Literal(primitive.getAsBoolean());
+				}
+				return new Literal(primitive.getAsString());
+			}
+			if (json.isJsonArray()) {
+				var elements = new ArrayList<Expression>();
+				for (var element : json.getAsJsonArray()) {
+					elements.add(this.compile(element));
+				}
+				if (elements.stream().allMatch(Literal.class::isInstance)) {
+					var values = new ArrayList<Object>();
+					elements.forEach(e -> values.add(((Literal) e).value));
+					return new Literal(Collections.unmodifiableList(values));
+				}
+				return new ArrayExpression(elements.toArray(Expression[]::new));
+			}
+
+			var object = json.getAsJsonObject();
+			if (object.size() != 1) {
+				throw new IllegalArgumentException("Operation must have exactly one key: " + json);
+			}
+			var entry = object.entrySet().iterator().next();
+			var operator = entry.getKey();
+			if (operator.equals("var")) {
+				return this.compileVar(entry.getValue());
+			}
+
+			var jsonArgs = toArray(entry.getValue());
+			var args = new Expression[jsonArgs.size()];
+			for (var i = 0; i < args.length; i++) {
+				args[i] = this.compile(jsonArgs.get(i));
+			}
+			return switch (operator) {
+			case "if", "?:" -> new If(args);
+			case "==", "===" -> new Equals(requireArgs(operator, args, 2), operator.length() == 3, false);
+			case "!=", "!==" -> new Equals(requireArgs(operator, args, 2), operator.length() == 3, true);
+			case "!" -> new Not(requireArgs(operator, args, 1), true);
+			case "!!" -> new Not(requireArgs(operator, args, 1), false);
+			case "and" -> new Logic(args, true);
+			case "or" -> new Logic(args, false);
+			case "<", "<=", ">", ">=" -> new Compare(operator, args);
+			case "+", "-", "*", "/", "%", "min", "max" -> new Arithmetic(operator, args);
+			default -> throw new IllegalArgumentException("Unsupported operation [" + operator + "]");
+			};
+		}
+
+		private Expression compileVar(JsonElement json) {
+			var args = toArray(json);
+			if (args.isEmpty() || !isString(args.get(0))) {
+				throw new IllegalArgumentException("Unsupported var: " + json);
+			}
+			var defaultValue = args.size() > 1 ? this.compile(args.get(1)) : new Literal(null);
+			return new Var(this.getChannelRef(args.get(0).getAsString()), defaultValue);
+		}
+
+		private ChannelRef getChannelRef(String address) {
+			final ChannelAddress channelAddress;
+			try {
+				channelAddress = ChannelAddress.fromString(address);
+			} catch (OpenemsNamedException e) {
+				throw new IllegalArgumentException(e.getMessage());
+			}
+			return this.channels.computeIfAbsent(channelAddress, ChannelRef::new);
+		}
+
+		private static JsonArray toArray(JsonElement json) {
+			if (json.isJsonArray()) {
+				return json.getAsJsonArray();
+			}
+			var array = new JsonArray();
+			array.add(json);
+			return array;
+		}
+
+		private static boolean isString(JsonElement json) {
+			return json.isJsonPrimitive() && json.getAsJsonPrimitive().isString();
+		}
+
+		private static Expression[] requireArgs(String operator, Expression[] args, int count) {
+			if (args.length != count) {
+				throw new IllegalArgumentException("[" + operator + "] expects " + count + " arguments");
+			}
+			return args;
+		}
+	}
+
+	private abstract static class Expression {
+
+		protected abstract Object evaluate();
+
+		protected double evaluateDouble() {
+			return toDouble(this.evaluate());
+		}
+
+		protected boolean evaluateTruthy() {
+			return JsonLogic.truthy(this.evaluate());
+		}
+	}
+
+	private static class Literal extends Expression {
+		private final Object value;
+		private final double doubleValue;
+		private final boolean truthy;
+
+		private Literal(Object value) {
+			this.value = value;
+			this.doubleValue = toDouble(value);
+			this.truthy = JsonLogic.truthy(value);
+		}
+
+		@Override
+		protected Object evaluate() {
+			return this.value;
+		}
+
+		@Override
+		protected double evaluateDouble() {
+			return this.doubleValue;
+		}
+
+		@Override
+		protected boolean evaluateTruthy() {
+			return this.truthy;
+		}
+	}
+
+	private static class Var extends Expression {
+		private final ChannelRef ref;
+		private final Expression defaultValue;
+
+		private Var(ChannelRef ref, Expression defaultValue) {
+			this.ref = ref;
+			this.defaultValue = defaultValue;
+		}
+
+		@Override
+		protected Object evaluate() {
+			var value = this.ref.channel.value().get();
+			if (value == null) {
+				return this.defaultValue.evaluate();
+			}
+			return value;
+		}
+	}
+
+	private static class ArrayExpression extends Expression {
+		private final Expression[] elements;
+
+		private ArrayExpression(Expression[] elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		protected Object evaluate() {
+			var result = new ArrayList<Object>(this.elements.length);
+			for (var element : this.elements) {
+				result.add(element.evaluate());
+			}
+			return result;
+		}
+
+		@Override
+		protected boolean evaluateTruthy() {
+			return this.elements.length > 0;
+		}
+	}
+
+	private static class If extends Expression {
+		private final Expression[] args;
+
+		private If(Expression[] args) {
+			this.args = args;
+		}
+
+		private Expression select() {
+			var i = 0;
+			for (; i + 1 < this.args.length; i += 2) {
+				if (this.args[i].evaluateTruthy()) {
+					return this.args[i + 1];
+				}
+			}
+			return i < this.args.length ? this.args[i] : null;
+		}
+
+		@Override
+		protected Object evaluate() {
+			var result = this.select();
+			return result == null ? null : result.evaluate();
+		}
+
+		@Override
+		protected double evaluateDouble() {
+			var result = this.select();
+			return result == null ? Double.NaN : result.evaluateDouble();
+		}
+
+		@Override
+		protected boolean evaluateTruthy() {
+			var result = this.select();
+			return result != null && result.evaluateTruthy();
+		}
+	}
+
+	private static class Equals extends Expression {
+		private final Expression left;
+		private final Expression right;
+		private final boolean strict;
+		private final boolean negate;
+
+		private Equals(Expression[] args, boolean strict, boolean negate) {
+			this.left = args[0];
+			this.right = args[1];
+			this.strict = strict;
+			this.negate = negate;
+		}
+
+		@Override
+		protected Object evaluate() {
+			return this.evaluateTruthy();
+		}
+
+		@Override
+		protected boolean evaluateTruthy() {
+			var a = this.left.evaluate();
+			var b = this.right.evaluate();
+			return (this.strict ? strictEquals(a, b) : looseEquals(a, b)) != this.negate;
+		}
+
+		private static boolean strictEquals(Object a, Object b) {
+			if (a instanceof Number na && b instanceof Number nb) {
+				return na.doubleValue() == nb.doubleValue();
+			}
+			return Objects.equals(a, b);
+		}
+
+		private static boolean looseEquals(Object a, Object b) {
+			if (a == null || b == null) {
+				return a == b;
+			}
+			if (a instanceof String sa && b instanceof String sb) {
+				return sa.equals(sb);
+			}
+			if (a instanceof Boolean ba && b instanceof Boolean bb) {
+				return ba.equals(bb);
+			}
+			var da = toLooseDouble(a);
+			var db = toLooseDouble(b);
+			return !Double.isNaN(da) && da == db;
+		}
+
+		private static double toLooseDouble(Object value) {
+			if (value instanceof Boolean b) {
+				return b ? 1 : 0;
+			}
+			return toDouble(value);
+		}
+	}
+
+	private static class Not extends Expression {
+		private final Expression arg;
+		private final boolean negate;
+
+		private Not(Expression[] args, boolean negate) {
+			this.arg = args[0];
+			this.negate = negate;
+		}
+
+		@Override
+		protected Object evaluate() {
+			return this.evaluateTruthy();
+		}
+
+		@Override
+		protected boolean evaluateTruthy() {
+			return this.arg.evaluateTruthy() != this.negate;
+		}
+	}
+
+	private static class Logic extends Expression {
+		private final Expression[] args;
+		private final boolean isAnd;
+
+		private Logic(Expression[] args, boolean isAnd) {
+			this.args = args;
+			this.isAnd = isAnd;
+		}
+
+		@Override
+		protected Object evaluate() {
+			Object result = null;
+			for (var arg : this.args) {
+				result = arg.evaluate();
+				if (JsonLogic.truthy(result) != this.isAnd) {
+					return result;
+				}
+			}
+			return result;
+		}
+
+		@Override
+		protected boolean evaluateTruthy() {
+			for (var arg : this.args) {
+				if (arg.evaluateTruthy() != this.isAnd) {
+					return !this.isAnd;
+				}
+			}
+			return this.isAnd && this.args.length > 0;
+		}
+	}
+
+	private static class Compare extends Expression {
+		private final String operator;
+		private final Expression[] args;
+
+		private Compare(String operator, Expression[] args) {
+			if (args.length < 2) {
+				throw new IllegalArgumentException("[" + operator + "] requires at least 2 arguments");
+			}
+			this.operator = operator;
+			this.args = args;
+		}
+
+		@Override
+		protected Object evaluate() {
+			return this.evaluateTruthy();
+		}
+
+		@Override
+		protected boolean evaluateTruthy() {
+			var a = this.args[0].evaluateDouble();
+			var b = this.args[1].evaluateDouble();
+			return switch (this.operator) {
+			case "<" -> a < b && (this.args.length < 3 || b < this.args[2].evaluateDouble());
+			case "<=" -> a <= b && (this.args.length < 3 || b <= this.args[2].evaluateDouble());
+			case ">" -> a > b;
+			case ">=" -> a >= b;
+			default -> false;
+			};
+		}
+	}
+
+	private static class Arithmetic extends Expression {
+		private final String operator;
+		private final Expression[] args;
+
+		private Arithmetic(String operator, Expression[] args) {
+			if (args.length == 0 || (args.length == 1 && !operator.equals("-") && !operator.equals("+")
+					&& !operator.equals("min") && !operator.equals("max"))) {
+				throw new IllegalArgumentException("[" + operator + "] requires at least 2 arguments");
+			}
+			this.operator = operator;
+			this.args = args;
+		}
+
+		@Override
+		protected Object evaluate() {
+			var result = this.evaluateDouble();
+			return Double.isNaN(result) ? null : result;
+		}
+
+		@Override
+		protected double evaluateDouble() {
+			var result = this.args[0].evaluateDouble();
+			if (this.args.length == 1 && this.operator.equals("-")) {
+				return -result;
+			}
+			for (var i = 1; i < this.args.length; i++) {
+				var value = this.args[i].evaluateDouble();
+				result = switch (this.operator) {
+				case "+" -> result + value;
+				case "-" -> result - value;
+				case "*" -> result * value;
+				case "/" -> result / value;
+				case "%" -> result % value;
+				case "min" -> Math.min(result, value);
+				case "max" -> Math.max(result, value);
+				default -> Double.NaN;
+				};
+			}
+			return result;
+		}
+
+		@Override
+		protected boolean evaluateTruthy() {
+			var result = this.evaluateDouble();
+			return !Double.isNaN(result) && result != 0;
+		}
+	}
+
+	private abstract static class Result {
+
+		protected abstract void apply() throws OpenemsNamedException;
+	}
+
+	private static class IfResult extends Result {
+		private final Expression[] conditions;
+		private final Result[] branches;
+		private final Result otherwise;
+
+		private IfResult(Expression[] conditions, Result[] branches, Result otherwise) {
+			this.conditions = conditions;
+			this.branches = branches;
+			this.otherwise = otherwise;
+		}
+
+		@Override
+		protected void apply() throws OpenemsNamedException {
+			for (var i = 0; i < this.conditions.length; i++) {
+				if (this.conditions[i].evaluateTruthy()) {
+					this.branches[i].apply();
+					return;
+				}
+			}
+			this.otherwise.apply();
+		}
+	}
+
+	private static record Action(ChannelRef ref, Expression value) {
+	}
+
+	private static class Actions extends Result {
+		private final Action[] actions;
+
+		private Actions(Action[] actions) {
+			this.actions = actions;
+		}
+
+		@Override
+		protected void apply() throws OpenemsNamedException {
+			for (var action : this.actions) {
+				((WriteChannel<?>) action.ref.channel).setNextWriteValueFromObject(action.value.evaluate());
+			}
+		}
+	}
+
+	private static double toDouble(Object value) {
+		if (value instanceof Number n) {
+			return n.doubleValue();
+		}
+		if (value instanceof String s) {
+			try {
+				return Double.parseDouble(s);
+			} catch (NumberFormatException e) {
+				return Double.NaN;
+			}
+		}
+		return Double.NaN;
+	}
+
+}
@@ -0,0 +1,98 @@
+package io.openems.edge.controller.generic.jsonlogic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.common.sum.DummySum;
+import io.openems.edge.common.sum.Sum;
+import io.openems.edge.common.test.DummyComponentManager;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.test.DummyManagedSymmetricEss;
+
+public class JsonLogicRuleTest {
+
+	private DummySum sum;
+	private DummyManagedSymmetricEss ess;
+	private DummyComponentManager componentManager;
+
+	@Before
+	public void before() {
+		this.sum = new DummySum();
+		this.ess = new DummyManagedSymmetricEss("ess0");
+		this.componentManager = new DummyComponentManager() //
+				.addComponent(this.sum) //
+				.addComponent(this.ess);
+	}
+
+	private Integer apply(String rule, Integer soc, Integer production) throws OpenemsNamedException {
+		var compiled = JsonLogicRule.compile(JsonUtils.parse(rule));
+		compiled.bind(this.componentManager);
+		var socChannel = this.sum.channel(Sum.ChannelId.ESS_SOC);
+		socChannel.setNextValue(soc);
+		socChannel.nextProcessImage();
+		var productionChannel = this.sum.channel(Sum.ChannelId.PRODUCTION_ACTIVE_POWER);
+		productionChannel.setNextValue(production);
+		productionChannel.nextProcessImage();
+
+		var setActivePower = this.ess.getSetActivePowerEqualsChannel();
+		setActivePower.setNextWriteValueFromObject(null);
+		compiled.apply();
+		return setActivePower.getNextWriteValueAndReset().orElse(null);
+	}
+
+	@Test
+	public void testCompare() throws OpenemsNamedException {
+		var rule = "{\"if\": [{\"<\": [20, {\"var\": \"_sum/EssSoc\"}, 80]}, " //
+				+ "[[\"ess0/SetActivePowerEquals\", 1000]], " //
+				+ "{\">=\": [{\"var\": \"_sum/EssSoc\"}, 80]}, " //
+				+ "[[\"ess0/SetActivePowerEquals\", 2000]], " //
+				+ "[]]}";
+		assertEquals(1000, (int) this.apply(rule, 50, 0));
+		assertEquals(2000, (int) this.apply(rule, 80, 0));
+		assertEquals(null, this.apply(rule, 10, 0));
+		// null values never match a comparison
+		assertEquals(null, this.apply(rule, null, 0));
+	}
+
+	@Test
+	public void testArithmetic() throws OpenemsNamedException {
+		var rule = "[[\"ess0/SetActivePowerEquals\", {\"max\": [0, " //
+				+ "{\"-\": [{\"var\": \"_sum/ProductionActivePower\"}, {\"*\": [{\"var\": \"_sum/EssSoc\"}, 10]}]}" //
+				+ "]}]]";
+		assertEquals(1500, (int) this.apply(rule, 50, 2000));
+		assertEquals(0, (int) this.apply(rule, 50, 100));
+		assertEquals(null, this.apply(rule, 50, null));
+	}
+
+	@Test
+	public void testLogic() throws OpenemsNamedException {
+		var rule = "{\"if\": [{\"and\": [{\"==\": [{\"var\": \"_sum/EssSoc\"}, \"50\"]}, " //
+				+ "{\"!\": {\"var\": \"_sum/ProductionActivePower\"}}]}, " //
+				+ "[[\"ess0/SetActivePowerEquals\", {\"var\": [\"_sum/GridActivePower\", 300]}]]]}";
+		assertEquals(300, (int) this.apply(rule, 50, 0));
+		assertEquals(null, this.apply(rule, 50, 10));
+		assertEquals(null, this.apply(rule, 49, 0));
+	}
+
+	@Test
+	public void testChannelAddresses() throws OpenemsNamedException {
+		var rule = JsonLogicRule.compile(JsonUtils.parse("[[\"ess0/SetActivePowerEquals\", " //
+				+ "{\"+\": [{\"var\": \"_sum/EssSoc\"}, {\"var\": \"_sum/EssSoc\"}]}]]"));
+		assertEquals(2, rule.getChannelAddresses().size());
+		assertFalse(rule.getChannelAddresses().contains(null));
+		assertEquals(ManagedSymmetricEss.ChannelId.SET_ACTIVE_POWER_EQUALS.id(), rule.getChannelAddresses().stream() //
+				.filter(c -> c.getComponentId().equals("ess0")) //
+				.findFirst().get().getChannelId());
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testUnsupported() throws OpenemsNamedException {
+		JsonLogicRule.compile(JsonUtils.parse("[[\"ess0/SetActivePowerEquals\", {\"cat\": [\"a\", \"b\"]}]]"));
+	}
+
+}
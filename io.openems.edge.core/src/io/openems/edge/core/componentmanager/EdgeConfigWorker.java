@@ -28,6 +28,7 @@ import org.xml.sax.SAXException;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 
 import io.openems.common.OpenemsConstants;
@@ -49,6 +50,11 @@ import io.openems.edge.common.event.EdgeEventConstants;
  * This Worker constantly checks if {@link EdgeConfig} was updated, e.g. because
  * configuration properties changed or Channels changed. If an update was
  * recognized, an event is announced.
+ *
+ * <p>
+ * The {@link EdgeConfig} is built once and then updated incrementally from
+ * {@link ConfigurationEvent}s. The event is only announced if the JSON
+ * representation of the {@link EdgeConfig} actually changed.
  */
 public class EdgeConfigWorker extends ComponentManagerWorker {
 
@@ -61,6 +67,10 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 
 	private EdgeConfig.ActualEdgeConfig.Builder cache = null;
 
+	/** The JSON of the last announced {@link EdgeConfig}; and its hash code. */
+	private JsonObject lastConfigJson = null;
+	private int lastConfigHash = 0;
+
 	public EdgeConfigWorker(ComponentManagerImpl parent) {
 		super(parent);
 	}
@@ -99,7 +109,7 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 
 		var result = this.cache.buildEdgeConfig();
 
-		if (wasConfigUpdated) {
+		if (wasConfigUpdated && this.isChanged(result)) {
 			EventBuilder.from(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CONFIG_UPDATE) //
 					.addArg(EdgeEventConstants.TOPIC_CONFIG_UPDATE_KEY, result) //
 					.send();
@@ -108,6 +118,24 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 		return result;
 	}
 
+	/**
+	 * Checks if the content of the {@link EdgeConfig} changed since the last
+	 * announcement.
+	 *
+	 * @param config the {@link EdgeConfig}
+	 * @return true if it changed
+	 */
+	private boolean isChanged(EdgeConfig config) {
+		var json = config.toJson();
+		var hash = json.hashCode();
+		if (hash == this.lastConfigHash && json.equals(this.lastConfigJson)) {
+			return false;
+		}
+		this.lastConfigJson = json;
+		this.lastConfigHash = hash;
+		return true;
+	}
+
 	@Override
 	protected int getCycleTime() {
 		return CYCLE_TIME;
@@ -126,12 +154,25 @@ public class EdgeConfigWorker extends ComponentManagerWorker {
 	 * @return true if this operation changed the {@link EdgeConfig}
 	 */
 	private boolean updateCacheFromEvent(ConfigurationEvent event) {
-		if (event.getType() == ConfigurationEvent.CM_UPDATED) {
+		switch (event.getType()) {
+		case ConfigurationEvent.CM_UPDATED:
 			// Update/Create: apply only changes
 			var pid = event.getPid();
 			return this.readConfigurations(this.cache, "(service.pid=" + pid + ")");
+
+		case ConfigurationEvent.CM_DELETED:
+			// Delete: remove only this Component. Singletons stay active with default
+			// configuration and are handled by a full rebuild.
+			var component = this.cache.getComponents().values().stream() //
+					.filter(c -> event.getPid().equals(c.getPid())) //
+					.findFirst();
+			if (component.isPresent() && !component.get().getPid().equals(component.get().getFactoryId())) {
+				this.cache.removeComponent(component.get().getId());
+				return true;
+			}
+			break;
 		}
-		// Something else - e.g. delete - create full EdgeConfig
+		// Something else - create full EdgeConfig
 		this.cache = this.buildNewEdgeConfig();
 		return true;
 	}
@@ -1,7 +1,11 @@
 package io.openems.edge.core.cycle;
 
 import java.util.Comparator;
+import java.util.Map;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
 
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
@@ -37,8 +41,17 @@ import io.openems.edge.scheduler.api.Scheduler;
 		})
 public class CycleImpl extends AbstractOpenemsComponent implements OpenemsComponent, Cycle {
 
+	/** Parallelism of the pool for independent Controller execution groups. */
+	private static final int CONTROLLER_POOL_PARALLELISM = 2;
+
 	private final CycleWorker worker = new CycleWorker(this);
 
+	/** Executes the independent Controller execution groups. */
+	protected final ForkJoinPool controllerPool = new ForkJoinPool(CONTROLLER_POOL_PARALLELISM);
+
+	/** Execution time in [ms] of the Controllers per execution group. */
+	protected final Map<String, Long> executionGroupTimes = new ConcurrentSkipListMap<>();
+
 	@Reference
 	private ConfigurationAdmin cm;
 
@@ -110,6 +123,7 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 	protected void deactivate() {
 		super.deactivate();
 		this.worker.deactivate();
+		this.controllerPool.shutdown();
 	}
 
 	@Override
@@ -122,6 +136,17 @@ public class CycleImpl extends AbstractOpenemsComponent implements OpenemsCompon
 		super.logWarn(log, message);
 	}
 
+	@Override
+	public String debugLog() {
+		if (this.executionGroupTimes.size() < 2) {
+			// Only the default execution group
+			return null;
+		}
+		return this.executionGroupTimes.entrySet().stream() //
+				.map(e -> e.getKey() + ":" + e.getValue() + "ms") //
+				.collect(Collectors.joining(" ", "ExecutionGroups ", ""));
+	}
+
 	@Override
 	public int getCycleTime() {
 		var config = this.config;
@@ -1,5 +1,9 @@
 package io.openems.edge.core.cycle;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -82,9 +86,12 @@ public class CycleWorker extends AbstractWorker {
 			EventBuilder.send(this.parent.eventAdmin, EdgeEventConstants.TOPIC_CYCLE_BEFORE_CONTROLLERS);
 
 			var hasDisabledController = false;
+			// Controllers per execution group; the default group is executed first
+			var executionGroups = new LinkedHashMap<String, List<Controller>>();
+			executionGroups.put(Scheduler.DEFAULT_EXECUTION_GROUP, new ArrayList<>());
 
 			/*
-			 * Execute Schedulers and their Controllers
+			 * Collect Controllers of the Schedulers
 			 */
 			if (this.parent.schedulers.isEmpty()) {
 				this.parent.logWarn(this.log, "There are no Schedulers configured!");
@@ -109,30 +116,9 @@ public class CycleWorker extends AbstractWorker {
 							continue;
 						}
 
-						try {
-							// Execute Controller logic
-							controller.run();
-
-							// announce running was ok
-							controller._setRunFailed(false);
-
-						} catch (OpenemsNamedException e) {
-							this.parent.logWarn(this.log,
-									"Error in Controller [" + controller.id() + "]: " + e.getMessage());
-
-							// announce running failed
-							controller._setRunFailed(true);
-
-						} catch (Exception e) {
-							this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
-									+ e.getClass().getSimpleName() + ": " + e.getMessage());
-							if (e instanceof ClassCastException || e instanceof NullPointerException
-									|| e instanceof IllegalArgumentException) {
-								e.printStackTrace();
-							}
-							// announce running failed
-							controller._setRunFailed(true);
-						}
+						executionGroups //
+								.computeIfAbsent(scheduler.getExecutionGroup(controllerId), g -> new ArrayList<>()) //
+								.add(controller);
 					}
 
 					// announce Scheduler Controller is missing
@@ -140,6 +126,24 @@ public class CycleWorker extends AbstractWorker {
 				}
 			}
 
+			/*
+			 * Execute Controllers: independent groups in parallel, the default group
+			 * sequentially in this thread
+			 */
+			var parallelGroups = new ArrayList<ForkJoinTask<?>>();
+			for (var group : executionGroups.entrySet()) {
+				if (!group.getKey().equals(Scheduler.DEFAULT_EXECUTION_GROUP)) {
+					parallelGroups.add(this.parent.controllerPool
+							.submit(() -> this.runExecutionGroup(group.getKey(), group.getValue())));
+				}
+			}
+			this.runExecutionGroup(Scheduler.DEFAULT_EXECUTION_GROUP,
+					executionGroups.get(Scheduler.DEFAULT_EXECUTION_GROUP));
+			for (var task : parallelGroups) {
+				task.join();
+			}
+			this.parent.executionGroupTimes.keySet().retainAll(executionGroups.keySet());
+
 			// announce ignoring disabled Controllers.
 			this.parent._setIgnoreDisabledController(hasDisabledController);
 
@@ -175,4 +179,41 @@ public class CycleWorker extends AbstractWorker {
 		this.parent._setMeasuredCycleTime(stopwatch.elapsed(TimeUnit.MILLISECONDS));
 	}
 
+	/**
+	 * Executes the Controllers of one execution group sequentially and measures
+	 * the execution time.
+	 *
+	 * @param group       the name of the execution group
+	 * @param controllers the Controllers
+	 */
+	private void runExecutionGroup(String group, List<Controller> controllers) {
+		var stopwatch = Stopwatch.createStarted();
+		for (var controller : controllers) {
+			try {
+				// Execute Controller logic
+				controller.run();
+
+				// announce running was ok
+				controller._setRunFailed(false);
+
+			} catch (OpenemsNamedException e) {
+				this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]: " + e.getMessage());
+
+				// announce running failed
+				controller._setRunFailed(true);
+
+			} catch (Exception e) {
+				this.parent.logWarn(this.log, "Error in Controller [" + controller.id() + "]. "
+						+ e.getClass().getSimpleName() + ": " + e.getMessage());
+				if (e instanceof ClassCastException || e instanceof NullPointerException
+						|| e instanceof IllegalArgumentException) {
+					e.printStackTrace();
+				}
+				// announce running failed
+				controller._setRunFailed(true);
+			}
+		}
+		this.parent.executionGroupTimes.put(group, stopwatch.elapsed(TimeUnit.MILLISECONDS));
+	}
+
 }
@@ -0,0 +1,108 @@
+package io.openems.edge.core.predictormanager;
+
+import static io.openems.common.utils.DateUtils.roundDownToQuarter;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.predictor.api.prediction.Prediction;
+
+/**
+ * Caches {@link Prediction}s per {@link ChannelAddress} for the current quarter.
+ *
+ * <p>
+ * Loading is single-flight: if several threads request the same Channel
+ * concurrently, only the first one creates the {@link Prediction}; the others
+ * wait for its result. Empty Predictions are returned but not kept.
+ */
+public class PredictionCache {
+
+	private record Entry(ZonedDateTime quarter, CompletableFuture<Prediction> future) {
+	}
+
+	private final ConcurrentHashMap<ChannelAddress, Entry> entries = new ConcurrentHashMap<>();
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+
+	/**
+	 * Gets the cached {@link Prediction} for the current quarter or creates it
+	 * with the given loader.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @param now            the current time
+	 * @param loader         creates the {@link Prediction} on a cache miss; called
+	 *                       in the current thread
+	 * @return the {@link Prediction}
+	 */
+	public Prediction get(ChannelAddress channelAddress, ZonedDateTime now,
+			Function<ChannelAddress, Prediction> loader) {
+		final var quarter = roundDownToQuarter(now);
+		while (true) {
+			var entry = this.entries.get(channelAddress);
+			if (entry != null && entry.quarter.isEqual(quarter)) {
+				this.hits.incrementAndGet();
+				try {
+					return entry.future.join();
+				} catch (CompletionException e) {
+					// Loader failed in the other thread; retry
+					continue;
+				}
+			}
+
+			var newEntry = new Entry(quarter, new CompletableFuture<>());
+			var isLoader = entry == null //
+					? this.entries.putIfAbsent(channelAddress, newEntry) == null //
+					: this.entries.replace(channelAddress, entry, newEntry);
+			if (!isLoader) {
+				// Another thread was faster
+				continue;
+			}
+
+			this.misses.incrementAndGet();
+			final Prediction prediction;
+			try {
+				prediction = loader.apply(channelAddress);
+			} catch (RuntimeException e) {
+				this.entries.remove(channelAddress, newEntry);
+				newEntry.future.completeExceptionally(e);
+				throw e;
+			}
+			if (prediction.isEmpty()) {
+				this.entries.remove(channelAddress, newEntry);
+			}
+			newEntry.future.complete(prediction);
+			return prediction;
+		}
+	}
+
+	/**
+	 * Removes all cached {@link Prediction}s.
+	 */
+	public void clear() {
+		this.entries.clear();
+	}
+
+	/**
+	 * Gets the total number of cache hits.
+	 *
+	 * @return the number of hits
+	 */
+	public long getHits() {
+		return this.hits.get();
+	}
+
+	/**
+	 * Gets the total number of cache misses.
+	 *
+	 * @return the number of misses
+	 */
+	public long getMisses() {
+		return this.misses.get();
+	}
+
+}
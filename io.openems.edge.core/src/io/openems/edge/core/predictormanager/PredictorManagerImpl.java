@@ -4,6 +4,7 @@ import static io.openems.edge.common.channel.ChannelId.channelIdCamelToUpper;
 import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTION;
 import static io.openems.edge.predictor.api.prediction.Prediction.sum;
 
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 
@@ -50,11 +51,24 @@ public class PredictorManagerImpl extends AbstractOpenemsComponent implements Pr
 	@Reference
 	private ComponentManager componentManager;
 
+	private volatile List<Predictor> predictors = new CopyOnWriteArrayList<>();
+
+	private final PredictionCache cache = new PredictionCache();
+
 	@Reference(policy = ReferencePolicy.DYNAMIC, //
 			policyOption = ReferencePolicyOption.GREEDY, //
 			cardinality = ReferenceCardinality.MULTIPLE, //
 			target = "(enabled=true)")
-	private volatile List<Predictor> predictors = new CopyOnWriteArrayList<>();
+	protected void addPredictor(Predictor predictor) {
+		this.predictors.add(predictor);
+		// Cached Predictions might stem from another Predictor, e.g. for Sum-Channels
+		this.cache.clear();
+	}
+
+	protected void removePredictor(Predictor predictor) {
+		this.predictors.remove(predictor);
+		this.cache.clear();
+	}
 
 	public PredictorManagerImpl() {
 		super(//
@@ -75,6 +89,7 @@ public class PredictorManagerImpl extends AbstractOpenemsComponent implements Pr
 	@Modified
 	private void modified(ComponentContext context, Config config) throws OpenemsNamedException {
 		super.modified(context, SINGLETON_COMPONENT_ID, SINGLETON_SERVICE_PID, true);
+		this.cache.clear();
 
 		if (OpenemsComponent.validateSingleton(this.cm, SINGLETON_SERVICE_PID, SINGLETON_COMPONENT_ID)) {
 			return;
@@ -89,6 +104,21 @@ public class PredictorManagerImpl extends AbstractOpenemsComponent implements Pr
 
 	@Override
 	public Prediction getPrediction(ChannelAddress channelAddress) {
+		var now = ZonedDateTime.now(this.componentManager.getClock());
+		var prediction = this.cache.get(channelAddress, now, this::createPrediction);
+		this._setPredictionCacheHits(this.cache.getHits());
+		this._setPredictionCacheMisses(this.cache.getMisses());
+		return prediction;
+	}
+
+	/**
+	 * Creates the {@link Prediction} for the given {@link ChannelAddress}, i.e.
+	 * without using the {@link PredictionCache}.
+	 *
+	 * @param channelAddress the {@link ChannelAddress}
+	 * @return the {@link Prediction}
+	 */
+	private Prediction createPrediction(ChannelAddress channelAddress) {
 		var predictor = this.getPredictorBestMatch(channelAddress);
 		if (predictor != null) {
 			return predictor.getPrediction(channelAddress);
@@ -0,0 +1,136 @@
+package io.openems.edge.core.sum;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.ess.api.MetaEss;
+import io.openems.edge.ess.api.SymmetricEss;
+import io.openems.edge.ess.dccharger.api.EssDcCharger;
+import io.openems.edge.evcs.api.Evcs;
+import io.openems.edge.evcs.api.MetaEvcs;
+import io.openems.edge.meter.api.ElectricityMeter;
+import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
+
+/**
+ * Groups the enabled Components by the Natures that are summed up by
+ * {@link SumImpl}.
+ *
+ * <p>
+ * The Natures of a Component never change, so the grouping is only repeated if
+ * the list of enabled Components changed. Configuration dependent properties
+ * (like the {@link ElectricityMeter#getMeterType()}) are still evaluated every
+ * Cycle.
+ */
+public class NatureIndex {
+
+	private List<OpenemsComponent> components = List.of();
+	private List<SymmetricEss> esss = List.of();
+	private List<ElectricityMeter> meters = List.of();
+	private List<EssDcCharger> chargers = List.of();
+	private List<Evcs> evcss = List.of();
+	private List<TimeOfUseTariff> timeOfUseTariffs = List.of();
+
+	/**
+	 * Updates the index with the currently enabled Components.
+	 *
+	 * @param components the enabled Components
+	 * @return true if the index was rebuilt
+	 */
+	public boolean update(List<OpenemsComponent> components) {
+		if (components.equals(this.components)) {
+			return false;
+		}
+
+		var esss = new ArrayList<SymmetricEss>();
+		var meters = new ArrayList<ElectricityMeter>();
+		var chargers = new ArrayList<EssDcCharger>();
+		var evcss = new ArrayList<Evcs>();
+		var timeOfUseTariffs = new ArrayList<TimeOfUseTariff>();
+		for (var component : components) {
+			if (component instanceof SymmetricEss ess) {
+				if (!(ess instanceof MetaEss)) {
+					esss.add(ess);
+				}
+
+			} else if (component instanceof ElectricityMeter meter) {
+				meters.add(meter);
+
+			} else if (component instanceof EssDcCharger charger) {
+				chargers.add(charger);
+
+			} else if (component instanceof Evcs evcs) {
+				if (!(evcs instanceof MetaEvcs)) {
+					evcss.add(evcs);
+				}
+
+			} else if (component instanceof TimeOfUseTariff tou) {
+				timeOfUseTariffs.add(tou);
+			}
+		}
+
+		this.components = List.copyOf(components);
+		this.esss = esss;
+		this.meters = meters;
+		this.chargers = chargers;
+		this.evcss = evcss;
+		this.timeOfUseTariffs = timeOfUseTariffs;
+		return true;
+	}
+
+	/**
+	 * Gets all enabled Components.
+	 *
+	 * @return the Components
+	 */
+	public List<OpenemsComponent> getComponents() {
+		return this.components;
+	}
+
+	/**
+	 * Gets the {@link SymmetricEss}s, without {@link MetaEss}s.
+	 *
+	 * @return the {@link SymmetricEss}s
+	 */
+	public List<SymmetricEss> getEsss() {
+		return this.esss;
+	}
+
+	/**
+	 * Gets the {@link ElectricityMeter}s, that are not also a
+	 * {@link SymmetricEss}.
+	 *
+	 * @return the {@link ElectricityMeter}s
+	 */
+	public List<ElectricityMeter> getMeters() {
+		return this.meters;
+	}
+
+	/**
+	 * Gets the {@link EssDcCharger}s.
+	 *
+	 * @return the {@link EssDcCharger}s
+	 */
+	public List<EssDcCharger> getChargers() {
+		return this.chargers;
+	}
+
+	/**
+	 * Gets the {@link Evcs}s, without {@link MetaEvcs}s.
+	 *
+	 * @return the {@link Evcs}s
+	 */
+	public List<Evcs> getEvcss() {
+		return this.evcss;
+	}
+
+	/**
+	 * Gets the {@link TimeOfUseTariff}s.
+	 *
+	 * @return the {@link TimeOfUseTariff}s
+	 */
+	public List<TimeOfUseTariff> getTimeOfUseTariffs() {
+		return this.timeOfUseTariffs;
+	}
+
+}
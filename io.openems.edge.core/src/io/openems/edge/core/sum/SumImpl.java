@@ -3,7 +3,9 @@ package io.openems.edge.core.sum;
 import static io.openems.edge.core.sum.ExtremeEverValues.Range.NEGATIVE;
 import static io.openems.edge.core.sum.ExtremeEverValues.Range.POSTIVE;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -36,17 +38,13 @@ import io.openems.edge.ess.api.AsymmetricEss;
 import io.openems.edge.ess.api.CalculateGridMode;
 import io.openems.edge.ess.api.CalculateSoc;
 import io.openems.edge.ess.api.HybridEss;
-import io.openems.edge.ess.api.MetaEss;
 import io.openems.edge.ess.api.SymmetricEss;
-import io.openems.edge.ess.dccharger.api.EssDcCharger;
 import io.openems.edge.evcs.api.Evcs;
-import io.openems.edge.evcs.api.MetaEvcs;
 import io.openems.edge.meter.api.ElectricityMeter;
 import io.openems.edge.meter.api.VirtualMeter;
 import io.openems.edge.timedata.api.Timedata;
 import io.openems.edge.timedata.api.TimedataProvider;
 import io.openems.edge.timedata.api.utils.CalculateActiveTime;
-import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
 
 @Designate(ocd = Config.class, factory = false)
 @Component(//
@@ -67,8 +65,56 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 	private ComponentManager componentManager;
 
 	private final EnergyValuesHandler energyValuesHandler;
+	private final NatureIndex natureIndex = new NatureIndex();
+
+	private volatile Snapshot snapshot = null;
+	private volatile Map<String, Record> componentSnapshots = Map.of();
 	private final Set<String> ignoreStateComponents = new HashSet<>();
 
+	/*
+	 * Calculators; reused in every Cycle
+	 */
+	// Ess
+	private final CalculateSoc essSoc = new CalculateSoc();
+	private final CalculateIntegerSum essActivePower = new CalculateIntegerSum();
+	private final CalculateIntegerSum essActivePowerL1 = new CalculateIntegerSum();
+	private final CalculateIntegerSum essActivePowerL2 = new CalculateIntegerSum();
+	private final CalculateIntegerSum essActivePowerL3 = new CalculateIntegerSum();
+	private final CalculateIntegerSum essReactivePower = new CalculateIntegerSum();
+	private final CalculateIntegerSum essMaxApparentPower = new CalculateIntegerSum();
+	private final CalculateGridMode essGridMode = new CalculateGridMode();
+	private final CalculateLongSum essActiveChargeEnergy = new CalculateLongSum();
+	private final CalculateLongSum essActiveDischargeEnergy = new CalculateLongSum();
+	private final CalculateLongSum essDcChargeEnergy = new CalculateLongSum();
+	private final CalculateLongSum essDcDischargeEnergy = new CalculateLongSum();
+	private final CalculateIntegerSum essCapacity = new CalculateIntegerSum();
+	private final CalculateIntegerSum essDcDischargePower = new CalculateIntegerSum();
+
+	// Grid
+	private final CalculateIntegerSum gridActivePower = new CalculateIntegerSum();
+	private final CalculateIntegerSum gridActivePowerL1 = new CalculateIntegerSum();
+	private final CalculateIntegerSum gridActivePowerL2 = new CalculateIntegerSum();
+	private final CalculateIntegerSum gridActivePowerL3 = new CalculateIntegerSum();
+	private final CalculateAverage gridBuyPrice = new CalculateAverage();
+	private final CalculateLongSum gridBuyActiveEnergy = new CalculateLongSum();
+	private final CalculateLongSum gridSellActiveEnergy = new CalculateLongSum();
+
+	// Production
+	private final CalculateIntegerSum productionAcActivePower = new CalculateIntegerSum();
+	private final CalculateIntegerSum productionAcActivePowerL1 = new CalculateIntegerSum();
+	private final CalculateIntegerSum productionAcActivePowerL2 = new CalculateIntegerSum();
+	private final CalculateIntegerSum productionAcActivePowerL3 = new CalculateIntegerSum();
+	private final CalculateIntegerSum productionDcActualPower = new CalculateIntegerSum();
+	private final CalculateLongSum productionAcActiveEnergy = new CalculateLongSum();
+	private final CalculateLongSum productionDcActiveEnergy = new CalculateLongSum();
+
+	// handling the corner-case of wrongly measured negative production, due to
+	// cabling errors, etc.
+	private final CalculateLongSum productionAcActiveEnergyNegative = new CalculateLongSum();
+
+	// Consumption
+	private final CalculateIntegerSum managedConsumptionActivePower = new CalculateIntegerSum();
+
 	private final CalculateActiveTime calculateOffGridTime = new CalculateActiveTime(this,
 			Sum.ChannelId.GRID_MODE_OFF_GRID_TIME);
 
@@ -147,10 +193,47 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 
 	@Override
 	public void updateChannelsBeforeProcessImage() {
+		this.natureIndex.update(this.componentManager.getEnabledComponents());
+		this.updateComponentSnapshots();
 		this.calculateChannelValues();
 		this.calculateState();
 	}
 
+	@Override
+	public Snapshot getSnapshot() {
+		var snapshot = this.snapshot;
+		if (snapshot == null) {
+			// Before the first Cycle
+			return Snapshot.from(this);
+		}
+		return snapshot;
+	}
+
+	@Override
+	public <T extends Record> T getSnapshot(String componentId, Class<T> type) {
+		var snapshot = this.componentSnapshots.get(componentId);
+		return type.isInstance(snapshot) ? type.cast(snapshot) : null;
+	}
+
+	/**
+	 * Creates the Snapshots of the {@link SymmetricEss}s,
+	 * {@link ElectricityMeter}s and {@link Evcs}s from the same values that are
+	 * summed up in this Cycle.
+	 */
+	private void updateComponentSnapshots() {
+		var snapshots = new HashMap<String, Record>();
+		for (var ess : this.natureIndex.getEsss()) {
+			snapshots.put(ess.id(), SymmetricEss.Snapshot.from(ess));
+		}
+		for (var meter : this.natureIndex.getMeters()) {
+			snapshots.put(meter.id(), ElectricityMeter.Snapshot.from(meter));
+		}
+		for (var evcs : this.natureIndex.getEvcss()) {
+			snapshots.put(evcs.id(), Evcs.Snapshot.from(evcs));
+		}
+		this.componentSnapshots = snapshots;
+	}
+
 	@Override
 	public Timedata getTimedata() {
 		return this.timedata;
@@ -161,175 +244,166 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 	 */
 	private void calculateChannelValues() {
 		// Ess
-		final var essSoc = new CalculateSoc();
-		final var essActivePower = new CalculateIntegerSum();
-		final var essActivePowerL1 = new CalculateIntegerSum();
-		final var essActivePowerL2 = new CalculateIntegerSum();
-		final var essActivePowerL3 = new CalculateIntegerSum();
-
-		final var essReactivePower = new CalculateIntegerSum();
-
-		final var essMaxApparentPower = new CalculateIntegerSum();
-		final var essGridMode = new CalculateGridMode();
-		final var essActiveChargeEnergy = new CalculateLongSum();
-		final var essActiveDischargeEnergy = new CalculateLongSum();
-		final var essDcChargeEnergy = new CalculateLongSum();
-		final var essDcDischargeEnergy = new CalculateLongSum();
-		final var essCapacity = new CalculateIntegerSum();
-		final var essDcDischargePower = new CalculateIntegerSum();
+		final var essSoc = this.essSoc.reset();
+		final var essActivePower = this.essActivePower.reset();
+		final var essActivePowerL1 = this.essActivePowerL1.reset();
+		final var essActivePowerL2 = this.essActivePowerL2.reset();
+		final var essActivePowerL3 = this.essActivePowerL3.reset();
+
+		final var essReactivePower = this.essReactivePower.reset();
+
+		final var essMaxApparentPower = this.essMaxApparentPower.reset();
+		final var essGridMode = this.essGridMode.reset();
+		final var essActiveChargeEnergy = this.essActiveChargeEnergy.reset();
+		final var essActiveDischargeEnergy = this.essActiveDischargeEnergy.reset();
+		final var essDcChargeEnergy = this.essDcChargeEnergy.reset();
+		final var essDcDischargeEnergy = this.essDcDischargeEnergy.reset();
+		final var essCapacity = this.essCapacity.reset();
+		final var essDcDischargePower = this.essDcDischargePower.reset();
 
 		// Grid
-		final var gridActivePower = new CalculateIntegerSum();
-		final var gridActivePowerL1 = new CalculateIntegerSum();
-		final var gridActivePowerL2 = new CalculateIntegerSum();
-		final var gridActivePowerL3 = new CalculateIntegerSum();
-		final var gridBuyPrice = new CalculateAverage();
-		final var gridBuyActiveEnergy = new CalculateLongSum();
-		final var gridSellActiveEnergy = new CalculateLongSum();
+		final var gridActivePower = this.gridActivePower.reset();
+		final var gridActivePowerL1 = this.gridActivePowerL1.reset();
+		final var gridActivePowerL2 = this.gridActivePowerL2.reset();
+		final var gridActivePowerL3 = this.gridActivePowerL3.reset();
+		final var gridBuyPrice = this.gridBuyPrice.reset();
+		final var gridBuyActiveEnergy = this.gridBuyActiveEnergy.reset();
+		final var gridSellActiveEnergy = this.gridSellActiveEnergy.reset();
 
 		// Production
-		final var productionAcActivePower = new CalculateIntegerSum();
-		final var productionAcActivePowerL1 = new CalculateIntegerSum();
-		final var productionAcActivePowerL2 = new CalculateIntegerSum();
-		final var productionAcActivePowerL3 = new CalculateIntegerSum();
-		final var productionDcActualPower = new CalculateIntegerSum();
-		final var productionAcActiveEnergy = new CalculateLongSum();
-		final var productionDcActiveEnergy = new CalculateLongSum();
+		final var productionAcActivePower = this.productionAcActivePower.reset();
+		final var productionAcActivePowerL1 = this.productionAcActivePowerL1.reset();
+		final var productionAcActivePowerL2 = this.productionAcActivePowerL2.reset();
+		final var productionAcActivePowerL3 = this.productionAcActivePowerL3.reset();
+		final var productionDcActualPower = this.productionDcActualPower.reset();
+		final var productionAcActiveEnergy = this.productionAcActiveEnergy.reset();
+		final var productionDcActiveEnergy = this.productionDcActiveEnergy.reset();
 
 		// handling the corner-case of wrongly measured negative production, due to
 		// cabling errors, etc.
-		final var productionAcActiveEnergyNegative = new CalculateLongSum();
+		final var productionAcActiveEnergyNegative = this.productionAcActiveEnergyNegative.reset();
 
 		// Consumption
-		final var managedConsumptionActivePower = new CalculateIntegerSum();
+		final var managedConsumptionActivePower = this.managedConsumptionActivePower.reset();
+
+		for (var ess : this.natureIndex.getEsss()) {
+			/*
+			 * Ess
+			 */
+			essSoc.add(ess);
+			essActivePower.addValue(ess.getActivePowerChannel());
+			essReactivePower.addValue(ess.getReactivePowerChannel());
+			essMaxApparentPower.addValue(ess.getMaxApparentPowerChannel());
+			essGridMode.addValue(ess.getGridModeChannel());
+			essActiveChargeEnergy.addValue(ess.getActiveChargeEnergyChannel());
+			essActiveDischargeEnergy.addValue(ess.getActiveDischargeEnergyChannel());
+			essCapacity.addValue(ess.getCapacityChannel());
+
+			if (ess instanceof AsymmetricEss) {
+				var e = (AsymmetricEss) ess;
+				essActivePowerL1.addValue(e.getActivePowerL1Channel());
+				essActivePowerL2.addValue(e.getActivePowerL2Channel());
+				essActivePowerL3.addValue(e.getActivePowerL3Channel());
+			} else {
+				essActivePowerL1.addValue(ess.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
+				essActivePowerL2.addValue(ess.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
+				essActivePowerL3.addValue(ess.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
+			}
 
-		for (OpenemsComponent component : this.componentManager.getEnabledComponents()) {
-			if (component instanceof SymmetricEss) {
-				/*
-				 * Ess
-				 */
-				var ess = (SymmetricEss) component;
+			if (ess instanceof HybridEss) {
+				var e = (HybridEss) ess;
+				essDcChargeEnergy.addValue(e.getDcChargeEnergyChannel());
+				essDcDischargeEnergy.addValue(e.getDcDischargeEnergyChannel());
+				essDcDischargePower.addValue(e.getDcDischargePowerChannel());
+			} else {
+				essDcChargeEnergy.addValue(ess.getActiveChargeEnergyChannel());
+				essDcDischargeEnergy.addValue(ess.getActiveDischargeEnergyChannel());
+				essDcDischargePower.addValue(ess.getActivePowerChannel());
+			}
+		}
 
-				if (ess instanceof MetaEss) {
-					// ignore this Ess
+		for (var meter : this.natureIndex.getMeters()) {
+			if (meter instanceof VirtualMeter) {
+				if (!((VirtualMeter) meter).addToSum()) {
+					// Ignore VirtualMeter if "addToSum" is not activated (default)
 					continue;
 				}
-				essSoc.add(ess);
-				essActivePower.addValue(ess.getActivePowerChannel());
-				essReactivePower.addValue(ess.getReactivePowerChannel());
-				essMaxApparentPower.addValue(ess.getMaxApparentPowerChannel());
-				essGridMode.addValue(ess.getGridModeChannel());
-				essActiveChargeEnergy.addValue(ess.getActiveChargeEnergyChannel());
-				essActiveDischargeEnergy.addValue(ess.getActiveDischargeEnergyChannel());
-				essCapacity.addValue(ess.getCapacityChannel());
-
-				if (ess instanceof AsymmetricEss) {
-					var e = (AsymmetricEss) ess;
-					essActivePowerL1.addValue(e.getActivePowerL1Channel());
-					essActivePowerL2.addValue(e.getActivePowerL2Channel());
-					essActivePowerL3.addValue(e.getActivePowerL3Channel());
-				} else {
-					essActivePowerL1.addValue(ess.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
-					essActivePowerL2.addValue(ess.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
-					essActivePowerL3.addValue(ess.getActivePowerChannel(), CalculateIntegerSum.DIVIDE_BY_THREE);
-				}
-
-				if (ess instanceof HybridEss) {
-					var e = (HybridEss) ess;
-					essDcChargeEnergy.addValue(e.getDcChargeEnergyChannel());
-					essDcDischargeEnergy.addValue(e.getDcDischargeEnergyChannel());
-					essDcDischargePower.addValue(e.getDcDischargePowerChannel());
-				} else {
-					essDcChargeEnergy.addValue(ess.getActiveChargeEnergyChannel());
-					essDcDischargeEnergy.addValue(ess.getActiveDischargeEnergyChannel());
-					essDcDischargePower.addValue(ess.getActivePowerChannel());
-				}
-
-			} else if (component instanceof ElectricityMeter meter) {
-				if (component instanceof VirtualMeter) {
-					if (!((VirtualMeter) component).addToSum()) {
-						// Ignore VirtualMeter if "addToSum" is not activated (default)
-						continue;
-					}
-				}
+			}
 
+			/*
+			 * Meter
+			 */
+			switch (meter.getMeterType()) {
+			case PRODUCTION_AND_CONSUMPTION:
+				// TODO PRODUCTION_AND_CONSUMPTION
+				// Production Power is positive, Consumption is negative
+				break;
+
+			case CONSUMPTION_METERED:
+				// TODO CONSUMPTION_METERED
+				// Consumption is positive
+				break;
+
+			case CONSUMPTION_NOT_METERED:
+				// TODO CONSUMPTION_NOT_METERED
+				// Consumption is positive
+				break;
+
+			case GRID:
 				/*
-				 * Meter
+				 * Grid-Meter
 				 */
-				switch (meter.getMeterType()) {
-				case PRODUCTION_AND_CONSUMPTION:
-					// TODO PRODUCTION_AND_CONSUMPTION
-					// Production Power is positive, Consumption is negative
-					break;
-
-				case CONSUMPTION_METERED:
-					// TODO CONSUMPTION_METERED
-					// Consumption is positive
-					break;
-
-				case CONSUMPTION_NOT_METERED:
-					// TODO CONSUMPTION_NOT_METERED
-					// Consumption is positive
-					break;
-
-				case GRID:
-					/*
-					 * Grid-Meter
-					 */
-					gridActivePower.addValue(meter.getActivePowerChannel());
-					gridBuyActiveEnergy.addValue(meter.getActiveProductionEnergyChannel());
-					gridSellActiveEnergy.addValue(meter.getActiveConsumptionEnergyChannel());
-					gridActivePowerL1.addValue(meter.getActivePowerL1Channel());
-					gridActivePowerL2.addValue(meter.getActivePowerL2Channel());
-					gridActivePowerL3.addValue(meter.getActivePowerL3Channel());
-					break;
-
-				case PRODUCTION:
-					/*
-					 * Production-Meter
-					 */
-					productionAcActivePower.addValue(meter.getActivePowerChannel());
-					productionAcActiveEnergy.addValue(meter.getActiveProductionEnergyChannel());
-					productionAcActiveEnergyNegative.addValue(meter.getActiveConsumptionEnergyChannel());
-					productionAcActivePowerL1.addValue(meter.getActivePowerL1Channel());
-					productionAcActivePowerL2.addValue(meter.getActivePowerL2Channel());
-					productionAcActivePowerL3.addValue(meter.getActivePowerL3Channel());
-					break;
-
-				}
-
-			} else if (component instanceof EssDcCharger) {
+				gridActivePower.addValue(meter.getActivePowerChannel());
+				gridBuyActiveEnergy.addValue(meter.getActiveProductionEnergyChannel());
+				gridSellActiveEnergy.addValue(meter.getActiveConsumptionEnergyChannel());
+				gridActivePowerL1.addValue(meter.getActivePowerL1Channel());
+				gridActivePowerL2.addValue(meter.getActivePowerL2Channel());
+				gridActivePowerL3.addValue(meter.getActivePowerL3Channel());
+				break;
+
+			case PRODUCTION:
 				/*
-				 * Ess DC-Charger
+				 * Production-Meter
 				 */
-				var charger = (EssDcCharger) component;
-				productionDcActualPower.addValue(charger.getActualPowerChannel());
-				productionDcActiveEnergy.addValue(charger.getActualEnergyChannel());
+				productionAcActivePower.addValue(meter.getActivePowerChannel());
+				productionAcActiveEnergy.addValue(meter.getActiveProductionEnergyChannel());
+				productionAcActiveEnergyNegative.addValue(meter.getActiveConsumptionEnergyChannel());
+				productionAcActivePowerL1.addValue(meter.getActivePowerL1Channel());
+				productionAcActivePowerL2.addValue(meter.getActivePowerL2Channel());
+				productionAcActivePowerL3.addValue(meter.getActivePowerL3Channel());
+				break;
 
-			} else if (component instanceof Evcs evcs) {
-				/*
-				 * Electric Vehicle Charging Station
-				 */
-				if (evcs instanceof MetaEvcs) {
-					// ignore this Evcs
-					continue;
-				}
+			}
+		}
 
-				managedConsumptionActivePower.addValue(evcs.getChargePowerChannel());
+		for (var charger : this.natureIndex.getChargers()) {
+			/*
+			 * Ess DC-Charger
+			 */
+			productionDcActualPower.addValue(charger.getActualPowerChannel());
+			productionDcActiveEnergy.addValue(charger.getActualEnergyChannel());
+		}
 
-			} else if (component instanceof TimeOfUseTariff tou) {
-				/*
-				 * Time-of-Use-Tariff
-				 */
-				gridBuyPrice.addValue(tou.getPrices().getFirst());
-			}
+		for (var evcs : this.natureIndex.getEvcss()) {
+			/*
+			 * Electric Vehicle Charging Station
+			 */
+			managedConsumptionActivePower.addValue(evcs.getChargePowerChannel());
+		}
+
+		for (var tou : this.natureIndex.getTimeOfUseTariffs()) {
+			/*
+			 * Time-of-Use-Tariff
+			 */
+			gridBuyPrice.addValue(tou.getPrices().getFirst());
 		}
 
 		/*
 		 * Set values
 		 */
 		// Ess
-		this.getEssSocChannel().setNextValue(essSoc.calculate());
+		var essSocAverage = essSoc.calculate();
+		this.getEssSocChannel().setNextValue(essSocAverage);
 		var essActivePowerSum = essActivePower.calculate();
 		this._setEssActivePower(essActivePowerSum);
 		var essActivePowerL1Sum = essActivePowerL1.calculate();
@@ -390,7 +464,8 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 		this._setProductionAcActivePowerL3(productionAcActivePowerL3Sum);
 		var productionDcActualPowerSum = productionDcActualPower.calculate();
 		this._setProductionDcActualPower(productionDcActualPowerSum);
-		this._setProductionActivePower(TypeUtils.sum(productionAcActivePowerSum, productionDcActualPowerSum));
+		var productionActivePowerSum = TypeUtils.sum(productionAcActivePowerSum, productionDcActualPowerSum);
+		this._setProductionActivePower(productionActivePowerSum);
 
 		var productionAcActiveEnergySum = productionAcActiveEnergy.calculate();
 		productionAcActiveEnergySum = this.energyValuesHandler.setValue(Sum.ChannelId.PRODUCTION_AC_ACTIVE_ENERGY,
@@ -412,8 +487,9 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 				essActivePowerL2Sum, gridActivePowerL2Sum, productionAcActivePowerL2Sum));
 		this._setConsumptionActivePowerL3(TypeUtils.sum(//
 				essActivePowerL3Sum, gridActivePowerL3Sum, productionAcActivePowerL3Sum));
-		this._setUnmanagedConsumptionActivePower(
-				TypeUtils.subtract(consumptionActivePower, managedConsumptionActivePower.calculate()));
+		var unmanagedConsumptionActivePower = TypeUtils.subtract(consumptionActivePower,
+				managedConsumptionActivePower.calculate());
+		this._setUnmanagedConsumptionActivePower(unmanagedConsumptionActivePower);
 
 		var enterTheSystem = TypeUtils.sum(essActiveDischargeEnergySum, gridBuyActiveEnergySum,
 				productionAcActiveEnergySum);
@@ -426,6 +502,21 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 		var essDischargePowerSum = essDcDischargePower.calculate();
 		this.getEssDischargePowerChannel().setNextValue(essDischargePowerSum);
 
+		this.snapshot = new Snapshot(//
+				essSocAverage, //
+				essActivePowerSum, //
+				essReactivePowerSum, //
+				essMaxApparentPowerSum, //
+				essCapacitySum, //
+				essDischargePowerSum, //
+				gridMode, //
+				gridActivePowerSum, //
+				productionActivePowerSum, //
+				productionAcActivePowerSum, //
+				productionDcActualPowerSum, //
+				consumptionActivePower, //
+				unmanagedConsumptionActivePower);
+
 		this.updateExtremeEverValues();
 	}
 
@@ -435,7 +526,7 @@ public class SumImpl extends AbstractOpenemsComponent implements Sum, OpenemsCom
 	private void calculateState() {
 		var highestLevel = Level.OK;
 		var hasIgnoredComponentStates = false;
-		for (OpenemsComponent component : this.componentManager.getEnabledComponents()) {
+		for (OpenemsComponent component : this.natureIndex.getComponents()) {
 			if (component == this) {
 				// ignore myself
 				continue;
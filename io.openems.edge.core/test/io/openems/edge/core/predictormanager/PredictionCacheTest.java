@@ -0,0 +1,109 @@
+package io.openems.edge.core.predictormanager;
+
+import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import io.openems.common.types.ChannelAddress;
+import io.openems.edge.predictor.api.prediction.Prediction;
+
+public class PredictionCacheTest {
+
+	private static final ChannelAddress CHANNEL = new ChannelAddress("_sum", "ConsumptionActivePower");
+	private static final ZonedDateTime NOW = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+
+	@Test
+	public void testQuarter() {
+		var sut = new PredictionCache();
+		var loads = new AtomicInteger();
+		var prediction = Prediction.from(NOW, 1, 2, 3);
+
+		assertSame(prediction, sut.get(CHANNEL, NOW, c -> {
+			loads.incrementAndGet();
+			return prediction;
+		}));
+		assertSame(prediction, sut.get(CHANNEL, NOW.plusMinutes(14), c -> {
+			loads.incrementAndGet();
+			return prediction;
+		}));
+		assertEquals(1, loads.get());
+
+		// Next quarter
+		var next = Prediction.from(NOW.plusMinutes(15), 2, 3);
+		assertSame(next, sut.get(CHANNEL, NOW.plusMinutes(15), c -> next));
+		assertEquals(1, sut.getHits());
+		assertEquals(2, sut.getMisses());
+	}
+
+	@Test
+	public void testEmptyPredictionIsNotKept() {
+		var sut = new PredictionCache();
+		assertSame(EMPTY_PREDICTION, sut.get(CHANNEL, NOW, c -> EMPTY_PREDICTION));
+		assertSame(EMPTY_PREDICTION, sut.get(CHANNEL, NOW, c -> EMPTY_PREDICTION));
+		assertEquals(0, sut.getHits());
+		assertEquals(2, sut.getMisses());
+	}
+
+	@Test
+	public void testLoaderException() {
+		var sut = new PredictionCache();
+		try {
+			sut.get(CHANNEL, NOW, c -> {
+				throw new IllegalStateException();
+			});
+			fail();
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		var prediction = Prediction.from(NOW, 1);
+		assertSame(prediction, sut.get(CHANNEL, NOW, c -> prediction));
+	}
+
+	@Test
+	public void testSingleFlight() throws Exception {
+		var sut = new PredictionCache();
+		var loads = new AtomicInteger();
+		var latch = new CountDownLatch(1);
+		var prediction = Prediction.from(NOW, 1, 2, 3);
+
+		var executor = Executors.newFixedThreadPool(8);
+		try {
+			var futures = new ArrayList<Future<Prediction>>();
+			for (var i = 0; i < 8; i++) {
+				futures.add(executor.submit(() -> sut.get(CHANNEL, NOW, c -> {
+					loads.incrementAndGet();
+					try {
+						latch.await(5, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					return prediction;
+				})));
+			}
+			Thread.sleep(100);
+			latch.countDown();
+			for (var future : futures) {
+				assertSame(prediction, future.get(5, TimeUnit.SECONDS));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertEquals(1, loads.get());
+		assertEquals(1, sut.getMisses());
+		assertEquals(7, sut.getHits());
+	}
+
+}
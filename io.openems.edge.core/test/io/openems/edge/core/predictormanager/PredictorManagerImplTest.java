@@ -8,7 +8,6 @@ import static org.junit.Assert.assertEquals;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.List;
 
 import org.junit.Test;
 
@@ -20,7 +19,6 @@ import io.openems.edge.common.test.ComponentTest;
 import io.openems.edge.common.test.DummyComponentManager;
 import io.openems.edge.common.test.DummyConfigurationAdmin;
 import io.openems.edge.predictor.api.prediction.Prediction;
-import io.openems.edge.predictor.api.prediction.Predictor;
 import io.openems.edge.predictor.api.test.DummyPredictor;
 
 public class PredictorManagerImplTest {
@@ -69,10 +67,10 @@ public class PredictorManagerImplTest {
 				SUM_CONSUMPTION_ACTIVE_POWER);
 
 		var sut = new PredictorManagerImpl();
+		sut.addPredictor(consumptionPredictor);
 		new ComponentTest(sut) //
 				.addReference("cm", new DummyConfigurationAdmin()) //
 				.addReference("componentManager", cm) //
-				.addReference("predictors", List.<Predictor>of(consumptionPredictor)) //
 				.activate(MyConfig.create()//
 						.build());
 
@@ -80,6 +78,17 @@ public class PredictorManagerImplTest {
 
 		assertArrayEquals(DEFAULT_CONSUMPTION_PREDICTION,
 				sut.getPrediction(SUM_UNMANAGED_CONSUMPTION_ACTIVE_POWER).asArray());
+
+		// Second request is served from cache
+		assertArrayEquals(DEFAULT_CONSUMPTION_PREDICTION,
+				sut.getPrediction(SUM_UNMANAGED_CONSUMPTION_ACTIVE_POWER).asArray());
+		assertEquals(1L, (long) sut.getPredictionCacheHitsChannel().getNextValue().get());
+		assertEquals(3L, (long) sut.getPredictionCacheMissesChannel().getNextValue().get());
+
+		// Removing a Predictor clears the cache
+		sut.removePredictor(consumptionPredictor);
+		assertEquals(EMPTY_PREDICTION, sut.getPrediction(SUM_UNMANAGED_CONSUMPTION_ACTIVE_POWER));
+		assertEquals(1L, (long) sut.getPredictionCacheHitsChannel().getNextValue().get());
 	}
 
 }
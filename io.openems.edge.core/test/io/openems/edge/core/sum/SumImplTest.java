@@ -1,6 +1,8 @@
 package io.openems.edge.core.sum;
 
 import static io.openems.edge.meter.api.MeterType.GRID;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 
 import org.junit.Test;
 
@@ -10,6 +12,8 @@ import io.openems.edge.common.test.AbstractComponentTest.TestCase;
 import io.openems.edge.common.test.ComponentTest;
 import io.openems.edge.common.test.DummyComponentManager;
 import io.openems.edge.common.test.DummyConfigurationAdmin;
+import io.openems.edge.ess.api.SymmetricEss;
+import io.openems.edge.meter.api.ElectricityMeter;
 import io.openems.edge.meter.api.MeterType;
 import io.openems.edge.meter.test.DummyElectricityMeter;
 
@@ -66,4 +70,46 @@ public class SumImplTest {
 				.output(PRODUCTION_MAX_ACTIVE_POWER, 6666) //
 				.output(CONSUMPTION_MAX_ACTIVE_POWER, 9666));
 	}
+
+	@Test
+	public void testSnapshot() throws OpenemsException, Exception {
+		var sut = new SumImpl();
+		var grid = new DummyElectricityMeter("meter0") //
+				.withMeterType(GRID); //
+		var pv = new DummyElectricityMeter("meter1") //
+				.withMeterType(MeterType.PRODUCTION); //
+		var test = new ComponentTest(sut) //
+				.addComponent(grid) //
+				.addReference("cm", new DummyConfigurationAdmin()) //
+				.addReference("componentManager", new DummyComponentManager()) //
+				.activate(MyConfig.create() //
+						.setGridMinActivePower(0) //
+						.setIgnoreStateComponents() //
+						.build()); //
+
+		grid.withActivePower(-1000);
+		pv.withActivePower(5555);
+		test.next(new TestCase() //
+				.onBeforeProcessImage(() -> sut.updateChannelsBeforeProcessImage()));
+		var snapshot = sut.getSnapshot();
+		assertEquals(Integer.valueOf(-1000), snapshot.gridActivePower());
+		assertNull(snapshot.productionActivePower());
+		assertNull(snapshot.essSoc());
+
+		// Components changed
+		test.addComponent(pv);
+		test.next(new TestCase() //
+				.onBeforeProcessImage(() -> sut.updateChannelsBeforeProcessImage()));
+		snapshot = sut.getSnapshot();
+		assertEquals(Integer.valueOf(-1000), snapshot.gridActivePower());
+		assertEquals(Integer.valueOf(5555), snapshot.productionActivePower());
+		assertEquals(Integer.valueOf(4555), snapshot.consumptionActivePower());
+
+		// Snapshots of the Components
+		var pvSnapshot = sut.getSnapshot("meter1", ElectricityMeter.Snapshot.class);
+		assertEquals(MeterType.PRODUCTION, pvSnapshot.meterType());
+		assertEquals(Integer.valueOf(5555), pvSnapshot.activePower());
+		assertNull(sut.getSnapshot("meter1", SymmetricEss.Snapshot.class));
+		assertNull(sut.getSnapshot("meter2", ElectricityMeter.Snapshot.class));
+	}
 }
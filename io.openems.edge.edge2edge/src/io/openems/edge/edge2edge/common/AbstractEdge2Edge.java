@@ -3,8 +3,11 @@ package io.openems.edge.edge2edge.common;
 import static io.openems.edge.bridge.modbus.api.ModbusUtils.readElementOnce;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 
+import java.net.URI;
+import java.net.URISyntaxException;
 import java.util.ArrayDeque;
 import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
 import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
@@ -15,6 +18,8 @@ import java.util.stream.Collectors;
 import org.osgi.service.cm.ConfigurationAdmin;
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.event.Event;
+import org.osgi.service.event.EventHandler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,6 +40,7 @@ import io.openems.edge.bridge.modbus.api.element.UnsignedWordElement;
 import io.openems.edge.bridge.modbus.api.task.FC16WriteRegistersTask;
 import io.openems.edge.bridge.modbus.api.task.FC3ReadRegistersTask;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.modbusslave.ModbusRecord;
 import io.openems.edge.common.modbusslave.ModbusRecordChannel;
 import io.openems.edge.common.modbusslave.ModbusSlaveNatureTable;
@@ -42,7 +48,7 @@ import io.openems.edge.common.modbusslave.ModbusType;
 import io.openems.edge.common.taskmanager.Priority;
 
 public abstract class AbstractEdge2Edge extends AbstractOpenemsModbusComponent
-		implements Edge2Edge, ModbusComponent, OpenemsComponent {
+		implements Edge2Edge, ModbusComponent, OpenemsComponent, EventHandler {
 
 	private final Logger log = LoggerFactory.getLogger(AbstractEdge2Edge.class);
 
@@ -50,6 +56,7 @@ public abstract class AbstractEdge2Edge extends AbstractOpenemsModbusComponent
 	private final ModbusProtocol modbusProtocol;
 
 	private AccessMode remoteAccessMode;
+	private Edge2EdgeWebsocketClient websocket = null;
 
 	protected AbstractEdge2Edge(List<Function<AccessMode, ModbusSlaveNatureTable>> modbusSlaveNatureTableMethods,
 			io.openems.edge.common.channel.ChannelId[] firstInitialChannelIds,
@@ -67,12 +74,22 @@ public abstract class AbstractEdge2Edge extends AbstractOpenemsModbusComponent
 
 	protected boolean activate(ComponentContext context, String id, String alias, boolean enabled, int unitId,
 			ConfigurationAdmin cm, String modbusReference, String modbusId, String remoteComponentId,
-			AccessMode remoteAccessMode) throws OpenemsException {
+			AccessMode remoteAccessMode, Transport transport, String websocketUri, String websocketPassword,
+			int maxStaleness) throws OpenemsException {
 		this.remoteAccessMode = remoteAccessMode;
 		if (super.activate(context, id, alias, enabled, unitId, cm, modbusReference, modbusId)) {
 			return true;
 		}
 
+		if (transport == Transport.WEBSOCKET) {
+			if (this.isEnabled()) {
+				this.websocket = this.createWebsocketClient(websocketUri, websocketPassword, remoteComponentId,
+						maxStaleness);
+				this.websocket.start();
+			}
+			return false;
+		}
+
 		this.isOpenems().thenAccept(isOpenems -> {
 			this._setRemoteNoOpenems(!isOpenems);
 			if (!isOpenems) {
@@ -112,9 +129,85 @@ public abstract class AbstractEdge2Edge extends AbstractOpenemsModbusComponent
 
 	@Deactivate
 	protected void deactivate() {
+		if (this.websocket != null) {
+			this.websocket.stop();
+			this.websocket = null;
+		}
 		super.deactivate();
 	}
 
+	@Override
+	public void handleEvent(Event event) {
+		var websocket = this.websocket;
+		if (!this.isEnabled() || websocket == null) {
+			return;
+		}
+		switch (event.getTopic()) {
+		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE:
+			websocket.applyValues();
+			break;
+
+		case EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE:
+			websocket.writeValues();
+			break;
+		}
+	}
+
+	/**
+	 * Creates the {@link Edge2EdgeWebsocketClient} for {@link Transport#WEBSOCKET}.
+	 *
+	 * <p>
+	 * Instead of reading the Modbus/TCP protocol of the slave, the mapping is
+	 * derived from the local {@link ModbusSlaveNatureTable}s: every
+	 * {@link ModbusRecordChannel} is mirrored from the remote Channel with the
+	 * same Channel-ID.
+	 *
+	 * @param uri               the URI of the Websocket-Api of the slave
+	 * @param password          the password for authentication at the slave
+	 * @param remoteComponentId the Component-ID at the slave
+	 * @param maxStaleness      the staleness bound in [ms]
+	 * @return the {@link Edge2EdgeWebsocketClient}
+	 * @throws OpenemsException on error
+	 */
+	private Edge2EdgeWebsocketClient createWebsocketClient(String uri, String password, String remoteComponentId,
+			int maxStaleness) throws OpenemsException {
+		final URI serverUri;
+		try {
+			serverUri = new URI(uri);
+		} catch (URISyntaxException e) {
+			throw new OpenemsException("Websocket URI [" + uri + "] is invalid: " + e.getMessage());
+		}
+
+		var readChannels = new HashMap<String, io.openems.edge.common.channel.ChannelId>();
+		var writeChannels = new HashMap<io.openems.edge.common.channel.ChannelId, String>();
+		for (var method : this.modbusSlaveNatureTableMethods) {
+			var modbusSlaveNatureTable = method.apply(this.remoteAccessMode);
+			for (var record : modbusSlaveNatureTable.getModbusRecords()) {
+				if (!(record instanceof ModbusRecordChannel r)) {
+					// Cycle-Values are not available as Channels
+					continue;
+				}
+				var channelId = r.getChannelId();
+				if ((record.getAccessMode() == AccessMode.READ_ONLY || record.getAccessMode() == AccessMode.READ_WRITE)
+						&& channelId.doc().getAccessMode() != AccessMode.WRITE_ONLY) {
+					readChannels.put(channelId.id(), channelId);
+				}
+				if (record.getAccessMode() == AccessMode.WRITE_ONLY
+						|| record.getAccessMode() == AccessMode.READ_WRITE) {
+					var writeChannelId = this.getWriteChannelId(modbusSlaveNatureTable, record);
+					if (writeChannelId != null) {
+						writeChannels.put(writeChannelId, channelId.id());
+					}
+				}
+			}
+		}
+		for (var channelId : this.getWebsocketReadChannelIds()) {
+			readChannels.put(channelId.id(), channelId);
+		}
+		return new Edge2EdgeWebsocketClient(this, serverUri, password, remoteComponentId, readChannels, writeChannels,
+				maxStaleness);
+	}
+
 	/**
 	 * Validates that this device is a OpenEMS.
 	 *
@@ -324,6 +417,17 @@ public abstract class AbstractEdge2Edge extends AbstractOpenemsModbusComponent
 	protected abstract Consumer<Object> getOnUpdateCallback(ModbusSlaveNatureTable modbusSlaveNatureTable,
 			ModbusRecord record);
 
+	/**
+	 * Provide additional local ChannelIds that get mirrored from the remote Channel
+	 * with the same Channel-ID for {@link Transport#WEBSOCKET}, e.g. to replace
+	 * Registers that are handled by {@link #getOnUpdateCallback}.
+	 *
+	 * @return a list of local ChannelIds
+	 */
+	protected List<io.openems.edge.common.channel.ChannelId> getWebsocketReadChannelIds() {
+		return List.of();
+	}
+
 	/**
 	 * Provide a local ChannelId that gets mapped to remote READ_WRITE or WRITE_ONLY
 	 * registers.
@@ -11,6 +11,8 @@ public interface Edge2Edge extends OpenemsComponent {
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		REMOTE_NO_OPENEMS(Doc.of(Level.FAULT)), //
 		MAPPING_REMOTE_PROTOCOL_FAULT(Doc.of(Level.FAULT)), //
+		REMOTE_DATA_STALE(Doc.of(Level.WARNING) //
+				.text("No current data from the slave OpenEMS Edge within the staleness bound")), //
 		;
 
 		private final Doc doc;
@@ -82,4 +84,33 @@ public interface Edge2Edge extends OpenemsComponent {
 	public default void _setMappingRemoteProtocolFault(Boolean value) {
 		this.getMappingRemoteProtocolFaultChannel().setNextValue(value);
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#REMOTE_DATA_STALE}.
+	 *
+	 * @return the Channel
+	 */
+	public default StateChannel getRemoteDataStaleChannel() {
+		return this.channel(ChannelId.REMOTE_DATA_STALE);
+	}
+
+	/**
+	 * Gets the boolean if the state channel is active. See
+	 * {@link ChannelId#REMOTE_DATA_STALE}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Boolean> getRemoteDataStale() {
+		return this.getRemoteDataStaleChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#REMOTE_DATA_STALE}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setRemoteDataStale(Boolean value) {
+		this.getRemoteDataStaleChannel().setNextValue(value);
+	}
 }
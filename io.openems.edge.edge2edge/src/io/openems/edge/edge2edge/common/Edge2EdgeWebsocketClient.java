@@ -0,0 +1,312 @@
+package io.openems.edge.edge2edge.common;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.java_websocket.WebSocket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.jsonrpc.base.GenericJsonrpcRequest;
+import io.openems.common.jsonrpc.notification.CurrentDataNotification;
+import io.openems.common.jsonrpc.notification.EdgeRpcNotification;
+import io.openems.common.jsonrpc.request.AuthenticateWithPasswordRequest;
+import io.openems.common.jsonrpc.request.EdgeRpcRequest;
+import io.openems.common.jsonrpc.request.SetChannelValueRequest;
+import io.openems.common.jsonrpc.request.SubscribeChannelsRequest;
+import io.openems.common.utils.JsonUtils;
+import io.openems.common.utils.ThreadPoolUtils;
+import io.openems.common.websocket.AbstractWebsocketClient;
+import io.openems.common.websocket.OnClose;
+import io.openems.common.websocket.OnError;
+import io.openems.common.websocket.OnNotification;
+import io.openems.common.websocket.OnOpen;
+import io.openems.common.websocket.OnRequest;
+import io.openems.common.websocket.WsData;
+import io.openems.edge.common.channel.ChannelId;
+import io.openems.edge.common.channel.WriteChannel;
+import io.openems.edge.common.event.EdgeEventConstants;
+
+/**
+ * Mirrors the Channels of a Component at a slave OpenEMS Edge via its
+ * Websocket-Api ('Controller.Api.Websocket').
+ *
+ * <p>
+ * After authentication the Channels are subscribed once; the slave then pushes
+ * their values once per Cycle over the persistent connection. Received values
+ * are applied to the local Channels before the next process image via
+ * {@link #applyValues()}. If no values were received within the staleness
+ * bound, all mirrored Channels are set to null.
+ *
+ * <p>
+ * Write-Channels are forwarded via {@link SetChannelValueRequest} in
+ * {@link #writeValues()}. This requires the user to have the 'admin' role at
+ * the slave OpenEMS Edge.
+ */
+public class Edge2EdgeWebsocketClient extends AbstractWebsocketClient<WsData> {
+
+	/**
+	 * The Edge-ID of the Websocket-Api of an OpenEMS Edge.
+	 */
+	private static final String REMOTE_EDGE_ID = "0";
+
+	private final Logger log = LoggerFactory.getLogger(Edge2EdgeWebsocketClient.class);
+	private final Edge2Edge parent;
+	private final String password;
+	private final String remoteComponentId;
+	private final Map<String, ChannelId> readChannels;
+	private final Map<ChannelId, String> writeChannels;
+	private final long maxStalenessMillis;
+	private final ExecutorService executor;
+	private final AtomicInteger subscribeCount = new AtomicInteger(0);
+
+	/**
+	 * Holds the latest received values by remote Channel-ID.
+	 */
+	private final Map<String, JsonElement> values = new ConcurrentHashMap<>();
+
+	/**
+	 * Timestamp in [ms] of the latest received values; null if no values were
+	 * received yet.
+	 */
+	private volatile Long lastUpdate = null;
+
+	private final OnOpen onOpen;
+	private final OnNotification onNotification;
+	private final OnError onError;
+	private final OnClose onClose;
+
+	/**
+	 * Constructs a {@link Edge2EdgeWebsocketClient}.
+	 *
+	 * @param parent             the parent {@link Edge2Edge} Component
+	 * @param serverUri          the URI of the Websocket-Api of the slave
+	 * @param password           the password for authentication at the slave
+	 * @param remoteComponentId  the Component-ID at the slave
+	 * @param readChannels       the mirrored Channels: remote Channel-ID to local
+	 *                           {@link ChannelId}
+	 * @param writeChannels      the forwarded Channels: local Write-Channel to
+	 *                           remote Channel-ID
+	 * @param maxStalenessMillis the staleness bound in [ms]
+	 */
+	public Edge2EdgeWebsocketClient(Edge2Edge parent, URI serverUri, String password, String remoteComponentId,
+			Map<String, ChannelId> readChannels, Map<ChannelId, String> writeChannels, long maxStalenessMillis) {
+		super("Edge2Edge.Websocket:" + parent.id(), serverUri);
+		this.parent = parent;
+		this.password = password;
+		this.remoteComponentId = remoteComponentId;
+		this.readChannels = Map.copyOf(readChannels);
+		this.writeChannels = Map.copyOf(writeChannels);
+		this.maxStalenessMillis = maxStalenessMillis;
+		this.executor = Executors.newSingleThreadExecutor(
+				new ThreadFactoryBuilder().setNameFormat("Edge2Edge.Websocket:" + parent.id() + "-%d").build());
+
+		this.onOpen = (ws, handshake) -> {
+			this.subscribe();
+			return null;
+		};
+		this.onNotification = (ws, notification) -> {
+			if (!notification.getMethod().equals(EdgeRpcNotification.METHOD)) {
+				return;
+			}
+			var payload = JsonUtils.getAsJsonObject(notification.getParams(), "payload");
+			if (!JsonUtils.getAsString(payload, "method").equals(CurrentDataNotification.METHOD)) {
+				return;
+			}
+			this.handleCurrentData(JsonUtils.getAsJsonObject(payload, "params"), currentTimeMillis());
+		};
+		this.onError = (ws, ex) -> {
+			this.logWarn(this.log, "Websocket error: " + ex.getMessage());
+		};
+		this.onClose = (ws, code, reason, remote) -> {
+			this.logWarn(this.log, "Disconnected from slave OpenEMS Edge [" + serverUri + "]");
+		};
+	}
+
+	@Override
+	public void stop() {
+		super.stop();
+		ThreadPoolUtils.shutdownAndAwaitTermination(this.executor, 0);
+	}
+
+	/**
+	 * Authenticates and subscribes the Channels.
+	 */
+	private void subscribe() {
+		var channels = new JsonArray();
+		for (var channelId : this.readChannels.keySet()) {
+			channels.add(this.remoteComponentId + "/" + channelId);
+		}
+		var subscribeChannelsRequest = new GenericJsonrpcRequest(SubscribeChannelsRequest.METHOD,
+				JsonUtils.buildJsonObject() //
+						.addProperty("count", this.subscribeCount.incrementAndGet()) //
+						.add("channels", channels) //
+						.build());
+
+		this.sendRequest(new AuthenticateWithPasswordRequest(Optional.empty(), this.password)) //
+				.thenCompose(r -> this.sendRequest(new EdgeRpcRequest(REMOTE_EDGE_ID, subscribeChannelsRequest))) //
+				.whenComplete((r, e) -> {
+					this.parent._setMappingRemoteProtocolFault(e != null);
+					if (e != null) {
+						this.logWarn(this.log, "Unable to subscribe Channels: " + e.getMessage());
+					} else {
+						this.logInfo(this.log, "Subscribed " + this.readChannels.size() + " Channels of ["
+								+ this.remoteComponentId + "]");
+					}
+				});
+	}
+
+	/**
+	 * Handles the params of a {@link CurrentDataNotification}.
+	 *
+	 * @param data the params, i.e. Channel-Address to value
+	 * @param now  the current timestamp in [ms]
+	 */
+	protected void handleCurrentData(JsonObject data, long now) {
+		for (var entry : data.entrySet()) {
+			var address = entry.getKey();
+			var separator = address.indexOf('/');
+			if (separator < 0 || !address.substring(0, separator).equals(this.remoteComponentId)) {
+				continue;
+			}
+			var channelId = address.substring(separator + 1);
+			if (this.readChannels.containsKey(channelId)) {
+				this.values.put(channelId, entry.getValue());
+			}
+		}
+		this.lastUpdate = now;
+	}
+
+	/**
+	 * Applies the latest received values to the local Channels. Call this method
+	 * on {@link EdgeEventConstants#TOPIC_CYCLE_BEFORE_PROCESS_IMAGE}.
+	 */
+	public void applyValues() {
+		this.applyValues(currentTimeMillis());
+	}
+
+	/**
+	 * Applies the latest received values to the local Channels.
+	 *
+	 * @param now the current timestamp in [ms]
+	 */
+	protected void applyValues(long now) {
+		var lastUpdate = this.lastUpdate;
+		var isStale = lastUpdate == null || now - lastUpdate > this.maxStalenessMillis;
+		this.parent._setRemoteDataStale(isStale);
+		for (var entry : this.readChannels.entrySet()) {
+			var channel = this.parent.channel(entry.getValue());
+			if (isStale) {
+				channel.setNextValue(null);
+				continue;
+			}
+			var value = this.values.get(entry.getKey());
+			if (value == null) {
+				continue;
+			}
+			try {
+				channel.setNextValue(value.isJsonNull() ? null : JsonUtils.getAsBestType(value));
+			} catch (OpenemsNamedException | IllegalArgumentException e) {
+				this.logWarn(this.log, "Unable to set value [" + value + "] for Channel [" + channel.address() + "]: "
+						+ e.getMessage());
+				channel.setNextValue(null);
+			}
+		}
+	}
+
+	/**
+	 * Forwards the next write values of the Write-Channels to the slave OpenEMS
+	 * Edge. Call this method on
+	 * {@link EdgeEventConstants#TOPIC_CYCLE_EXECUTE_WRITE}.
+	 */
+	public void writeValues() {
+		for (var entry : this.writeChannels.entrySet()) {
+			WriteChannel<?> channel = this.parent.channel(entry.getKey());
+			var value = channel.getNextWriteValueAndReset();
+			if (value.isEmpty() || !this.ws.isOpen()) {
+				continue;
+			}
+			var request = new SetChannelValueRequest(this.remoteComponentId, entry.getValue(),
+					JsonUtils.getAsJsonElement(value.get()));
+			this.sendRequest(new EdgeRpcRequest(REMOTE_EDGE_ID, request)).whenComplete((r, e) -> {
+				if (e != null) {
+					this.logWarn(this.log, "Unable to set [" + request.getChannelAddress() + "]: " + e.getMessage());
+				}
+			});
+		}
+	}
+
+	private static long currentTimeMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+	}
+
+	@Override
+	protected OnOpen getOnOpen() {
+		return this.onOpen;
+	}
+
+	@Override
+	protected OnRequest getOnRequest() {
+		return OnRequest.NO_OP;
+	}
+
+	@Override
+	protected OnNotification getOnNotification() {
+		return this.onNotification;
+	}
+
+	@Override
+	protected OnError getOnError() {
+		return this.onError;
+	}
+
+	@Override
+	protected OnClose getOnClose() {
+		return this.onClose;
+	}
+
+	@Override
+	protected WsData createWsData(WebSocket ws) {
+		return new WsData(ws) {
+			@Override
+			public String toString() {
+				return "Edge2Edge.WsData []";
+			}
+		};
+	}
+
+	@Override
+	protected void logInfo(Logger log, String message) {
+		log.info("[" + this.parent.id() + "] " + message);
+	}
+
+	@Override
+	protected void logWarn(Logger log, String message) {
+		log.warn("[" + this.parent.id() + "] " + message);
+	}
+
+	@Override
+	protected void logError(Logger log, String message) {
+		log.error("[" + this.parent.id() + "] " + message);
+	}
+
+	@Override
+	protected void execute(Runnable command) {
+		if (!this.executor.isShutdown()) {
+			this.executor.execute(command);
+		}
+	}
+
+}
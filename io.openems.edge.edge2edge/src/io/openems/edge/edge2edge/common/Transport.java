@@ -0,0 +1,14 @@
+package io.openems.edge.edge2edge.common;
+
+public enum Transport {
+	/**
+	 * Polls the Modbus/TCP-Api ('Controller.Api.ModbusTcp') of the slave OpenEMS
+	 * Edge.
+	 */
+	MODBUS,
+	/**
+	 * Subscribes to the Channels via the Websocket-Api ('Controller.Api.Websocket')
+	 * of the slave OpenEMS Edge; values are pushed once per Cycle.
+	 */
+	WEBSOCKET;
+}
@@ -1,9 +1,11 @@
 package io.openems.edge.edge2edge.ess;
 
 import org.osgi.service.metatype.annotations.AttributeDefinition;
+import org.osgi.service.metatype.annotations.AttributeType;
 import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 
 import io.openems.common.channel.AccessMode;
+import io.openems.edge.edge2edge.common.Transport;
 
 @ObjectClassDefinition(//
 		name = "Edge-2-Edge ESS", //
@@ -25,7 +27,19 @@ import io.openems.common.channel.AccessMode;
 	@AttributeDefinition(name = "Remote Component-ID", description = "Component-ID of ESS at the slave OpenEMS Edge.")
 	String remoteComponentId() default "ess0";
 
-	@AttributeDefinition(name = "Modbus-ID", description = "ID of Modbus bridge.")
+	@AttributeDefinition(name = "Transport", description = "Modbus/TCP polls the Modbus/TCP-Api of the slave OpenEMS Edge; Websocket subscribes to its Channels via the Websocket-Api.")
+	Transport transport() default Transport.MODBUS;
+
+	@AttributeDefinition(name = "Websocket-URI", description = "URI of the Websocket-Api at the slave OpenEMS Edge. Only for Transport 'Websocket'.")
+	String websocketUri() default "ws://192.168.1.10:8085";
+
+	@AttributeDefinition(name = "Websocket-Password", description = "Password for the Websocket-Api at the slave OpenEMS Edge. Only for Transport 'Websocket'.", type = AttributeType.PASSWORD)
+	String websocketPassword() default "";
+
+	@AttributeDefinition(name = "Max Staleness [ms]", description = "Channels are set to 'undefined' if no data was received from the slave OpenEMS Edge within this time. Only for Transport 'Websocket'.")
+	int maxStaleness() default 3000;
+
+	@AttributeDefinition(name = "Modbus-ID", description = "ID of Modbus bridge. Only for Transport 'Modbus/TCP'.")
 	String modbus_id() default "modbus0";
 
 	@AttributeDefinition(name = "Modbus Unit-ID", description = "The Unit-ID of the Modbus device.")
@@ -13,6 +13,8 @@ import org.osgi.service.component.annotations.Reference;
 import org.osgi.service.component.annotations.ReferenceCardinality;
 import org.osgi.service.component.annotations.ReferencePolicy;
 import org.osgi.service.component.annotations.ReferencePolicyOption;
+import org.osgi.service.event.EventHandler;
+import org.osgi.service.event.propertytypes.EventTopics;
 import org.osgi.service.metatype.annotations.Designate;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
@@ -21,6 +23,7 @@ import io.openems.common.types.OpenemsType;
 import io.openems.edge.bridge.modbus.api.BridgeModbus;
 import io.openems.edge.bridge.modbus.api.ModbusComponent;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.common.event.EdgeEventConstants;
 import io.openems.edge.common.modbusslave.ModbusRecord;
 import io.openems.edge.common.modbusslave.ModbusRecordChannel;
 import io.openems.edge.common.modbusslave.ModbusSlaveNatureTable;
@@ -39,8 +42,12 @@ import io.openems.edge.ess.power.api.Power;
 		immediate = true, //
 		configurationPolicy = ConfigurationPolicy.REQUIRE //
 )
+@EventTopics({ //
+		EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, //
+		EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE //
+})
 public class Edge2EdgeEssImpl extends AbstractEdge2Edge implements ManagedSymmetricEss, AsymmetricEss, SymmetricEss,
-		Edge2EdgeEss, Edge2Edge, ModbusComponent, OpenemsComponent {
+		Edge2EdgeEss, Edge2Edge, ModbusComponent, OpenemsComponent, EventHandler {
 
 	@Reference
 	private ConfigurationAdmin cm;
@@ -48,7 +55,7 @@ public class Edge2EdgeEssImpl extends AbstractEdge2Edge implements ManagedSymmet
 	@Reference
 	private Power power;
 
-	@Reference(policy = ReferencePolicy.STATIC, policyOption = ReferencePolicyOption.GREEDY, cardinality = ReferenceCardinality.MANDATORY)
+	@Reference(policy = ReferencePolicy.STATIC, policyOption = ReferencePolicyOption.GREEDY, cardinality = ReferenceCardinality.OPTIONAL)
 	protected void setModbus(BridgeModbus modbus) {
 		super.setModbus(modbus);
 	}
@@ -77,7 +84,8 @@ public class Edge2EdgeEssImpl extends AbstractEdge2Edge implements ManagedSymmet
 	@Activate
 	private void activate(ComponentContext context, Config config) throws OpenemsException {
 		if (super.activate(context, config.id(), config.alias(), config.enabled(), config.modbusUnitId(), this.cm,
-				"Modbus", config.modbus_id(), config.remoteComponentId(), config.remoteAccessMode())) {
+				"Modbus", config.modbus_id(), config.remoteComponentId(), config.remoteAccessMode(), config.transport(),
+				config.websocketUri(), config.websocketPassword(), config.maxStaleness())) {
 			return;
 		}
 	}
@@ -101,6 +109,13 @@ public class Edge2EdgeEssImpl extends AbstractEdge2Edge implements ManagedSymmet
 		return null;
 	}
 
+	@Override
+	protected List<io.openems.edge.common.channel.ChannelId> getWebsocketReadChannelIds() {
+		// Replaces "Minimum/Maximum Power Set-Point" of the Modbus/TCP-Api
+		return List.of(ManagedSymmetricEss.ChannelId.ALLOWED_CHARGE_POWER,
+				ManagedSymmetricEss.ChannelId.ALLOWED_DISCHARGE_POWER);
+	}
+
 	@Override
 	protected io.openems.edge.common.channel.ChannelId getWriteChannelId(ModbusSlaveNatureTable modbusSlaveNatureTable,
 			ModbusRecord record) {
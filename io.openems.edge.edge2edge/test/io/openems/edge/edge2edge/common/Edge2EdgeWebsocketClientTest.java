@@ -0,0 +1,51 @@
+package io.openems.edge.edge2edge.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.openems.common.utils.JsonUtils;
+import io.openems.edge.edge2edge.ess.Edge2EdgeEss;
+import io.openems.edge.edge2edge.ess.Edge2EdgeEssImpl;
+import io.openems.edge.ess.api.ManagedSymmetricEss;
+import io.openems.edge.ess.api.SymmetricEss;
+
+public class Edge2EdgeWebsocketClientTest {
+
+	@Test
+	public void testApplyValues() throws Exception {
+		var ess = new Edge2EdgeEssImpl();
+		var sut = new Edge2EdgeWebsocketClient(ess, new URI("ws://localhost:1"), "", "ess0", //
+				Map.of("Soc", SymmetricEss.ChannelId.SOC), //
+				Map.of(Edge2EdgeEss.ChannelId.REMOTE_SET_ACTIVE_POWER_EQUALS,
+						ManagedSymmetricEss.ChannelId.SET_ACTIVE_POWER_EQUALS.id()), //
+				1000);
+
+		// No data yet
+		sut.applyValues(0);
+		assertTrue(ess.getRemoteDataStaleChannel().getNextValue().get());
+
+		// Receive data; ignore other Components and Channels
+		sut.handleCurrentData(JsonUtils.buildJsonObject() //
+				.addProperty("ess0/Soc", 55) //
+				.addProperty("ess0/ActivePower", 1000) //
+				.addProperty("ess1/Soc", 10) //
+				.build(), 500);
+		sut.applyValues(1000);
+		assertFalse(ess.getRemoteDataStaleChannel().getNextValue().get());
+		assertEquals(55, (int) ess.getSocChannel().getNextValue().get());
+		assertNull(ess.getActivePowerChannel().getNextValue().get());
+
+		// Staleness bound exceeded
+		sut.applyValues(1501);
+		assertTrue(ess.getRemoteDataStaleChannel().getNextValue().get());
+		assertNull(ess.getSocChannel().getNextValue().get());
+	}
+
+}
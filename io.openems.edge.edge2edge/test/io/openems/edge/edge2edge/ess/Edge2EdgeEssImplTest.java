@@ -3,15 +3,18 @@ package io.openems.edge.edge2edge.ess;
 import org.junit.Test;
 
 import io.openems.common.channel.AccessMode;
+import io.openems.common.types.ChannelAddress;
 import io.openems.edge.bridge.modbus.test.DummyModbusBridge;
 import io.openems.edge.common.test.AbstractComponentTest.TestCase;
 import io.openems.edge.common.test.ComponentTest;
 import io.openems.edge.common.test.DummyConfigurationAdmin;
+import io.openems.edge.edge2edge.common.Transport;
 
 public class Edge2EdgeEssImplTest {
 
 	private static final String COMPONENT_ID = "ess0";
 	private static final String MODBUS_ID = "modbus0";
+	private static final ChannelAddress REMOTE_DATA_STALE = new ChannelAddress(COMPONENT_ID, "RemoteDataStale");
 
 	@Test
 	public void test() throws Exception {
@@ -27,4 +30,21 @@ public class Edge2EdgeEssImplTest {
 				.next(new TestCase());
 	}
 
+	@Test
+	public void testWebsocket() throws Exception {
+		new ComponentTest(new Edge2EdgeEssImpl()) //
+				.addReference("cm", new DummyConfigurationAdmin()) //
+				.activate(MyConfig.create() //
+						.setId(COMPONENT_ID) //
+						.setModbusId(MODBUS_ID) //
+						.setRemoteAccessMode(AccessMode.READ_WRITE) //
+						.setRemoteComponentId(COMPONENT_ID) //
+						.setTransport(Transport.WEBSOCKET) //
+						.setWebsocketUri("ws://localhost:1") //
+						.build())
+				.next(new TestCase() //
+						.output(REMOTE_DATA_STALE, true)) //
+				.deactivate();
+	}
+
 }
@@ -3,6 +3,7 @@ package io.openems.edge.edge2edge.ess;
 import io.openems.common.channel.AccessMode;
 import io.openems.common.test.AbstractComponentConfig;
 import io.openems.common.utils.ConfigUtils;
+import io.openems.edge.edge2edge.common.Transport;
 
 @SuppressWarnings("all")
 public class MyConfig extends AbstractComponentConfig implements Config {
@@ -13,6 +14,10 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private int modbusUnitId;
 		private String remoteComponentId;
 		private AccessMode remoteAccessMode;
+		private Transport transport = Transport.MODBUS;
+		private String websocketUri = "";
+		private String websocketPassword = "";
+		private int maxStaleness = 3000;
 
 		private Builder() {
 		}
@@ -42,6 +47,26 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setTransport(Transport transport) {
+			this.transport = transport;
+			return this;
+		}
+
+		public Builder setWebsocketUri(String websocketUri) {
+			this.websocketUri = websocketUri;
+			return this;
+		}
+
+		public Builder setWebsocketPassword(String websocketPassword) {
+			this.websocketPassword = websocketPassword;
+			return this;
+		}
+
+		public Builder setMaxStaleness(int maxStaleness) {
+			this.maxStaleness = maxStaleness;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -87,4 +112,24 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 	public AccessMode remoteAccessMode() {
 		return this.builder.remoteAccessMode;
 	}
-}
\ No newline at end of file
+
+	@Override
+	public Transport transport() {
+		return this.builder.transport;
+	}
+
+	@Override
+	public String websocketUri() {
+		return this.builder.websocketUri;
+	}
+
+	@Override
+	public String websocketPassword() {
+		return this.builder.websocketPassword;
+	}
+
+	@Override
+	public int maxStaleness() {
+		return this.builder.maxStaleness;
+	}
+}
@@ -1,6 +1,12 @@
 package io.openems.edge.energy.api;
 
+import io.openems.common.channel.Unit;
+import io.openems.common.types.OpenemsType;
+import io.openems.edge.common.channel.BooleanReadChannel;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.DoubleReadChannel;
+import io.openems.edge.common.channel.LongReadChannel;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.jsonapi.ComponentJsonApi;
 
@@ -13,6 +19,16 @@ public interface EnergyScheduler extends OpenemsComponent, ComponentJsonApi {
 	public static final String SINGLETON_COMPONENT_ID = "_energy";
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+		OPTIMIZER_RUNTIME(Doc.of(OpenemsType.LONG) //
+				.unit(Unit.MILLISECONDS) //
+				.text("Runtime of the last Optimizer run")), //
+		OPTIMIZER_GENERATIONS(Doc.of(OpenemsType.LONG) //
+				.text("Number of generations evaluated in the last Optimizer run")), //
+		OPTIMIZER_COST_IMPROVEMENT(Doc.of(OpenemsType.DOUBLE) //
+				.unit(Unit.PERCENT) //
+				.text("Cost improvement of the last Optimizer run compared to its initial population")), //
+		OPTIMIZER_INCREMENTAL(Doc.of(OpenemsType.BOOLEAN) //
+				.text("Last Optimizer run was an incremental re-optimization")), //
 		;
 
 		private final Doc doc;
@@ -26,4 +42,120 @@ public interface EnergyScheduler extends OpenemsComponent, ComponentJsonApi {
 			return this.doc;
 		}
 	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OPTIMIZER_RUNTIME}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getOptimizerRuntimeChannel() {
+		return this.channel(ChannelId.OPTIMIZER_RUNTIME);
+	}
+
+	/**
+	 * Gets the Runtime of the last Optimizer run in [ms]. See
+	 * {@link ChannelId#OPTIMIZER_RUNTIME}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getOptimizerRuntime() {
+		return this.getOptimizerRuntimeChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on {@link ChannelId#OPTIMIZER_RUNTIME}
+	 * Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOptimizerRuntime(Long value) {
+		this.getOptimizerRuntimeChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OPTIMIZER_GENERATIONS}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getOptimizerGenerationsChannel() {
+		return this.channel(ChannelId.OPTIMIZER_GENERATIONS);
+	}
+
+	/**
+	 * Gets the Number of generations evaluated in the last Optimizer run. See
+	 * {@link ChannelId#OPTIMIZER_GENERATIONS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getOptimizerGenerations() {
+		return this.getOptimizerGenerationsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#OPTIMIZER_GENERATIONS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOptimizerGenerations(Long value) {
+		this.getOptimizerGenerationsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OPTIMIZER_COST_IMPROVEMENT}.
+	 *
+	 * @return the Channel
+	 */
+	public default DoubleReadChannel getOptimizerCostImprovementChannel() {
+		return this.channel(ChannelId.OPTIMIZER_COST_IMPROVEMENT);
+	}
+
+	/**
+	 * Gets the Cost improvement of the last Optimizer run in [%]. See
+	 * {@link ChannelId#OPTIMIZER_COST_IMPROVEMENT}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Double> getOptimizerCostImprovement() {
+		return this.getOptimizerCostImprovementChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#OPTIMIZER_COST_IMPROVEMENT} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOptimizerCostImprovement(Double value) {
+		this.getOptimizerCostImprovementChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#OPTIMIZER_INCREMENTAL}.
+	 *
+	 * @return the Channel
+	 */
+	public default BooleanReadChannel getOptimizerIncrementalChannel() {
+		return this.channel(ChannelId.OPTIMIZER_INCREMENTAL);
+	}
+
+	/**
+	 * Gets whether the last Optimizer run was an incremental re-optimization. See
+	 * {@link ChannelId#OPTIMIZER_INCREMENTAL}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Boolean> getOptimizerIncremental() {
+		return this.getOptimizerIncrementalChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#OPTIMIZER_INCREMENTAL} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setOptimizerIncremental(Boolean value) {
+		this.getOptimizerIncrementalChannel().setNextValue(value);
+	}
 }
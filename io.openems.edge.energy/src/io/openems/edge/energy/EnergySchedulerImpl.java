@@ -101,6 +101,11 @@ public class EnergySchedulerImpl extends AbstractOpenemsComponent
 					.setPredictorManager(this.predictorManager) //
 					.setTimeOfUseTariff(this.timeOfUseTariff) //
 					.build();
+		}, statistics -> {
+			this._setOptimizerRuntime(statistics.runtime());
+			this._setOptimizerGenerations(statistics.generations());
+			this._setOptimizerCostImprovement(statistics.costImprovement());
+			this._setOptimizerIncremental(statistics.incremental());
 		});
 	}
 
@@ -130,6 +135,8 @@ public class EnergySchedulerImpl extends AbstractOpenemsComponent
 			return false;
 		}
 
+		this.optimizer.setSolver(config.solver());
+		this.optimizer.setEvaluationThreads(config.optimizerThreads());
 		return true;
 	}
 
@@ -0,0 +1,169 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.energy.optimizer.Simulator.EFFICIENCY_FACTOR;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+/**
+ * Allocation-free variant of
+ * {@link Simulator#calculateCost(Params, StateMachine[])} for the fitness
+ * evaluation of the Optimizer.
+ *
+ * <p>
+ * The values of the {@link Params.OptimizePeriod}s are precomputed to primitive
+ * arrays once per {@link Params}; a Schedule is given as the indexes of its
+ * states in {@link Params#states()}. The {@link EnergyFlow} is simulated
+ * inline, i.e. without creating a record per period.
+ *
+ * <p>
+ * Instances are immutable and can be shared between threads.
+ */
+public class CostFunction {
+
+	private static final int MODE_BALANCING = 0;
+	private static final int MODE_DELAY_DISCHARGE = 1;
+	private static final int MODE_CHARGE_GRID = 2;
+
+	private final int essTotalEnergy;
+	private final int essMinSocEnergy;
+	private final int essMaxSocEnergy;
+	private final int essInitialEnergy;
+	private final int[] modes;
+	private final int[] production;
+	private final int[] consumption;
+	private final int[] essMaxChargeEnergy;
+	private final int[] essMaxDischargeEnergy;
+	private final int[] essChargeInChargeGrid;
+	private final int[] maxBuyFromGrid;
+	private final double[] price;
+
+	public CostFunction(Params p) {
+		this.essTotalEnergy = p.essTotalEnergy();
+		this.essMinSocEnergy = p.essMinSocEnergy();
+		this.essMaxSocEnergy = p.essMaxSocEnergy();
+		this.essInitialEnergy = p.essInitialEnergy();
+
+		this.modes = new int[p.states().length];
+		for (var i = 0; i < this.modes.length; i++) {
+			this.modes[i] = switch (p.states()[i]) {
+			case BALANCING -> MODE_BALANCING;
+			case DELAY_DISCHARGE -> MODE_DELAY_DISCHARGE;
+			case CHARGE_GRID -> MODE_CHARGE_GRID;
+			};
+		}
+
+		var size = p.optimizePeriods().size();
+		this.production = new int[size];
+		this.consumption = new int[size];
+		this.essMaxChargeEnergy = new int[size];
+		this.essMaxDischargeEnergy = new int[size];
+		this.essChargeInChargeGrid = new int[size];
+		this.maxBuyFromGrid = new int[size];
+		this.price = new double[size];
+		for (var i = 0; i < size; i++) {
+			var op = p.optimizePeriods().get(i);
+			this.production[i] = op.production();
+			this.consumption[i] = op.consumption();
+			this.essMaxChargeEnergy[i] = op.essMaxChargeEnergy();
+			this.essMaxDischargeEnergy[i] = op.essMaxDischargeEnergy();
+			this.essChargeInChargeGrid[i] = op.essChargeInChargeGrid();
+			this.maxBuyFromGrid[i] = op.maxBuyFromGrid();
+			this.price[i] = max(0, op.price()); // Filter negative prices
+		}
+	}
+
+	/**
+	 * Gets the number of periods.
+	 *
+	 * @return the number of periods
+	 */
+	public int size() {
+		return this.production.length;
+	}
+
+	/**
+	 * Simulates a Schedule and calculates the cost.
+	 *
+	 * @param schedule the indexes of the states in {@link Params#states()} per
+	 *                 period
+	 * @return the cost, lower is better; always positive
+	 */
+	public double calculateCost(int[] schedule) {
+		var essInitial = this.essInitialEnergy;
+		var sum = 0.;
+		for (var i = 0; i < this.production.length; i++) {
+			essInitial = max(0, essInitial); // always at least '0'
+			final var ess = this.simulateEss(i, schedule[i], essInitial);
+			essInitial -= ess;
+			sum += this.calculatePeriodCost(i, ess);
+		}
+		return sum;
+	}
+
+	/**
+	 * Simulates the ESS energy of one period.
+	 *
+	 * @param period     the index of the period
+	 * @param state      the index of the state in {@link Params#states()}
+	 * @param essInitial ESS Initially Available Energy (SoC in [Wh]); at least '0'
+	 * @return the ESS energy; charge negative, discharge positive
+	 */
+	protected int simulateEss(int period, int state, int essInitial) {
+		final var surplus = this.consumption[period] - this.production[period];
+
+		// See EnergyFlow#withBalancing(), #withDelayDischarge(), #withChargeGrid()
+		int essMaxSocEnergy;
+		int ess;
+		switch (this.modes[state]) {
+		case MODE_DELAY_DISCHARGE:
+			essMaxSocEnergy = this.essTotalEnergy;
+			ess = min(0, surplus);
+			break;
+		case MODE_CHARGE_GRID:
+			essMaxSocEnergy = this.essMaxSocEnergy;
+			ess = min(0, surplus) - this.essChargeInChargeGrid[period];
+			break;
+		case MODE_BALANCING:
+		default:
+			essMaxSocEnergy = this.essTotalEnergy;
+			ess = surplus;
+			break;
+		}
+
+		// See EnergyFlow#create()
+		ess = max(surplus - this.maxBuyFromGrid[period], ess);
+		ess = max(-max(0, essMaxSocEnergy - essInitial), min(max(0, essInitial - this.essMinSocEnergy), ess));
+		return max(-this.essMaxChargeEnergy[period], min(this.essMaxDischargeEnergy[period], ess));
+	}
+
+	/**
+	 * Calculates the cost of one period.
+	 *
+	 * @param period the index of the period
+	 * @param ess    the ESS energy as returned by
+	 *               {@link #simulateEss(int, int, int)}
+	 * @return the cost, lower is better; always positive
+	 */
+	protected double calculatePeriodCost(int period, int ess) {
+		final var production = this.production[period];
+		final var consumption = this.consumption[period];
+		final var grid = consumption - production - ess;
+		if (grid <= 0) {
+			// Sell-to-Grid
+			return 0.;
+		}
+		final var productionToConsumption = min(production, consumption);
+		final var productionToEss = max(0, min(-ess, production - productionToConsumption));
+		final var productionToGrid = max(0, production - productionToConsumption - productionToEss);
+		final var essToConsumption = max(0, min(consumption - productionToConsumption, ess - productionToGrid));
+		final var gridToConsumption = max(0, consumption - essToConsumption - productionToConsumption);
+		final var gridToEss = grid - gridToConsumption + productionToGrid;
+		final var price = this.price[period];
+
+		return gridToConsumption * price // Cost for direct Consumption
+				+ gridToEss * price * EFFICIENCY_FACTOR; // Cost for future Consumption after storage
+	}
+
+}
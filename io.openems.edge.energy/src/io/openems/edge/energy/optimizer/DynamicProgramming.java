@@ -0,0 +1,154 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.BALANCING;
+import static io.openems.edge.energy.optimizer.Utils.paramsAreValid;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
+import java.util.Arrays;
+import java.util.List;
+
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+/**
+ * Deterministic solver for the Schedule using dynamic programming over
+ * discretized ESS energy levels.
+ *
+ * <p>
+ * The state of the problem at the beginning of a period is fully described by
+ * the ESS energy; the cost of a period only depends on that energy and the
+ * chosen {@link StateMachine}. Periods are therefore processed forward and, per
+ * energy level, only the cheapest path is kept. The energy of each kept path is
+ * simulated exactly with {@link CostFunction}; discretization only decides
+ * which paths are merged.
+ *
+ * <p>
+ * Complexity is 'periods x levels x states', i.e. the optimal Schedule is found
+ * within milliseconds.
+ */
+public class DynamicProgramming {
+
+	/** Number of discretized ESS energy levels. */
+	public static final int DEFAULT_LEVELS = 1000;
+
+	private DynamicProgramming() {
+	}
+
+	/**
+	 * Finds the best Schedule with {@link #DEFAULT_LEVELS} energy levels.
+	 *
+	 * @param p the {@link Params}
+	 * @return the best Schedule; null if the {@link Params} are not supported, e.g.
+	 *         because the ESS capacity is unknown
+	 */
+	public static StateMachine[] getBestSchedule(Params p) {
+		return getBestSchedule(p, DEFAULT_LEVELS);
+	}
+
+	/**
+	 * Finds the best Schedule.
+	 *
+	 * @param p      the {@link Params}
+	 * @param levels the number of discretized ESS energy levels
+	 * @return the best Schedule; null if the {@link Params} are not supported, e.g.
+	 *         because the ESS capacity is unknown
+	 */
+	public static StateMachine[] getBestSchedule(Params p, int levels) {
+		final var noOfPeriods = p.optimizePeriods().size();
+		final var states = List.of(p.states());
+		final var balancing = states.indexOf(BALANCING);
+
+		// Return pure BALANCING Schedule if no predictions are available
+		if (!paramsAreValid(p)) {
+			var result = new StateMachine[noOfPeriods];
+			Arrays.fill(result, BALANCING);
+			return result;
+		}
+		if (balancing < 0 || p.essTotalEnergy() <= 0 || levels < 1) {
+			return null;
+		}
+
+		final var cf = new CostFunction(p);
+		final var noOfStates = states.size();
+		final var step = max(1, (p.essTotalEnergy() + levels - 1) / levels);
+		final var noOfLevels = p.essTotalEnergy() / step + 1;
+
+		// Try BALANCING first: it wins on equal cost
+		final var order = new int[noOfStates];
+		order[0] = balancing;
+		for (int i = 0, j = 1; i < noOfStates; i++) {
+			if (i != balancing) {
+				order[j++] = i;
+			}
+		}
+
+		// Cheapest path per energy level: cost, exact energy and back-pointers
+		var cost = new double[noOfLevels];
+		var energy = new int[noOfLevels];
+		var nextCost = new double[noOfLevels];
+		var nextEnergy = new int[noOfLevels];
+		final var previousLevel = new int[noOfPeriods][noOfLevels];
+		final var chosenState = new byte[noOfPeriods][noOfLevels];
+
+		Arrays.fill(cost, Double.POSITIVE_INFINITY);
+		var essInitial = max(0, p.essInitialEnergy());
+		cost[toLevel(essInitial, step, noOfLevels)] = 0.;
+		energy[toLevel(essInitial, step, noOfLevels)] = essInitial;
+
+		for (var period = 0; period < noOfPeriods; period++) {
+			Arrays.fill(nextCost, Double.POSITIVE_INFINITY);
+			for (var level = 0; level < noOfLevels; level++) {
+				if (cost[level] == Double.POSITIVE_INFINITY) {
+					continue;
+				}
+				for (var state : order) {
+					var ess = cf.simulateEss(period, state, energy[level]);
+					var c = cost[level] + cf.calculatePeriodCost(period, ess);
+					var e = max(0, energy[level] - ess);
+					var l = toLevel(e, step, noOfLevels);
+					if (c < nextCost[l]) {
+						nextCost[l] = c;
+						nextEnergy[l] = e;
+						previousLevel[period][l] = level;
+						chosenState[period][l] = (byte) state;
+					}
+				}
+			}
+			var tmpCost = cost;
+			cost = nextCost;
+			nextCost = tmpCost;
+			var tmpEnergy = energy;
+			energy = nextEnergy;
+			nextEnergy = tmpEnergy;
+		}
+
+		// Find cheapest final level and trace back
+		var best = 0;
+		for (var level = 1; level < noOfLevels; level++) {
+			if (cost[level] < cost[best]) {
+				best = level;
+			}
+		}
+		var schedule = new int[noOfPeriods];
+		for (var period = noOfPeriods - 1; period >= 0; period--) {
+			schedule[period] = chosenState[period][best];
+			best = previousLevel[period][best];
+		}
+
+		// Prefer pure BALANCING on equal cost
+		var balancingSchedule = new int[noOfPeriods];
+		Arrays.fill(balancingSchedule, balancing);
+		if (cf.calculateCost(schedule) >= cf.calculateCost(balancingSchedule)) {
+			schedule = balancingSchedule;
+		}
+
+		return Arrays.stream(schedule) //
+				.mapToObj(i -> p.states()[i]) //
+				.toArray(StateMachine[]::new);
+	}
+
+	private static int toLevel(int energy, int step, int noOfLevels) {
+		return min(noOfLevels - 1, energy / step);
+	}
+
+}
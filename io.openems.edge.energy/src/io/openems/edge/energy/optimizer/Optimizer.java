@@ -8,6 +8,8 @@ import static io.openems.edge.energy.optimizer.Utils.createSimulatorParams;
 import static io.openems.edge.energy.optimizer.Utils.initializeRandomRegistryForProduction;
 import static io.openems.edge.energy.optimizer.Utils.logSchedule;
 import static io.openems.edge.energy.optimizer.Utils.updateSchedule;
+import static io.openems.edge.energy.optimizer.WarmStartUtils.isWarmStartPossible;
+import static io.openems.edge.energy.optimizer.WarmStartUtils.shiftPopulation;
 import static java.lang.Thread.sleep;
 
 import java.time.Duration;
@@ -15,6 +17,9 @@ import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.Map.Entry;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,25 +29,70 @@ import com.google.common.collect.ImmutableSortedMap;
 import io.openems.common.exceptions.OpenemsException;
 import io.openems.common.function.ThrowingSupplier;
 import io.openems.common.test.TimeLeapClock;
+import io.openems.common.utils.ThreadPoolUtils;
 import io.openems.common.worker.AbstractImmediateWorker;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
 import io.openems.edge.energy.api.EnergyScheduleHandler;
 import io.openems.edge.energy.optimizer.Simulator.Period;
 
 /**
  * This task is executed once in the beginning and afterwards every full 15
- * minutes.
+ * minutes. While the previous result can be used for a warm start, it is
+ * re-executed every {@link #WARM_START_INTERVAL} instead.
  */
 public class Optimizer extends AbstractImmediateWorker {
 
+	/** Relative tolerance of predictions and prices for a warm start. */
+	private static final double WARM_START_TOLERANCE = 0.1;
+	/** Fraction of the execution limit used for a warm start. */
+	private static final int WARM_START_BUDGET_DIVISOR = 4;
+	/** Interval of runs while a warm start is possible in [s]. */
+	private static final long WARM_START_INTERVAL = 60;
+
+	/**
+	 * Statistics of one Optimizer run.
+	 * 
+	 * @param runtime         the runtime in [ms]
+	 * @param generations     the number of evaluated generations
+	 * @param costImprovement the cost improvement compared to the initial
+	 *                        population in [%]
+	 * @param incremental     true if the run was an incremental re-optimization
+	 */
+	public record Statistics(long runtime, long generations, double costImprovement, boolean incremental) {
+	}
+
 	private final Logger log = LoggerFactory.getLogger(Optimizer.class);
 
 	private final ThrowingSupplier<GlobalContext, OpenemsException> globalContext;
+	private final Consumer<Statistics> onStatistics;
 	private final TreeMap<ZonedDateTime, Period> schedule = new TreeMap<>();
 
 	private Params params = null;
 
+	/** The previous genetic algorithm run for warm start; or null. */
+	private Params previousParams = null;
+	private Simulator.Result previousResult = null;
+
+	private volatile Solver solver = Solver.GENETIC_ALGORITHM;
+
+	/** Bounded worker pool for the fitness evaluation; null for sequential. */
+	private volatile ForkJoinPool evaluationPool = null;
+
+	/** Requested number of evaluation threads; applied between runs. */
+	private int evaluationThreads = 1;
+
+	/** Is a genetic algorithm run currently using the evaluationPool?. */
+	private boolean isEvaluating = false;
+
 	public Optimizer(ThrowingSupplier<GlobalContext, OpenemsException> globalContext) {
+		this(globalContext, statistics -> {
+		});
+	}
+
+	public Optimizer(ThrowingSupplier<GlobalContext, OpenemsException> globalContext,
+			Consumer<Statistics> onStatistics) {
 		this.globalContext = globalContext;
+		this.onStatistics = onStatistics;
 		initializeRandomRegistryForProduction();
 
 		// Run Optimizer thread in LOW PRIORITY
@@ -51,7 +101,7 @@ public class Optimizer extends AbstractImmediateWorker {
 
 	@Override
 	public void forever() throws InterruptedException, OpenemsException {
-		this.log.info("# Start next run of Optimizer");
+		this.log.debug("# Start next run of Optimizer");
 
 		this.createParams(); // this possibly takes forever
 
@@ -64,7 +114,49 @@ public class Optimizer extends AbstractImmediateWorker {
 		executionLimitSeconds = calculateExecutionLimitSeconds(globalContext.clock());
 
 		// Find best Schedule
-		var schedule = Simulator.getBestSchedule(this.params, executionLimitSeconds);
+		final var runStart = System.nanoTime();
+		var schedule = switch (this.solver) {
+		case DYNAMIC_PROGRAMMING -> DynamicProgramming.getBestSchedule(this.params);
+		case GENETIC_ALGORITHM -> null;
+		};
+		Statistics statistics;
+		if (schedule != null) {
+			this.previousParams = null;
+			this.previousResult = null;
+			statistics = new Statistics(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - runStart), 0, //
+					costImprovement(Simulator.calculateCost(this.params, balancingSchedule(this.params)),
+							Simulator.calculateCost(this.params, schedule)), //
+					false);
+
+		} else {
+			// Incremental re-optimization: continue the evolution of the previous run
+			final var incremental = this.previousResult != null
+					&& isWarmStartPossible(this.previousParams, this.params, WARM_START_TOLERANCE);
+			final var initialPopulation = incremental //
+					? shiftPopulation(this.previousParams, this.previousResult.population(), this.params) //
+					: null;
+			// A warm start gets a smaller budget, to not delay the next re-run
+			final var limitSeconds = incremental //
+					? Math.max(1, Math.min(executionLimitSeconds / WARM_START_BUDGET_DIVISOR, //
+							WARM_START_INTERVAL / 2)) //
+					: executionLimitSeconds;
+			final var evaluationPool = this.acquireEvaluationPool();
+			final Simulator.Result result;
+			try {
+				result = Simulator.optimize(this.params, initialPopulation, limitSeconds, //
+						evaluationPool != null ? evaluationPool : Runnable::run /* current thread */, //
+						null, null);
+			} finally {
+				this.releaseEvaluationPool();
+			}
+			schedule = result.schedule();
+			this.previousParams = this.params;
+			this.previousResult = result;
+			statistics = new Statistics(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - runStart),
+					result.generations(), costImprovement(result.initialCost(), result.cost()), incremental);
+		}
+		this.log.debug("Optimizer run finished " + statistics);
+		this.onStatistics.accept(statistics);
 
 		// Re-Simulate and keep best Schedule
 		var newSchedule = simulate(this.params, schedule);
@@ -84,17 +176,100 @@ public class Optimizer extends AbstractImmediateWorker {
 						e -> new EnergyScheduleHandler.Period<>(e.getValue().state(),
 								e.getValue().op().essChargeInChargeGrid()))));
 
-		// Sleep remaining time
+		// Sleep remaining time; re-optimize earlier while warm starts are possible
 		if (!(globalContext.clock() instanceof TimeLeapClock)) {
+			var nextRunSeconds = statistics.incremental() //
+					? Math.min(executionLimitSeconds, WARM_START_INTERVAL) //
+					: executionLimitSeconds;
 			var remainingExecutionLimit = Duration
-					.between(Instant.now(globalContext.clock()), start.plusSeconds(executionLimitSeconds)).getSeconds();
+					.between(Instant.now(globalContext.clock()), start.plusSeconds(nextRunSeconds)).getSeconds();
 			if (remainingExecutionLimit > 0) {
-				this.log.info("Sleep [" + remainingExecutionLimit + "s] till next run of Optimizer");
+				this.log.debug("Sleep [" + remainingExecutionLimit + "s] till next run of Optimizer");
 				sleep(remainingExecutionLimit * 1000);
 			}
 		}
 	}
 
+	private static StateMachine[] balancingSchedule(Params p) {
+		return p.optimizePeriods().stream() //
+				.map(op -> StateMachine.BALANCING) //
+				.toArray(StateMachine[]::new);
+	}
+
+	private static double costImprovement(double initialCost, double cost) {
+		if (!(initialCost > 0)) {
+			return 0.;
+		}
+		return (initialCost - cost) / initialCost * 100;
+	}
+
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		this.setEvaluationThreads(1);
+	}
+
+	/**
+	 * Sets the {@link Solver}.
+	 * 
+	 * @param solver the {@link Solver}
+	 */
+	public void setSolver(Solver solver) {
+		this.solver = solver;
+	}
+
+	/**
+	 * Sets the number of threads for the fitness evaluation of Schedules.
+	 * 
+	 * <p>
+	 * With '1' all Schedules are evaluated sequentially in the Optimizer thread,
+	 * which is recommended for small devices. More threads evaluate the
+	 * population in parallel on a bounded worker pool with low priority.
+	 * 
+	 * <p>
+	 * The worker pool is only replaced between two runs of the genetic algorithm,
+	 * i.e. never while a run is submitting tasks.
+	 * 
+	 * @param threads the number of threads
+	 */
+	public synchronized void setEvaluationThreads(int threads) {
+		this.evaluationThreads = threads;
+		if (!this.isEvaluating) {
+			this.updateEvaluationPool();
+		}
+	}
+
+	private synchronized ForkJoinPool acquireEvaluationPool() {
+		this.updateEvaluationPool();
+		this.isEvaluating = true;
+		return this.evaluationPool;
+	}
+
+	private synchronized void releaseEvaluationPool() {
+		this.isEvaluating = false;
+		// Apply a change of the number of threads during the run
+		this.updateEvaluationPool();
+	}
+
+	private synchronized void updateEvaluationPool() {
+		final var threads = this.evaluationThreads;
+		if (this.evaluationPool != null) {
+			if (this.evaluationPool.getParallelism() == threads) {
+				return;
+			}
+			ThreadPoolUtils.shutdownAndAwaitTermination(this.evaluationPool, 0);
+			this.evaluationPool = null;
+		}
+		if (threads > 1) {
+			this.evaluationPool = new ForkJoinPool(threads, pool -> {
+				var thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName("Energy.Optimizer-" + thread.getPoolIndex());
+				thread.setPriority(Thread.MIN_PRIORITY);
+				return thread;
+			}, null, false);
+		}
+	}
+
 	/**
 	 * Try forever till all data is available (e.g. ESS Capacity)
 	 * 
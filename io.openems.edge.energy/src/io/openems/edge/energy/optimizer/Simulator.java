@@ -1,6 +1,7 @@
 package io.openems.edge.energy.optimizer;
 
-import static io.jenetics.engine.EvolutionResult.toBestGenotype;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static io.jenetics.engine.EvolutionResult.toBestEvolutionResult;
 import static io.jenetics.engine.Limits.byExecutionTime;
 import static io.openems.edge.energy.optimizer.InitialPopulationUtils.buildInitialPopulation;
 import static io.openems.edge.energy.optimizer.Utils.paramsAreValid;
@@ -9,6 +10,9 @@ import static java.lang.Math.max;
 import static java.time.Duration.ofSeconds;
 
 import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -21,6 +25,7 @@ import com.google.common.collect.ImmutableSortedMap;
 import io.jenetics.Genotype;
 import io.jenetics.IntegerChromosome;
 import io.jenetics.IntegerGene;
+import io.jenetics.Phenotype;
 import io.jenetics.engine.Engine;
 import io.jenetics.engine.EvolutionResult;
 import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
@@ -140,38 +145,106 @@ public class Simulator {
 
 	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Integer populationSize,
 			Integer limit) {
+		return getBestSchedule(p, executionLimitSeconds, Runnable::run /* current thread */, populationSize, limit);
+	}
+
+	/**
+	 * Runs the optimization.
+	 * 
+	 * @param p                     the {@link Params}
+	 * @param executionLimitSeconds limit.byExecutionTime.ofSeconds
+	 * @param executor              the {@link Executor} for the fitness
+	 *                              evaluation
+	 * @param populationSize        the optional population size
+	 * @param limit                 the optional limit of generations
+	 * @return the best schedule
+	 */
+	protected static StateMachine[] getBestSchedule(Params p, long executionLimitSeconds, Executor executor,
+			Integer populationSize, Integer limit) {
+		return optimize(p, null, executionLimitSeconds, executor, populationSize, limit).schedule();
+	}
+
+	/**
+	 * The result of {@link Simulator#optimize}.
+	 * 
+	 * @param schedule    the best schedule
+	 * @param population  the schedules of the final population, best first
+	 * @param generations the number of evaluated generations
+	 * @param initialCost the cost of the best schedule of the initial population
+	 * @param cost        the cost of the best schedule
+	 */
+	public record Result(StateMachine[] schedule, ImmutableList<StateMachine[]> population, long generations,
+			double initialCost, double cost) {
+	}
+
+	/**
+	 * Runs the optimization.
+	 * 
+	 * @param p                     the {@link Params}
+	 * @param initialPopulation     the initial population; null for
+	 *                              {@link InitialPopulationUtils#buildInitialPopulation(Params)}
+	 * @param executionLimitSeconds limit.byExecutionTime.ofSeconds
+	 * @param executor              the {@link Executor} for the fitness
+	 *                              evaluation
+	 * @param populationSize        the optional population size
+	 * @param limit                 the optional limit of generations
+	 * @return the {@link Result}
+	 */
+	protected static Result optimize(Params p, List<Genotype<IntegerGene>> initialPopulation,
+			long executionLimitSeconds, Executor executor, Integer populationSize, Integer limit) {
 		// Return pure BALANCING Schedule if no predictions are available
 		if (!paramsAreValid(p)) {
-			return p.optimizePeriods().stream() //
+			var schedule = p.optimizePeriods().stream() //
 					.map(op -> StateMachine.BALANCING) //
 					.toArray(StateMachine[]::new);
+			var cost = calculateCost(p, schedule);
+			return new Result(schedule, ImmutableList.of(), 0, cost, cost);
+		}
+		if (initialPopulation == null) {
+			initialPopulation = buildInitialPopulation(p);
 		}
 
 		var gtf = Genotype.of(IntegerChromosome.of(IntegerGene.of(0, p.states().length)), p.optimizePeriods().size()); //
+		// Candidates are evaluated as primitive int[] of state indexes; one buffer per
+		// evaluating thread
+		var costFunction = new CostFunction(p);
+		var buffer = ThreadLocal.withInitial(() -> new int[costFunction.size()]);
 		var eval = (Function<Genotype<IntegerGene>, Double>) (gt) -> {
-			var modes = new StateMachine[p.optimizePeriods().size()];
-			for (var i = 0; i < modes.length; i++) {
-				modes[i] = p.states()[gt.get(i).get(0).intValue()];
+			var schedule = buffer.get();
+			for (var i = 0; i < schedule.length; i++) {
+				schedule[i] = gt.get(i).get(0).intValue();
 			}
-			return calculateCost(p, modes);
+			return costFunction.calculateCost(schedule);
 		};
+		var initialCost = initialPopulation.stream() //
+				.mapToDouble(eval::apply) //
+				.min().orElse(Double.NaN);
 		var engine = Engine //
 				.builder(eval, gtf) //
-				.executor(Runnable::run) // current thread
+				.executor(executor) //
 				.minimizing();
 		if (populationSize != null) {
 			engine.populationSize(populationSize); //
 		}
 		Stream<EvolutionResult<IntegerGene, Double>> stream = engine.build() //
-				.stream(buildInitialPopulation(p)) //
+				.stream(initialPopulation) //
 				.limit(byExecutionTime(ofSeconds(executionLimitSeconds))); //
 		if (limit != null) {
 			stream = stream.limit(limit); // apply optional limit
 		}
-		var bestGt = stream //
-				.collect(toBestGenotype());
+		var result = stream //
+				.collect(toBestEvolutionResult());
+		var population = result.population().stream() //
+				.sorted(Comparator.comparingDouble(Phenotype::fitness)) //
+				.map(pt -> toSchedule(p, pt.genotype())) //
+				.collect(toImmutableList());
+		return new Result(toSchedule(p, result.bestPhenotype().genotype()), population, result.totalGenerations(),
+				initialCost, result.bestFitness());
+	}
+
+	private static StateMachine[] toSchedule(Params p, Genotype<IntegerGene> gt) {
 		return IntStream.range(0, p.optimizePeriods().size()) //
-				.mapToObj(period -> p.states()[bestGt.get(period).get(0).intValue()]) //
+				.mapToObj(period -> p.states()[gt.get(period).get(0).intValue()]) //
 				.toArray(StateMachine[]::new);
 	}
 }
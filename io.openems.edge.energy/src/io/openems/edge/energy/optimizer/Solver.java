@@ -0,0 +1,15 @@
+package io.openems.edge.energy.optimizer;
+
+public enum Solver {
+	/**
+	 * Genetic algorithm; searches the Schedule till the end of the current
+	 * quarter.
+	 */
+	GENETIC_ALGORITHM,
+	/**
+	 * Dynamic programming over discretized ESS energy levels; finds the optimal
+	 * Schedule within milliseconds. Falls back to {@link #GENETIC_ALGORITHM} if
+	 * the problem is not supported.
+	 */
+	DYNAMIC_PROGRAMMING;
+}
@@ -0,0 +1,133 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.BALANCING;
+import static java.lang.Math.abs;
+import static java.lang.Math.max;
+
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableList;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+import io.openems.edge.energy.optimizer.Params.QuarterPeriod;
+
+/**
+ * Utilities for incremental re-optimization, i.e. continuing the evolution of
+ * the previous run instead of starting from scratch.
+ */
+public class WarmStartUtils {
+
+	private WarmStartUtils() {
+	}
+
+	/**
+	 * Is a warm start from the previous run possible?
+	 *
+	 * <p>
+	 * This is the case if at most the head period has elapsed since the previous
+	 * run, the allowed states did not change and predictions and prices of the
+	 * overlapping periods moved within the given tolerance.
+	 *
+	 * @param previous  the {@link Params} of the previous run; possibly null
+	 * @param next      the {@link Params} of the next run
+	 * @param tolerance the relative tolerance, e.g. '0.1' for 10 %
+	 * @return true if a warm start is possible
+	 */
+	public static boolean isWarmStartPossible(Params previous, Params next, double tolerance) {
+		if (previous == null || previous.optimizePeriods().isEmpty() || next.optimizePeriods().isEmpty()) {
+			return false;
+		}
+		if (next.time().isBefore(previous.time()) || next.time().isAfter(previous.time().plusMinutes(15))) {
+			return false;
+		}
+		if (!Arrays.equals(previous.states(), next.states()) || previous.essTotalEnergy() != next.essTotalEnergy()) {
+			return false;
+		}
+
+		var previousQuarters = toQuarterPeriods(previous);
+		var production = new Deviation();
+		var consumption = new Deviation();
+		var price = new Deviation();
+		var overlap = 0;
+		for (var qp : toQuarterPeriods(next).values()) {
+			var pqp = previousQuarters.get(qp.time());
+			if (pqp == null) {
+				continue;
+			}
+			overlap++;
+			production.add(pqp.production(), qp.production());
+			consumption.add(pqp.consumption(), qp.consumption());
+			price.add(pqp.price(), qp.price());
+		}
+		return overlap > 0 //
+				&& production.isWithin(tolerance) //
+				&& consumption.isWithin(tolerance) //
+				&& price.isWithin(tolerance);
+	}
+
+	/**
+	 * Shifts the schedules of the previous population to the periods of the next
+	 * run. Periods that were not part of the previous run are set to
+	 * {@link StateMachine#BALANCING}.
+	 *
+	 * @param previous   the {@link Params} of the previous run
+	 * @param population the schedules of the previous population
+	 * @param next       the {@link Params} of the next run
+	 * @return the initial population for the next run
+	 */
+	public static ImmutableList<Genotype<IntegerGene>> shiftPopulation(Params previous,
+			List<StateMachine[]> population, Params next) {
+		var states = List.of(next.states());
+		var result = ImmutableList.<Genotype<IntegerGene>>builder();
+		for (var schedule : population) {
+			// Map previous schedule to quarters
+			var byTime = new HashMap<ZonedDateTime, StateMachine>();
+			for (var i = 0; i < previous.optimizePeriods().size() && i < schedule.length; i++) {
+				for (var qp : previous.optimizePeriods().get(i).quarterPeriods()) {
+					byTime.put(qp.time(), schedule[i]);
+				}
+			}
+			result.add(Genotype.of(next.optimizePeriods().stream() //
+					.map(op -> byTime.getOrDefault(op.time(), BALANCING)) //
+					.map(state -> max(0, states.indexOf(state))) //
+					.map(index -> IntegerChromosome.of(IntegerGene.of(index, 0, states.size()))) //
+					.toList()));
+		}
+		return result.build();
+	}
+
+	private static Map<ZonedDateTime, QuarterPeriod> toQuarterPeriods(Params p) {
+		var result = new HashMap<ZonedDateTime, QuarterPeriod>();
+		for (var op : p.optimizePeriods()) {
+			for (var qp : op.quarterPeriods()) {
+				result.put(qp.time(), qp);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Accumulates the absolute deviation relative to the magnitude of the values.
+	 */
+	private static class Deviation {
+		private double deviation = 0;
+		private double magnitude = 0;
+
+		protected void add(double previous, double next) {
+			this.deviation += abs(next - previous);
+			this.magnitude += max(abs(previous), abs(next));
+		}
+
+		protected boolean isWithin(double tolerance) {
+			return this.deviation <= tolerance * this.magnitude;
+		}
+	}
+
+}
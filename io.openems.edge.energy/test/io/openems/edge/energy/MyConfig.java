@@ -1,6 +1,7 @@
 package io.openems.edge.energy;
 
 import io.openems.common.test.AbstractComponentConfig;
+import io.openems.edge.energy.optimizer.Solver;
 
 @SuppressWarnings("all")
 public class MyConfig extends AbstractComponentConfig implements Config {
@@ -12,6 +13,8 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private int essMaxChargePower;
 		private int maxChargePowerFromGrid;
 		private boolean limitChargePowerFor14aEnWG;
+		private Solver solver = Solver.GENETIC_ALGORITHM;
+		private int optimizerThreads = 1;
 
 		private Builder() {
 		}
@@ -46,6 +49,16 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setSolver(Solver solver) {
+			this.solver = solver;
+			return this;
+		}
+
+		public Builder setOptimizerThreads(int optimizerThreads) {
+			this.optimizerThreads = optimizerThreads;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -71,4 +84,14 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 	public boolean enabled() {
 		return this.builder.enabled;
 	}
+
+	@Override
+	public Solver solver() {
+		return this.builder.solver;
+	}
+
+	@Override
+	public int optimizerThreads() {
+		return this.builder.optimizerThreads;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.BALANCING;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.CHARGE_GRID;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.DELAY_DISCHARGE;
+import static io.openems.edge.energy.TestData.CONSUMPTION_888_20231106;
+import static io.openems.edge.energy.TestData.PRICES_888_20231106;
+import static io.openems.edge.energy.TestData.PRODUCTION_888_20231106;
+import static io.openems.edge.energy.optimizer.SimulatorTest.TIME;
+import static io.openems.edge.energy.optimizer.SimulatorTest.hourlyToQuarterly;
+import static io.openems.edge.energy.optimizer.Utils.initializeRandomRegistryForUnitTest;
+import static io.openems.edge.energy.optimizer.Utils.interpolateArray;
+import static io.openems.edge.energy.optimizer.Utils.toEnergy;
+import static java.util.Arrays.stream;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSortedMap;
+
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+public class DynamicProgrammingTest {
+
+	@Before
+	public void before() {
+		initializeRandomRegistryForUnitTest();
+	}
+
+	private static Params createParams(int essTotalEnergy, int[] productions, int[] consumptions, double[] prices) {
+		return Params.create() //
+				.setTime(TIME) //
+				.setEssTotalEnergy(essTotalEnergy) //
+				.setEssMinSocEnergy(essTotalEnergy / 10) //
+				.setEssMaxSocEnergy(essTotalEnergy * 9 / 10) //
+				.setEssInitialEnergy(essTotalEnergy / 2) //
+				.setEssMaxChargeEnergy(toEnergy(5000)) //
+				.setEssMaxDischargeEnergy(toEnergy(5000)) //
+				.seMaxBuyFromGrid(toEnergy(24_000)) //
+				.setProductions(productions) //
+				.setConsumptions(consumptions) //
+				.setPrices(prices) //
+				.setStates(BALANCING, DELAY_DISCHARGE, CHARGE_GRID) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
+				.build();
+	}
+
+	private static double calculateCost(Params p, StateMachine[] schedule) {
+		return Simulator.calculateCost(p, schedule);
+	}
+
+	@Test
+	public void testOptimal() {
+		var p = createParams(10000, //
+				new int[] { 0, 0, 500, 1500, 2000, 1000, 0, 0 }, //
+				new int[] { 800, 900, 700, 600, 600, 900, 1500, 1600 }, //
+				new double[] { 100, 80, 120, 200, 150, 90, 300, 350 });
+		var schedule = DynamicProgramming.getBestSchedule(p, p.essTotalEnergy() /* exact */);
+
+		// Brute force
+		var states = p.states();
+		var n = p.optimizePeriods().size();
+		var best = Double.POSITIVE_INFINITY;
+		var candidate = new StateMachine[n];
+		for (var i = 0; i < Math.pow(states.length, n); i++) {
+			for (int j = 0, v = i; j < n; j++, v /= states.length) {
+				candidate[j] = states[v % states.length];
+			}
+			best = Math.min(best, calculateCost(p, candidate));
+		}
+		assertEquals(best, calculateCost(p, schedule), 0.001);
+	}
+
+	@Test
+	public void testBetterThanGeneticAlgorithm() {
+		var p = createParams(22000, //
+				stream(interpolateArray(PRODUCTION_888_20231106)).map(v -> toEnergy(v)).toArray(), //
+				stream(interpolateArray(CONSUMPTION_888_20231106)).map(v -> toEnergy(v)).toArray(), //
+				hourlyToQuarterly(interpolateArray(PRICES_888_20231106)));
+		var dp = DynamicProgramming.getBestSchedule(p);
+		var ga = Simulator.getBestSchedule(p, 30, 50, 20);
+		assertEquals(p.optimizePeriods().size(), dp.length);
+		assertTrue(calculateCost(p, dp) <= calculateCost(p, ga));
+	}
+
+	@Test
+	public void testBalancing() {
+		// Same prices -> pure BALANCING
+		var p = createParams(10000, //
+				new int[] { 0, 500, 0, 500 }, //
+				new int[] { 800, 100, 800, 100 }, //
+				new double[] { 100, 100, 100, 100 });
+		var balancing = new StateMachine[p.optimizePeriods().size()];
+		Arrays.fill(balancing, BALANCING);
+		assertArrayEquals(balancing, DynamicProgramming.getBestSchedule(p));
+	}
+
+	@Test
+	public void testUnsupported() {
+		var p = createParams(0, //
+				new int[] { 0, 500, 0, 500 }, //
+				new int[] { 800, 100, 800, 100 }, //
+				new double[] { 100, 200, 100, 200 });
+		assertNull(DynamicProgramming.getBestSchedule(p));
+	}
+
+}
@@ -13,11 +13,13 @@ import static io.openems.edge.energy.optimizer.Utils.toEnergy;
 import static java.util.Arrays.stream;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.DoubleStream;
@@ -166,6 +168,60 @@ public class SimulatorTest {
 		assertArrayEquals(existingSchedule, Arrays.copyOfRange(s, 0, existingSchedule.length));
 	}
 
+	private static Params createParamsAllStates() {
+		return Params.create() //
+				.setTime(TIME) //
+				.setEssTotalEnergy(22000) //
+				.setEssMinSocEnergy(1000) //
+				.setEssMaxSocEnergy(20000) //
+				.setEssInitialEnergy(5000) //
+				.setEssMaxChargeEnergy(toEnergy(10000)) //
+				.setEssMaxDischargeEnergy(toEnergy(10000)) //
+				.seMaxBuyFromGrid(toEnergy(24_000)) //
+				.setProductions(stream(interpolateArray(PRODUCTION_888_20231106)).map(v -> toEnergy(v)).toArray()) //
+				.setConsumptions(stream(interpolateArray(CONSUMPTION_888_20231106)).map(v -> toEnergy(v)).toArray()) //
+				.setPrices(hourlyToQuarterly(interpolateArray(PRICES_888_20231106))) //
+				.setStates(BALANCING, DELAY_DISCHARGE, CHARGE_GRID) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
+				.build();
+	}
+
+	@Test
+	public void testCostFunction() {
+		var p = createParamsAllStates();
+		var sut = new CostFunction(p);
+		var random = new Random(123);
+		for (var run = 0; run < 100; run++) {
+			var schedule = new int[sut.size()];
+			var states = new StateMachine[sut.size()];
+			for (var i = 0; i < schedule.length; i++) {
+				schedule[i] = random.nextInt(p.states().length);
+				states[i] = p.states()[schedule[i]];
+			}
+			assertEquals(Simulator.calculateCost(p, states), sut.calculateCost(schedule), 0.);
+		}
+	}
+
+	@Test
+	public void testGetBestScheduleParallel() {
+		var p = createParamsAllStates();
+		var pool = new ForkJoinPool(2);
+		try {
+			var s = getBestSchedule(p, //
+					/* executionLimitSeconds */ 30, //
+					/* executor */ pool, //
+					/* populationSize */ 20, //
+					/* limit */ 10);
+			assertEquals(p.optimizePeriods().size(), s.length);
+
+			var balancing = new StateMachine[s.length];
+			Arrays.fill(balancing, BALANCING);
+			assertTrue(Simulator.calculateCost(p, s) <= Simulator.calculateCost(p, balancing));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
 	/**
 	 * Creates dummy {@link Params}.
 	 * 
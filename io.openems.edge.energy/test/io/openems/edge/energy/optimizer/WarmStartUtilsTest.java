@@ -0,0 +1,102 @@
+package io.openems.edge.energy.optimizer;
+
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.BALANCING;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.CHARGE_GRID;
+import static io.openems.edge.controller.ess.timeofusetariff.StateMachine.DELAY_DISCHARGE;
+import static io.openems.edge.energy.optimizer.SimulatorTest.TIME;
+import static io.openems.edge.energy.optimizer.Utils.initializeRandomRegistryForUnitTest;
+import static io.openems.edge.energy.optimizer.WarmStartUtils.isWarmStartPossible;
+import static io.openems.edge.energy.optimizer.WarmStartUtils.shiftPopulation;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSortedMap;
+
+import io.openems.edge.controller.ess.timeofusetariff.StateMachine;
+
+public class WarmStartUtilsTest {
+
+	private static final int PERIODS = 12;
+
+	@Before
+	public void before() {
+		initializeRandomRegistryForUnitTest();
+	}
+
+	private static Params createParams(ZonedDateTime time, int offset, double priceFactor) {
+		final var n = PERIODS - offset;
+		return Params.create() //
+				.setTime(time) //
+				.setEssTotalEnergy(10000) //
+				.setEssMinSocEnergy(1000) //
+				.setEssMaxSocEnergy(9000) //
+				.setEssInitialEnergy(5000) //
+				.setEssMaxChargeEnergy(1000) //
+				.setEssMaxDischargeEnergy(1000) //
+				.seMaxBuyFromGrid(5000) //
+				.setProductions(IntStream.range(offset, PERIODS).map(i -> i % 4 == 0 ? 800 : 0).toArray()) //
+				.setConsumptions(IntStream.range(offset, PERIODS).map(i -> 500 + i * 10).toArray()) //
+				.setPrices(IntStream.range(offset, PERIODS).mapToDouble(i -> (100 + (i % 6) * 40) * priceFactor)
+						.limit(n).toArray()) //
+				.setStates(BALANCING, DELAY_DISCHARGE, CHARGE_GRID) //
+				.setExistingSchedule(ImmutableSortedMap.of()) //
+				.build();
+	}
+
+	@Test
+	public void testIsWarmStartPossible() {
+		var previous = createParams(TIME, 0, 1.);
+		assertFalse(isWarmStartPossible(null, previous, 0.1));
+		assertTrue(isWarmStartPossible(previous, createParams(TIME, 0, 1.), 0.1));
+		assertTrue(isWarmStartPossible(previous, createParams(TIME.plusMinutes(15), 1, 1.), 0.1));
+		assertTrue(isWarmStartPossible(previous, createParams(TIME.plusMinutes(15), 1, 1.05), 0.1));
+
+		// Prices moved too much
+		assertFalse(isWarmStartPossible(previous, createParams(TIME.plusMinutes(15), 1, 1.5), 0.1));
+		// More than the head period elapsed
+		assertFalse(isWarmStartPossible(previous, createParams(TIME.plusMinutes(30), 2, 1.), 0.1));
+	}
+
+	@Test
+	public void testShiftPopulation() {
+		var previous = createParams(TIME, 0, 1.);
+		var next = createParams(TIME.plusMinutes(15), 1, 1.);
+		var schedule = previous.optimizePeriods().stream() //
+				.map(op -> op.time().getMinute() == 15 ? CHARGE_GRID : DELAY_DISCHARGE) //
+				.toArray(StateMachine[]::new);
+
+		var population = shiftPopulation(previous, List.<StateMachine[]>of(schedule), next);
+		assertEquals(1, population.size());
+		var gt = population.get(0);
+		assertEquals(next.optimizePeriods().size(), gt.length());
+		// First period of 'next' is the second period of 'previous'
+		assertEquals(CHARGE_GRID, next.states()[gt.get(0).get(0).intValue()]);
+		assertEquals(DELAY_DISCHARGE, next.states()[gt.get(1).get(0).intValue()]);
+	}
+
+	@Test
+	public void testOptimizeFromWarmStart() {
+		var previous = createParams(TIME, 0, 1.);
+		var first = Simulator.optimize(previous, null, 30, Runnable::run, 20, 20);
+		assertTrue(first.generations() > 0);
+		assertTrue(first.cost() <= first.initialCost());
+		assertEquals(20, first.population().size());
+		// Population is sorted, best first
+		assertEquals(first.cost(), Simulator.calculateCost(previous, first.population().get(0)), 0.001);
+
+		var next = createParams(TIME.plusMinutes(15), 1, 1.);
+		var second = Simulator.optimize(next, shiftPopulation(previous, first.population(), next), 30,
+				Runnable::run, 20, 5);
+		assertEquals(next.optimizePeriods().size(), second.schedule().length);
+		assertTrue(second.cost() <= second.initialCost());
+	}
+
+}
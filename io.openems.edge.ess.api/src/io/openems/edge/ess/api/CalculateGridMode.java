@@ -23,6 +23,16 @@ public class CalculateGridMode {
 		this.values.add(gridMode);
 	}
 
+	/**
+	 * Removes all values, to reuse this instance for the next calculation.
+	 *
+	 * @return myself
+	 */
+	public CalculateGridMode reset() {
+		this.values.clear();
+		return this;
+	}
+
 	/**
 	 * Finds the effective Grid-Mode.
 	 *
@@ -38,6 +38,16 @@ public class CalculateSoc {
 		return this;
 	}
 
+	/**
+	 * Removes all values, to reuse this instance for the next calculation.
+	 *
+	 * @return myself
+	 */
+	public synchronized CalculateSoc reset() {
+		this.esss.clear();
+		return this;
+	}
+
 	/**
 	 * Calculates the overall State-of-Charge.
 	 *
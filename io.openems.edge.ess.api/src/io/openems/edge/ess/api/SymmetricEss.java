@@ -198,6 +198,43 @@ public interface SymmetricEss extends OpenemsComponent {
 
 	}
 
+	/**
+	 * Immutable values of the most important {@link SymmetricEss} Channels within
+	 * one Cycle. Values are null if they are not available.
+	 *
+	 * <p>
+	 * Controllers get it from
+	 * {@code Sum.getSnapshot(essId, SymmetricEss.Snapshot.class)}.
+	 */
+	public static record Snapshot(//
+			String id, //
+			Integer soc, //
+			Integer capacity, //
+			GridMode gridMode, //
+			Integer activePower, //
+			Integer reactivePower, //
+			Integer maxApparentPower //
+	) {
+
+		/**
+		 * Creates a {@link Snapshot} from the current Channel values of the given
+		 * {@link SymmetricEss}.
+		 *
+		 * @param ess the {@link SymmetricEss}
+		 * @return the {@link Snapshot}
+		 */
+		public static Snapshot from(SymmetricEss ess) {
+			return new Snapshot(//
+					ess.id(), //
+					ess.getSoc().get(), //
+					ess.getCapacity().get(), //
+					ess.getGridMode(), //
+					ess.getActivePower().get(), //
+					ess.getReactivePower().get(), //
+					ess.getMaxApparentPower().get());
+		}
+	}
+
 	/**
 	 * Used for Modbus/TCP Api Controller. Provides a Modbus table for the Channels
 	 * of this Component.
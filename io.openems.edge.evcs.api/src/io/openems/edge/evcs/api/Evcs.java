@@ -278,6 +278,41 @@ public interface Evcs extends OpenemsComponent {
 		}
 	}
 
+	/**
+	 * Immutable values of the most important {@link Evcs} Channels within one
+	 * Cycle. Values are null if they are not available.
+	 *
+	 * <p>
+	 * Built by the Sum in every Cycle; see
+	 * {@code Sum.getSnapshot(String, Class)}.
+	 */
+	public static record Snapshot(//
+			String id, //
+			Status status, //
+			Integer chargePower, //
+			Integer minimumHardwarePower, //
+			Integer maximumHardwarePower, //
+			Integer energySession //
+	) {
+
+		/**
+		 * Creates a {@link Snapshot} from the current Channel values of the given
+		 * {@link Evcs}.
+		 *
+		 * @param evcs the {@link Evcs}
+		 * @return the {@link Snapshot}
+		 */
+		public static Snapshot from(Evcs evcs) {
+			return new Snapshot(//
+					evcs.id(), //
+					evcs.getStatus(), //
+					evcs.getChargePower().get(), //
+					evcs.getMinimumHardwarePower().get(), //
+					evcs.getMaximumHardwarePower().get(), //
+					evcs.getEnergySession().get());
+		}
+	}
+
 	/**
 	 * Gets the Channel for {@link ChannelId#STATUS}.
 	 *
@@ -28,6 +28,9 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 			+ "(Only Managed Evcss will be considered because their charging power can be adjusted)")
 	String[] evcs_ids() default { "evcs0", "evcs1" };
 
+	@AttributeDefinition(name = "Distribution", description = "Distribute the power by the order of the Evcs-IDs or equally to all charging EVCSs.")
+	Distribution distribution() default Distribution.PRIORITY;
+
 	@AttributeDefinition(name = "Evcs target filter", description = "This is auto-generated by 'Evcs-IDs'.")
 	String Evcs_target() default "(enabled=true)";
 
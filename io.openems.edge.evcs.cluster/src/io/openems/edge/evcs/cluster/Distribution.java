@@ -0,0 +1,14 @@
+package io.openems.edge.evcs.cluster;
+
+public enum Distribution {
+	/**
+	 * Distributes the power in the order of the configured EVCS-IDs, i.e. the
+	 * first EVCS gets as much power as it can take.
+	 */
+	PRIORITY,
+	/**
+	 * Distributes the power equally to all charging EVCSs; power that an EVCS
+	 * cannot take is redistributed to the others.
+	 */
+	FAIR_SHARE;
+}
@@ -23,6 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingRunnable;
 import io.openems.edge.common.channel.calculate.CalculateIntegerSum;
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
@@ -71,6 +72,16 @@ public class EvcsClusterPeakShavingImpl extends AbstractOpenemsComponent
 	 */
 	private static final int MINIMUM_CHARGE_POWER_GUARANTEE = 4500;
 
+	/**
+	 * Resolution of the powers the {@link Distribution#FAIR_SHARE} distribution
+	 * is recalculated on.
+	 *
+	 * <p>
+	 * Changes of the available power or of the demand of an EVCS below this value
+	 * keep the last limits.
+	 */
+	private static final int FAIR_SHARE_POWER_STEP = 500;
+
 	private final Logger log = LoggerFactory.getLogger(EvcsClusterPeakShavingImpl.class);
 
 	// Used EVCSs
@@ -89,6 +100,10 @@ public class EvcsClusterPeakShavingImpl extends AbstractOpenemsComponent
 	// The maximum discharge power of the energy storage system
 	private int maxEssDischargePower = 0;
 
+	// Limits of the last FAIR_SHARE distribution and the inputs they were
+	// calculated from
+	private final LimitCache limitCache = new LimitCache(FAIR_SHARE_POWER_STEP);
+
 	@Reference
 	private ConfigurationAdmin cm;
 
@@ -166,6 +181,7 @@ public class EvcsClusterPeakShavingImpl extends AbstractOpenemsComponent
 	 * Fills sortedEvcss using the order of evcs_ids property in the configuration.
 	 */
 	private synchronized void updateSortedEvcss() {
+		this.limitCache.invalidate();
 		this.sortedEvcss.clear();
 		for (String id : this.evcsIds) {
 			var evcs = this.evcss.get(id);
@@ -279,11 +295,15 @@ public class EvcsClusterPeakShavingImpl extends AbstractOpenemsComponent
 	 * each evcs.
 	 */
 	protected void limitEvcss() {
+		var fairShare = this.config.distribution() == Distribution.FAIR_SHARE;
 
 		// Wait at least the EVCS-specific response time, required to increase and
 		// decrease the charging power
 		if (awaitLastChanges(this.currentEvcsClusterState, this.getAvailableGridPower())) {
 			// Still waiting for increasing, decreasing the power or undefined
+			if (fairShare) {
+				this.applyLimitCache();
+			}
 			return;
 		}
 
@@ -324,6 +344,17 @@ public class EvcsClusterPeakShavingImpl extends AbstractOpenemsComponent
 		int initialChargePower = 0;
 
 		try {
+			if (fairShare) {
+				if (unavailablePower > 0) {
+					// Grid limit is exceeded: always recalculate
+					this.limitCache.invalidate();
+				}
+				if (!this.limitCache.update(totalPowerLimit, this.getFairShareInputs())) {
+					// Nothing changed significantly since the last distribution
+					this.limitCache.apply();
+					return;
+				}
+			}
 
 			/*
 			 * Defines the active charging stations that are charging.
@@ -336,7 +367,7 @@ public class EvcsClusterPeakShavingImpl extends AbstractOpenemsComponent
 
 					// Ignore evcs with no request
 					if (requestedPower <= 0) {
-						managedEvcs.setChargePowerLimit(0);
+						this.write(() -> managedEvcs.setChargePowerLimit(0));
 						continue;
 					}
 
@@ -344,7 +375,7 @@ public class EvcsClusterPeakShavingImpl extends AbstractOpenemsComponent
 					var status = managedEvcs.getStatus();
 					switch (status) {
 					case CHARGING_FINISHED:
-						managedEvcs.setChargePowerLimitWithFilter(requestedPower);
+						this.write(() -> managedEvcs.setChargePowerLimitWithFilter(requestedPower));
 						/*
 						 * TODO: Change state from CHARGING_FINISHED to CHARGING should increase the
 						 * minimumPower. e.g. ZOE that is nearly on 100 percent, does not charge with a
@@ -356,7 +387,7 @@ public class EvcsClusterPeakShavingImpl extends AbstractOpenemsComponent
 					case UNDEFINED:
 					case NOT_READY_FOR_CHARGING:
 					case ENERGY_LIMIT_REACHED:
-						managedEvcs.setChargePowerLimit(0);
+						this.write(() -> managedEvcs.setChargePowerLimit(0));
 						break;
 					case READY_FOR_CHARGING:
 
@@ -365,16 +396,16 @@ public class EvcsClusterPeakShavingImpl extends AbstractOpenemsComponent
 						if (totalPowerLimit - initialChargePower - this.getChargePower().orElse(0) >= guaranteedPower) {
 
 							this.logInfoInDebugmode("Set initial power " + guaranteedPower + " to " + evcs.id());
-							managedEvcs.setChargePowerLimit(guaranteedPower);
+							this.write(() -> managedEvcs.setChargePowerLimit(guaranteedPower));
 							initialChargePower += guaranteedPower;
 
 							// TODO: managedEvcs._setStatus(Status.UNCONFIRMED_CHARGING); or put this in the
 							// setChargePowerLimit
 						} else {
-							managedEvcs.getChargeStateHandler()
-									.applyNewChargeState(ChargeState.WAITING_FOR_AVAILABLE_POWER);
-							managedEvcs.setDisplayText("Warte auf Leistung");
-							managedEvcs.setChargePowerLimit(0);
+							this.write(() -> managedEvcs.getChargeStateHandler()
+									.applyNewChargeState(ChargeState.WAITING_FOR_AVAILABLE_POWER));
+							this.write(() -> managedEvcs.setDisplayText("Warte auf Leistung"));
+							this.write(() -> managedEvcs.setChargePowerLimit(0));
 						}
 
 						// Reduce the total power by the initial power to be able to send an initial
@@ -391,10 +422,10 @@ public class EvcsClusterPeakShavingImpl extends AbstractOpenemsComponent
 						 */
 						if (totalPowerLeftMinusGuarantee - guaranteedPower >= 0) {
 							totalPowerLeftMinusGuarantee -= guaranteedPower;
-							managedEvcs._setMinimumPower(guaranteedPower);
+							this.write(() -> managedEvcs._setMinimumPower(guaranteedPower));
 							activeEvcss.add(managedEvcs);
 						} else {
-							managedEvcs.setChargePowerLimit(0);
+							this.write(() -> managedEvcs.setChargePowerLimit(0));
 						}
 						break;
 					}
@@ -404,6 +435,10 @@ public class EvcsClusterPeakShavingImpl extends AbstractOpenemsComponent
 			/*
 			 * Distributes the available Power to the active EVCSs
 			 */
+			if (this.config.distribution() == Distribution.FAIR_SHARE) {
+				this.distributeFairShare(activeEvcss, totalPowerLeftMinusGuarantee);
+				return;
+			}
 			for (ManagedEvcs evcs : activeEvcss) {
 
 				// int guaranteedPower = evcs.getMinimumPowerChannel().getNextValue().orElse(0);
@@ -447,10 +482,109 @@ public class EvcsClusterPeakShavingImpl extends AbstractOpenemsComponent
 						+ maximumChargePower + "; Power left: " + totalPowerLeftMinusGuarantee);
 			}
 		} catch (OpenemsNamedException e) {
+			this.limitCache.invalidate();
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Executes a write to an EVCS. With {@link Distribution#FAIR_SHARE} the write
+	 * is cached in the {@link LimitCache}.
+	 *
+	 * @param write the write
+	 * @throws OpenemsNamedException on error
+	 */
+	private void write(ThrowingRunnable<OpenemsNamedException> write) throws OpenemsNamedException {
+		if (this.config.distribution() == Distribution.FAIR_SHARE) {
+			this.limitCache.write(write);
+		} else {
+			write.run();
+		}
+	}
+
+	/**
+	 * Applies the limits of the last {@link Distribution#FAIR_SHARE}
+	 * distribution again.
+	 */
+	private void applyLimitCache() {
+		try {
+			this.limitCache.apply();
+		} catch (OpenemsNamedException e) {
+			this.limitCache.invalidate();
 			e.printStackTrace();
 		}
 	}
 
+	/**
+	 * Gets the inputs of the {@link Distribution#FAIR_SHARE} distribution per
+	 * EVCS, i.e. status, phases and the quantised request and power limits.
+	 *
+	 * <p>
+	 * Measured values like the current charge power are not part of the inputs;
+	 * they change every Cycle.
+	 *
+	 * @return the inputs
+	 */
+	private int[] getFairShareInputs() {
+		var evcss = this.getSortedEvcss();
+		var inputs = new int[evcss.size() * 6];
+		var i = 0;
+		for (var evcs : evcss) {
+			inputs[i++] = evcs.getStatus().ordinal();
+			inputs[i++] = evcs.getPhases().ordinal();
+			inputs[i++] = quantise(evcs instanceof ManagedEvcs managedEvcs //
+					? managedEvcs.getSetChargePowerRequestChannel().getNextWriteValue().orElse(0) //
+					: 0);
+			inputs[i++] = quantise(evcs.getMaximumPower().orElse(-1));
+			inputs[i++] = quantise(evcs.getMinimumHardwarePower().orElse(-1));
+			inputs[i++] = quantise(evcs.getMaximumHardwarePower().orElse(-1));
+		}
+		return inputs;
+	}
+
+	private static int quantise(int power) {
+		return Math.floorDiv(power, FAIR_SHARE_POWER_STEP);
+	}
+
+	/**
+	 * Distributes the available power equally to the active EVCSs using
+	 * {@link FairShare}. Every EVCS keeps its guaranteed power.
+	 *
+	 * @param activeEvcss                  the active EVCSs with their guaranteed
+	 *                                     power set as MinimumPower
+	 * @param totalPowerLeftMinusGuarantee the power left after all guaranteed
+	 *                                     powers
+	 * @throws OpenemsNamedException on error
+	 */
+	private void distributeFairShare(List<ManagedEvcs> activeEvcss, int totalPowerLeftMinusGuarantee)
+			throws OpenemsNamedException {
+		var size = activeEvcss.size();
+		var guaranteedPower = new int[size];
+		var nextChargePower = new int[size];
+		var demand = new int[size];
+		for (var i = 0; i < size; i++) {
+			var evcs = activeEvcss.get(i);
+			guaranteedPower[i] = evcs.getMinimumPowerChannel().getNextValue().orElse(0);
+			int maximumHardwareLimit = evcs.getMaximumHardwarePower().orElse(Evcs.DEFAULT_MAXIMUM_HARDWARE_POWER);
+			nextChargePower[i] = Math.min(maximumHardwareLimit, //
+					evcs.getSetChargePowerRequestChannel().getNextWriteValue().orElse(maximumHardwareLimit));
+
+			// Power the EV is actually able to take on top of its guaranteed power
+			var maximumChargePower = evcs.getMaximumPower().orElse(nextChargePower[i]);
+			demand[i] = Math.max(0, Math.min(nextChargePower[i], maximumChargePower) - guaranteedPower[i]);
+		}
+
+		var extraPower = FairShare.distribute(totalPowerLeftMinusGuarantee, demand);
+		for (var i = 0; i < size; i++) {
+			var evcs = activeEvcss.get(i);
+			var chargePower = extraPower[i] == demand[i] //
+					? nextChargePower[i] //
+					: guaranteedPower[i] + extraPower[i];
+			this.write(() -> evcs.setChargePowerLimitWithFilter(chargePower));
+			this.logInfoInDebugmode("Next charge power (fair share) for " + evcs.id() + ": " + chargePower);
+		}
+	}
+
 	/**
 	 * Sorted list of the EVCSs in the cluster.
 	 *
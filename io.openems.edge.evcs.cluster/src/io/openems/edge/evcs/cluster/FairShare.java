@@ -0,0 +1,64 @@
+package io.openems.edge.evcs.cluster;
+
+import java.util.Arrays;
+
+/**
+ * Max-min fair distribution of power ("water-filling").
+ *
+ * <p>
+ * Every participant gets an equal share of the available power; participants
+ * whose demand is below their share are fully satisfied and the rest of their
+ * share is redistributed among the others. Participants are processed from the
+ * smallest to the largest demand, i.e. complexity is 'n log n' for sorting.
+ */
+public class FairShare {
+
+	private FairShare() {
+	}
+
+	/**
+	 * Distributes the given power.
+	 *
+	 * @param power  the available power; negative values are treated as '0'
+	 * @param demand the demand per participant; negative values are treated as
+	 *               '0'
+	 * @return the distributed power per participant; never more than its demand
+	 */
+	public static int[] distribute(int power, int[] demand) {
+		var result = new int[demand.length];
+
+		// Participants with a demand, sorted by demand and index. Packed as
+		// 'demand << 32 | index' to sort primitive values.
+		var sorted = new long[demand.length];
+		var count = 0;
+		for (var i = 0; i < demand.length; i++) {
+			if (demand[i] > 0) {
+				sorted[count++] = (long) demand[i] << 32 | i;
+			}
+		}
+		Arrays.sort(sorted, 0, count);
+
+		var remaining = Math.max(0, power);
+		for (var k = 0; k < count; k++) {
+			var smallest = (int) sorted[k];
+			var left = count - k;
+			var share = remaining / left;
+			if (demand[smallest] <= share) {
+				// Fully satisfy the smallest demand
+				result[smallest] = demand[smallest];
+				remaining -= demand[smallest];
+				continue;
+			}
+
+			// All remaining demands are larger than the share; the rounding rest goes
+			// to the smallest of them
+			var rest = remaining - share * left;
+			for (var j = k; j < count; j++) {
+				result[(int) sorted[j]] = j - k < rest ? share + 1 : share;
+			}
+			break;
+		}
+		return result;
+	}
+
+}
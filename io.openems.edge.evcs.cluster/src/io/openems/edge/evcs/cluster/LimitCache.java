@@ -0,0 +1,88 @@
+package io.openems.edge.evcs.cluster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.function.ThrowingRunnable;
+
+/**
+ * Caches the values that were written to the EVCSs together with the inputs
+ * they were calculated from.
+ *
+ * <p>
+ * Charge power limits are write values and have to be set again in every
+ * Cycle. As long as the inputs do not change, the cached writes are applied
+ * again instead of calculating the distribution again. The available power is
+ * a measured value; it has to change by at least a deadband to be considered
+ * a change.
+ */
+public class LimitCache {
+
+	private final List<ThrowingRunnable<OpenemsNamedException>> writes = new ArrayList<>();
+	private final int powerDeadband;
+
+	private volatile int[] inputs = null;
+	private int power = 0;
+
+	/**
+	 * Creates a {@link LimitCache}.
+	 *
+	 * @param powerDeadband the minimum change of the available power that is
+	 *                      considered a change
+	 */
+	public LimitCache(int powerDeadband) {
+		this.powerDeadband = powerDeadband;
+	}
+
+	/**
+	 * Updates the inputs of the calculation.
+	 *
+	 * @param power  the available power
+	 * @param inputs the current inputs apart from the available power
+	 * @return true if the inputs changed, i.e. the cached writes were cleared and
+	 *         have to be calculated again; false if the cached writes can be
+	 *         applied with {@link #apply()}
+	 */
+	public boolean update(int power, int[] inputs) {
+		if (Arrays.equals(this.inputs, inputs) && Math.abs(power - this.power) < this.powerDeadband) {
+			return false;
+		}
+		this.inputs = inputs;
+		this.power = power;
+		this.writes.clear();
+		return true;
+	}
+
+	/**
+	 * Forces a new calculation in the next call to {@link #update(int, int[])},
+	 * e.g. after the EVCSs of the cluster changed.
+	 */
+	public void invalidate() {
+		this.inputs = null;
+	}
+
+	/**
+	 * Executes a write and caches it.
+	 *
+	 * @param write the write, e.g. setting a charge power limit
+	 * @throws OpenemsNamedException on error
+	 */
+	public void write(ThrowingRunnable<OpenemsNamedException> write) throws OpenemsNamedException {
+		write.run();
+		this.writes.add(write);
+	}
+
+	/**
+	 * Applies the cached writes again.
+	 *
+	 * @throws OpenemsNamedException on error
+	 */
+	public void apply() throws OpenemsNamedException {
+		for (var write : this.writes) {
+			write.run();
+		}
+	}
+
+}
@@ -456,6 +456,119 @@ public class EvcsClusterPeakShavingImplTest {
 		;
 	}
 
+	@Test
+	public void clusterDistribution_fairShareTest() throws Exception {
+		String[] evcsIds = { "evcs0", "evcs1" };
+
+		new ComponentTest(new EvcsClusterPeakShavingImpl()) //
+				.addReference("cm", new DummyConfigurationAdmin()) //
+				.addReference("componentManager", new DummyComponentManager()) //
+				.addReference("sum", new DummySum()) //
+				.addReference("addEvcs", EVCS0) //
+				.addReference("addEvcs", EVCS1) //
+				.addReference("meter", METER) //
+				.addReference("ess", ESS) //
+				.activate(MyConfig.create() //
+						.setEssId(ESS.id()) //
+						.setMeterId(METER.id()) //
+						.setHardwarePowerLimit(HARDWARE_POWER_LIMIT_PER_PHASE) //
+						.setEvcsIds(evcsIds) //
+						.setDistribution(Distribution.FAIR_SHARE) //
+						.build()) //
+				.next(new TestCase() //
+						.input(EVCS0_CHARE_STATE, ChargeState.CHARGING) //
+						.input(SUM_ESS_ACTIVE_POWER, 0) //
+						.input(METER_GRID_ACTIVE_POWER, 0) //
+						.input(METER_GRID_ACTIVE_POWER_L1, 0) //
+						.input(METER_GRID_ACTIVE_POWER_L2, 0) //
+						.input(METER_GRID_ACTIVE_POWER_L3, 0) //
+						.input(ESS_ALLOWED_DISCHARGE_POWER, 0) //
+						.input(EVCS0_SET_POWER_REQUEST, 15000) //
+						.input(EVCS1_SET_POWER_REQUEST, 15000) //
+						.input(EVCS0_CHARGE_POWER, 0) //
+						.input(EVCS1_CHARGE_POWER, 0) //
+						.input(EVCS0_MAXIMUM_POWER, 22000) //
+						.input(EVCS1_MAXIMUM_POWER, 22000) //
+						.input(EVCS0_MINIMUM_HARDWARE_POWER, 4500) //
+						.input(EVCS1_MINIMUM_HARDWARE_POWER, 4500) //
+						.input(EVCS0_MAXIMUM_HARDWARE_POWER, 22000) //
+						.input(EVCS1_MAXIMUM_HARDWARE_POWER, 22000) //
+						.input(EVCS0_STATUS, Status.CHARGING) //
+						.input(EVCS1_STATUS, Status.CHARGING)) //
+				.next(new TestCase() //
+						.output(EVCS_CLUSTER_MAXIMUM_POWER_TO_DISTRIBUTE, 21000) //
+						.output(EVCS0_SET_CHARGE_POWER_LIMIT, 10500) //
+						.output(EVCS1_SET_CHARGE_POWER_LIMIT, 10500)) //
+		;
+	}
+
+	@Test
+	public void clusterDistribution_fairShare500Test() throws Exception {
+		final var numberOfEvcss = 500;
+		var evcsPower = new DummyEvcsPower(new DisabledRampFilter());
+		var evcsIds = new String[numberOfEvcss];
+		var test = new ComponentTest(new EvcsClusterPeakShavingImpl()) //
+				.addReference("cm", new DummyConfigurationAdmin()) //
+				.addReference("componentManager", new DummyComponentManager()) //
+				.addReference("sum", new DummySum()) //
+				.addReference("meter", METER) //
+				.addReference("ess", ESS);
+		var input = new TestCase() //
+				.input(SUM_ESS_ACTIVE_POWER, 0) //
+				.input(METER_GRID_ACTIVE_POWER, 0) //
+				.input(METER_GRID_ACTIVE_POWER_L1, 0) //
+				.input(METER_GRID_ACTIVE_POWER_L2, 0) //
+				.input(METER_GRID_ACTIVE_POWER_L3, 0) //
+				.input(ESS_ALLOWED_DISCHARGE_POWER, 0);
+		var output = new TestCase();
+		for (var i = 0; i < numberOfEvcss; i++) {
+			evcsIds[i] = "evcs" + i;
+			test.addReference("addEvcs", new DummyManagedEvcs(evcsIds[i], evcsPower));
+			input //
+					.input(new ChannelAddress(evcsIds[i], "ChargeState"), ChargeState.CHARGING) //
+					.input(new ChannelAddress(evcsIds[i], "SetChargePowerRequest"), 22000) //
+					.input(new ChannelAddress(evcsIds[i], "ChargePower"), 0) //
+					.input(new ChannelAddress(evcsIds[i], "MaximumPower"), 22000) //
+					.input(new ChannelAddress(evcsIds[i], "MinimumHardwarePower"), 4500) //
+					.input(new ChannelAddress(evcsIds[i], "MaximumHardwarePower"), 22000) //
+					.input(new ChannelAddress(evcsIds[i], "Status"), Status.CHARGING);
+			// 4500 W guaranteed power plus an equal share of the remaining 750 kW
+			output.output(new ChannelAddress(evcsIds[i], "SetChargePowerLimit"), 6000);
+		}
+
+		test //
+				.activate(MyConfig.create() //
+						.setEssId(ESS.id()) //
+						.setMeterId(METER.id()) //
+						.setHardwarePowerLimit(1_000_000) //
+						.setEvcsIds(evcsIds) //
+						.setDistribution(Distribution.FAIR_SHARE) //
+						.build()) //
+				.next(input) //
+				.next(output);
+
+		// Small changes of the grid power keep the limits; they are applied again in
+		// every Cycle
+		test //
+				.next(new TestCase() //
+						.input(METER_GRID_ACTIVE_POWER_L1, 30) //
+						.input(METER_GRID_ACTIVE_POWER_L2, 30) //
+						.input(METER_GRID_ACTIVE_POWER_L3, 30)) //
+				.next(new TestCase(), 10) //
+				.next(output);
+
+		// Larger changes are distributed again
+		var reduced = new TestCase() //
+				.input(METER_GRID_ACTIVE_POWER_L1, 1000) //
+				.input(METER_GRID_ACTIVE_POWER_L2, 1000) //
+				.input(METER_GRID_ACTIVE_POWER_L3, 1000);
+		for (var evcsId : evcsIds) {
+			// 4500 W guaranteed power plus an equal share of the remaining 747 kW
+			reduced.output(new ChannelAddress(evcsId, "SetChargePowerLimit"), 5994);
+		}
+		test.next(reduced);
+	}
+
 	@Test
 	public void clusterDistribution_chargeTest_maximumHardwarePowerTest() throws Exception {
 		String[] evcsIds = { "evcs0", "evcs1" };
@@ -0,0 +1,59 @@
+package io.openems.edge.evcs.cluster;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class FairShareTest {
+
+	@Test
+	public void testDistribute() {
+		// Enough power for everyone
+		assertArrayEquals(new int[] { 1000, 2000, 3000 }, FairShare.distribute(10000, new int[] { 1000, 2000, 3000 }));
+
+		// Equal share
+		assertArrayEquals(new int[] { 3000, 3000, 3000 }, FairShare.distribute(9000, new int[] { 5000, 5000, 5000 }));
+
+		// Small demands are satisfied, the rest is shared
+		assertArrayEquals(new int[] { 1000, 4500, 4500 }, FairShare.distribute(10000, new int[] { 1000, 8000, 5000 }));
+
+		// Rounding rest goes to the smallest demands, then to the first participants
+		assertArrayEquals(new int[] { 4, 3, 3 }, FairShare.distribute(10, new int[] { 5, 5, 5 }));
+		assertArrayEquals(new int[] { 4, 4, 3 }, FairShare.distribute(11, new int[] { 6, 5, 7 }));
+
+		// No or negative power and demand
+		assertArrayEquals(new int[] { 0, 0 }, FairShare.distribute(-100, new int[] { 5, 5 }));
+		assertArrayEquals(new int[] { 0, 10 }, FairShare.distribute(100, new int[] { -5, 10 }));
+		assertArrayEquals(new int[0], FairShare.distribute(100, new int[0]));
+	}
+
+	@Test
+	public void testDistribute500() {
+		var random = new Random(0);
+		var demand = new int[500];
+		for (var i = 0; i < demand.length; i++) {
+			demand[i] = 1380 + random.nextInt(20620);
+		}
+		var power = 2_000_000;
+
+		var result = FairShare.distribute(power, demand);
+
+		// Never more than the demand; all power is distributed
+		assertEquals(Math.min(power, Arrays.stream(demand).sum()), Arrays.stream(result).sum());
+		var share = 0;
+		for (var i = 0; i < demand.length; i++) {
+			assertTrue(result[i] <= demand[i]);
+			share = Math.max(share, result[i] < demand[i] ? result[i] : 0);
+		}
+		// Unsatisfied participants get the largest share
+		for (var i = 0; i < demand.length; i++) {
+			assertTrue(result[i] == demand[i] || result[i] >= share - 1);
+		}
+	}
+
+}
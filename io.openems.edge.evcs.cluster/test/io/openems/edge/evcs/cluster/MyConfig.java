@@ -12,6 +12,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		private boolean debugMode = false;
 		private int hardwarePowerLimitPerPhase = 7000;
 		private String[] evcsIds = { "evcs0", "evcs1" };
+		private Distribution distribution = Distribution.PRIORITY;
 		private String essId = "ess0";
 		private String meterId = "meter0";
 
@@ -38,6 +39,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setDistribution(Distribution distribution) {
+			this.distribution = distribution;
+			return this;
+		}
+
 		public Builder setEssId(String essId) {
 			this.essId = essId;
 			return this;
@@ -84,6 +90,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.evcsIds;
 	}
 
+	@Override
+	public Distribution distribution() {
+		return this.builder.distribution;
+	}
+
 	@Override
 	public String ess_id() {
 		return this.builder.essId;
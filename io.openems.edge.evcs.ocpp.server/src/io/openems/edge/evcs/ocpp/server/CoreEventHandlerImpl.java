@@ -4,7 +4,6 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -97,6 +96,29 @@ public class CoreEventHandlerImpl implements ServerCoreEventHandler {
 			return new MeterValuesConfirmation();
 		}
 
+		// MeterValues are applied once per Cycle; see applyMeterValues()
+		if (!this.parent.sessions.offerMeterValues(sessionIndex, request)) {
+			this.parent.logWarn(this.log, "MeterValues queue of session " + sessionIndex + " is full. "
+					+ "Dropped oldest MeterValues.");
+		}
+		return new MeterValuesConfirmation();
+	}
+
+	/**
+	 * Sets the Channels of the EVCS depending on the queued MeterValues.
+	 *
+	 * <p>
+	 * Called by the Cycle thread.
+	 *
+	 * @param sessionIndex given session
+	 * @param request      the {@link MeterValuesRequest}
+	 */
+	protected void applyMeterValues(UUID sessionIndex, MeterValuesRequest request) {
+		var evcs = this.getEvcsBySessionIndexAndConnector(sessionIndex, request.getConnectorId());
+		if (evcs == null) {
+			return;
+		}
+
 		/*
 		 * Set the channels depending on the meter values
 		 */
@@ -247,7 +269,6 @@ public class CoreEventHandlerImpl implements ServerCoreEventHandler {
 				}
 			}
 		}
-		return new MeterValuesConfirmation();
 	}
 
 	@Override
@@ -368,8 +389,7 @@ public class CoreEventHandlerImpl implements ServerCoreEventHandler {
 	 * @return List of AbstractOcppEvcsComponent
 	 */
 	private List<AbstractManagedOcppEvcsComponent> getEvcssBySessionIndex(UUID sessionIndex) {
-		return this.parent.activeEvcsSessions.getOrDefault(sessionIndex,
-				new ArrayList<AbstractManagedOcppEvcsComponent>());
+		return this.parent.sessions.getEvcss(sessionIndex);
 	}
 
 	/**
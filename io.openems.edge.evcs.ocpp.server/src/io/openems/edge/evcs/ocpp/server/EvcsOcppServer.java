@@ -1,11 +1,6 @@
 package io.openems.edge.evcs.ocpp.server;
 
 import java.net.UnknownHostException;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.UUID;
 import java.util.concurrent.CompletionStage;
 
@@ -45,6 +40,7 @@ import io.openems.edge.evcs.ocpp.common.OcppServer;
 		configurationPolicy = ConfigurationPolicy.REQUIRE //
 )
 @EventTopics({ //
+		EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE, //
 		EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE //
 })
 public class EvcsOcppServer extends AbstractOpenemsComponent implements OpenemsComponent, OcppServer, EventHandler {
@@ -54,19 +50,17 @@ public class EvcsOcppServer extends AbstractOpenemsComponent implements OpenemsC
 
 	private final Logger log = LoggerFactory.getLogger(EvcsOcppServer.class);
 
+	/** Current sessions and configured evcss. */
+	protected final SessionRegistry sessions = new SessionRegistry();
+	/** Handles the OCPP core profile requests. */
+	protected final CoreEventHandlerImpl coreEventHandler = new CoreEventHandlerImpl(this);
 	/** The JSON server - responsible for the OCPP communication. */
 	private final MyJsonServer myJsonServer = new MyJsonServer(this);
-	/** Currently connected sessions with their related evcs components. */
-	protected final Map<UUID, List<AbstractManagedOcppEvcsComponent>> activeEvcsSessions = new HashMap<>();
 
 	@Reference
 	protected ComponentManager componentManager;
 
 	protected Config config;
-	/** Currently configured ocpp evcss. */
-	protected Map<String, List<AbstractManagedOcppEvcsComponent>> ocppEvcss = new HashMap<>();
-	/** Current sessions (Existing connections between server and evcs hardware). */
-	protected Map<String, UUID> ocppSessions = new HashMap<>();
 
 	/**
 	 * Adds each Evcs component to a list and checks whether there is a matching
@@ -80,21 +74,10 @@ public class EvcsOcppServer extends AbstractOpenemsComponent implements OpenemsC
 			return;
 		}
 		var ocppEvcs = (AbstractManagedOcppEvcsComponent) evcs;
-		var presentEvcss = this.ocppEvcss.get(ocppEvcs.getConfiguredOcppId());
-
-		if (presentEvcss == null) {
-			var initEvcssArr = new ArrayList<AbstractManagedOcppEvcsComponent>();
-			initEvcssArr.add(ocppEvcs);
-			this.ocppEvcss.put(ocppEvcs.getConfiguredOcppId(), initEvcssArr);
-		} else {
-			presentEvcss.add(ocppEvcs);
-		}
-
-		var sessionId = this.ocppSessions.get(ocppEvcs.getConfiguredOcppId());
+		var sessionId = this.sessions.addEvcs(ocppEvcs);
 		if (sessionId == null) {
 			return;
 		}
-		this.activeEvcsSessions.put(sessionId, presentEvcss);
 		ocppEvcs.newSession(this, sessionId);
 		this.myJsonServer.sendInitialRequests(sessionId, ocppEvcs);
 	}
@@ -110,15 +93,7 @@ public class EvcsOcppServer extends AbstractOpenemsComponent implements OpenemsC
 			return;
 		}
 		var ocppEvcs = (AbstractManagedOcppEvcsComponent) evcs;
-		var evcss = this.activeEvcsSessions.get(ocppEvcs.getSessionId());
-		if (evcss != null) {
-			if (evcss.size() < 2) {
-				this.activeEvcsSessions.remove(ocppEvcs.getSessionId());
-			} else {
-				this.activeEvcsSessions.get(ocppEvcs.getSessionId()).remove(ocppEvcs);
-			}
-		}
-		this.ocppEvcss.remove(ocppEvcs.getConfiguredOcppId());
+		this.sessions.removeEvcs(ocppEvcs);
 		ocppEvcs.lostSession();
 	}
 
@@ -146,11 +121,12 @@ public class EvcsOcppServer extends AbstractOpenemsComponent implements OpenemsC
 	@Override
 	public void handleEvent(Event event) {
 		switch (event.getTopic()) {
+		case EdgeEventConstants.TOPIC_CYCLE_BEFORE_PROCESS_IMAGE:
+			// Apply MeterValues received since the last Cycle
+			this.sessions.drainMeterValues(this.coreEventHandler::applyMeterValues);
+			break;
 		case EdgeEventConstants.TOPIC_CYCLE_EXECUTE_WRITE:
-			for (Entry<UUID, List<AbstractManagedOcppEvcsComponent>> evcsSessions : this.activeEvcsSessions
-					.entrySet()) {
-				this.myJsonServer.sendPermanentRequests(evcsSessions.getValue());
-			}
+			this.sessions.forEachSession((sessionId, evcss) -> this.myJsonServer.sendPermanentRequests(evcss));
 			break;
 		}
 	}
@@ -1,9 +1,7 @@
 package io.openems.edge.evcs.ocpp.server;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.Map.Entry;
 import java.util.UUID;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
@@ -59,7 +57,7 @@ public class MyJsonServer {
 	public MyJsonServer(EvcsOcppServer parent) {
 		this.parent = parent;
 
-		this.coreProfile = new ServerCoreProfile(new CoreEventHandlerImpl(parent));
+		this.coreProfile = new ServerCoreProfile(parent.coreEventHandler);
 		this.firmwareProfile = new ServerFirmwareManagementProfile(new FirmwareManagementEventHandlerImpl(parent));
 
 		var server = new JSONServer(this.coreProfile);
@@ -90,15 +88,7 @@ public class MyJsonServer {
 
 				var ocppIdentifier = information.getIdentifier().replace("/", "");
 
-				MyJsonServer.this.parent.ocppSessions.put(ocppIdentifier, sessionIndex);
-
-				var presentEvcss = MyJsonServer.this.parent.ocppEvcss.get(ocppIdentifier);
-
-				if (presentEvcss == null) {
-					return;
-				}
-				MyJsonServer.this.parent.activeEvcsSessions.put(sessionIndex, presentEvcss);
-
+				var presentEvcss = MyJsonServer.this.parent.sessions.newSession(ocppIdentifier, sessionIndex);
 				for (AbstractManagedOcppEvcsComponent evcs : presentEvcss) {
 					evcs.newSession(MyJsonServer.this.parent, sessionIndex);
 					MyJsonServer.this.sendInitialRequests(sessionIndex, evcs);
@@ -109,24 +99,10 @@ public class MyJsonServer {
 			public void lostSession(UUID sessionIndex) {
 				MyJsonServer.this.logDebug("Session " + sessionIndex + " lost connection");
 
-				var sessionEvcss = MyJsonServer.this.parent.activeEvcsSessions.getOrDefault(sessionIndex,
-						new ArrayList<>());
-
-				if (sessionEvcss != null) {
-					for (AbstractManagedOcppEvcsComponent ocppEvcs : sessionEvcss) {
-						ocppEvcs.lostSession();
-					}
-				}
-
-				var ocppId = "";
-				for (Entry<String, UUID> session : MyJsonServer.this.parent.ocppSessions.entrySet()) {
-					if (session.getValue().equals(sessionIndex)) {
-						ocppId = session.getKey();
-					}
+				for (AbstractManagedOcppEvcsComponent ocppEvcs : MyJsonServer.this.parent.sessions
+						.lostSession(sessionIndex)) {
+					ocppEvcs.lostSession();
 				}
-
-				MyJsonServer.this.parent.ocppSessions.remove(ocppId);
-				MyJsonServer.this.parent.activeEvcsSessions.remove(sessionIndex);
 			}
 
 			@Override
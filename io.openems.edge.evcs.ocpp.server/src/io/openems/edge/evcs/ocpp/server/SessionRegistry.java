@@ -0,0 +1,185 @@
+package io.openems.edge.evcs.ocpp.server;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import eu.chargetime.ocpp.model.core.MeterValuesRequest;
+import io.openems.edge.evcs.ocpp.common.AbstractManagedOcppEvcsComponent;
+
+/**
+ * Thread-safe registry of the OCPP sessions and the configured EVCS components.
+ *
+ * <p>
+ * Sessions are opened and closed by the websocket threads of the OCPP server,
+ * EVCS components are added and removed by OSGi and the sessions are iterated
+ * by the Cycle thread. All maps are therefore concurrent; the lists of EVCSs
+ * per OCPP-ID are copy-on-write, i.e. can be iterated while being modified.
+ *
+ * <p>
+ * Every session has a bounded queue for inbound MeterValues, which are applied
+ * to the Channels once per Cycle.
+ */
+public class SessionRegistry {
+
+	/** Maximum number of queued MeterValues per session. */
+	public static final int METER_VALUES_QUEUE_CAPACITY = 100;
+
+	private final Logger log = LoggerFactory.getLogger(SessionRegistry.class);
+
+	/** Configured EVCSs per OCPP-ID; one EVCS per connector. */
+	private final Map<String, List<AbstractManagedOcppEvcsComponent>> evcssByOcppId = new ConcurrentHashMap<>();
+	/** Current sessions per OCPP-ID. */
+	private final Map<String, UUID> sessionByOcppId = new ConcurrentHashMap<>();
+	/** OCPP-ID per current session. */
+	private final Map<UUID, String> ocppIdBySession = new ConcurrentHashMap<>();
+	/** Inbound MeterValues per current session. */
+	private final Map<UUID, BlockingQueue<MeterValuesRequest>> meterValues = new ConcurrentHashMap<>();
+
+	/**
+	 * Adds an EVCS component.
+	 *
+	 * @param evcs the EVCS
+	 * @return the current session of its OCPP-ID; null if not connected
+	 */
+	public UUID addEvcs(AbstractManagedOcppEvcsComponent evcs) {
+		var ocppId = evcs.getConfiguredOcppId();
+		this.evcssByOcppId.computeIfAbsent(ocppId, id -> new CopyOnWriteArrayList<>()).add(evcs);
+		return this.sessionByOcppId.get(ocppId);
+	}
+
+	/**
+	 * Removes an EVCS component.
+	 *
+	 * @param evcs the EVCS
+	 */
+	public void removeEvcs(AbstractManagedOcppEvcsComponent evcs) {
+		this.evcssByOcppId.computeIfPresent(evcs.getConfiguredOcppId(), (id, evcss) -> {
+			evcss.remove(evcs);
+			return evcss.isEmpty() ? null : evcss;
+		});
+	}
+
+	/**
+	 * Registers a new session.
+	 *
+	 * @param ocppId    the OCPP-ID of the charging station
+	 * @param sessionId the session
+	 * @return the EVCSs of the session; possibly empty
+	 */
+	public List<AbstractManagedOcppEvcsComponent> newSession(String ocppId, UUID sessionId) {
+		var previous = this.sessionByOcppId.put(ocppId, sessionId);
+		if (previous != null && !previous.equals(sessionId)) {
+			this.ocppIdBySession.remove(previous);
+			this.meterValues.remove(previous);
+		}
+		this.meterValues.computeIfAbsent(sessionId, id -> new ArrayBlockingQueue<>(METER_VALUES_QUEUE_CAPACITY));
+		this.ocppIdBySession.put(sessionId, ocppId);
+		return this.getEvcss(sessionId);
+	}
+
+	/**
+	 * Unregisters a lost session.
+	 *
+	 * @param sessionId the session
+	 * @return the EVCSs of the session; possibly empty
+	 */
+	public List<AbstractManagedOcppEvcsComponent> lostSession(UUID sessionId) {
+		var evcss = this.getEvcss(sessionId);
+		var ocppId = this.ocppIdBySession.remove(sessionId);
+		if (ocppId != null) {
+			this.sessionByOcppId.remove(ocppId, sessionId);
+		}
+		this.meterValues.remove(sessionId);
+		return evcss;
+	}
+
+	/**
+	 * Gets the EVCSs of a session.
+	 *
+	 * <p>
+	 * One charging station has one session but can have more connectors. Every
+	 * connector is one EVCS.
+	 *
+	 * @param sessionId the session
+	 * @return the EVCSs; possibly empty
+	 */
+	public List<AbstractManagedOcppEvcsComponent> getEvcss(UUID sessionId) {
+		var ocppId = this.ocppIdBySession.get(sessionId);
+		if (ocppId == null) {
+			return List.of();
+		}
+		return this.evcssByOcppId.getOrDefault(ocppId, List.of());
+	}
+
+	/**
+	 * Calls the consumer for the EVCSs of every current session.
+	 *
+	 * @param consumer the consumer of session and EVCSs
+	 */
+	public void forEachSession(BiConsumer<UUID, List<AbstractManagedOcppEvcsComponent>> consumer) {
+		for (var sessionId : this.ocppIdBySession.keySet()) {
+			var evcss = this.getEvcss(sessionId);
+			if (!evcss.isEmpty()) {
+				consumer.accept(sessionId, evcss);
+			}
+		}
+	}
+
+	/**
+	 * Queues inbound MeterValues of a session. If the queue is full, the oldest
+	 * MeterValues are dropped.
+	 *
+	 * <p>
+	 * MeterValues of a session that is not registered (anymore), e.g. that
+	 * arrive after {@link #lostSession(UUID)}, are ignored.
+	 *
+	 * @param sessionId the session
+	 * @param request   the {@link MeterValuesRequest}
+	 * @return false if older MeterValues had to be dropped
+	 */
+	public boolean offerMeterValues(UUID sessionId, MeterValuesRequest request) {
+		var queue = this.meterValues.get(sessionId);
+		if (queue == null) {
+			return true;
+		}
+		var dropped = false;
+		while (!queue.offer(request)) {
+			queue.poll();
+			dropped = true;
+		}
+		return !dropped;
+	}
+
+	/**
+	 * Drains all queued MeterValues in order of arrival per session.
+	 *
+	 * <p>
+	 * An error while applying one {@link MeterValuesRequest} is logged and does
+	 * not stop applying the others.
+	 *
+	 * @param consumer the consumer of session and {@link MeterValuesRequest}
+	 */
+	public void drainMeterValues(BiConsumer<UUID, MeterValuesRequest> consumer) {
+		for (var entry : this.meterValues.entrySet()) {
+			MeterValuesRequest request;
+			while ((request = entry.getValue().poll()) != null) {
+				try {
+					consumer.accept(entry.getKey(), request);
+				} catch (RuntimeException e) {
+					this.log.warn("Unable to apply MeterValues of session [" + entry.getKey() + "]: " + request
+							+ ": " + e.getClass().getSimpleName() + ": " + e.getMessage());
+				}
+			}
+		}
+	}
+
+}
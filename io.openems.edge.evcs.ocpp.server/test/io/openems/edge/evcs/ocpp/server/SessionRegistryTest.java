@@ -0,0 +1,113 @@
+package io.openems.edge.evcs.ocpp.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import eu.chargetime.ocpp.model.core.MeterValue;
+import eu.chargetime.ocpp.model.core.MeterValuesRequest;
+
+public class SessionRegistryTest {
+
+	private static MeterValuesRequest request() {
+		return new MeterValuesRequest(1, new MeterValue[0]);
+	}
+
+	private static Map<UUID, List<MeterValuesRequest>> drain(SessionRegistry sut) {
+		var result = new HashMap<UUID, List<MeterValuesRequest>>();
+		sut.drainMeterValues((id, request) -> result.computeIfAbsent(id, i -> new ArrayList<>()).add(request));
+		return result;
+	}
+
+	@Test
+	public void testReplaceSession() {
+		var sut = new SessionRegistry();
+		var session0 = UUID.randomUUID();
+		var session1 = UUID.randomUUID();
+
+		sut.newSession("ocpp0", session0);
+		assertTrue(sut.offerMeterValues(session0, request()));
+
+		// Reconnect of the same charging station replaces the session
+		sut.newSession("ocpp0", session1);
+		assertTrue(sut.offerMeterValues(session0, request()));
+		var request = request();
+		assertTrue(sut.offerMeterValues(session1, request));
+
+		assertEquals(Map.of(session1, List.of(request)), drain(sut));
+
+		// Losing the replaced session keeps the current one
+		sut.lostSession(session0);
+		assertTrue(sut.offerMeterValues(session1, request));
+		assertEquals(Map.of(session1, List.of(request)), drain(sut));
+	}
+
+	@Test
+	public void testLostSession() {
+		var sut = new SessionRegistry();
+		var session = UUID.randomUUID();
+
+		sut.newSession("ocpp0", session);
+		assertTrue(sut.offerMeterValues(session, request()));
+		assertEquals(List.of(), sut.lostSession(session));
+
+		// Late MeterValues after the session was lost are ignored
+		assertTrue(sut.offerMeterValues(session, request()));
+		sut.drainMeterValues((id, request) -> {
+			throw new AssertionError("Unexpected MeterValues of session [" + id + "]");
+		});
+		assertEquals(List.of(), sut.getEvcss(session));
+	}
+
+	@Test
+	public void testOfferMeterValuesDropsOldest() {
+		var sut = new SessionRegistry();
+		var session = UUID.randomUUID();
+		sut.newSession("ocpp0", session);
+
+		var requests = new ArrayList<MeterValuesRequest>();
+		for (var i = 0; i < SessionRegistry.METER_VALUES_QUEUE_CAPACITY; i++) {
+			var request = request();
+			requests.add(request);
+			assertTrue(sut.offerMeterValues(session, request));
+		}
+		var request = request();
+		assertFalse(sut.offerMeterValues(session, request));
+
+		var drained = drain(sut).get(session);
+		assertEquals(SessionRegistry.METER_VALUES_QUEUE_CAPACITY, drained.size());
+		assertSame(requests.get(1), drained.get(0));
+		assertSame(request, drained.get(drained.size() - 1));
+	}
+
+	@Test
+	public void testDrainMeterValuesContinuesOnError() {
+		var sut = new SessionRegistry();
+		var session0 = UUID.randomUUID();
+		var session1 = UUID.randomUUID();
+		sut.newSession("ocpp0", session0);
+		sut.newSession("ocpp1", session1);
+		sut.offerMeterValues(session0, request());
+		sut.offerMeterValues(session0, request());
+		sut.offerMeterValues(session1, request());
+
+		var applied = new ArrayList<UUID>();
+		sut.drainMeterValues((id, request) -> {
+			applied.add(id);
+			throw new IllegalArgumentException("Malformed MeterValues");
+		});
+		assertEquals(3, applied.size());
+		assertEquals(2, applied.stream().filter(session0::equals).count());
+		assertEquals(1, applied.stream().filter(session1::equals).count());
+	}
+
+}
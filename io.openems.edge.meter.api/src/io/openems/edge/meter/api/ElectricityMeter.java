@@ -423,6 +423,43 @@ public interface ElectricityMeter extends OpenemsComponent {
 		return false;
 	}
 
+	/**
+	 * Immutable values of the most important {@link ElectricityMeter} Channels
+	 * within one Cycle. Values are null if they are not available.
+	 *
+	 * <p>
+	 * The Sum provides one per meter and Cycle via
+	 * {@code Sum.getSnapshot(meterId, ElectricityMeter.Snapshot.class)}.
+	 */
+	public static record Snapshot(//
+			String id, //
+			MeterType meterType, //
+			Integer activePower, //
+			Integer activePowerL1, //
+			Integer activePowerL2, //
+			Integer activePowerL3, //
+			Integer reactivePower //
+	) {
+
+		/**
+		 * Creates a {@link Snapshot} from the current Channel values of the given
+		 * {@link ElectricityMeter}.
+		 *
+		 * @param meter the {@link ElectricityMeter}
+		 * @return the {@link Snapshot}
+		 */
+		public static Snapshot from(ElectricityMeter meter) {
+			return new Snapshot(//
+					meter.id(), //
+					meter.getMeterType(), //
+					meter.getActivePower().get(), //
+					meter.getActivePowerL1().get(), //
+					meter.getActivePowerL2().get(), //
+					meter.getActivePowerL3().get(), //
+					meter.getReactivePower().get());
+		}
+	}
+
 	/**
 	 * Used for Modbus/TCP Api Controller. Provides a Modbus table for the Channels
 	 * of this Component.
@@ -1,7 +1,10 @@
 package io.openems.edge.predictor.api.manager;
 
 import io.openems.common.types.ChannelAddress;
+import io.openems.common.types.OpenemsType;
 import io.openems.edge.common.channel.Doc;
+import io.openems.edge.common.channel.LongReadChannel;
+import io.openems.edge.common.channel.value.Value;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.predictor.api.prediction.Prediction;
 import io.openems.edge.predictor.api.prediction.Predictor;
@@ -12,6 +15,10 @@ public interface PredictorManager extends OpenemsComponent {
 	public static final String SINGLETON_COMPONENT_ID = "_predictorManager";
 
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
+		PREDICTION_CACHE_HITS(Doc.of(OpenemsType.LONG) //
+				.text("Number of Predictions served from the cache")), //
+		PREDICTION_CACHE_MISSES(Doc.of(OpenemsType.LONG) //
+				.text("Number of Predictions that had to be created by a Predictor")), //
 		;
 		private final Doc doc;
 
@@ -34,4 +41,62 @@ public interface PredictorManager extends OpenemsComponent {
 	 *         Predictor matches the Channel-Address
 	 */
 	public Prediction getPrediction(ChannelAddress channelAddress);
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PREDICTION_CACHE_HITS}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPredictionCacheHitsChannel() {
+		return this.channel(ChannelId.PREDICTION_CACHE_HITS);
+	}
+
+	/**
+	 * Gets the Number of Predictions served from the cache. See
+	 * {@link ChannelId#PREDICTION_CACHE_HITS}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getPredictionCacheHits() {
+		return this.getPredictionCacheHitsChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PREDICTION_CACHE_HITS} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPredictionCacheHits(Long value) {
+		this.getPredictionCacheHitsChannel().setNextValue(value);
+	}
+
+	/**
+	 * Gets the Channel for {@link ChannelId#PREDICTION_CACHE_MISSES}.
+	 *
+	 * @return the Channel
+	 */
+	public default LongReadChannel getPredictionCacheMissesChannel() {
+		return this.channel(ChannelId.PREDICTION_CACHE_MISSES);
+	}
+
+	/**
+	 * Gets the Number of Predictions that had to be created by a Predictor. See
+	 * {@link ChannelId#PREDICTION_CACHE_MISSES}.
+	 *
+	 * @return the Channel {@link Value}
+	 */
+	public default Value<Long> getPredictionCacheMisses() {
+		return this.getPredictionCacheMissesChannel().value();
+	}
+
+	/**
+	 * Internal method to set the 'nextValue' on
+	 * {@link ChannelId#PREDICTION_CACHE_MISSES} Channel.
+	 *
+	 * @param value the next value
+	 */
+	public default void _setPredictionCacheMisses(Long value) {
+		this.getPredictionCacheMissesChannel().setNextValue(value);
+	}
 }
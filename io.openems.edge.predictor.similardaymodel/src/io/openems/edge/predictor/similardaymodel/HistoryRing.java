@@ -0,0 +1,142 @@
+package io.openems.edge.predictor.similardaymodel;
+
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+import static java.lang.Math.max;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+
+/**
+ * Rolling history of quarterly values of one Channel over a number of weeks.
+ *
+ * <p>
+ * Values are stored in a primitive ring buffer that is indexed by the absolute
+ * quarter since epoch, i.e. moving forward in time only invalidates the slots
+ * of the new quarters; all other values stay in place. This allows to query
+ * only the newest quarters from Timedata instead of the full history on every
+ * prediction.
+ *
+ * <p>
+ * This class is not thread-safe.
+ */
+public class HistoryRing {
+
+	public static final int QUARTERS_PER_DAY = 96;
+	public static final int QUARTERS_PER_WEEK = 7 * QUARTERS_PER_DAY;
+
+	/**
+	 * Number of quarters before the end of the ring that are re-queried on update,
+	 * to pick up values that were not yet available in Timedata.
+	 */
+	public static final int REFRESH_QUARTERS = 4;
+
+	private static final int SECONDS_PER_QUARTER = 15 * 60;
+	private static final int NULL = Integer.MIN_VALUE;
+
+	private final int numOfWeeks;
+	private final int[] values;
+
+	/** The exclusive end of the ring as quarter since epoch. */
+	private long end = Long.MIN_VALUE;
+
+	public HistoryRing(int numOfWeeks) {
+		this.numOfWeeks = max(1, numOfWeeks);
+		this.values = new int[this.numOfWeeks * QUARTERS_PER_WEEK];
+		Arrays.fill(this.values, NULL);
+	}
+
+	/**
+	 * Gets the number of quarters in the ring.
+	 *
+	 * @return the capacity
+	 */
+	public int capacity() {
+		return this.values.length;
+	}
+
+	/**
+	 * Gets the start of the period that needs to be queried from Timedata before
+	 * the ring can be advanced to the given time.
+	 *
+	 * @param now the current time, rounded down to quarter
+	 * @return the from-date for the query; the full history if the ring is empty,
+	 *         outdated or the clock moved backwards
+	 */
+	public ZonedDateTime getQueryFromDate(ZonedDateTime now) {
+		var to = toQuarter(now);
+		if (this.needsReset(to)) {
+			return now.minusSeconds((long) this.capacity() * SECONDS_PER_QUARTER);
+		}
+		var from = max(to - this.capacity(), this.end - REFRESH_QUARTERS);
+		return ZonedDateTime.ofInstant(Instant.ofEpochSecond(from * SECONDS_PER_QUARTER), now.getZone());
+	}
+
+	/**
+	 * Advances the end of the ring to the given time. Slots of new quarters are
+	 * cleared; all of them if the ring needs to be reset.
+	 *
+	 * @param now the current time, rounded down to quarter
+	 */
+	public void advanceTo(ZonedDateTime now) {
+		var to = toQuarter(now);
+		if (this.needsReset(to)) {
+			Arrays.fill(this.values, NULL);
+		} else {
+			for (var q = this.end; q < to; q++) {
+				this.values[this.slot(q)] = NULL;
+			}
+		}
+		this.end = to;
+	}
+
+	/**
+	 * Stores a value. Values outside of the ring are ignored.
+	 *
+	 * @param time  the time of the value
+	 * @param value the value; possibly null
+	 */
+	public void put(ZonedDateTime time, Integer value) {
+		var q = toQuarter(time);
+		if (q >= this.end || q < this.end - this.capacity()) {
+			return;
+		}
+		this.values[this.slot(q)] = value == null ? NULL : value;
+	}
+
+	/**
+	 * Calculates the prediction for the next day, i.e. per quarter the average of
+	 * the same quarter on the same weekday in all weeks of the ring. Missing
+	 * values count as '0'.
+	 *
+	 * @return the predicted values, starting at the end of the ring
+	 */
+	public Integer[] getSimilarDayAverage() {
+		var result = new Integer[QUARTERS_PER_DAY];
+		for (var i = 0; i < QUARTERS_PER_DAY; i++) {
+			var sum = 0;
+			for (var week = 1; week <= this.numOfWeeks; week++) {
+				var value = this.values[this.slot(this.end - week * QUARTERS_PER_WEEK + i)];
+				if (value != NULL) {
+					sum += value;
+				}
+			}
+			result[i] = sum / this.numOfWeeks;
+		}
+		return result;
+	}
+
+	private boolean needsReset(long to) {
+		return this.end == Long.MIN_VALUE || to < this.end || to - this.end >= this.capacity();
+	}
+
+	private int slot(long quarter) {
+		return floorMod(quarter, this.capacity());
+	}
+
+	private static long toQuarter(ZonedDateTime time) {
+		return floorDiv(time.toEpochSecond(), SECONDS_PER_QUARTER);
+	}
+
+}
@@ -5,10 +5,9 @@ import static io.openems.edge.predictor.api.prediction.Prediction.EMPTY_PREDICTI
 
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.Map;
 import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -64,6 +63,8 @@ public class PredictorSimilardayModelImpl extends AbstractPredictor implements P
 	@Reference
 	private ComponentManager componentManager;
 
+	private final Map<ChannelAddress, HistoryRing> historyRings = new ConcurrentHashMap<>();
+
 	private Config config;
 
 	public PredictorSimilardayModelImpl() throws OpenemsNamedException {
@@ -95,132 +96,30 @@ public class PredictorSimilardayModelImpl extends AbstractPredictor implements P
 	@Override
 	protected Prediction createNewPrediction(ChannelAddress channelAddress) {
 		var now = roundDownToQuarter(ZonedDateTime.now(this.componentManager.getClock()));
-		// From now time to Last 4 weeks
-		var fromDate = now.minus(this.config.numOfWeeks(), ChronoUnit.WEEKS);
-
-		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryResult;
-
-		// Query database
-		try {
-			queryResult = this.timedata.queryHistoricData(null, fromDate, now, Sets.newHashSet(channelAddress),
-					new Resolution(15, ChronoUnit.MINUTES));
-		} catch (OpenemsNamedException e) {
-			this.logError(this.log, e.getMessage());
-			e.printStackTrace();
-			return EMPTY_PREDICTION;
-		}
-
-		// Extract data
-		List<Integer> result = queryResult.values().stream() //
-				.map(SortedMap::values) //
-				// extract JsonElement values as flat stream
-				.flatMap(Collection::stream) //
-				// convert JsonElement to Integer
-				.map(v -> {
-					if (v.isJsonNull()) {
-						return (Integer) null;
-					}
-					return v.getAsInt();
-				})
-				// get as Array
-				.toList();
-
-		// Num of Data per day
-		// TODO change this variable based on the resolution which is 900 in query
-		var numOfDataPerDay = 96;
-
-		var mainData = getSlicedArrayList(result, numOfDataPerDay);
-
-		// Getting the indexes of the last four similar days
-		var lastFourSimilarDays = getCorrectIndexes(mainData, NUM_OF_DAYS_OF_WEEK, PREDCTION_FOR_ONE_DAY);
-
-		// Getting the average predictions
-		var nextOneDayPredictions = getAverage(lastFourSimilarDays);
-
-		return Prediction.from(Prediction.getValueRange(this.sum, channelAddress), now,
-				nextOneDayPredictions.stream().toArray(Integer[]::new));
-	}
-
-	/**
-	 * This methods takes a List of integers and returns a 2dimension List of
-	 * integers, specific to correct days.
-	 *
-	 * @param arrlist array list of all data.
-	 * @param n       number of data per day.
-	 * @return 2dimension array list
-	 */
-	private static List<List<Integer>> getSlicedArrayList(List<Integer> arrlist, int n) {
-		List<List<Integer>> twoDimensionalArrayList = new ArrayList<>();
-		for (var i = 0; i < arrlist.size(); i = i + n) {
-			twoDimensionalArrayList.add(arrlist.subList(i, i + n));
-		}
-		return twoDimensionalArrayList;
-
-	}
-
-	/**
-	 * This methods get the average of data based on the indexes.
-	 *
-	 * @param twoDimensionalArrayList The actual data.
-	 * @return Average values of the last four days.
-	 */
-	private static List<Integer> getAverage(List<List<Integer>> twoDimensionalArrayList) {
-		List<Integer> averageList = new ArrayList<>();
-		var rows = twoDimensionalArrayList.size();
-		var cols = twoDimensionalArrayList.get(0).size();
-		for (var i = 0; i < cols; i++) {
-			var sumRow = 0;
-			for (var j = 0; j < rows; j++) {
-				if (twoDimensionalArrayList.get(j).get(i) != null) {
-					sumRow += twoDimensionalArrayList.get(j).get(i);
-				}
+		var ring = this.historyRings.computeIfAbsent(channelAddress,
+				c -> new HistoryRing(this.config.numOfWeeks()));
+
+		synchronized (ring) {
+			// Query only the quarters that are missing in the ring
+			final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> queryResult;
+			try {
+				queryResult = this.timedata.queryHistoricData(null, ring.getQueryFromDate(now), now,
+						Sets.newHashSet(channelAddress), new Resolution(15, ChronoUnit.MINUTES));
+			} catch (OpenemsNamedException e) {
+				this.logError(this.log, e.getMessage());
+				e.printStackTrace();
+				return EMPTY_PREDICTION;
 			}
-			averageList.add(sumRow / twoDimensionalArrayList.size());
-		}
-		return averageList;
 
-	}
-
-	/**
-	 * Data manipulation, to get the proper indexes.
-	 *
-	 * @param mainData      all data points.
-	 * @param numDaysOfWeek total number of days of week.
-	 * @param whichDay      current actual day.
-	 * @return proper indexed days.
-	 */
-	private static List<List<Integer>> getCorrectIndexes(List<List<Integer>> mainData, int numDaysOfWeek,
-			int whichDay) {
-		List<Integer> indexes = new ArrayList<>();
-		List<List<Integer>> days = new ArrayList<>();
-		for (var i = 0; i < mainData.size(); i++) {
-			if (isMember(whichDay, numDaysOfWeek, i)) {
-				indexes.add(i);
+			ring.advanceTo(now);
+			for (var entry : queryResult.entrySet()) {
+				var v = entry.getValue().get(channelAddress);
+				ring.put(entry.getKey(), v == null || v.isJsonNull() ? null : v.getAsInt());
 			}
-		}
 
-		for (Integer i : indexes) {
-			days.add(mainData.get(i));
+			return Prediction.from(Prediction.getValueRange(this.sum, channelAddress), now,
+					ring.getSimilarDayAverage());
 		}
-
-		return days;
-
-	}
-
-	/**
-	 * Check if the day belongs to correct day.
-	 *
-	 * @param whichDay      current actual day.
-	 * @param numDaysOfWeek total number of days of week.
-	 * @param nthTerm       nthterm
-	 * @return boolean value to represent is value member of correct day
-	 */
-	private static boolean isMember(int whichDay, int numDaysOfWeek, int nthTerm) {
-		if (numDaysOfWeek == 0) {
-			return nthTerm == whichDay;
-		}
-		return (nthTerm - whichDay) % numDaysOfWeek == 0 && (nthTerm - whichDay) / numDaysOfWeek >= 0;
-
 	}
 
 }
@@ -0,0 +1,84 @@
+package io.openems.edge.predictor.similardaymodel;
+
+import static io.openems.edge.predictor.similardaymodel.HistoryRing.QUARTERS_PER_WEEK;
+import static io.openems.edge.predictor.similardaymodel.HistoryRing.REFRESH_QUARTERS;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.Test;
+
+public class HistoryRingTest {
+
+	private static final ZonedDateTime START = ZonedDateTime.of(2020, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+
+	@Test
+	public void testGetQueryFromDate() {
+		var sut = new HistoryRing(2);
+		assertEquals(2 * QUARTERS_PER_WEEK, sut.capacity());
+
+		// Empty
+		assertEquals(START.minusWeeks(2), sut.getQueryFromDate(START));
+		sut.advanceTo(START);
+
+		// Incremental
+		var next = START.plusMinutes(15);
+		assertEquals(START.minusMinutes(15 * REFRESH_QUARTERS), sut.getQueryFromDate(next));
+
+		// Clock moved backwards
+		assertEquals(START.minusMinutes(15).minusWeeks(2), sut.getQueryFromDate(START.minusMinutes(15)));
+
+		// Outdated
+		assertEquals(START, sut.getQueryFromDate(START.plusWeeks(2)));
+	}
+
+	@Test
+	public void testIncrementalEqualsFull() {
+		var incremental = new HistoryRing(4);
+		var now = START;
+		fill(incremental, now);
+
+		for (var i = 0; i < 200; i++) {
+			now = now.plusMinutes(15);
+			fill(incremental, now);
+
+			var full = new HistoryRing(4);
+			fill(full, now);
+			assertArrayEquals(full.getSimilarDayAverage(), incremental.getSimilarDayAverage());
+		}
+	}
+
+	@Test
+	public void testGetSimilarDayAverage() {
+		var sut = new HistoryRing(2);
+		sut.advanceTo(START);
+		sut.put(START.minusWeeks(2), 100);
+		sut.put(START.minusWeeks(1), 300);
+		sut.put(START.minusWeeks(2).plusMinutes(15), 100);
+		sut.put(START.minusWeeks(1).plusMinutes(15), null);
+		sut.put(START.minusWeeks(3), 9999); // outside of ring
+		sut.put(START, 9999); // outside of ring
+
+		var result = sut.getSimilarDayAverage();
+		assertEquals(96, result.length);
+		assertEquals(200, (int) result[0]);
+		assertEquals(50, (int) result[1]);
+		assertEquals(0, (int) result[2]);
+	}
+
+	private static void fill(HistoryRing ring, ZonedDateTime now) {
+		var from = ring.getQueryFromDate(now);
+		ring.advanceTo(now);
+		for (var t = from; t.isBefore(now); t = t.plusMinutes(15)) {
+			ring.put(t, valueAt(t));
+		}
+	}
+
+	private static Integer valueAt(ZonedDateTime time) {
+		var q = (int) (time.toEpochSecond() / 900);
+		return q % 13 == 0 ? null : q % 1000;
+	}
+
+}
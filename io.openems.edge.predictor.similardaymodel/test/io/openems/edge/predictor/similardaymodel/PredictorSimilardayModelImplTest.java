@@ -3,9 +3,9 @@ package io.openems.edge.predictor.similardaymodel;
 import static org.junit.Assert.assertEquals;
 
 import java.time.Instant;
-import java.time.ZoneId;
 import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 
 import org.junit.Test;
 
@@ -33,7 +33,7 @@ public class PredictorSimilardayModelImplTest {
 		var predictedValues = Data.predictedData;
 
 		var timedata = new DummyTimedata(TIMEDATA_ID);
-		var start = ZonedDateTime.of(2019, 12, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+		var start = ZonedDateTime.of(2019, 12, 1, 0, 0, 0, 0, ZoneOffset.UTC);
 
 		for (var i = 0; i < values.length; i++) {
 			timedata.add(start.plusMinutes(i * 15), METER1_ACTIVE_POWER, values[i]);
@@ -57,6 +57,13 @@ public class PredictorSimilardayModelImplTest {
 		assertEquals(predictedValues[0], p[0]);
 		assertEquals(predictedValues[48], p[48]);
 		assertEquals(predictedValues[95], p[95]);
+
+		// Next quarter is updated incrementally
+		clock.leap(15, ChronoUnit.MINUTES);
+		p = sut.getPrediction(METER1_ACTIVE_POWER).asArray();
+
+		assertEquals(predictedValues[1], p[0]);
+		assertEquals(predictedValues[95], p[94]);
 	}
 
 }
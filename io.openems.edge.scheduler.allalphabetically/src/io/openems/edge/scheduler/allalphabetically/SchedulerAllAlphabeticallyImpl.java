@@ -15,6 +15,7 @@ import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.ComponentManager;
 import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.controller.api.Controller;
+import io.openems.edge.scheduler.api.ExecutionGroups;
 import io.openems.edge.scheduler.api.Scheduler;
 
 /**
@@ -33,6 +34,7 @@ public class SchedulerAllAlphabeticallyImpl extends AbstractOpenemsComponent
 	private ComponentManager componentManager;
 
 	private Config config;
+	private ExecutionGroups executionGroups = ExecutionGroups.NONE;
 
 	public SchedulerAllAlphabeticallyImpl() {
 		super(//
@@ -46,6 +48,7 @@ public class SchedulerAllAlphabeticallyImpl extends AbstractOpenemsComponent
 	private void activate(ComponentContext context, Config config) {
 		super.activate(context, config.id(), config.alias(), config.enabled());
 		this.config = config;
+		this.executionGroups = ExecutionGroups.from(config.executionGroups());
 	}
 
 	@Override
@@ -74,4 +77,9 @@ public class SchedulerAllAlphabeticallyImpl extends AbstractOpenemsComponent
 
 		return result;
 	}
+
+	@Override
+	public String getExecutionGroup(String controllerId) {
+		return this.executionGroups.get(controllerId);
+	}
 }
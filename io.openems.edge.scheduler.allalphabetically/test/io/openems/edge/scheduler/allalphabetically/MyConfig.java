@@ -8,6 +8,7 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 	protected static class Builder {
 		private String id;
 		private String[] controllersIds;
+		private String[] executionGroups = {};
 
 		private Builder() {
 		}
@@ -22,6 +23,11 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 			return this;
 		}
 
+		public Builder setExecutionGroups(String... executionGroups) {
+			this.executionGroups = executionGroups;
+			return this;
+		}
+
 		public MyConfig build() {
 			return new MyConfig(this);
 		}
@@ -48,4 +54,9 @@ public class MyConfig extends AbstractComponentConfig implements Config {
 		return this.builder.controllersIds;
 	}
 
-}
\ No newline at end of file
+	@Override
+	public String[] executionGroups() {
+		return this.builder.executionGroups;
+	}
+
+}
@@ -0,0 +1,75 @@
+package io.openems.edge.scheduler.api;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps Controller-IDs to their execution group.
+ *
+ * <p>
+ * Parsed from a configuration like
+ * <code>["io=ctrlIoAlarm0,ctrlIoHeatingElement0", "log=ctrlDebugLog0"]</code>,
+ * i.e. one entry per group with the name of the group and a comma separated
+ * list of Controller-IDs. Controllers that are not listed belong to
+ * {@link Scheduler#DEFAULT_EXECUTION_GROUP}.
+ */
+public final class ExecutionGroups {
+
+	/** No execution groups; all Controllers are in the default group. */
+	public static final ExecutionGroups NONE = new ExecutionGroups(Map.of());
+
+	/**
+	 * Parses {@link ExecutionGroups} from a configuration.
+	 *
+	 * @param config the configuration; empty entries are ignored
+	 * @return the {@link ExecutionGroups}
+	 * @throws IllegalArgumentException on invalid configuration
+	 */
+	public static ExecutionGroups from(String[] config) throws IllegalArgumentException {
+		if (config == null) {
+			return NONE;
+		}
+		var groupByController = new HashMap<String, String>();
+		for (var entry : config) {
+			if (entry == null || entry.isBlank()) {
+				continue;
+			}
+			var parts = entry.split("=", 2);
+			var group = parts[0].trim();
+			if (parts.length != 2 || group.isEmpty()) {
+				throw new IllegalArgumentException("Execution group [" + entry + "] is not of the form "
+						+ "'group=ctrl0,ctrl1'");
+			}
+			for (var controllerId : parts[1].split(",")) {
+				controllerId = controllerId.trim();
+				if (controllerId.isEmpty()) {
+					continue;
+				}
+				var previous = groupByController.put(controllerId, group);
+				if (previous != null && !previous.equals(group)) {
+					throw new IllegalArgumentException("Controller [" + controllerId
+							+ "] is in more than one execution group: [" + previous + "], [" + group + "]");
+				}
+			}
+		}
+		return new ExecutionGroups(Map.copyOf(groupByController));
+	}
+
+	private final Map<String, String> groupByController;
+
+	private ExecutionGroups(Map<String, String> groupByController) {
+		this.groupByController = groupByController;
+	}
+
+	/**
+	 * Gets the execution group of a Controller.
+	 *
+	 * @param controllerId the Controller-ID
+	 * @return the name of the group; {@link Scheduler#DEFAULT_EXECUTION_GROUP} if
+	 *         the Controller is not listed
+	 */
+	public String get(String controllerId) {
+		return this.groupByController.getOrDefault(controllerId, Scheduler.DEFAULT_EXECUTION_GROUP);
+	}
+
+}
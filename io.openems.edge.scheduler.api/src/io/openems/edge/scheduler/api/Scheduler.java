@@ -14,6 +14,12 @@ import io.openems.edge.common.component.OpenemsComponent;
 @ProviderType
 public interface Scheduler extends OpenemsComponent {
 
+	/**
+	 * Name of the default execution group. Its Controllers are executed
+	 * sequentially by the Cycle thread.
+	 */
+	public static final String DEFAULT_EXECUTION_GROUP = "default";
+
 	public enum ChannelId implements io.openems.edge.common.channel.ChannelId {
 		CONTROLLER_IS_MISSING(Doc.of(Level.INFO) //
 				.persistencePriority(PersistencePriority.HIGH) //
@@ -71,4 +77,23 @@ public interface Scheduler extends OpenemsComponent {
 	 */
 	public LinkedHashSet<String> getControllers();
 
+	/**
+	 * Gets the execution group of a Controller.
+	 *
+	 * <p>
+	 * Controllers of the {@link #DEFAULT_EXECUTION_GROUP} are executed
+	 * sequentially in the order of {@link #getControllers()}. Any other group is
+	 * declared independent of all other groups: its Controllers are still executed
+	 * sequentially in the order of {@link #getControllers()}, but in parallel to
+	 * the other groups. Only put Controllers in a separate group that do not
+	 * affect the same Components as any Controller of another group - in
+	 * particular no Controllers that set ESS power.
+	 *
+	 * @param controllerId the Controller-ID
+	 * @return the name of the execution group
+	 */
+	public default String getExecutionGroup(String controllerId) {
+		return DEFAULT_EXECUTION_GROUP;
+	}
+
 }
@@ -0,0 +1,33 @@
+package io.openems.edge.scheduler.api;
+
+import static io.openems.edge.scheduler.api.Scheduler.DEFAULT_EXECUTION_GROUP;
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class ExecutionGroupsTest {
+
+	@Test
+	public void test() {
+		var sut = ExecutionGroups.from(new String[] { //
+				"io = ctrlIo0, ctrlIo1", //
+				"", //
+				"log=ctrlDebugLog0" });
+		assertEquals("io", sut.get("ctrlIo0"));
+		assertEquals("io", sut.get("ctrlIo1"));
+		assertEquals("log", sut.get("ctrlDebugLog0"));
+		assertEquals(DEFAULT_EXECUTION_GROUP, sut.get("ctrlEss0"));
+		assertEquals(DEFAULT_EXECUTION_GROUP, ExecutionGroups.NONE.get("ctrlIo0"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testInvalid() {
+		ExecutionGroups.from(new String[] { "ctrlIo0" });
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testDuplicate() {
+		ExecutionGroups.from(new String[] { "io=ctrlIo0", "log=ctrlIo0" });
+	}
+
+}
@@ -20,5 +20,8 @@ import org.osgi.service.metatype.annotations.ObjectClassDefinition;
 	@AttributeDefinition(name = "Controller-IDs", description = "IDs of Controllers. Controller execution is going to be sorted in the order of the IDs.")
 	String[] controllers_ids() default {};
 
+	@AttributeDefinition(name = "Execution groups", description = "Controllers that are independent of the ESS Controllers, executed in parallel per group. Format: 'group=ctrl0,ctrl1'")
+	String[] executionGroups() default {};
+
 	String webconsole_configurationFactory_nameHint() default "Scheduler Fixed Order [{id}]";
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import org.osgi.service.metatype.annotations.Designate;
 
 import io.openems.edge.common.component.AbstractOpenemsComponent;
 import io.openems.edge.common.component.OpenemsComponent;
+import io.openems.edge.scheduler.api.ExecutionGroups;
 import io.openems.edge.scheduler.api.Scheduler;
 
 /**
@@ -28,6 +29,8 @@ public class SchedulerFixedOrderImpl extends AbstractOpenemsComponent implements
 
 	private final LinkedHashSet<String> controllerIds = new LinkedHashSet<>();
 
+	private ExecutionGroups executionGroups = ExecutionGroups.NONE;
+
 	public SchedulerFixedOrderImpl() {
 		super(//
 				OpenemsComponent.ChannelId.values(), //
@@ -62,6 +65,7 @@ public class SchedulerFixedOrderImpl extends AbstractOpenemsComponent implements
 			}
 			this.controllerIds.add(id);
 		}
+		this.executionGroups = ExecutionGroups.from(config.executionGroups());
 	}
 
 	@Override
@@ -69,4 +73,9 @@ public class SchedulerFixedOrderImpl extends AbstractOpenemsComponent implements
 		return this.controllerIds;
 	}
 
+	@Override
+	public String getExecutionGroup(String controllerId) {
+		return this.executionGroups.get(controllerId);
+	}
+
 }
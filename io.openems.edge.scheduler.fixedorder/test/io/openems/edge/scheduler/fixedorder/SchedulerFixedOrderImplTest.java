@@ -45,6 +45,23 @@ public class SchedulerFixedOrderImplTest {
 
 	}
 
+	@Test
+	public void testExecutionGroups() throws Exception {
+		final SchedulerFixedOrder sut = new SchedulerFixedOrderImpl();
+		new ComponentTest(sut) //
+				.addComponent(new DummyController(CTRL0_ID)) //
+				.addComponent(new DummyController(CTRL1_ID)) //
+				.activate(MyConfig.create() //
+						.setId(SCHEDULER_ID) //
+						.setControllersIds(CTRL0_ID, CTRL1_ID) //
+						.setExecutionGroups("io=" + CTRL1_ID) //
+						.build()) //
+				.next(new TestCase());
+
+		assertEquals(Scheduler.DEFAULT_EXECUTION_GROUP, sut.getExecutionGroup(CTRL0_ID));
+		assertEquals("io", sut.getExecutionGroup(CTRL1_ID));
+	}
+
 	private static List<String> getControllerIds(Scheduler scheduler) throws OpenemsNamedException {
 		return scheduler.getControllers().stream() //
 				.collect(Collectors.toList());
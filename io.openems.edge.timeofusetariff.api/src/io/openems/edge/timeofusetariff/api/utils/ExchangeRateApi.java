@@ -8,7 +8,6 @@ import java.io.IOException;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.edge.common.currency.Currency;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 
 /**
@@ -26,8 +25,6 @@ public class ExchangeRateApi {
 
 	private static final String BASE_URL = "http://api.exchangerate.host/live?access_key=%s&source=%s&currencies=%s";
 
-	private static final OkHttpClient client = new OkHttpClient();
-
 	/**
 	 * Fetches the exchange rate from exchangerate.host.
 	 * 
@@ -44,7 +41,7 @@ public class ExchangeRateApi {
 				.url(String.format(BASE_URL, accessKey, source, target.name())) //
 				.build();
 
-		try (var response = client.newCall(request).execute()) {
+		try (var response = TimeOfUseTariffUtils.HTTP_CLIENT.newCall(request).execute()) {
 			if (!response.isSuccessful()) {
 				throw new IOException("Failed to fetch exchange rate. HTTP status code: " + response.code());
 			}
@@ -0,0 +1,129 @@
+package io.openems.edge.timeofusetariff.api.utils;
+
+import static io.openems.common.utils.JsonUtils.getAsJsonArray;
+import static io.openems.common.utils.JsonUtils.getAsString;
+import static io.openems.common.utils.JsonUtils.parseToJsonObject;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import io.openems.common.OpenemsConstants;
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
+import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
+
+/**
+ * Holds the latest {@link TimeOfUsePrices} of a {@link TimeOfUseTariff}
+ * provider and persists them to the OpenEMS Data Directory.
+ *
+ * <p>
+ * After a restart the persisted prices are restored, i.e. they are available
+ * before the first successful fetch from the upstream API. Outdated prices are
+ * cut by {@link TimeOfUsePrices#from(ZonedDateTime, TimeOfUsePrices)} as usual.
+ * Persistence is disabled if no OpenEMS Data Directory is configured.
+ */
+public class PricesCache {
+
+	private static final String PATH = "timeofusetariff";
+
+	private final Logger log = LoggerFactory.getLogger(PricesCache.class);
+	private final AtomicReference<TimeOfUsePrices> prices = new AtomicReference<>(TimeOfUsePrices.EMPTY_PRICES);
+
+	private volatile Path file = null;
+
+	/**
+	 * Restores the persisted {@link TimeOfUsePrices} of the given Component and
+	 * enables persistence for it.
+	 *
+	 * @param componentId the Component-ID of the {@link TimeOfUseTariff}
+	 */
+	public void restore(String componentId) {
+		var dataDir = OpenemsConstants.getOpenemsDataDir();
+		if (dataDir.isBlank()) {
+			return;
+		}
+		this.restore(Paths.get(dataDir, PATH, componentId + ".json"));
+	}
+
+	protected void restore(Path file) {
+		this.file = file;
+		if (!Files.exists(file)) {
+			return;
+		}
+		try {
+			this.prices.compareAndSet(TimeOfUsePrices.EMPTY_PRICES, fromJson(Files.readString(file)));
+		} catch (IOException | OpenemsNamedException | RuntimeException e) {
+			this.log.warn("Unable to restore Time-of-Use prices from [" + file + "]: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Gets the latest {@link TimeOfUsePrices}.
+	 *
+	 * @return the {@link TimeOfUsePrices}; {@link TimeOfUsePrices#EMPTY_PRICES} if
+	 *         none are available
+	 */
+	public TimeOfUsePrices get() {
+		return this.prices.get();
+	}
+
+	/**
+	 * Sets the latest {@link TimeOfUsePrices} and persists them.
+	 *
+	 * @param prices the {@link TimeOfUsePrices}
+	 */
+	public void set(TimeOfUsePrices prices) {
+		this.prices.set(prices);
+		var file = this.file;
+		if (file == null || prices.isEmpty()) {
+			return;
+		}
+		try {
+			Files.createDirectories(file.getParent());
+			var tmp = file.resolveSibling(file.getFileName() + ".tmp");
+			Files.writeString(tmp, toJson(prices));
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			this.log.warn("Unable to persist Time-of-Use prices to [" + file + "]: " + e.getMessage());
+		}
+	}
+
+	protected static String toJson(TimeOfUsePrices prices) {
+		var values = new JsonArray();
+		for (var price : prices.pricePerQuarter.values()) {
+			values.add(price == null ? JsonNull.INSTANCE : new JsonPrimitive(price));
+		}
+		var result = new JsonObject();
+		result.addProperty("time", prices.pricePerQuarter.firstKey().toInstant().toString());
+		result.add("prices", values);
+		return result.toString();
+	}
+
+	protected static TimeOfUsePrices fromJson(String json) throws OpenemsNamedException {
+		var j = parseToJsonObject(json);
+		var time = ZonedDateTime.ofInstant(Instant.parse(getAsString(j, "time")), ZoneId.systemDefault());
+		var values = getAsJsonArray(j, "prices");
+		var prices = new Double[values.size()];
+		for (var i = 0; i < prices.length; i++) {
+			var value = values.get(i);
+			prices[i] = value.isJsonNull() ? null : value.getAsDouble();
+		}
+		return TimeOfUsePrices.from(time, prices);
+	}
+
+}
@@ -5,9 +5,16 @@ import java.util.Locale;
 import io.openems.edge.common.currency.Currency;
 import io.openems.edge.common.meta.Meta;
 import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
+import okhttp3.OkHttpClient;
 
 public class TimeOfUseTariffUtils {
 
+	/**
+	 * Shared {@link OkHttpClient} for {@link TimeOfUseTariff} providers. Connections
+	 * and threads are pooled instead of being created per request.
+	 */
+	public static final OkHttpClient HTTP_CLIENT = new OkHttpClient();
+
 	/**
 	 * Generates a default DebugLog message for {@link TimeOfUseTariff}
 	 * implementations.
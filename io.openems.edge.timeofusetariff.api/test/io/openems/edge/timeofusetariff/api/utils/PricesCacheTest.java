@@ -0,0 +1,68 @@
+package io.openems.edge.timeofusetariff.api.utils;
+
+import static io.openems.edge.timeofusetariff.api.TimeOfUsePrices.EMPTY_PRICES;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.nio.file.Files;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
+
+public class PricesCacheTest {
+
+	private static final ZonedDateTime TIME = ZonedDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneId.systemDefault());
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testJson() throws Exception {
+		var prices = TimeOfUsePrices.from(TIME, 100., null, 300.);
+		var result = PricesCache.fromJson(PricesCache.toJson(prices));
+		assertEquals(prices.pricePerQuarter, result.pricePerQuarter);
+	}
+
+	@Test
+	public void testPersistAndRestore() throws Exception {
+		var file = this.folder.getRoot().toPath().resolve("timeofusetariff").resolve("tou0.json");
+		var prices = TimeOfUsePrices.from(TIME, 100., 200., 300.);
+
+		var sut = new PricesCache();
+		sut.restore(file);
+		assertSame(EMPTY_PRICES, sut.get());
+		sut.set(prices);
+		assertSame(prices, sut.get());
+		assertEquals(true, Files.exists(file));
+
+		// Restart
+		var restored = new PricesCache();
+		restored.restore(file);
+		assertArrayEquals(prices.asArray(), restored.get().asArray());
+	}
+
+	@Test
+	public void testRestoreInvalid() throws Exception {
+		var file = this.folder.newFile("tou0.json").toPath();
+		Files.writeString(file, "foo");
+
+		var sut = new PricesCache();
+		sut.restore(file);
+		assertSame(EMPTY_PRICES, sut.get());
+	}
+
+	@Test
+	public void testWithoutPersistence() {
+		var sut = new PricesCache();
+		var prices = TimeOfUsePrices.from(TIME, 100.);
+		sut.set(prices);
+		assertSame(prices, sut.get());
+	}
+
+}
@@ -4,6 +4,7 @@ import static io.openems.common.utils.JsonUtils.getAsDouble;
 import static io.openems.common.utils.JsonUtils.getAsJsonArray;
 import static io.openems.common.utils.JsonUtils.getAsLong;
 import static io.openems.common.utils.JsonUtils.parseToJsonObject;
+import static io.openems.edge.timeofusetariff.api.utils.TimeOfUseTariffUtils.HTTP_CLIENT;
 import static io.openems.edge.timeofusetariff.api.utils.TimeOfUseTariffUtils.generateDebugLog;
 
 import java.io.IOException;
@@ -16,7 +17,6 @@ import java.util.TreeMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -34,7 +34,7 @@ import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.meta.Meta;
 import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
 import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
-import okhttp3.OkHttpClient;
+import io.openems.edge.timeofusetariff.api.utils.PricesCache;
 import okhttp3.Request;
 
 @Designate(ocd = Config.class, factory = true)
@@ -47,7 +47,7 @@ public class TimeOfUseTariffAwattarImpl extends AbstractOpenemsComponent
 		implements TimeOfUseTariff, OpenemsComponent, TimeOfUseTariffAwattar {
 
 	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-	private final AtomicReference<TimeOfUsePrices> prices = new AtomicReference<>(TimeOfUsePrices.EMPTY_PRICES);
+	private final PricesCache prices = new PricesCache();
 
 	@Reference
 	private Meta meta;
@@ -72,6 +72,8 @@ public class TimeOfUseTariffAwattarImpl extends AbstractOpenemsComponent
 			return;
 		}
 
+		this.prices.restore(config.id());
+
 		this.config = config;
 		this.executor.schedule(this.task, 0, TimeUnit.SECONDS);
 	}
@@ -88,7 +90,6 @@ public class TimeOfUseTariffAwattarImpl extends AbstractOpenemsComponent
 		/*
 		 * Update Map of prices
 		 */
-		var client = new OkHttpClient();
 		final var url = this.config.zone().toUrl();
 		var request = new Request.Builder() //
 				.url(url) //
@@ -96,7 +97,7 @@ public class TimeOfUseTariffAwattarImpl extends AbstractOpenemsComponent
 				// .header("Authorization", Credentials.basic(apikey, "")) //
 				.build();
 		int httpStatusCode;
-		try (var response = client.newCall(request).execute()) {
+		try (var response = HTTP_CLIENT.newCall(request).execute()) {
 			httpStatusCode = response.code();
 
 			if (!response.isSuccessful()) {
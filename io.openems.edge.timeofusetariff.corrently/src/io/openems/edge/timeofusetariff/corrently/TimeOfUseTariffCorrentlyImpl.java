@@ -4,6 +4,7 @@ import static io.openems.common.utils.JsonUtils.getAsDouble;
 import static io.openems.common.utils.JsonUtils.getAsJsonArray;
 import static io.openems.common.utils.JsonUtils.getAsLong;
 import static io.openems.common.utils.JsonUtils.parseToJsonObject;
+import static io.openems.edge.timeofusetariff.api.utils.TimeOfUseTariffUtils.HTTP_CLIENT;
 import static io.openems.edge.timeofusetariff.api.utils.TimeOfUseTariffUtils.generateDebugLog;
 
 import java.io.IOException;
@@ -16,7 +17,6 @@ import java.util.TreeMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -36,7 +36,7 @@ import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.meta.Meta;
 import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
 import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
-import okhttp3.OkHttpClient;
+import io.openems.edge.timeofusetariff.api.utils.PricesCache;
 import okhttp3.Request;
 
 @Designate(ocd = Config.class, factory = true)
@@ -52,7 +52,7 @@ public class TimeOfUseTariffCorrentlyImpl extends AbstractOpenemsComponent
 
 	private final Logger log = LoggerFactory.getLogger(TimeOfUseTariffCorrentlyImpl.class);
 	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-	private final AtomicReference<TimeOfUsePrices> prices = new AtomicReference<>(TimeOfUsePrices.EMPTY_PRICES);
+	private final PricesCache prices = new PricesCache();
 
 	@Reference
 	private Meta meta;
@@ -76,6 +76,8 @@ public class TimeOfUseTariffCorrentlyImpl extends AbstractOpenemsComponent
 		if (!config.enabled()) {
 			return;
 		}
+
+		this.prices.restore(config.id());
 		this.config = config;
 		this.executor.schedule(this.task, 0, TimeUnit.SECONDS);
 	}
@@ -92,12 +94,11 @@ public class TimeOfUseTariffCorrentlyImpl extends AbstractOpenemsComponent
 		/*
 		 * Update Map of prices
 		 */
-		var client = new OkHttpClient();
 		var request = new Request.Builder() //
 				.url(CORRENTLY_API_URL + this.config.zipcode() + "&resolution=900") //
 				.build();
 		int httpStatusCode;
-		try (var response = client.newCall(request).execute()) {
+		try (var response = HTTP_CLIENT.newCall(request).execute()) {
 			httpStatusCode = response.code();
 
 			if (!response.isSuccessful()) {
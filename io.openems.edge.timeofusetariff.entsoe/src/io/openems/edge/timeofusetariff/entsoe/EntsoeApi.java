@@ -1,12 +1,13 @@
 package io.openems.edge.timeofusetariff.entsoe;
 
+import static io.openems.edge.timeofusetariff.api.utils.TimeOfUseTariffUtils.HTTP_CLIENT;
+
 import java.io.IOException;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 
 import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 
@@ -30,7 +31,6 @@ public class EntsoeApi {
 	 */
 	protected static String query(String token, String areaCode, ZonedDateTime fromDate, ZonedDateTime toDate)
 			throws IOException {
-		var client = new OkHttpClient();
 		var request = new Request.Builder() //
 				.url(URI) //
 				.header("SECURITY_TOKEN", token) //
@@ -71,7 +71,7 @@ public class EntsoeApi {
 								), MediaType.parse("application/xml"))) //
 				.build();
 
-		try (var response = client.newCall(request).execute()) {
+		try (var response = HTTP_CLIENT.newCall(request).execute()) {
 			if (!response.isSuccessful()) {
 				throw new IOException("Unable to get response from ENTSO-E API: " + response);
 			}
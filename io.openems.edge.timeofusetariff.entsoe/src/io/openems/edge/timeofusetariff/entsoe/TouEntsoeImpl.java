@@ -14,7 +14,6 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 
 import javax.xml.parsers.ParserConfigurationException;
@@ -41,6 +40,7 @@ import io.openems.edge.common.currency.Currency;
 import io.openems.edge.common.meta.Meta;
 import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
 import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
+import io.openems.edge.timeofusetariff.api.utils.PricesCache;
 
 @Designate(ocd = Config.class, factory = true)
 @Component(//
@@ -54,7 +54,7 @@ public class TouEntsoeImpl extends AbstractOpenemsComponent implements TouEntsoe
 
 	private final Logger log = LoggerFactory.getLogger(TouEntsoeImpl.class);
 	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-	private final AtomicReference<TimeOfUsePrices> prices = new AtomicReference<>(TimeOfUsePrices.EMPTY_PRICES);
+	private final PricesCache prices = new PricesCache();
 
 	@Reference
 	private Meta meta;
@@ -86,6 +86,8 @@ public class TouEntsoeImpl extends AbstractOpenemsComponent implements TouEntsoe
 			return;
 		}
 
+		this.prices.restore(config.id());
+
 		this.securityToken = definedOrElse(config.securityToken(), this.oem.getEntsoeToken());
 		if (this.securityToken == null) {
 			this.logError(this.log, "Please configure Security Token to access ENTSO-E");
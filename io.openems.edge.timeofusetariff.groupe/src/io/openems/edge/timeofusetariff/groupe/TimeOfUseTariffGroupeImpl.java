@@ -14,7 +14,6 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.TreeMap;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 
 import org.osgi.service.component.ComponentContext;
@@ -48,6 +47,7 @@ import io.openems.edge.common.meta.Meta;
 import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
 import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
 import io.openems.edge.timeofusetariff.api.utils.ExchangeRateApi;
+import io.openems.edge.timeofusetariff.api.utils.PricesCache;
 
 @Designate(ocd = Config.class, factory = true)
 @Component(//
@@ -62,7 +62,7 @@ public class TimeOfUseTariffGroupeImpl extends AbstractOpenemsComponent
 	private static final int INTERNAL_ERROR = -1; // parsing, handle exception...
 
 	private final Logger log = LoggerFactory.getLogger(TimeOfUseTariffGroupeImpl.class);
-	private final AtomicReference<TimeOfUsePrices> prices = new AtomicReference<>(TimeOfUsePrices.EMPTY_PRICES);
+	private final PricesCache prices = new PricesCache();
 	private String exchangerateAccesskey = null;
 
 	@Reference
@@ -101,6 +101,8 @@ public class TimeOfUseTariffGroupeImpl extends AbstractOpenemsComponent
 			return;
 		}
 
+		this.prices.restore(config.id());
+
 		this.exchangerateAccesskey = definedOrElse(config.exchangerateAccesskey(), this.oem.getExchangeRateAccesskey());
 		if (this.exchangerateAccesskey == null) {
 			this.logError(this.log, "Please configure personal Access key to access Exchange rate host API");
@@ -15,7 +15,6 @@ import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.TreeMap;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -42,6 +41,7 @@ import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.meta.Meta;
 import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
 import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
+import io.openems.edge.timeofusetariff.api.utils.PricesCache;
 
 @Designate(ocd = Config.class, factory = true)
 @Component(//
@@ -60,7 +60,7 @@ public class TimeOfUseTariffHassfurtImpl extends AbstractOpenemsComponent
 	private static final int INTERNAL_ERROR = -1; // parsing, handle exception...
 
 	private final Logger log = LoggerFactory.getLogger(TimeOfUseTariffHassfurtImpl.class);
-	private final AtomicReference<TimeOfUsePrices> prices = new AtomicReference<>(TimeOfUsePrices.EMPTY_PRICES);
+	private final PricesCache prices = new PricesCache();
 
 	@Reference
 	private BridgeHttpFactory httpBridgeFactory;
@@ -89,6 +89,8 @@ public class TimeOfUseTariffHassfurtImpl extends AbstractOpenemsComponent
 			return;
 		}
 
+		this.prices.restore(config.id());
+
 		this.config = config;
 		this.httpBridge = this.httpBridgeFactory.get();
 		this.httpBridge.subscribeTime(new HassfurtDelayTimeProvider(this.componentManager.getClock()), //
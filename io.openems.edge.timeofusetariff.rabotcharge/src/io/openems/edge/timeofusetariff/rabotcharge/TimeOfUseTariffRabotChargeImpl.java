@@ -12,7 +12,6 @@ import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Map;
 import java.util.TreeMap;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -40,6 +39,7 @@ import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.meta.Meta;
 import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
 import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
+import io.openems.edge.timeofusetariff.api.utils.PricesCache;
 
 @Designate(ocd = Config.class, factory = true)
 @Component(//
@@ -55,7 +55,7 @@ public class TimeOfUseTariffRabotChargeImpl extends AbstractOpenemsComponent
 	private static final int INTERNAL_ERROR = -1; // parsing, handle exception...
 
 	private final Logger log = LoggerFactory.getLogger(TimeOfUseTariffRabotChargeImpl.class);
-	private final AtomicReference<TimeOfUsePrices> prices = new AtomicReference<>(TimeOfUsePrices.EMPTY_PRICES);
+	private final PricesCache prices = new PricesCache();
 	private String accessToken;
 
 	@Reference
@@ -83,6 +83,8 @@ public class TimeOfUseTariffRabotChargeImpl extends AbstractOpenemsComponent
 			return;
 		}
 
+		this.prices.restore(config.id());
+
 		if (config.accessToken() == null || config.accessToken().isEmpty()) {
 			return;
 		}
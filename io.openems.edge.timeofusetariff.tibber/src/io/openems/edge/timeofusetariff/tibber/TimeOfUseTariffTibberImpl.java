@@ -1,5 +1,6 @@
 package io.openems.edge.timeofusetariff.tibber;
 
+import static io.openems.edge.timeofusetariff.api.utils.TimeOfUseTariffUtils.HTTP_CLIENT;
 import static io.openems.edge.timeofusetariff.api.utils.TimeOfUseTariffUtils.generateDebugLog;
 import static io.openems.edge.timeofusetariff.tibber.Utils.calculateDelay;
 
@@ -8,7 +9,6 @@ import java.time.ZonedDateTime;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicReference;
 
 import org.osgi.service.component.ComponentContext;
 import org.osgi.service.component.annotations.Activate;
@@ -29,8 +29,8 @@ import io.openems.edge.common.component.OpenemsComponent;
 import io.openems.edge.common.meta.Meta;
 import io.openems.edge.timeofusetariff.api.TimeOfUsePrices;
 import io.openems.edge.timeofusetariff.api.TimeOfUseTariff;
+import io.openems.edge.timeofusetariff.api.utils.PricesCache;
 import okhttp3.MediaType;
-import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 
@@ -49,7 +49,7 @@ public class TimeOfUseTariffTibberImpl extends AbstractOpenemsComponent
 
 	private final Logger log = LoggerFactory.getLogger(TimeOfUseTariffTibberImpl.class);
 	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
-	private final AtomicReference<TimeOfUsePrices> prices = new AtomicReference<>(TimeOfUsePrices.EMPTY_PRICES);
+	private final PricesCache prices = new PricesCache();
 
 	@Reference
 	private Meta meta;
@@ -73,6 +73,8 @@ public class TimeOfUseTariffTibberImpl extends AbstractOpenemsComponent
 		if (!config.enabled()) {
 			return;
 		}
+
+		this.prices.restore(config.id());
 		this.config = config;
 		this.executor.schedule(this.task, 0, TimeUnit.SECONDS);
 	}
@@ -88,7 +90,6 @@ public class TimeOfUseTariffTibberImpl extends AbstractOpenemsComponent
 		/*
 		 * Update Map of prices
 		 */
-		var client = new OkHttpClient();
 		var request = new Request.Builder() //
 				.url(TIBBER_API_URL) //
 				.header("Authorization", this.config.accessToken()) //
@@ -100,7 +101,7 @@ public class TimeOfUseTariffTibberImpl extends AbstractOpenemsComponent
 		var filterIsRequired = false;
 		var unableToUpdatePrices = false;
 
-		try (var response = client.newCall(request).execute()) {
+		try (var response = HTTP_CLIENT.newCall(request).execute()) {
 			httpStatusCode = response.code();
 
 			if (!response.isSuccessful()) {
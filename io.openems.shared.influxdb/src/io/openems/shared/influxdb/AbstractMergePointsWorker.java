@@ -1,28 +1,59 @@
 package io.openems.shared.influxdb;
 
-import java.time.Instant;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.influxdb.client.domain.WritePrecision;
 import com.influxdb.client.write.Point;
 import com.influxdb.client.write.WriteParameters;
 import com.influxdb.exceptions.BadRequestException;
 
+import io.openems.common.spill.SpillLog;
 import io.openems.common.worker.AbstractImmediateWorker;
 
 public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWorker implements MergePointsWorker {
 
-	private static final int MAX_POINTS_PER_WRITE = 1_000;
+	private static final int MAX_BYTES_PER_WRITE = 1024 * 1024; // [byte]
+	private static final int MAX_WRITE_LATENCY = 1_000; // [ms]
+	private static final int MAX_CONCURRENT_WRITES = 4;
+	private static final int MAX_RECORDS_PER_REPLAY = 10_000;
+	private static final int MAX_REPLAYS_PER_RUN = MAX_CONCURRENT_WRITES;
+	private static final int MAX_DEACTIVATE_WAIT = 30; // [s]
 	private static final int MAX_AGGREGATE_WAIT = 10; // [s]
 	private static final int POINTS_QUEUE_SIZE = 1_000_000;
 
+	/**
+	 * Serializes Line-Protocol records for a {@link SpillLog}.
+	 */
+	protected static final SpillLog.Codec<String> LINE_PROTOCOL_CODEC = new SpillLog.Codec<>() {
+
+		@Override
+		public void encode(String value, DataOutput out) throws IOException {
+			var bytes = value.getBytes(StandardCharsets.UTF_8);
+			out.writeInt(bytes.length);
+			out.write(bytes);
+		}
+
+		@Override
+		public String decode(DataInput in) throws IOException {
+			var bytes = new byte[in.readInt()];
+			in.readFully(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	};
+
 	private final Logger log = LoggerFactory.getLogger(MergePointsWorker.class);
 
 	private final String name;
@@ -30,14 +61,50 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 	protected final WriteParameters writeParameters;
 	private final Consumer<BadRequestException> onWriteError;
 
+	/**
+	 * Queued records in Line-Protocol, already encoded in the
+	 * {@link WritePrecision} of this worker.
+	 */
 	private final BlockingQueue<T> pointsQueue = new LinkedBlockingQueue<>(POINTS_QUEUE_SIZE);
 
+	/**
+	 * Limits the number of batches that are written concurrently.
+	 */
+	private final Semaphore writePermits = new Semaphore(MAX_CONCURRENT_WRITES);
+
+	/**
+	 * Buffers Points as Line-Protocol on disk if the queue is full or a write
+	 * failed; null if disabled.
+	 */
+	private final SpillLog<String> spillLog;
+	private final WritePrecision precision;
+
+	/**
+	 * Result of the last write; spilled Points are only replayed if the database
+	 * is available.
+	 */
+	private volatile boolean isDatabaseAvailable = true;
+
+	/**
+	 * A write task that is executed on the {@link InfluxConnector} executor.
+	 */
+	protected abstract static class WriteTask implements Runnable {
+
+		/**
+		 * Called if the task was rejected by the executor.
+		 */
+		protected abstract void onRejected();
+
+	}
+
 	public AbstractMergePointsWorker(InfluxConnector parent, String name, WriteParameters writeParameters,
 			Consumer<BadRequestException> onWriteError) {
 		this.parent = parent;
 		this.name = name;
 		this.writeParameters = writeParameters;
 		this.onWriteError = onWriteError;
+		this.spillLog = parent.createSpillLog(name, LINE_PROTOCOL_CODEC);
+		this.precision = parent.getWritePrecision(writeParameters);
 	}
 
 	@Override
@@ -45,48 +112,236 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 		this.activate("TimescaleDB-MergePoints" + this.name);
 	}
 
+	@Override
+	public void deactivate() {
+		super.deactivate();
+		if (this.spillLog != null) {
+			// Wait for running writes; failed writes are spilled
+			try {
+				if (!this.writePermits.tryAcquire(MAX_CONCURRENT_WRITES, MAX_DEACTIVATE_WAIT, TimeUnit.SECONDS)) {
+					this.log.warn("[" + this.name + "] Writes are still running after " + MAX_DEACTIVATE_WAIT
+							+ "s. Closing SpillLog anyway.");
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			// Keep queued Points for the next start
+			var points = new ArrayList<T>(this.pointsQueue.size());
+			this.pointsQueue.drainTo(points);
+			this.spill(points);
+			this.spillLog.close();
+		}
+	}
+
 	@Override
 	protected void forever() throws InterruptedException {
-		var points = this.pollPoints();
+		// Replay spilled Points first; they are older than the ones in the queue
+		var replays = 0;
+		if (this.spillLog != null) {
+			while (replays < MAX_REPLAYS_PER_RUN && this.isDatabaseAvailable && this.spillLog.size() > 0) {
+				this.writePermits.acquire();
+				if (!this.replaySpilledPoints()) {
+					break;
+				}
+				replays++;
+			}
+			this.spillLog.forceIfDue();
+		}
+
+		// Do not wait for new Points while the backlog is replayed
+		var points = this.pollPoints(replays > 0 ? 0 : MAX_AGGREGATE_WAIT);
 
 		if (points.isEmpty()) {
 			return;
 		}
 
 		/*
-		 * Write points async.
+		 * Write points async; up to MAX_CONCURRENT_WRITES batches at a time.
 		 */
-		this.parent.executor.execute(() -> {
-			if (this.parent.queryProxy.isLimitReached()) {
+		this.writePermits.acquire();
+		this.execute(() -> this.write(points), () -> this.spill(points));
+	}
+
+	/**
+	 * Executes a write on the {@link InfluxConnector} executor and releases the
+	 * write permit afterwards.
+	 *
+	 * @param task       the write
+	 * @param onRejected called if the executor rejected the write
+	 */
+	private void execute(Runnable task, Runnable onRejected) {
+		this.parent.executor.execute(new WriteTask() {
+
+			@Override
+			public void run() {
+				try {
+					task.run();
+				} finally {
+					AbstractMergePointsWorker.this.writePermits.release();
+				}
+			}
+
+			@Override
+			protected void onRejected() {
+				AbstractMergePointsWorker.this.writePermits.release();
+				onRejected.run();
+			}
+		});
+	}
+
+	private void write(List<T> points) {
+		if (this.parent.queryProxy.isLimitReached()) {
+			return;
+		}
+		try {
+			this.parent.getInfluxConnection().writeApi.writeRecords(this.toRecords(points), this.writeParameters);
+			this.parent.queryProxy.queryLimit.decrease();
+			this.isDatabaseAvailable = true;
+		} catch (Throwable t) {
+			this.parent.queryProxy.queryLimit.increase();
+			this.isDatabaseAvailable = false;
+			if (!(t instanceof BadRequestException) && this.spill(points)) {
+				this.log.warn("Unable to write to InfluxDB. Spilled [" + points.size() + "] points. "
+						+ t.getClass().getSimpleName() + ": " + t.getMessage());
 				return;
 			}
+			this.onWriteError(t, points);
+		}
+	}
+
+	/**
+	 * Replays one batch of spilled Points. A write permit must be acquired before.
+	 *
+	 * @return false if there were no spilled Points
+	 */
+	private boolean replaySpilledPoints() {
+		var records = this.spillLog.poll(MAX_RECORDS_PER_REPLAY);
+		if (records.isEmpty()) {
+			this.writePermits.release();
+			return false;
+		}
+		this.execute(() -> {
 			try {
-				this.parent.getInfluxConnection().writeApi.writePoints(this.writePoints(points), this.writeParameters);
-				this.parent.queryProxy.queryLimit.decrease();
+				this.parent.getInfluxConnection().writeApi.writeRecords(records, this.writeParameters);
+			} catch (BadRequestException e) {
+				this.log.warn("Unable to write spilled points to InfluxDB. Dropped [" + records.size() + "] points. "
+						+ e.getMessage());
+				this.onWriteError.accept(e);
 			} catch (Throwable t) {
-				this.parent.queryProxy.queryLimit.increase();
-				this.onWriteError(t, points);
+				this.isDatabaseAvailable = false;
+				this.spillLog.appendAll(records);
 			}
-		});
+		}, () -> this.spillLog.appendAll(records));
+		return true;
 	}
 
-	private List<T> pollPoints() throws InterruptedException {
-		final Instant maxWait = Instant.now().plusSeconds(MAX_AGGREGATE_WAIT);
-		var points = new ArrayList<T>(MAX_POINTS_PER_WRITE);
-		for (int i = 0; i < MAX_POINTS_PER_WRITE; i++) {
-			var point = this.pointsQueue.poll(MAX_AGGREGATE_WAIT, TimeUnit.SECONDS);
-			if (point == null) {
-				break;
-			}
+	/**
+	 * Spills Points as Line-Protocol to disk.
+	 *
+	 * @param points the Points
+	 * @return true if the Points were spilled; false if spilling is disabled
+	 */
+	protected boolean spill(List<T> points) {
+		if (this.spillLog == null) {
+			return false;
+		}
+		this.spillLog.appendAll(this.toRecords(points));
+		return true;
+	}
+
+	/**
+	 * Polls a batch of Points from the queue.
+	 *
+	 * <p>
+	 * Waits up to 'maxWait' seconds for the first Point. The batch is closed once
+	 * it reaches {@link #MAX_BYTES_PER_WRITE} or {@link #MAX_WRITE_LATENCY} passed
+	 * since the first Point was polled.
+	 *
+	 * @param maxWait the maximum wait for the first Point in [s]
+	 * @return the Points; empty if there are none
+	 * @throws InterruptedException on interrupt
+	 */
+	private List<T> pollPoints(int maxWait) throws InterruptedException {
+		var point = this.pointsQueue.poll(maxWait, TimeUnit.SECONDS);
+		if (point == null) {
+			return List.of();
+		}
+		final var deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(MAX_WRITE_LATENCY);
+		var points = new ArrayList<T>();
+		var bytes = 0;
+		while (true) {
 			points.add(point);
-			if (Instant.now().isAfter(maxWait)) {
+			bytes += utf8Length(this.toRecord(point)) + 1 /* new line */;
+			if (bytes >= MAX_BYTES_PER_WRITE) {
 				break;
 			}
+			point = this.pointsQueue.poll();
+			if (point == null) {
+				var remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					break;
+				}
+				point = this.pointsQueue.poll(remaining, TimeUnit.NANOSECONDS);
+				if (point == null) {
+					break;
+				}
+			}
 		}
 		return points;
 	}
 
-	protected abstract List<Point> writePoints(List<T> points);
+	/**
+	 * Gets the number of bytes of a String in UTF-8 encoding, without actually
+	 * encoding it.
+	 *
+	 * @param string the String
+	 * @return the number of bytes
+	 */
+	protected static int utf8Length(String string) {
+		var result = string.length();
+		for (var i = 0; i < string.length(); i++) {
+			var c = string.charAt(i);
+			if (c < 0x80) {
+				continue;
+			}
+			if (c < 0x800) {
+				result += 1;
+			} else if (Character.isHighSurrogate(c) && i + 1 < string.length()
+					&& Character.isLowSurrogate(string.charAt(i + 1))) {
+				// Surrogate pair: two chars, four bytes
+				result += 2;
+				i++;
+			} else if (!Character.isSurrogate(c)) {
+				result += 2;
+			} // else: unpaired surrogate; encoded as a single '?'
+		}
+		return result;
+	}
+
+	/**
+	 * Wraps a Line-Protocol record in a queue element.
+	 *
+	 * @param record the Line-Protocol record
+	 * @return the queue element
+	 */
+	protected abstract T toQueueElement(String record);
+
+	/**
+	 * Gets the Line-Protocol record of a queue element.
+	 *
+	 * @param point the queue element
+	 * @return the Line-Protocol record
+	 */
+	protected abstract String toRecord(T point);
+
+	private List<String> toRecords(List<T> points) {
+		var records = new ArrayList<String>(points.size());
+		for (var point : points) {
+			records.add(this.toRecord(point));
+		}
+		return records;
+	}
 
 	protected void onWriteError(Throwable t, List<T> points) {
 		this.log.warn("Unable to write to InfluxDB. " + t.getClass().getSimpleName() + ": " + t.getMessage());
@@ -95,16 +350,34 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 		}
 	}
 
+	@Override
+	public boolean offer(Point point) {
+		return this.offer(this.toQueueElement(point.toLineProtocol(null, this.precision)));
+	}
+
+	@Override
+	public boolean offer(LineProtocol record) {
+		return this.offer(this.toQueueElement(record.toLineProtocol(this.precision)));
+	}
+
 	/**
 	 * Inserts the specified element into this queue if it is possible to do so
 	 * immediately without violating capacity restrictions, returning true upon
-	 * success and false if no space is currently available.
-	 * 
+	 * success. If the queue is full, the element is spilled to disk if enabled.
+	 *
 	 * @param point the point to add
-	 * @return true if the point was added to this queue, else false
+	 * @return true if the point was added to this queue or spilled, else false
 	 */
 	public boolean offer(T point) {
-		return this.pointsQueue.offer(point);
+		if (this.pointsQueue.offer(point)) {
+			return true;
+		}
+		return this.spill(List.of(point));
+	}
+
+	@Override
+	public long getSpillBacklog() {
+		return this.spillLog != null ? this.spillLog.size() : 0;
 	}
 
 	@Override
@@ -117,6 +390,11 @@ public abstract class AbstractMergePointsWorker<T> extends AbstractImmediateWork
 				.append("/") //
 				.append(POINTS_QUEUE_SIZE) //
 				.append((pointsQueueSize == POINTS_QUEUE_SIZE) ? " !!!POINTS BACKPRESSURE!!!" : "") //
+				.append(" Writes:") //
+				.append(MAX_CONCURRENT_WRITES - this.writePermits.availablePermits()) //
+				.append("/") //
+				.append(MAX_CONCURRENT_WRITES) //
+				.append(this.spillLog != null ? " " + this.spillLog.debugLog() : "") //
 				.toString();
 	}
 
@@ -1,13 +1,11 @@
 package io.openems.shared.influxdb;
 
-import java.util.List;
 import java.util.function.Consumer;
 
-import com.influxdb.client.write.Point;
 import com.influxdb.client.write.WriteParameters;
 import com.influxdb.exceptions.BadRequestException;
 
-public class ForceMergePointsWorker extends AbstractMergePointsWorker<Point> implements MergePointsWorker {
+public class ForceMergePointsWorker extends AbstractMergePointsWorker<String> implements MergePointsWorker {
 
 	public ForceMergePointsWorker(InfluxConnector parent, String name, WriteParameters writeParameters,
 			Consumer<BadRequestException> onWriteError) {
@@ -15,8 +13,13 @@ public class ForceMergePointsWorker extends AbstractMergePointsWorker<Point> imp
 	}
 
 	@Override
-	protected List<Point> writePoints(List<Point> points) {
-		return points;
+	protected String toQueueElement(String record) {
+		return record;
+	}
+
+	@Override
+	protected String toRecord(String point) {
+		return point;
 	}
 
 }
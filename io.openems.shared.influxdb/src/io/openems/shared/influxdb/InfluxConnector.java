@@ -1,6 +1,8 @@
 package io.openems.shared.influxdb;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
 import java.time.ZonedDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -34,6 +36,7 @@ import com.influxdb.exceptions.BadRequestException;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.spill.SpillLog;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.ThreadPoolUtils;
@@ -47,6 +50,7 @@ public class InfluxConnector {
 	private static final int CONNECT_TIMEOUT = 10; // [s]
 	private static final int READ_TIMEOUT = 60; // [s]
 	private static final int WRITE_TIMEOUT = 10; // [s]
+	private static final int SPILL_SEGMENT_SIZE = 64 * 1024 * 1024; // [byte]
 
 	protected final ThreadPoolExecutor executor;
 
@@ -59,6 +63,9 @@ public class InfluxConnector {
 	private final String bucket;
 	private final boolean isReadOnly;
 	private final boolean safeWrite;
+	private final Path spillDirectory;
+	private final int spillMaxSize;
+	private final InfluxDBClientOptions defaultOptions;
 
 	private final WriteParameters defaultWriteParameters;
 	private final Map<WriteParameters, MergePointsWorker> mergePointsWorkerByWriteParameters = new HashMap<>();
@@ -67,27 +74,32 @@ public class InfluxConnector {
 	/**
 	 * The Constructor.
 	 *
-	 * @param componentId   ID of the calling OpenEMS Component
-	 * @param queryLanguage A {@link QueryLanguageConfig}
-	 * @param url           URL of the InfluxDB-Server (http://ip:port)
-	 * @param org           The organisation; '-' for InfluxDB v1
-	 * @param apiKey        The apiKey; 'username:password' for InfluxDB v1
-	 * @param bucket        The bucket name; 'database/retentionPolicy' for InfluxDB
-	 *                      v1
-	 * @param tag           The InfluxDB tag
-	 * @param isReadOnly    If true, a 'Read-Only-Mode' is activated, where no data
-	 *                      is actually written to the database
-	 * @param poolSize      the number of threads dedicated to handle the tasks
-	 * @param maxQueueSize  queue size limit for executor
-	 * @param onWriteError  A consumer for write-errors
-	 * @param safeWrite     Adds back points to the queue if a write fails
-	 * @param parameters    the {@link WriteParameters} to create a
-	 *                      {@link MergePointsWorker} for. All later used
-	 *                      {@link WriteParameters} need to be passed here
+	 * @param componentId    ID of the calling OpenEMS Component
+	 * @param queryLanguage  A {@link QueryLanguageConfig}
+	 * @param url            URL of the InfluxDB-Server (http://ip:port)
+	 * @param org            The organisation; '-' for InfluxDB v1
+	 * @param apiKey         The apiKey; 'username:password' for InfluxDB v1
+	 * @param bucket         The bucket name; 'database/retentionPolicy' for
+	 *                       InfluxDB v1
+	 * @param tag            The InfluxDB tag
+	 * @param isReadOnly     If true, a 'Read-Only-Mode' is activated, where no
+	 *                       data is actually written to the database
+	 * @param poolSize       the number of threads dedicated to handle the tasks
+	 * @param maxQueueSize   queue size limit for executor
+	 * @param onWriteError   A consumer for write-errors
+	 * @param safeWrite      Adds back points to the queue if a write fails
+	 * @param spillDirectory directory to buffer points on disk while InfluxDB
+	 *                       is unavailable or too slow; null to disable
+	 * @param spillMaxSize   the maximum size of buffered points on disk per
+	 *                       {@link MergePointsWorker} in [MB]
+	 * @param parameters     the {@link WriteParameters} to create a
+	 *                       {@link MergePointsWorker} for. All later used
+	 *                       {@link WriteParameters} need to be passed here
 	 */
 	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
 			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
-			Consumer<BadRequestException> onWriteError, boolean safeWrite, WriteParameters... parameters) {
+			Consumer<BadRequestException> onWriteError, boolean safeWrite, Path spillDirectory, int spillMaxSize,
+			WriteParameters... parameters) {
 		this.queryProxy = QueryProxy.from(queryLanguage, tag);
 		this.url = url;
 		this.org = org;
@@ -95,6 +107,13 @@ public class InfluxConnector {
 		this.bucket = bucket;
 		this.isReadOnly = isReadOnly;
 		this.safeWrite = safeWrite;
+		this.spillDirectory = isReadOnly ? null : spillDirectory;
+		this.spillMaxSize = spillMaxSize;
+		this.defaultOptions = InfluxDBClientOptions.builder() //
+				.url(this.url.toString()) //
+				.org(this.org) //
+				.bucket(this.bucket) //
+				.build();
 
 		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
 				new LinkedBlockingQueue<Runnable>(maxQueueSize), //
@@ -102,6 +121,10 @@ public class InfluxConnector {
 				(r, executor) -> {
 					// Custom RejectedExecutionHandler; avoid throwing a RejectedExecutionException
 					this.rejectedExecutionCount.incrementAndGet();
+					if (r instanceof AbstractMergePointsWorker.WriteTask task) {
+						// Releases the write permit and keeps the Points
+						task.onRejected();
+					}
 				});
 
 		BiFunction<String, WriteParameters, MergePointsWorker> mergePointsWorkerFactory;
@@ -120,20 +143,22 @@ public class InfluxConnector {
 		defaultMergePointsWorker.activate();
 		this.mergePointsWorkerByWriteParameters.put(this.defaultWriteParameters, defaultMergePointsWorker);
 
-		final var defaultOptions = InfluxDBClientOptions.builder() //
-				.url(this.url.toString()) //
-				.org(this.org) //
-				.bucket(this.bucket) //
-				.build();
 		// initialize merge points worker for specific write parameters
 		for (var writeParameters : parameters) {
-			final var mergePointsWorker = mergePointsWorkerFactory.apply(writeParameters.bucketSafe(defaultOptions),
+			final var mergePointsWorker = mergePointsWorkerFactory.apply(writeParameters.bucketSafe(this.defaultOptions),
 					writeParameters);
 			mergePointsWorker.activate();
 			this.mergePointsWorkerByWriteParameters.put(writeParameters, mergePointsWorker);
 		}
 	}
 
+	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
+			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
+			Consumer<BadRequestException> onWriteError, boolean safeWrite, WriteParameters... parameters) {
+		this(componentId, queryLanguage, url, org, apiKey, bucket, tag, isReadOnly, poolSize, maxQueueSize,
+				onWriteError, safeWrite, null, 0, parameters);
+	}
+
 	public InfluxConnector(String componentId, QueryLanguageConfig queryLanguage, URI url, String org, String apiKey,
 			String bucket, String tag, boolean isReadOnly, int poolSize, int maxQueueSize,
 			Consumer<BadRequestException> onWriteError, WriteParameters... parameters) {
@@ -141,6 +166,59 @@ public class InfluxConnector {
 				onWriteError, false, parameters);
 	}
 
+	/**
+	 * Creates a {@link SpillLog} for a {@link MergePointsWorker}.
+	 *
+	 * @param <T>   the type of the records
+	 * @param name  the name of the {@link MergePointsWorker}
+	 * @param codec the {@link SpillLog.Codec}
+	 * @return the {@link SpillLog}; null if disabled or on error
+	 */
+	protected <T> SpillLog<T> createSpillLog(String name, SpillLog.Codec<T> codec) {
+		if (this.spillDirectory == null) {
+			return null;
+		}
+		var maxSegments = Math.max(1, (int) ((long) this.spillMaxSize * 1024 * 1024 / SPILL_SEGMENT_SIZE));
+		var directory = this.spillDirectory.resolve(name.replaceAll("[^A-Za-z0-9._-]", "_"));
+		try {
+			return new SpillLog<>(directory, SPILL_SEGMENT_SIZE, maxSegments, codec);
+		} catch (IOException e) {
+			this.log.error("Unable to open SpillLog [" + directory + "]: " + e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Gets the effective {@link WritePrecision} of the given
+	 * {@link WriteParameters}.
+	 *
+	 * @param writeParameters the {@link WriteParameters}
+	 * @return the {@link WritePrecision}
+	 */
+	protected WritePrecision getWritePrecision(WriteParameters writeParameters) {
+		return writeParameters.precisionSafe(this.defaultOptions);
+	}
+
+	/**
+	 * Gets the number of points that are buffered on disk.
+	 *
+	 * @return the backlog size
+	 */
+	public long getSpillBacklog() {
+		return this.mergePointsWorkerByWriteParameters.values().stream() //
+				.mapToLong(MergePointsWorker::getSpillBacklog) //
+				.sum();
+	}
+
+	/**
+	 * Creates a map of query metrics, like count, duration and number of rows.
+	 *
+	 * @return a Map of key to value
+	 */
+	public Map<String, Long> debugMetrics() {
+		return this.queryProxy.debugMetrics();
+	}
+
 	public static class InfluxConnection {
 		public final InfluxDBClient client;
 		public final WriteApiBlocking writeApi;
@@ -441,6 +519,42 @@ public class InfluxConnector {
 		mergePointsWorker.offer(point);
 	}
 
+	/**
+	 * Actually write the {@link LineProtocol} record to InfluxDB.
+	 *
+	 * @param record the {@link LineProtocol} record
+	 */
+	public void write(LineProtocol record) {
+		this.write(record, this.defaultWriteParameters);
+	}
+
+	/**
+	 * Actually write the {@link LineProtocol} record to InfluxDB.
+	 *
+	 * <p>
+	 * Prefer this over {@link #write(Point, WriteParameters)} for high volumes of
+	 * data, as no intermediate {@link Point} is created.
+	 * 
+	 * @param record          the {@link LineProtocol} record
+	 * @param writeParameters the {@link WriteParameters} of the written record.
+	 *                        The {@link WriteParameters} had to be passed in the
+	 *                        constructor
+	 */
+	public void write(LineProtocol record, WriteParameters writeParameters) {
+		if (!record.hasFields()) {
+			return;
+		}
+		if (this.isReadOnly) {
+			return;
+		}
+		final var mergePointsWorker = this.mergePointsWorkerByWriteParameters.get(writeParameters);
+		if (mergePointsWorker == null) {
+			this.log.info("Unknown write parameters: " + writeParameters);
+			return;
+		}
+		mergePointsWorker.offer(record);
+	}
+
 	/**
 	 * Gets the edges which already have the available since field set. Mapped from
 	 * edgeId to timestamp of availableSince. The timestamp should be in epoch
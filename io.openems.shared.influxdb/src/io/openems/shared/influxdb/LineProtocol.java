@@ -0,0 +1,214 @@
+package io.openems.shared.influxdb;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+
+/**
+ * Builds one InfluxDB Line-Protocol record directly from primitive values.
+ *
+ * <p>
+ * Compared to a {@link Point} no maps of tags and fields are created and no
+ * {@link java.text.NumberFormat} is used. Tags have to be added before the
+ * first field. Fields with the same key are not merged.
+ *
+ * @see <a href=
+ *      "https://docs.influxdata.com/influxdb/v2/reference/syntax/line-protocol/">Line
+ *      protocol</a>
+ */
+public class LineProtocol {
+
+	private final StringBuilder head = new StringBuilder(64);
+	private final StringBuilder fields = new StringBuilder(256);
+
+	private Long time = null;
+	private WritePrecision precision = WritePrecision.NS;
+
+	/**
+	 * Creates a {@link LineProtocol} record for the given measurement.
+	 *
+	 * @param measurement the measurement
+	 * @return the {@link LineProtocol}
+	 */
+	public static LineProtocol measurement(String measurement) {
+		return new LineProtocol(measurement);
+	}
+
+	private LineProtocol(String measurement) {
+		escape(this.head, measurement, false);
+	}
+
+	/**
+	 * Adds a tag.
+	 *
+	 * @param key   the tag key
+	 * @param value the tag value
+	 * @return myself
+	 */
+	public LineProtocol addTag(String key, String value) {
+		if (this.hasFields()) {
+			throw new IllegalStateException("Tags have to be added before fields");
+		}
+		this.head.append(',');
+		escape(this.head, key, true);
+		this.head.append('=');
+		escape(this.head, value, true);
+		return this;
+	}
+
+	/**
+	 * Sets the timestamp.
+	 *
+	 * @param time      the timestamp
+	 * @param precision the {@link WritePrecision} of the timestamp
+	 * @return myself
+	 */
+	public LineProtocol time(long time, WritePrecision precision) {
+		this.time = time;
+		this.precision = precision;
+		return this;
+	}
+
+	/**
+	 * Adds an integer field.
+	 *
+	 * @param key   the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocol addField(String key, long value) {
+		this.startField(key).append(value).append('i');
+		return this;
+	}
+
+	/**
+	 * Adds a float field. NaN and infinite values are ignored.
+	 *
+	 * @param key   the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocol addField(String key, double value) {
+		if (Double.isNaN(value) || Double.isInfinite(value)) {
+			return this;
+		}
+		var sb = this.startField(key);
+		var string = Double.toString(value);
+		if (string.indexOf('E') < 0) {
+			sb.append(string);
+		} else {
+			// Plain decimal like a Point, e.g. '0.00001' instead of '1.0E-5'
+			var plain = new BigDecimal(string).stripTrailingZeros().toPlainString();
+			sb.append(plain);
+			if (plain.indexOf('.') < 0) {
+				sb.append(".0");
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Adds a boolean field.
+	 *
+	 * @param key   the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocol addField(String key, boolean value) {
+		this.startField(key).append(value);
+		return this;
+	}
+
+	/**
+	 * Adds a string field. Null values are ignored.
+	 *
+	 * @param key   the field key
+	 * @param value the value
+	 * @return myself
+	 */
+	public LineProtocol addField(String key, String value) {
+		if (value == null) {
+			return this;
+		}
+		var sb = this.startField(key).append('"');
+		for (var i = 0; i < value.length(); i++) {
+			var c = value.charAt(i);
+			if (c == '"' || c == '\\') {
+				sb.append('\\');
+			}
+			sb.append(c);
+		}
+		sb.append('"');
+		return this;
+	}
+
+	private StringBuilder startField(String key) {
+		if (this.hasFields()) {
+			this.fields.append(',');
+		}
+		escape(this.fields, key, true);
+		return this.fields.append('=');
+	}
+
+	/**
+	 * Has this record at least one field?.
+	 *
+	 * @return true if there are fields
+	 */
+	public boolean hasFields() {
+		return this.fields.length() > 0;
+	}
+
+	/**
+	 * Gets the Line-Protocol String.
+	 *
+	 * @param precision the target {@link WritePrecision} of the timestamp
+	 * @return the String
+	 */
+	public String toLineProtocol(WritePrecision precision) {
+		var sb = new StringBuilder(this.head.length() + this.fields.length() + 21) //
+				.append(this.head) //
+				.append(' ') //
+				.append(this.fields);
+		if (this.time != null) {
+			sb.append(' ').append(toTimeUnit(precision).convert(this.time, toTimeUnit(this.precision)));
+		}
+		return sb.toString();
+	}
+
+	@Override
+	public String toString() {
+		return this.toLineProtocol(this.precision);
+	}
+
+	private static void escape(StringBuilder sb, String value, boolean escapeEquals) {
+		for (var i = 0; i < value.length(); i++) {
+			var c = value.charAt(i);
+			switch (c) {
+			case '\n' -> sb.append("\\n");
+			case '\r' -> sb.append("\\r");
+			case '\t' -> sb.append("\\t");
+			case ' ', ',' -> sb.append('\\').append(c);
+			case '=' -> {
+				if (escapeEquals) {
+					sb.append('\\');
+				}
+				sb.append(c);
+			}
+			default -> sb.append(c);
+			}
+		}
+	}
+
+	private static TimeUnit toTimeUnit(WritePrecision precision) {
+		return switch (precision) {
+		case S -> TimeUnit.SECONDS;
+		case MS -> TimeUnit.MILLISECONDS;
+		case US -> TimeUnit.MICROSECONDS;
+		case NS -> TimeUnit.NANOSECONDS;
+		};
+	}
+
+}
@@ -24,6 +24,23 @@ public interface MergePointsWorker {
 	 */
 	public boolean offer(Point point);
 
+	/**
+	 * Inserts the specified element into this queue if it is possible to do so
+	 * immediately without violating capacity restrictions, returning true upon
+	 * success and false if no space is currently available.
+	 * 
+	 * @param record the {@link LineProtocol} record to add
+	 * @return true if the record was added to this queue, else false
+	 */
+	public boolean offer(LineProtocol record);
+
+	/**
+	 * Gets the number of points that are buffered on disk.
+	 * 
+	 * @return the backlog size; zero if spilling is disabled
+	 */
+	public long getSpillBacklog();
+
 	/**
 	 * Simple debug log string.
 	 * 
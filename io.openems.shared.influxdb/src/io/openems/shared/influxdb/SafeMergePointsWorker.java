@@ -2,9 +2,7 @@ package io.openems.shared.influxdb;
 
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
-import com.influxdb.client.write.Point;
 import com.influxdb.client.write.WriteParameters;
 import com.influxdb.exceptions.BadRequestException;
 
@@ -18,24 +16,23 @@ public class SafeMergePointsWorker extends AbstractMergePointsWorker<WritePoint>
 	}
 
 	public static class WritePoint {
-		public final Point point;
+		public final String record;
 		private int failedCountDown = 3;
 
-		public WritePoint(Point point) {
+		public WritePoint(String record) {
 			super();
-			this.point = point;
+			this.record = record;
 		}
 	}
 
 	@Override
-	public boolean offer(Point point) {
-		return this.offer(new WritePoint(point));
+	protected WritePoint toQueueElement(String record) {
+		return new WritePoint(record);
 	}
 
 	@Override
-	protected List<Point> writePoints(List<WritePoint> points) {
-		return points.stream().map(t -> t.point) //
-				.collect(Collectors.toList());
+	protected String toRecord(WritePoint point) {
+		return point.record;
 	}
 
 	@Override
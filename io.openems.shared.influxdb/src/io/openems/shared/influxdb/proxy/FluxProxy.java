@@ -3,12 +3,16 @@ package io.openems.shared.influxdb.proxy;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -23,6 +27,7 @@ import com.influxdb.query.dsl.functions.restriction.Restrictions;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
+import io.openems.common.function.ThrowingConsumer;
 import io.openems.common.timedata.Resolution;
 import io.openems.common.types.ChannelAddress;
 import io.openems.common.utils.CollectorUtils;
@@ -75,8 +80,9 @@ public class FluxProxy extends QueryProxy {
 	) throws OpenemsNamedException {
 		var query = this.buildHistoricDataQuery(bucket, measurement, influxEdgeId, fromDate, toDate, channels,
 				resolution);
-		var queryResult = this.executeQuery(influxConnection, query);
-		return convertHistoricDataQueryResult(queryResult, fromDate, resolution);
+		var table = new HistoricDataTable(fromDate, resolution);
+		this.executeQuery(influxConnection, query, table);
+		return table.table;
 	}
 
 	@Override
@@ -91,8 +97,9 @@ public class FluxProxy extends QueryProxy {
 	) throws OpenemsNamedException {
 		var query = this.buildHistoricEnergyPerPeriodQuery(bucket, measurement, influxEdgeId, fromDate, toDate,
 				channels, resolution);
-		var queryResult = this.executeQuery(influxConnection, query);
-		return convertHistoricDataQueryResult(queryResult, fromDate, resolution);
+		var table = new HistoricDataTable(fromDate, resolution);
+		this.executeQuery(influxConnection, query, table);
+		return table.table;
 	}
 
 	@Override
@@ -172,7 +179,8 @@ public class FluxProxy extends QueryProxy {
 
 		builder //
 				.append("|> filter(fn : (r) => ") //
-				.append(toChannelAddressFieldList(channels).toString()) //
+				.append(this.getTemplate("fieldFilter", measurement, channels, //
+						c -> toChannelAddressFieldList(c).toString())) //
 				.append(")")
 
 				.append("first = data |> first()") //
@@ -258,7 +266,8 @@ public class FluxProxy extends QueryProxy {
 
 		builder //
 				.append("|> filter(fn : (r) => ") //
-				.append(toChannelAddressFieldList(channels)) //
+				.append(this.getTemplate("fieldFilter", measurement, channels, //
+						c -> toChannelAddressFieldList(c).toString())) //
 				.append(") ").append("|> last()");
 
 		return builder.toString();
@@ -289,6 +298,7 @@ public class FluxProxy extends QueryProxy {
 	 */
 	private List<FluxTable> executeQuery(InfluxConnection influxConnection, String query) throws OpenemsException {
 		this.assertQueryLimit();
+		final var start = System.nanoTime();
 
 		// Parse result
 		List<FluxTable> queryResult;
@@ -296,59 +306,111 @@ public class FluxProxy extends QueryProxy {
 			queryResult = influxConnection.client.getQueryApi().query(query);
 		} catch (RuntimeException e) {
 			this.queryLimit.increase();
+			this.recordQueryError();
 			LOG.error("InfluxDB query runtime error. Query: " + query + ", Error: " + e.getMessage());
 			throw new OpenemsException(e.getMessage());
 		}
 		this.queryLimit.decrease();
+		this.recordQuery(start, queryResult.stream().mapToLong(t -> t.getRecords().size()).sum());
 		return queryResult;
 	}
 
 	/**
-	 * Converts the QueryResult of a Historic-Data query to a properly typed Table.
-	 *
-	 * @param queryResult the Query-Result
-	 * @param fromDate    start date from query
-	 * @param resolution  {@link Resolution} to revert InfluxDB offset
-	 * @return the historic data as Map
-	 * @throws OpenemsException on error
+	 * Execute given query and stream the result records to a consumer, without
+	 * materializing the complete result.
+	 * 
+	 * @param influxConnection a Influx-Connection
+	 * @param query            to execute
+	 * @param onNext           called for every {@link FluxRecord}
+	 * @throws OpenemsNamedException on error
 	 */
-	private static SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> convertHistoricDataQueryResult(
-			List<FluxTable> queryResult, ZonedDateTime fromDate, Resolution resolution) throws OpenemsNamedException {
-		SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table = new TreeMap<>();
-
-		for (FluxTable fluxTable : queryResult) {
-			for (FluxRecord record : fluxTable.getRecords()) {
-				var timestamp = ZonedDateTime.ofInstant(record.getTime(), fromDate.getZone());
+	private void executeQuery(InfluxConnection influxConnection, String query,
+			ThrowingConsumer<FluxRecord, OpenemsNamedException> onNext) throws OpenemsNamedException {
+		this.assertQueryLimit();
+		final var start = System.nanoTime();
+		final var rows = new AtomicLong();
+		final var result = new CompletableFuture<Void>();
 
-				// ignore first timestamp is before from date
-				if (timestamp.isBefore(fromDate)) {
-					continue;
+		try {
+			influxConnection.client.getQueryApi().query(query, (cancellable, record) -> {
+				try {
+					onNext.accept(record);
+					rows.incrementAndGet();
+				} catch (OpenemsNamedException | RuntimeException e) {
+					cancellable.cancel();
+					result.completeExceptionally(e);
 				}
-				timestamp = resolution.revertInfluxDbOffset(timestamp);
+			}, result::completeExceptionally, () -> result.complete(null));
+			result.get();
 
-				var valueObj = record.getValue();
-				final JsonElement value;
-				if (valueObj == null) {
-					value = JsonNull.INSTANCE;
-				} else if (valueObj instanceof Number) {
-					value = new JsonPrimitive((Number) valueObj);
-				} else {
-					value = new JsonPrimitive(valueObj.toString());
-				}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new OpenemsException("InfluxDB query interrupted. Query: " + query);
 
-				var channelAddresss = ChannelAddress.fromString(record.getField());
+		} catch (RuntimeException | ExecutionException e) {
+			var cause = e instanceof ExecutionException ? e.getCause() : e;
+			if (cause instanceof OpenemsNamedException one) {
+				throw one;
+			}
+			this.queryLimit.increase();
+			this.recordQueryError();
+			LOG.error("InfluxDB query runtime error. Query: " + query + ", Error: " + cause.getMessage());
+			throw new OpenemsException(cause.getMessage());
+		}
+		this.queryLimit.decrease();
+		this.recordQuery(start, rows.get());
+	}
 
-				var row = table.get(timestamp);
-				if (row == null) {
-					row = new TreeMap<>();
-				}
-				row.put(channelAddresss, value);
+	/**
+	 * Collects the records of a Historic-Data query to a properly typed Table.
+	 */
+	private static class HistoricDataTable implements ThrowingConsumer<FluxRecord, OpenemsNamedException> {
+
+		private final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table = new TreeMap<>();
+		private final Map<String, ChannelAddress> channels = new HashMap<>();
+		private final ZonedDateTime fromDate;
+		private final Resolution resolution;
+
+		/**
+		 * Builds a {@link HistoricDataTable}.
+		 * 
+		 * @param fromDate   start date from query
+		 * @param resolution {@link Resolution} to revert InfluxDB offset
+		 */
+		private HistoricDataTable(ZonedDateTime fromDate, Resolution resolution) {
+			this.fromDate = fromDate;
+			this.resolution = resolution;
+		}
 
-				table.put(timestamp, row);
+		@Override
+		public void accept(FluxRecord record) throws OpenemsNamedException {
+			var timestamp = ZonedDateTime.ofInstant(record.getTime(), this.fromDate.getZone());
+
+			// ignore first timestamp is before from date
+			if (timestamp.isBefore(this.fromDate)) {
+				return;
+			}
+			timestamp = this.resolution.revertInfluxDbOffset(timestamp);
+
+			var valueObj = record.getValue();
+			final JsonElement value;
+			if (valueObj == null) {
+				value = JsonNull.INSTANCE;
+			} else if (valueObj instanceof Number) {
+				value = new JsonPrimitive((Number) valueObj);
+			} else {
+				value = new JsonPrimitive(valueObj.toString());
+			}
+
+			var field = record.getField();
+			var channelAddress = this.channels.get(field);
+			if (channelAddress == null) {
+				channelAddress = ChannelAddress.fromString(field);
+				this.channels.put(field, channelAddress);
 			}
-		}
 
-		return table;
+			this.table.computeIfAbsent(timestamp, t -> new TreeMap<>()).put(channelAddress, value);
+		}
 	}
 
 	/**
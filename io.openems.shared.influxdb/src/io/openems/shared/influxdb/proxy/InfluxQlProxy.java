@@ -1,9 +1,11 @@
 package io.openems.shared.influxdb.proxy;
 
 import java.time.Instant;
+import java.time.YearMonth;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
@@ -28,6 +30,7 @@ import com.influxdb.client.domain.InfluxQLQuery;
 import com.influxdb.query.InfluxQLQueryResult;
 import com.influxdb.query.InfluxQLQueryResult.Result;
 import com.influxdb.query.InfluxQLQueryResult.Series;
+import com.influxdb.query.InfluxQLQueryResult.Series.ValueExtractor;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
 import io.openems.common.exceptions.OpenemsException;
@@ -107,7 +110,7 @@ public class InfluxQlProxy extends QueryProxy {
 	) throws OpenemsNamedException {
 		var query = this.buildHistoricDataQuery(bucket, measurement, influxEdgeId, fromDate, toDate, channels,
 				resolution);
-		var queryResult = this.executeQuery(influxConnection, bucket, query);
+		var queryResult = this.executeQuery(influxConnection, bucket, query, InfluxQlProxy::parseValue);
 		return convertHistoricDataQueryResult(queryResult, fromDate, resolution, channels, Average::new);
 	}
 
@@ -153,7 +156,7 @@ public class InfluxQlProxy extends QueryProxy {
 	) throws OpenemsNamedException {
 		var query = this.buildHistoricEnergyPerPeriodQuery(bucket, measurement, influxEdgeId, fromDate, toDate,
 				channels, resolution);
-		var queryResult = this.executeQuery(influxConnection, bucket, query);
+		var queryResult = this.executeQuery(influxConnection, bucket, query, InfluxQlProxy::parseValue);
 		var result = convertHistoricDataQueryResult(queryResult, fromDate, resolution, channels,
 				() -> InfluxQlProxy::last);
 		return DbDataUtils.normalizeTable(result, channels, resolution, fromDate, toDate);
@@ -252,12 +255,8 @@ public class InfluxQlProxy extends QueryProxy {
 			Resolution resolution //
 	) throws OpenemsException {
 		// Prepare query string
-		var b = new StringBuilder("SELECT ") //
-				.append(channels.stream() //
-						.map(c -> "MEAN(\"" + c.toString() + "\") AS \"" + c.toString() + "\"") //
-						.collect(Collectors.joining(", "))) //
-				.append(" FROM ") //
-				.append(measurement) //
+		var b = new StringBuilder(this.getSelectTemplate("data", measurement, channels, //
+				c -> "MEAN(\"" + c + "\") AS \"" + c + "\"")) //
 				.append(" WHERE ");
 		if (influxEdgeId.isPresent()) {
 			b.append(this.tag + " = '" + influxEdgeId.get() + "' AND ");
@@ -288,13 +287,8 @@ public class InfluxQlProxy extends QueryProxy {
 			Set<ChannelAddress> channels //
 	) throws OpenemsException {
 		// Prepare query string
-		var b = new StringBuilder("SELECT ") //
-				.append(channels.stream() //
-						.map(c -> "LAST(\"" + c.toString() + "\") - FIRST(\"" + c.toString() + "\") AS \""
-								+ c.toString() + "\"") //
-						.collect(Collectors.joining(", "))) //
-				.append(" FROM ") //
-				.append(measurement) //
+		var b = new StringBuilder(this.getSelectTemplate("energy", measurement, channels, //
+				c -> "LAST(\"" + c + "\") - FIRST(\"" + c + "\") AS \"" + c + "\"")) //
 				.append(" WHERE ");
 		if (influxEdgeId.isPresent()) {
 			b.append(this.tag + " = '" + influxEdgeId.get() + "' AND ");
@@ -320,12 +314,8 @@ public class InfluxQlProxy extends QueryProxy {
 	) throws OpenemsException {
 		fromDate = fromDate.minusDays(1);
 		// Prepare query string
-		var b = new StringBuilder("SELECT ") //
-				.append(channels.stream() //
-						.map(c -> "LAST(\"" + c.toString() + "\") AS \"LAST(" + c.toString() + ")\"") //
-						.collect(Collectors.joining(", "))) //
-				.append(" FROM ") //
-				.append(measurement) //
+		var b = new StringBuilder(this.getSelectTemplate("energySingleValueInDay", measurement, channels, //
+				c -> "LAST(\"" + c + "\") AS \"LAST(" + c + ")\"")) //
 				.append(" WHERE ");
 		if (influxEdgeId.isPresent()) {
 			b.append(this.tag + " = '" + influxEdgeId.get() + "' AND ");
@@ -351,12 +341,8 @@ public class InfluxQlProxy extends QueryProxy {
 			Resolution resolution //
 	) throws OpenemsException {
 		// Prepare query string
-		var b = new StringBuilder("SELECT ") //
-				.append(channels.stream() //
-						.map(c -> "NON_NEGATIVE_DIFFERENCE(LAST(\"" + c.toString() + "\")) AS \"" + c.toString() + "\"") //
-						.collect(Collectors.joining(", "))) //
-				.append(" FROM ") //
-				.append(measurement) //
+		var b = new StringBuilder(this.getSelectTemplate("energyPerPeriod", measurement, channels, //
+				c -> "NON_NEGATIVE_DIFFERENCE(LAST(\"" + c + "\")) AS \"" + c + "\"")) //
 				.append(" WHERE ");
 		if (influxEdgeId.isPresent()) {
 			b.append(this.tag + " = '" + influxEdgeId.get() + "' AND ");
@@ -392,12 +378,8 @@ public class InfluxQlProxy extends QueryProxy {
 	) throws OpenemsException {
 		fromDate = fromDate.minusDays(1);
 		// Prepare query string
-		var b = new StringBuilder("SELECT ") //
-				.append(channels.stream() //
-						.map(c -> "LAST(\"" + c.toString() + "\") AS \"" + c.toString() + "\"") //
-						.collect(Collectors.joining(", "))) //
-				.append(" FROM ") //
-				.append(measurement) //
+		var b = new StringBuilder(this.getSelectTemplate("energyPerPeriodSingleValueInDay", measurement, channels, //
+				c -> "LAST(\"" + c + "\") AS \"" + c + "\"")) //
 				.append(" WHERE ");
 		if (influxEdgeId.isPresent()) {
 			b.append(this.tag + " = '" + influxEdgeId.get() + "' AND ");
@@ -445,11 +427,8 @@ public class InfluxQlProxy extends QueryProxy {
 			ZonedDateTime date, //
 			Set<ChannelAddress> channels //
 	) {
-		final var builder = new StringBuilder("SELECT ") //
-				.append(channels.stream().map(channel -> "LAST(\"" + channel + "\") as \"" + channel + "\"")
-						.collect(Collectors.joining(", ")))
-				.append(" FROM ") //
-				.append(measurement) //
+		final var builder = new StringBuilder(this.getSelectTemplate("firstValueBefore", measurement, channels, //
+				channel -> "LAST(\"" + channel + "\") as \"" + channel + "\"")) //
 				.append(" WHERE time < ") //
 				.append(date.toEpochSecond()) //
 				.append("s");
@@ -465,26 +444,107 @@ public class InfluxQlProxy extends QueryProxy {
 		return builder.toString();
 	}
 
+	/**
+	 * Builds the "SELECT ... FROM measurement" part of a query. The result is
+	 * cached per kind of query, measurement and channels.
+	 *
+	 * @param kind        the kind of query
+	 * @param measurement the measurement
+	 * @param channels    the {@link ChannelAddress}es
+	 * @param selector    builds the selector for one {@link ChannelAddress}
+	 * @return the SELECT clause
+	 */
+	private String getSelectTemplate(String kind, String measurement, Set<ChannelAddress> channels,
+			Function<ChannelAddress, String> selector) {
+		return this.getTemplate(kind, measurement, channels, c -> c.stream() //
+				.map(selector) //
+				.collect(Collectors.joining(", ", "SELECT ", " FROM " + measurement)));
+	}
+
 	private InfluxQLQueryResult executeQuery(InfluxConnection influxConnection, String bucket, String query)
 			throws OpenemsException {
+		return this.executeQuery(influxConnection, bucket, query, null);
+	}
+
+	private InfluxQLQueryResult executeQuery(InfluxConnection influxConnection, String bucket, String query,
+			ValueExtractor valueExtractor) throws OpenemsException {
 		this.assertQueryLimit();
 
 		var database = bucket.split("/")[0];
+		final var start = System.nanoTime();
 
 		// Parse result
 		InfluxQLQueryResult queryResult;
 		try {
 			queryResult = influxConnection.client.getInfluxQLQueryApi().query(new InfluxQLQuery(query, database) //
-					.setPrecision(InfluxQLQuery.InfluxQLPrecision.MILLISECONDS));
+					.setPrecision(InfluxQLQuery.InfluxQLPrecision.MILLISECONDS), valueExtractor);
 		} catch (RuntimeException e) {
 			this.queryLimit.increase();
+			this.recordQueryError();
 			LOG.error("InfluxDB query runtime error. Query: " + query + ", Error: " + e.getMessage());
 			throw new OpenemsException(e.getMessage());
 		}
 		this.queryLimit.decrease();
+		this.recordQuery(start, countRows(queryResult));
 		return queryResult;
 	}
 
+	private static long countRows(InfluxQLQueryResult queryResult) {
+		if (queryResult == null || queryResult.getResults() == null) {
+			return 0;
+		}
+		var rows = 0L;
+		for (var result : queryResult.getResults()) {
+			if (result.getSeries() != null) {
+				for (var series : result.getSeries()) {
+					rows += series.getValues().size();
+				}
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * Parses raw values while the result is read; avoids keeping the raw Strings
+	 * of large results and parsing them again during conversion. This also parses
+	 * the 'time' column to epoch milliseconds.
+	 *
+	 * @param column      the column name
+	 * @param value       the raw value
+	 * @param resultIndex the index of the result
+	 * @param seriesName  the name of the series
+	 * @return a {@link Long}, {@link Double}, {@link String} or null
+	 */
+	private static Object parseValue(String column, String value, int resultIndex, String seriesName) {
+		if (value == null || value.isEmpty()) {
+			return null;
+		}
+		var l = Longs.tryParse(value);
+		if (l != null) {
+			return l;
+		}
+		var d = Doubles.tryParse(value);
+		if (d != null) {
+			return d;
+		}
+		return value;
+	}
+
+	private static Instant getTimestamp(Series.Record record) {
+		return toInstant(record.getValueByKey("time"));
+	}
+
+	private static Instant getTimestamp(Series.Record record, int timeIndex) {
+		return toInstant(record.getValues()[timeIndex]);
+	}
+
+	private static Instant toInstant(Object time) {
+		if (time instanceof Number n) {
+			return Instant.ofEpochMilli(n.longValue());
+		}
+		return Instant.ofEpochMilli(Long.parseLong((String) time));
+	}
+
 	/**
 	 * Converts the QueryResult of a Historic-Data query to a properly typed Table.
 	 *
@@ -508,59 +568,58 @@ public class InfluxQlProxy extends QueryProxy {
 		}
 
 		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, JsonElement>> table = new TreeMap<>();
-		final SortedMap<ZonedDateTime, SortedMap<ChannelAddress, BiFunction<JsonElement, JsonElement, JsonElement>>> aggregations = new TreeMap<>();
+		final Map<YearMonth, SortedMap<ChannelAddress, JsonElement>> tableRowsPerMonth = new HashMap<>();
+		final Map<ZonedDateTime, Map<ChannelAddress, BiFunction<JsonElement, JsonElement, JsonElement>>> aggregations = new HashMap<>();
 		for (var result : queryResult.getResults()) {
 			var seriess = result.getSeries();
-			if (seriess != null) {
-				for (var series : seriess) {
-					// add all data
-					for (var record : series.getValues()) {
+			if (seriess == null) {
+				continue;
+			}
+			for (var series : seriess) {
+				// Resolve the columns once per series
+				final var columns = series.getColumns();
+				final int timeIndex = columns.get("time");
+				final var columnChannels = new ChannelAddress[columns.size()];
+				for (var column : columns.entrySet()) {
+					if (!column.getKey().equals("time")) {
+						columnChannels[column.getValue()] = ChannelAddress.fromString(column.getKey());
+					}
+				}
 
-						// get timestamp
-						var timestampInstant = Instant
-								.ofEpochMilli(Long.parseLong((String) record.getValueByKey("time")));
-						var timestamp = ZonedDateTime.ofInstant(timestampInstant, fromDate.getZone());
-						if (timestamp.isBefore(fromDate)) {
-							// InfluxQL sometimes gives too early timestamps -> ignore
-							continue;
-						}
+				// add all data
+				for (var record : series.getValues()) {
+					var timestamp = ZonedDateTime.ofInstant(getTimestamp(record, timeIndex), fromDate.getZone());
+					if (timestamp.isBefore(fromDate)) {
+						// InfluxQL sometimes gives too early timestamps -> ignore
+						continue;
+					}
 
-						SortedMap<ChannelAddress, JsonElement> existingData = null;
-						if (resolution.getUnit() == ChronoUnit.MONTHS) {
-							for (var entry : table.entrySet()) {
-								final var date = entry.getKey();
-								if (date.getMonth() == timestamp.getMonth() //
-										&& date.getYear() == timestamp.getYear()) {
-									existingData = entry.getValue();
-									break;
-								}
-							}
-						}
+					final SortedMap<ChannelAddress, JsonElement> tableRow;
+					if (resolution.getUnit() == ChronoUnit.MONTHS) {
+						tableRow = tableRowsPerMonth.computeIfAbsent(YearMonth.from(timestamp), t -> {
+							var row = new TreeMap<ChannelAddress, JsonElement>();
+							table.put(timestamp, row);
+							return row;
+						});
+					} else {
+						tableRow = new TreeMap<>();
+						table.put(timestamp, tableRow);
+					}
 
-						SortedMap<ChannelAddress, JsonElement> tableRow;
-						if (existingData != null) {
-							tableRow = existingData;
-						} else {
-							tableRow = new TreeMap<>();
-							table.put(timestamp, tableRow);
+					final var values = record.getValues();
+					for (var i = 0; i < columnChannels.length; i++) {
+						final var channel = columnChannels[i];
+						if (channel == null) {
+							continue;
 						}
-
-						for (var column : series.getColumns().keySet()) {
-							if (column.equals("time")) {
-								continue;
-							}
-							// Note: ignoring index '0' here as it is the 'timestamp'
-							final var channel = ChannelAddress.fromString(column);
-							var value = convertToJsonElement(record.getValueByKey(column));
-							final var existingValue = tableRow.get(channel);
-							if (existingValue != null) {
-								final var subMap = aggregations.computeIfAbsent(timestamp, t -> new TreeMap<>());
-								final var aggregate = subMap.computeIfAbsent(channel, t -> aggregateFunction.get());
-								value = aggregate.apply(existingValue, value);
-							}
-
-							tableRow.put(ChannelAddress.fromString(column), value);
+						var value = convertToJsonElement(values[i]);
+						final var existingValue = tableRow.get(channel);
+						if (existingValue != null) {
+							final var subMap = aggregations.computeIfAbsent(timestamp, t -> new HashMap<>());
+							final var aggregate = subMap.computeIfAbsent(channel, t -> aggregateFunction.get());
+							value = aggregate.apply(existingValue, value);
 						}
+						tableRow.put(channel, value);
 					}
 				}
 			}
@@ -586,8 +645,7 @@ public class InfluxQlProxy extends QueryProxy {
 						f) -> channels.forEach(c -> f.accept(
 								new Pair<ChannelAddress, com.influxdb.query.InfluxQLQueryResult.Series.Record>(c, r))))
 				.collect(Collectors.groupingBy(t -> {
-					var timestampInstant = Instant
-							.ofEpochMilli(Long.parseLong((String) t.second().getValueByKey("time")));
+					var timestampInstant = getTimestamp(t.second());
 					var zonedDateTime = ZonedDateTime.ofInstant(timestampInstant, fromDate.getZone());
 					if (!zonedDateTime.isAfter(fromDate)) {
 						return zonedDateTime;
@@ -5,7 +5,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.gson.JsonElement;
 
 import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
@@ -56,12 +62,91 @@ public abstract class QueryProxy {
 		return new InfluxQlProxy(tag);
 	}
 
+	private static final int MAX_QUERY_TEMPLATES = 1_000;
+
 	protected final String tag;
 
+	/**
+	 * Caches the channel dependent parts of queries, e.g. the SELECT clause; keyed
+	 * by query kind and channels.
+	 */
+	private final Cache<TemplateKey, String> templates = CacheBuilder.newBuilder() //
+			.maximumSize(MAX_QUERY_TEMPLATES) //
+			.build();
+
+	private final AtomicLong queryCount = new AtomicLong();
+	private final AtomicLong queryErrorCount = new AtomicLong();
+	private final AtomicLong queryDuration = new AtomicLong(); // [ms]
+	private final AtomicLong queryMaxDuration = new AtomicLong(); // [ms]
+	private final AtomicLong queryRowCount = new AtomicLong();
+
 	protected QueryProxy(String tag) {
 		this.tag = tag;
 	}
 
+	private static record TemplateKey(String kind, String measurement, Set<ChannelAddress> channels) {
+	}
+
+	/**
+	 * Gets a cached query template; or builds and caches it.
+	 *
+	 * @param kind        the kind of query
+	 * @param measurement the measurement
+	 * @param channels    the {@link ChannelAddress}es
+	 * @param builder     builds the template from the channels
+	 * @return the template
+	 */
+	protected String getTemplate(String kind, String measurement, Set<ChannelAddress> channels,
+			Function<Set<ChannelAddress>, String> builder) {
+		try {
+			return this.templates.get(new TemplateKey(kind, measurement, Set.copyOf(channels)),
+					() -> builder.apply(channels));
+		} catch (ExecutionException e) {
+			return builder.apply(channels);
+		}
+	}
+
+	/**
+	 * Records a successful query for the metrics.
+	 *
+	 * @param startNanos the {@link System#nanoTime()} when the query started
+	 * @param rows       the number of result rows
+	 */
+	protected void recordQuery(long startNanos, long rows) {
+		var duration = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+		this.queryCount.incrementAndGet();
+		this.queryDuration.addAndGet(duration);
+		this.queryMaxDuration.accumulateAndGet(duration, Math::max);
+		this.queryRowCount.addAndGet(rows);
+	}
+
+	/**
+	 * Records a failed query for the metrics.
+	 */
+	protected void recordQueryError() {
+		this.queryErrorCount.incrementAndGet();
+	}
+
+	/**
+	 * Creates a map of query metrics.
+	 *
+	 * <p>
+	 * Count, duration and rows are summed up since start; MaxDuration is the
+	 * maximum since the last call.
+	 *
+	 * @return a Map of key to value
+	 */
+	public Map<String, Long> debugMetrics() {
+		final var count = this.queryCount.get();
+		return Map.of(//
+				"Queries", count, //
+				"QueryErrors", this.queryErrorCount.get(), //
+				"QueryRows", this.queryRowCount.get(), //
+				"QueryAvgDuration", count > 0 ? this.queryDuration.get() / count : 0, // [ms]
+				"QueryMaxDuration", this.queryMaxDuration.getAndSet(0) // [ms]
+		);
+	}
+
 	/**
 	 * {@link CommonTimedataService#queryHistoricEnergy(String, ZonedDateTime, ZonedDateTime, Set)}.
 	 * 
@@ -0,0 +1,73 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class InfluxConnectorTest {
+
+	@Test
+	public void testRejectedWriteTask() throws InterruptedException {
+		var connector = new InfluxConnector("influx0", QueryLanguageConfig.INFLUX_QL,
+				URI.create("http://localhost:8086"), "-", "user:pass", "db/rp", "edge", true, 1, 1, e -> {
+				});
+		var block = new CountDownLatch(1);
+		var permits = new Semaphore(4);
+		try {
+			// Saturate the executor: one running task, one queued task
+			connector.executor.execute(() -> {
+				try {
+					block.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+			connector.executor.execute(() -> {
+			});
+
+			// Every rejected task has to release its permit
+			for (var i = 0; i < 10; i++) {
+				assertTrue(permits.tryAcquire(1, TimeUnit.SECONDS));
+				connector.executor.execute(new AbstractMergePointsWorker.WriteTask() {
+
+					@Override
+					public void run() {
+						permits.release();
+					}
+
+					@Override
+					protected void onRejected() {
+						permits.release();
+					}
+				});
+			}
+			assertEquals(4, permits.availablePermits());
+			assertTrue(connector.debugLog().endsWith("RejectedExecutions:10"));
+
+		} finally {
+			block.countDown();
+			connector.deactivate();
+			connector.executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testUtf8Length() {
+		assertEquals(3, AbstractMergePointsWorker.utf8Length("abc"));
+		assertEquals(2, AbstractMergePointsWorker.utf8Length("ä"));
+		assertEquals(3, AbstractMergePointsWorker.utf8Length("€"));
+		assertEquals(4, AbstractMergePointsWorker.utf8Length("😀"));
+		for (var s : new String[] { "edge0 _sum/State=\"ä€😀\" 1", "\ud800x" }) {
+			assertEquals(s.getBytes(StandardCharsets.UTF_8).length,
+					AbstractMergePointsWorker.utf8Length(s));
+		}
+	}
+
+}
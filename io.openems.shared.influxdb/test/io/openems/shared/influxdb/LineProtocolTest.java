@@ -0,0 +1,73 @@
+package io.openems.shared.influxdb;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.influxdb.client.domain.WritePrecision;
+import com.influxdb.client.write.Point;
+
+public class LineProtocolTest {
+
+	@Test
+	public void testToLineProtocol() {
+		var record = LineProtocol.measurement("data") //
+				.addTag("edge", "0") //
+				.time(1_700_000_000_000L, WritePrecision.MS) //
+				.addField("_sum/EssSoc", 50L) //
+				.addField("_sum/GridActivePower", 1.5) //
+				.addField("meter0/Connected", true) //
+				.addField("meter0/State", "say \"hi\"");
+		var point = Point.measurement("data") //
+				.addTag("edge", "0") //
+				.time(1_700_000_000_000L, WritePrecision.MS) //
+				.addField("_sum/EssSoc", 50L) //
+				.addField("_sum/GridActivePower", 1.5) //
+				.addField("meter0/Connected", true) //
+				.addField("meter0/State", "say \"hi\"");
+
+		assertEquals(point.toLineProtocol(null, WritePrecision.MS), record.toLineProtocol(WritePrecision.MS));
+		assertEquals(point.toLineProtocol(null, WritePrecision.NS), record.toLineProtocol(WritePrecision.NS));
+		assertEquals(point.toLineProtocol(null, WritePrecision.S), record.toLineProtocol(WritePrecision.S));
+	}
+
+	@Test
+	public void testDouble() {
+		for (var value : new double[] { 0.00001, -1.25E-10, 12345678.9, 1.5E20, -3E300, 0.0, -0.0, 100.0 }) {
+			var record = LineProtocol.measurement("data") //
+					.addField("value", value);
+			var point = Point.measurement("data") //
+					.addField("value", value);
+			assertEquals(point.toLineProtocol(null, WritePrecision.NS), record.toLineProtocol(WritePrecision.NS));
+		}
+	}
+
+	@Test
+	public void testEscape() {
+		var record = LineProtocol.measurement("my data,x") //
+				.addTag("t=a g", "v,1") //
+				.addField("f=1 2", 1L);
+		assertEquals("my\\ data\\,x,t\\=a\\ g=v\\,1 f\\=1\\ 2=1i", record.toLineProtocol(WritePrecision.NS));
+	}
+
+	@Test
+	public void testHasFields() {
+		var record = LineProtocol.measurement("data") //
+				.addField("nan", Double.NaN) //
+				.addField("null", (String) null);
+		assertFalse(record.hasFields());
+
+		record.addField("value", 1L);
+		assertTrue(record.hasFields());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testTagAfterField() {
+		LineProtocol.measurement("data") //
+				.addField("value", 1L) //
+				.addTag("edge", "0");
+	}
+
+}
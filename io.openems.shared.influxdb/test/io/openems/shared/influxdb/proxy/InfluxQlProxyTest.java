@@ -3,7 +3,12 @@ package io.openems.shared.influxdb.proxy;
 import static io.openems.shared.influxdb.proxy.InfluxQlProxy.parseToJsonElement;
 import static org.junit.Assert.assertEquals;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.Test;
 
@@ -11,6 +16,9 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonNull;
 import com.google.gson.JsonPrimitive;
 
+import io.openems.common.exceptions.OpenemsError.OpenemsNamedException;
+import io.openems.common.timedata.Resolution;
+import io.openems.common.types.ChannelAddress;
 import io.openems.shared.influxdb.proxy.InfluxQlProxy.Average;
 
 public class InfluxQlProxyTest {
@@ -43,4 +51,20 @@ public class InfluxQlProxyTest {
 		assertEquals(JsonNull.INSTANCE, parseToJsonElement(null));
 		assertEquals(JsonNull.INSTANCE, parseToJsonElement(""));
 	}
+
+	@Test
+	public void testBuildHistoricDataQuery() throws OpenemsNamedException {
+		final var proxy = new InfluxQlProxy("edge");
+		final var fromDate = ZonedDateTime.of(2023, 1, 1, 0, 0, 0, 0, ZoneId.of("UTC"));
+		final var channels = Set.of(new ChannelAddress("_sum", "EssSoc"));
+		final var resolution = new Resolution(5, ChronoUnit.MINUTES);
+
+		// Second call uses the cached template
+		for (var edgeId : List.of(1, 2)) {
+			assertEquals("SELECT MEAN(\"_sum/EssSoc\") AS \"_sum/EssSoc\" FROM data WHERE edge = '" + edgeId
+					+ "' AND time >= 1672531200s AND time < 1672617600s GROUP BY time(300s,0s)", //
+					proxy.buildHistoricDataQuery("db/default", "data", Optional.of(edgeId), fromDate,
+							fromDate.plusDays(1), channels, resolution));
+		}
+	}
 }